@@ -0,0 +1,107 @@
+import java.io.CharArrayReader;
+import java.io.Reader;
+import java.util.function.ToLongBiFunction;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lexes benchmark corpora for the benchmarks in the bench package. JMH does not allow
+ * benchmarks in the default package, and a class in a named package cannot refer to the
+ * Tokenizer, so the benchmarks look this class up by name once and then call it through
+ * java.util.function interfaces.
+ *
+ * Each function keeps one Tokenizer and points it at the corpus on every call, so the
+ * measurement does not include building the keyword table.
+ */
+public final class CorpusLexer {
+    private CorpusLexer(){
+    }
+
+    /**
+     * Returns a function that reads every Token of a corpus with nextToken.
+     * @return a function from a corpus and a Blackhole to the number of tokens read
+     */
+    public static ToLongBiFunction<char[], Blackhole> tokens(){
+        Tokenizer tokenizer = new Tokenizer((Reader) null);
+        return (corpus, blackhole) -> {
+            tokenizer.reset(new CharArrayReader(corpus));
+            long count = 0;
+            Token token;
+            while((token = tokenizer.nextToken()) == null || token.getType() != Token.Type.END){
+                if(token != null){
+                    blackhole.consume(token);
+                    count++;
+                }
+            }
+            return count;
+        };
+    }
+
+    /**
+     * Returns a function that moves through a corpus with advance, without creating Tokens.
+     * @return a function from a corpus and a Blackhole to the number of tokens read
+     */
+    public static ToLongBiFunction<char[], Blackhole> cursor(){
+        Tokenizer tokenizer = new Tokenizer((Reader) null);
+        return (corpus, blackhole) -> {
+            tokenizer.reset(new CharArrayReader(corpus));
+            long count = 0;
+            Token.Type type;
+            while((type = tokenizer.advance()) != Token.Type.END){
+                if(type != null){
+                    blackhole.consume(tokenizer.getLength());
+                    count++;
+                }
+            }
+            return count;
+        };
+    }
+
+    /**
+     * Returns a function that reads a corpus in TokenBatches of up to 4096 tokens.
+     * @return a function from a corpus and a Blackhole to the number of tokens read
+     */
+    public static ToLongBiFunction<char[], Blackhole> batch(){
+        Tokenizer tokenizer = new Tokenizer((Reader) null);
+        TokenBatch batch = new TokenBatch(4096);
+        return (corpus, blackhole) -> {
+            tokenizer.reset(new CharArrayReader(corpus));
+            long count = 0;
+            int n;
+            while((n = tokenizer.nextTokens(batch, 4096)) > 0){
+                blackhole.consume(batch.lengths());
+                count += n;
+            }
+            return count;
+        };
+    }
+
+    /**
+     * Returns a function that moves through the UTF-8 bytes of a corpus with the advance of
+     * a ByteTokenizer, which lexes the bytes without decoding them to chars.
+     * @return a function from the bytes of a corpus and a Blackhole to the number of tokens read
+     */
+    public static ToLongBiFunction<byte[], Blackhole> bytes(){
+        return (corpus, blackhole) -> {
+            ByteTokenizer tokenizer = new ByteTokenizer(corpus);
+            long count = 0;
+            Token.Type type;
+            while((type = tokenizer.advance()) != Token.Type.END){
+                if(type != null){
+                    blackhole.consume(tokenizer.getLength());
+                    count++;
+                }
+            }
+            return count;
+        };
+    }
+
+    /**
+     * Counts the tokens of a corpus.
+     * @param corpus the corpus
+     * @return the number of tokens, not counting END
+     */
+    public static long count(char[] corpus){
+        return TokenizerBenchmark.countTokens(new Tokenizer(new CharArrayReader(corpus)));
+    }
+}
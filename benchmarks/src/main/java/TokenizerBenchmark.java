@@ -0,0 +1,536 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Command line benchmarks for the Tokenizer, for the whole-file and multi-threaded runs that
+ * do not fit a JMH iteration. The first argument names the benchmark and the remaining
+ * arguments are passed to it. Inputs are generated into a temporary directory by repeating
+ * the supplied CFile.c, and deleted when the benchmark ends. Run from the project directory:
+ *
+ *   java -cp benchmarks/target/benchmarks.jar TokenizerBenchmark input 1 100
+ *
+ * input [sizes in MB...]: compares the Reader and memory-mapped input paths, 1, 100 and 2100 MB
+ * by default.
+ *
+ * memory [token counts...]: measures the heap retained by Tokens from nextToken, with and without
+ * a SymbolTable, 1000000 by default.
+ *
+ * adversarial [sizes in KB...]: times single lines without any whitespace, 1, 2, 5 and 10 MB by
+ * default. Throughput should not drop as the line gets longer.
+ *
+ * scaling [total sizes in MB...]: times the BatchTokenizer on 64 files of different sizes with
+ * 1, 2, 4, ... workers up to the number of processors, 256 MB by default.
+ *
+ * parallel [sizes in MB...]: compares nextToken with the ParallelTokenizer on one generated file,
+ * 64 MB by default.
+ *
+ * stream [sizes in MB...]: counts the tokens of each type of one generated file with a sequential
+ * and a parallel Tokenizer.tokens Stream, 64 MB by default.
+ *
+ * serialize [sizes in MB...]: writes the tokens of one generated file with the TokenWriter and
+ * compares reading them back with the TokenReader against lexing the file, 64 MB by default.
+ *
+ * incremental [sizes in MB...]: times single-character edits near a cursor with the
+ * IncrementalTokenizer against lexing the whole text again, 1 and 16 MB by default.
+ *
+ * filter [sizes in MB...]: times nextToken over one generated file with a documentation comment
+ * before each copy of the sample, with and without comments skipped, 64 MB by default.
+ *
+ * bytes [sizes in MB...]: compares advance over one generated file with the Tokenizer, which
+ * maps it and decodes it to chars, and the ByteTokenizer, which lexes its bytes, 64 MB by
+ * default.
+ */
+public class TokenizerBenchmark {
+    private static final String SAMPLE = "src/CFile.c";
+    private static final long MB = 1024 * 1024;
+
+    /**
+     * Holds the tokens of the memory benchmark while the heap is measured, so that they cannot
+     * be collected before usedHeap has run.
+     */
+    private static volatile Token[] retainedTokens;
+
+    /**
+     * Compares the Reader and memory-mapped input paths on generated files of the given sizes.
+     * Each file is tokenized once to warm up and then timed once with each input path.
+     * @param sizes the file sizes in MB
+     */
+    private static void input(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %10s %14s %12s%n", "size MB", "input", "tokens", "MB/s");
+            for(long size : sizes){
+                Path file = generate(dir, size * MB);
+                countTokens(new Tokenizer(file));
+                report(size, "reader", file, false);
+                report(size, "mapped", file, true);
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static void report(long size, String name, Path file, boolean mapped) throws IOException {
+        long begin = System.nanoTime();
+        Tokenizer t = mapped ? new Tokenizer(file) : new Tokenizer(file.toString());
+        long tokens = countTokens(t);
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("%10d %10s %14d %12.1f%n", size, name, tokens, Files.size(file) / (double) MB / seconds);
+    }
+
+    /**
+     * Measures the heap retained by the given numbers of Tokens, first as they come from
+     * nextToken and then with a SymbolTable. The tokens are kept in an array allocated before
+     * the first measurement, so only the tokens, the buffers they refer to and the table are
+     * counted.
+     * @param counts the numbers of tokens to retain
+     */
+    private static void memory(long[] counts) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %10s %14s %14s %16s%n", "tokens", "mode", "retained MB", "bytes/token", "MB/1M tokens");
+            for(long count : counts){
+                Path file = generate(dir, (count / 200000 + 1) * MB);
+                for(boolean symbols : new boolean[]{false, true}){
+                    memory(file, (int) count, symbols);
+                }
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Measures the heap retained by the tokens of one file.
+     * @param file the file to tokenize
+     * @param count the number of tokens to retain
+     * @param symbols true to read the tokens with a SymbolTable
+     */
+    private static void memory(Path file, int count, boolean symbols){
+        Token[] tokens = new Token[count];
+        long before = usedHeap();
+        Tokenizer t = new Tokenizer(file.toString());
+        if(symbols){
+            t.setSymbolTable(new SymbolTable());
+        }
+        int n = 0;
+        while(n < tokens.length){
+            Token tk = t.nextToken();
+            if(tk == null){
+                continue;
+            }
+            if(tk.getType() == Token.Type.END){
+                break;
+            }
+            tokens[n++] = tk;
+        }
+        t = null;
+        retainedTokens = tokens;
+        long retained = usedHeap() - before;
+        retainedTokens = null;
+        System.out.printf("%10d %10s %14.1f %14.1f %16.1f%n", n, symbols ? "symbols" : "buffer",
+                retained / (double) MB, retained / (double) n, retained / (double) MB * 1000000 / n);
+    }
+
+    /**
+     * Times the tokenizer on files made of one line without whitespace, the worst case for a
+     * scanner that reads ahead to the next whitespace.
+     * @param sizes the line lengths in KB
+     */
+    private static void adversarial(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            byte[] pattern = "if(a<b)return(c);x1=y+0x1F*(z-1);while(i--)p->q[i]=1.5e3f;".getBytes(StandardCharsets.US_ASCII);
+            System.out.printf("%10s %14s %12s %12s%n", "size KB", "tokens", "seconds", "MB/s");
+            for(long size : sizes){
+                Path file = dir.resolve("line-" + size + ".c");
+                try(OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 20)){
+                    for(long written = 0; written < size * 1024; written += pattern.length){
+                        out.write(pattern);
+                    }
+                    out.write('\n');
+                }
+                for(int i = 0; i < 3; i++){
+                    countTokens(new Tokenizer(file));
+                }
+                long begin = System.nanoTime();
+                long tokens = countTokens(new Tokenizer(file));
+                double seconds = (System.nanoTime() - begin) / 1e9;
+                System.out.printf("%10d %14d %12.3f %12.1f%n", size, tokens, seconds, Files.size(file) / (double) MB / seconds);
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Times the BatchTokenizer with an increasing number of workers. The files grow linearly
+     * in size, so that largest-first scheduling matters at the end of the batch.
+     * @param totals the total sizes of the batches in MB
+     */
+    private static void scaling(long[] totals) throws IOException {
+        int files = 64;
+        int processors = Runtime.getRuntime().availableProcessors();
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %8s %14s %12s %12s %10s%n", "total MB", "workers", "tokens", "seconds", "MB/s", "speedup");
+            for(long total : totals){
+                List<Path> batch = new ArrayList<>();
+                long unit = total * MB * 2 / ((long) files * (files + 1));
+                for(int i = 1; i <= files; i++){
+                    batch.add(generate(dir, i * unit));
+                }
+                new BatchTokenizer(processors).run(batch);
+                double single = 0;
+                for(int workers = 1; ; workers = Math.min(workers * 2, processors)){
+                    long begin = System.nanoTime();
+                    BatchTokenizer.Result result = new BatchTokenizer(workers).run(batch);
+                    double seconds = (System.nanoTime() - begin) / 1e9;
+                    if(workers == 1){
+                        single = seconds;
+                    }
+                    System.out.printf("%10d %8d %14d %12.3f %12.1f %10.2f%n", total, workers, result.getTokenCount(),
+                            seconds, result.getSize() / (double) MB / seconds, single / seconds);
+                    if(workers == processors){
+                        break;
+                    }
+                }
+                for(Path file : batch){
+                    Files.delete(file);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Times a sequential nextToken run against the ParallelTokenizer on single files. Both
+     * collect their tokens in a list, so the comparison includes the Token allocations.
+     * @param sizes the file sizes in MB
+     */
+    private static void parallel(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %12s %14s %12s %12s %12s%n", "size MB", "mode", "tokens", "seconds", "MB/s", "relexed");
+            for(long size : sizes){
+                Path file = generate(dir, size * MB);
+                for(int i = 0; i < 2; i++){
+                    long begin = System.nanoTime();
+                    List<Token> tokens = new ArrayList<>();
+                    Tokenizer t = new Tokenizer(file);
+                    Token tk;
+                    do{
+                        tokens.add(tk = t.nextToken());
+                    } while(tk == null || tk.getType() != Token.Type.END);
+                    double seconds = (System.nanoTime() - begin) / 1e9;
+                    System.out.printf("%10d %12s %14d %12.3f %12.1f %12d%n", size, "sequential", tokens.size(),
+                            seconds, Files.size(file) / (double) MB / seconds, 0);
+                    tokens = null;
+
+                    begin = System.nanoTime();
+                    ParallelTokenizer pt = new ParallelTokenizer(file);
+                    int count = pt.tokenize().size();
+                    seconds = (System.nanoTime() - begin) / 1e9;
+                    System.out.printf("%10d %12s %14d %12.3f %12.1f %12d%n", size, "parallel", count,
+                            seconds, Files.size(file) / (double) MB / seconds, pt.getRelexedTokens());
+                }
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Times counting the tokens of each type with a sequential and a parallel tokens Stream
+     * over a memory-mapped file.
+     * @param sizes the file sizes in MB
+     */
+    private static void stream(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %12s %14s %12s %12s%n", "size MB", "mode", "tokens", "seconds", "MB/s");
+            for(long size : sizes){
+                Path file = generate(dir, size * MB);
+                for(int i = 0; i < 2; i++){
+                    for(boolean parallel : new boolean[]{false, true}){
+                        long begin = System.nanoTime();
+                        Map<Token.Type, Long> counts = (parallel ? new Tokenizer(file).tokens().parallel() : new Tokenizer(file).tokens())
+                                .collect(Collectors.groupingBy(Token::getType, Collectors.counting()));
+                        double seconds = (System.nanoTime() - begin) / 1e9;
+                        long tokens = counts.values().stream().mapToLong(Long::longValue).sum();
+                        System.out.printf("%10d %12s %14d %12.3f %12.1f%n", size, parallel ? "parallel" : "sequential", tokens,
+                                seconds, Files.size(file) / (double) MB / seconds);
+                    }
+                }
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Writes the tokens of generated files to token files, and times reading the token files
+     * against lexing the C files. Both are read with advance, so neither creates Tokens.
+     * @param sizes the file sizes in MB
+     */
+    private static void serialize(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %14s %12s %12s %12s %12s%n", "size MB", "tokens", "token MB", "write s", "lex s", "read s");
+            for(long size : sizes){
+                Path file = generate(dir, size * MB);
+                Path tokenFile = dir.resolve("bench-" + size + ".ctok");
+                long begin = System.nanoTime();
+                long tokens;
+                try(TokenWriter writer = new TokenWriter(Files.newOutputStream(tokenFile))){
+                    tokens = writer.writeAll(new Tokenizer(file));
+                }
+                double write = (System.nanoTime() - begin) / 1e9;
+                for(int i = 0; i < 3; i++){
+                    begin = System.nanoTime();
+                    countTokens(new Tokenizer(file));
+                    double lex = (System.nanoTime() - begin) / 1e9;
+                    begin = System.nanoTime();
+                    countTokens(new TokenReader(tokenFile));
+                    double read = (System.nanoTime() - begin) / 1e9;
+                    System.out.printf("%10d %14d %12.1f %12.3f %12.3f %12.3f%n", size, tokens,
+                            Files.size(tokenFile) / (double) MB, write, lex, read);
+                }
+                Files.delete(tokenFile);
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Times one-character insertions and deletions with the IncrementalTokenizer, and compares
+     * them with lexing the whole text with a new Tokenizer. Like typing, a character is typed
+     * and deleted again near a cursor that jumps to a random place every 1000 edits.
+     * @param sizes the text sizes in MB
+     */
+    private static void incremental(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %12s %14s %16s %16s%n", "size MB", "tokens", "full ms", "edit us", "tokens/edit");
+            for(long size : sizes){
+                Path file = generate(dir, size * MB);
+                String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                Files.delete(file);
+                long begin = System.nanoTime();
+                long tokens = countTokens(new Tokenizer(new StringReader(text)));
+                double full = (System.nanoTime() - begin) / 1e6;
+
+                IncrementalTokenizer inc = new IncrementalTokenizer(text);
+                Random random = new Random(size);
+                int edits = 20000;
+                long relexed = 0;
+                begin = System.nanoTime();
+                int cursor = 0;
+                for(int i = 0; i < edits; i++){
+                    if(i % 1000 == 0){
+                        cursor = random.nextInt(inc.length());
+                    }
+                    IncrementalTokenizer.Change change;
+                    if(i % 2 == 0){
+                        cursor = Math.min(Math.max(cursor + random.nextInt(64) - 32, 0), inc.length());
+                        change = inc.edit(cursor, 0, "x");
+                    }
+                    else{
+                        change = inc.edit(cursor, 1, "");
+                    }
+                    relexed += change.getInsertedCount();
+                }
+                double perEdit = (System.nanoTime() - begin) / 1e3 / edits;
+                System.out.printf("%10d %12d %14.1f %16.2f %16.1f%n", size, tokens, full, perEdit, relexed / (double) edits);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Times reading every Token of a heavily commented file with nextToken, once keeping the
+     * comments and once skipping them with setSkippedTypes.
+     * @param sizes the file sizes in MB
+     */
+    private static void filter(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %12s %14s %12s %12s%n", "size MB", "comments", "tokens", "seconds", "MB/s");
+            String sample = new String(Files.readAllBytes(Paths.get(SAMPLE)), StandardCharsets.UTF_8);
+            StringBuilder block = new StringBuilder("/**\n");
+            for(int i = 0; i < 12; i++){
+                block.append(" * Documentation line ").append(i).append(" describing the declarations below.\n");
+            }
+            block.append(" */\n// See also the notes above.\n").append(sample).append('\n');
+            byte[] bytes = block.toString().getBytes(StandardCharsets.UTF_8);
+            for(long size : sizes){
+                Path file = dir.resolve("bench-commented-" + size + ".c");
+                try(OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 20)){
+                    for(long written = 0; written < size * MB; written += bytes.length){
+                        out.write(bytes);
+                    }
+                }
+                for(int i = 0; i < 3; i++){
+                    for(boolean skip : new boolean[]{false, true}){
+                        long begin = System.nanoTime();
+                        Tokenizer t = new Tokenizer(file);
+                        if(skip){
+                            t.setSkippedTypes(EnumSet.of(Token.Type.BLOCK_COMMENT, Token.Type.LINE_COMMENT));
+                        }
+                        long tokens = 0;
+                        Token token;
+                        while((token = t.nextToken()) == null || token.getType() != Token.Type.END){
+                            if(token != null){
+                                tokens++;
+                            }
+                        }
+                        double seconds = (System.nanoTime() - begin) / 1e9;
+                        System.out.printf("%10d %12s %14d %12.3f %12.1f%n", size, skip ? "skipped" : "kept", tokens,
+                                seconds, Files.size(file) / (double) MB / seconds);
+                    }
+                }
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Times advance over a file with the Tokenizer and the ByteTokenizer.
+     * @param sizes the file sizes in MB
+     */
+    private static void bytes(long[] sizes) throws IOException {
+        Path dir = Files.createTempDirectory("tokenizer-bench");
+        try{
+            System.out.printf("%10s %12s %14s %12s %12s%n", "size MB", "mode", "tokens", "seconds", "MB/s");
+            for(long size : sizes){
+                Path file = generate(dir, size * MB);
+                for(int i = 0; i < 3; i++){
+                    for(boolean bytes : new boolean[]{false, true}){
+                        long begin = System.nanoTime();
+                        long tokens = countTokens(bytes ? new ByteTokenizer(file) : new Tokenizer(file));
+                        double seconds = (System.nanoTime() - begin) / 1e9;
+                        System.out.printf("%10d %12s %14d %12.3f %12.1f%n", size, bytes ? "bytes" : "chars", tokens,
+                                seconds, Files.size(file) / (double) MB / seconds);
+                    }
+                }
+                Files.delete(file);
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static long usedHeap(){
+        Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 4; i++){
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Runs a TokenCursor to the end of its input.
+     * @param cursor the cursor to run
+     * @return the number of tokens read, not counting END
+     */
+    static long countTokens(TokenCursor cursor){
+        long tokens = 0;
+        Token.Type type;
+        while((type = cursor.advance()) != Token.Type.END){
+            if(type != null){
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Writes a file of at least the given size by repeating the sample C file.
+     * @param dir the directory to write into
+     * @param size the minimum size in bytes
+     * @return the path of the generated file
+     */
+    static Path generate(Path dir, long size) throws IOException {
+        byte[] sample = (new String(Files.readAllBytes(Paths.get(SAMPLE)), StandardCharsets.UTF_8) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        Path file = dir.resolve("bench-" + size + ".c");
+        try(OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 20)){
+            for(long written = 0; written < size; written += sample.length){
+                out.write(sample);
+            }
+        }
+        return file;
+    }
+
+    private static long[] sizes(String[] args, long... defaults){
+        if(args.length <= 1){
+            return defaults;
+        }
+        long[] sizes = new long[args.length - 1];
+        for(int i = 1; i < args.length; i++){
+            sizes[i - 1] = Long.parseLong(args[i]);
+        }
+        return sizes;
+    }
+
+    /**
+     * Runs the benchmark named by the first argument.
+     * @param args the benchmark name followed by its arguments
+     */
+    public static void main(String[] args) throws IOException {
+        String name = args.length > 0 ? args[0] : "input";
+        switch(name){
+            case "input":
+                input(sizes(args, 1, 100, 2100));
+                break;
+            case "memory":
+                memory(sizes(args, 1000000));
+                break;
+            case "adversarial":
+                adversarial(sizes(args, 1024, 2048, 5120, 10240));
+                break;
+            case "scaling":
+                scaling(sizes(args, 256));
+                break;
+            case "parallel":
+                parallel(sizes(args, 64));
+                break;
+            case "stream":
+                stream(sizes(args, 64));
+                break;
+            case "serialize":
+                serialize(sizes(args, 64));
+                break;
+            case "incremental":
+                incremental(sizes(args, 1, 16));
+                break;
+            case "filter":
+                filter(sizes(args, 64));
+                break;
+            case "bytes":
+                bytes(sizes(args, 64));
+                break;
+            default:
+                System.err.println("Unknown benchmark: " + name);
+                System.exit(1);
+        }
+    }
+}
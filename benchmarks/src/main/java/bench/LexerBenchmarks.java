@@ -0,0 +1,151 @@
+package bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongBiFunction;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the Tokenizer on the corpora in src/main/resources/corpus. Every benchmark
+ * counts one operation per token, so ops/s is tokens per second, and with -prof gc the
+ * gc.alloc.rate.norm column is the bytes allocated per token.
+ *
+ * realistic.c is ordinary C and is read with nextToken, with the allocation-free advance, in
+ * TokenBatches with nextTokens, and as UTF-8 bytes with the advance of the ByteTokenizer.
+ * The other corpora are each dominated by one kind of token, so that a change to one scanner
+ * of the Tokenizer shows up in one benchmark:
+ *
+ *  numbers      checkConstantNumbers
+ *  strings      checkConstantString and checkConstantChar
+ *  comments     checkBlockComment and checkLineComment
+ *  identifiers  checkIdentifier and the keyword lookup in it
+ *  punctuators  checkPunctuators
+ *
+ * The token counts of the corpora are fixed below and checked when the benchmark starts, so
+ * an edited corpus cannot silently skew the per-token numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmarks {
+    private static final int REALISTIC_TOKENS = 1626;
+    private static final int NUMBERS_TOKENS = 7939;
+    private static final int STRINGS_TOKENS = 3916;
+    private static final int COMMENTS_TOKENS = 514;
+    private static final int IDENTIFIERS_TOKENS = 4909;
+    private static final int PUNCTUATORS_TOKENS = 13316;
+
+    private ToLongBiFunction<char[], Blackhole> tokens;
+    private ToLongBiFunction<char[], Blackhole> cursor;
+    private ToLongBiFunction<char[], Blackhole> batch;
+    private ToLongBiFunction<byte[], Blackhole> bytes;
+    private char[] realistic;
+    private byte[] realisticBytes;
+    private char[] numbers;
+    private char[] strings;
+    private char[] comments;
+    private char[] identifiers;
+    private char[] punctuators;
+
+    /**
+     * Loads the corpora and the lexing functions.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        Class<?> lexer = Class.forName("CorpusLexer");
+        this.tokens = (ToLongBiFunction<char[], Blackhole>) lexer.getMethod("tokens").invoke(null);
+        this.cursor = (ToLongBiFunction<char[], Blackhole>) lexer.getMethod("cursor").invoke(null);
+        this.batch = (ToLongBiFunction<char[], Blackhole>) lexer.getMethod("batch").invoke(null);
+        this.bytes = (ToLongBiFunction<byte[], Blackhole>) lexer.getMethod("bytes").invoke(null);
+        this.realistic = load(lexer, "realistic.c", REALISTIC_TOKENS);
+        this.realisticBytes = new String(this.realistic).getBytes(StandardCharsets.UTF_8);
+        this.numbers = load(lexer, "numbers.c", NUMBERS_TOKENS);
+        this.strings = load(lexer, "strings.c", STRINGS_TOKENS);
+        this.comments = load(lexer, "comments.c", COMMENTS_TOKENS);
+        this.identifiers = load(lexer, "identifiers.c", IDENTIFIERS_TOKENS);
+        this.punctuators = load(lexer, "punctuators.c", PUNCTUATORS_TOKENS);
+    }
+
+    private static char[] load(Class<?> lexer, String name, int expected) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(InputStream in = LexerBenchmarks.class.getResourceAsStream("/corpus/" + name)){
+            if(in == null){
+                throw new IOException("missing corpus " + name);
+            }
+            byte[] buf = new byte[8192];
+            int n;
+            while((n = in.read(buf)) > 0){
+                bytes.write(buf, 0, n);
+            }
+        }
+        char[] corpus = new String(bytes.toByteArray(), StandardCharsets.UTF_8).toCharArray();
+        long count = (Long) lexer.getMethod("count", char[].class).invoke(null, (Object) corpus);
+        if(count != expected){
+            throw new IllegalStateException(name + " has " + count + " tokens, expected " + expected);
+        }
+        return corpus;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REALISTIC_TOKENS)
+    public long realisticNextToken(Blackhole blackhole){
+        return this.tokens.applyAsLong(this.realistic, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REALISTIC_TOKENS)
+    public long realisticAdvance(Blackhole blackhole){
+        return this.cursor.applyAsLong(this.realistic, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REALISTIC_TOKENS)
+    public long realisticBatch(Blackhole blackhole){
+        return this.batch.applyAsLong(this.realistic, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REALISTIC_TOKENS)
+    public long realisticBytes(Blackhole blackhole){
+        return this.bytes.applyAsLong(this.realisticBytes, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS_TOKENS)
+    public long numbers(Blackhole blackhole){
+        return this.tokens.applyAsLong(this.numbers, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRINGS_TOKENS)
+    public long strings(Blackhole blackhole){
+        return this.tokens.applyAsLong(this.strings, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS_TOKENS)
+    public long comments(Blackhole blackhole){
+        return this.tokens.applyAsLong(this.comments, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDENTIFIERS_TOKENS)
+    public long identifiers(Blackhole blackhole){
+        return this.tokens.applyAsLong(this.identifiers, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PUNCTUATORS_TOKENS)
+    public long punctuators(Blackhole blackhole){
+        return this.tokens.applyAsLong(this.punctuators, blackhole);
+    }
+}
@@ -0,0 +1,716 @@
+/* lock with must */
+/* returns in and this */
+x = y; // this must held lock the lock number table function in the
+/* and must and table with lock and be the and this in and with must */
+// returns the this entries number the returns the lock this
+/* of and lock lock held function */
+/*
+ * must lock the this with be table with must
+ * and the the of this lock the with the
+ * and be number entries returns the with be the
+ */
+/* and entries function */
+/* the function held the held and and be entries in called this the */
+/* called entries held called be be */
+/*
+ * the this called the must of the lock the returns entries entries returns
+ * in this number be be lock called held returns entries called in lock
+ * the held be be held be with with the in function number must
+ */
+// the function table lock the lock of
+// the called called function the this returns
+/* of in this in entries lock held returns with in called */
+// number with the this and number with called in lock entries
+// with with table
+/*
+ * table this with number and function the table held the number returns entries
+ * and this function this table table held function returns in function be the
+ * this must of table must be table entries this the table entries table
+ * held lock this be with held of number this this with with this
+ * entries the must be the entries and number of table held lock held
+ * entries the the in with and returns held the be the be this
+ */
+/* the number the function the the the with returns */
+/* number the lock entries the this the be and called the lock with the with */
+/*
+ * lock this and entries in the held the be the returns
+ * the be called the table be table in the be held
+ * lock in with held the table with the returns held returns
+ */
+// the called and function be in returns function with function function function lock
+// of in number and lock must function and of the this the in the
+/*
+ * be the the
+ * entries this the
+ * with the lock
+ * this the number
+ */
+/* and number must table of held and returns called the of the and must */
+/* returns the called called in must called and entries be held lock and function number */
+// returns be the the
+/*
+ * this of and
+ * the the and
+ * the be of
+ */
+// in lock and number the table number the lock this entries called returns
+/* table function the number called function function this of the number in be entries returns function */
+/*
+ * called lock of with
+ * and this the this
+ */
+/*
+ * in the with must must the and lock entries lock function of returns number number
+ * entries lock table function this with number held number the the entries held entries held
+ */
+/* the function table held entries with returns must function entries called returns this */
+// of the entries this function the and the in lock in called
+/* of number lock number returns */
+// function the entries
+/* function the table called the number returns of the the entries number in entries the number */
+/* and the be of table and lock of this table lock entries entries */
+// with this of entries the must
+x = y; // function the and of held must of held the be entries table this number
+// in table must
+/*
+ * the held and function
+ * the entries returns be
+ * and number number and
+ * with number must the
+ * this this number number
+ */
+/* the of and returns the lock table held function in of entries the returns */
+// with lock lock
+/*
+ * be be with be function called be must called and table
+ * held lock the held function and lock lock held entries and
+ */
+// called function entries called called called this in the be table the
+/* number table held the of called this and of and of of lock */
+// this the number returns
+// returns of the the table in in
+/*
+ * returns called lock of table called the number number held of this be the held function
+ * held lock held and entries number returns called and in must and called with the function
+ * and with the of with function and the the called held with function and with of
+ */
+// entries the held in must entries in called and of this table returns of entries
+// the the this must the held returns function in called of the the
+/* this in the called function held returns number in the number the */
+/* called be be the must this returns of */
+/* called this the */
+/* the this and */
+// with the returns the entries the the number returns
+/* called this entries the the the in in in number with */
+/*
+ * with held number lock must function number be with number with returns
+ * this the lock the the in be lock and called table held
+ * held this lock the this of returns table of the the lock
+ * with entries of and number returns returns returns in in with must
+ * the number be in and the number lock returns held must the
+ */
+/*
+ * called called be table the in and the be and must entries
+ * with this returns table held returns the number must this called in
+ * function function must table this and held be be returns function held
+ * the table entries lock must this in the the the with called
+ */
+/* in with returns */
+x = y; // lock must called table be returns returns with of and of
+// function with held the lock function must held entries entries the function and function returns lock
+// this in be the the with of entries lock called returns returns
+/*
+ * entries must number lock number number in lock lock must be be held the
+ * and the of the of held entries with with of of number in held
+ */
+// the entries the must the of must be of must
+/*
+ * lock this called this the must function
+ * lock and function function and this number
+ */
+/* table called number */
+/* entries in with be returns must returns number entries in the in must */
+/* the be entries with held number called in table */
+/* be entries the number table table table of the must entries lock in function called */
+/* the the with in this held table of number with function returns must in */
+/*
+ * with with this entries the with the must function must be lock lock the this
+ * with of and be function of table number the held number be the must held
+ * number called called in of function held the and with table entries held the of
+ */
+/* lock function be */
+/* the held table the held function */
+// the function and returns called and table of
+/*
+ * the table the this of and number held entries this the with and returns the be
+ * number with the table with the entries must the with called function table table must number
+ */
+/*
+ * this the must entries table held and be called
+ */
+/* number lock number and with of function */
+/* the be entries called called the number be called with the of */
+x = y; // with in the
+/*
+ * held held be in
+ * table with lock of
+ * the in the returns
+ */
+// the and the table the entries returns this must be with function of of number the
+/* the entries called in of */
+/* with entries of in table function must with entries function */
+/* entries the the function entries be in of function in entries with lock of the table */
+/* the entries the must returns lock table must called be the function function and */
+/* and with held table function returns number and of */
+/* the the with the */
+// called of must
+/* returns returns function */
+/* of returns must called function must the with */
+// returns the this table called function this table this be lock
+// and the in this the
+x = y; // the called the must number of with in held in the of in this called
+/* called the and lock in returns of the called in and returns must be */
+/*
+ * returns number of in the function the in must held of number
+ * function the the must table with function the held the table and
+ * this returns table function this held entries the this of this of
+ * table this function in must number entries table lock function and be
+ * held the this lock of this number and returns entries with table
+ */
+/* called this be number the lock this and */
+// lock lock with function the of must the returns the called lock of
+/* held of called in with table the must */
+/* with number table must number the called */
+// be the number
+/* entries number returns function this returns the returns with the */
+/* and the of the */
+/*
+ * held lock number lock of and with the entries in this the returns the the
+ * the the called the the called this the table the table of the held with
+ */
+/* and table called the in the with the be entries returns the */
+// held the with must the
+/* be returns in held */
+/* with held function the returns lock the be table this must must function the held in */
+/*
+ * the and the returns function of in
+ * must be called entries held number returns
+ * the and lock the the table the
+ * entries table the lock function entries the
+ */
+/* entries entries must must held with held lock the */
+/* with and lock number in called be returns held returns in returns lock the */
+// called held this table and function function entries called
+/* the returns the be */
+/* with entries the number called number entries number held */
+// and held called in the returns and this
+// must the returns
+/* be this held held table held with function number and the the the function function must */
+x = y; // number number function must in lock be the of the
+/* entries lock in table the of must must */
+x = y; // number function returns in and
+/*
+ * must held function must function the
+ * and the and returns with the
+ * table the returns lock entries held
+ * function held of the the the
+ * with the the the the function
+ */
+// lock table returns returns
+// be the function the and called in be lock table number the lock returns returns function
+/*
+ * the number with
+ * returns number of
+ * and entries entries
+ * function the the
+ */
+/* the in with */
+// entries entries called of held table be the the the with be
+/*
+ * the returns the number called the returns with called in must number be
+ * the must held number the the with this be number held held returns
+ * number function of lock of returns must the must table with lock in
+ * number of called the the number the held with the table this table
+ * entries the number function lock number entries this the be returns called with
+ */
+// called with be returns held the function lock in and held in
+/* this with the be and */
+/* the held table table the with be table of */
+/* lock the must table and in and */
+/* be this of be must with with of of lock be */
+/* be the be held */
+// returns the called of with number with in the with
+/* entries function entries */
+/*
+ * number this the in the lock be number number the the and called
+ * with table the lock entries called held table entries the the of the
+ * be returns with and must lock entries entries this number entries in the
+ * entries table the called called called held this function number the held held
+ * entries table lock the lock in called the in with function the held
+ */
+/* the be entries and of and number and with called table lock */
+// in entries lock of table
+/* number called held be called with */
+/* in number and called this and returns in */
+x = y; // number the be this entries and lock the of table number called
+// of with this held returns with in called lock
+/* called entries function the in number table held be with held of the */
+/* the returns held returns table with entries number of entries table */
+/* be the in with the table in this held function lock and in this called must */
+x = y; // called must and
+// the must and lock held the lock the held be
+/* with table the function be function entries number must and the held */
+/* of must this the of of called of be of returns */
+// function entries returns this and and must
+/* entries returns the this lock in and in the */
+/* returns held the and entries be this and the */
+/*
+ * this held and and and must in returns must of
+ * lock of number the the number returns be returns this
+ */
+/*
+ * must number called returns the called the in the with number entries table in the
+ * this function the in returns the number entries number the function function lock held called
+ */
+// the must in table function with the entries table this called held and
+/*
+ * and returns with with and and the called returns called table
+ * the and called be held with the the must with of
+ * the returns and table entries be table be held must must
+ * must lock the the held this this table of held entries
+ */
+/*
+ * be and called
+ * with lock with
+ * function function the
+ */
+x = y; // be held of lock this returns entries called function the entries number of
+x = y; // lock in lock the in of the number number the of entries this and
+/*
+ * of the entries called the must function and the the
+ * the and the must function must of must with function
+ * function table must number table in called the must and
+ */
+/* the called with called */
+/*
+ * called lock the lock number lock called
+ * table table with called held be of
+ * lock entries entries called entries number entries
+ * in returns table the returns with with
+ * returns lock held function called and called
+ */
+/* number lock be entries the called and table function entries the and and of of with */
+/*
+ * the must returns lock the returns
+ */
+// called called the the with lock in this and
+x = y; // the number entries must with entries lock be of
+/* called function the this and in table entries function with the table */
+/* number lock the function in the entries called the held */
+/* the be called be in be lock and */
+/* entries and function the returns the */
+// this in called of the held returns
+// of the returns with of must returns this the lock lock of
+x = y; // of returns lock lock function of in function table returns called number and held called
+// this in held number of entries lock in entries function of with the with the
+/*
+ * of returns of entries must called
+ * table returns in the number of
+ */
+/* with returns with with the the this returns */
+x = y; // the the with the entries with number number held entries table returns and returns must
+// and returns the must be be of lock must function lock entries called
+// the called and in with
+// be table table with function the the the be function and held the entries entries and
+x = y; // entries function this
+// this of returns entries number this entries of function the must and be function
+/* this the be number be of the the held entries be table held the held */
+/* lock be and of the table with table be called */
+// entries the function this and table with the be
+/* lock returns in */
+// function this the function in be number
+/*
+ * lock the called the held the the called
+ * function number lock the lock the table held
+ */
+/* of table of held held this returns */
+/* the entries be returns lock called lock the entries */
+// called entries and called must must the of must function entries
+// lock number returns returns returns
+/*
+ * held entries called called the with number lock and called function this lock the and
+ * be and entries of the of number held this entries function the table called table
+ * entries number in returns must of the function must and and be be in must
+ * returns function the must lock with called function function in be called number the held
+ * the be number must the the called with in the returns returns in the and
+ * returns and be function held the the be number in the with in entries function
+ */
+/* this table number must number lock be of the the returns */
+// entries must the table called returns the the and number must held
+// function this with must and must called of in table in
+// called and in called returns
+/* of with in entries the in table in with the must this entries lock */
+// called entries the entries must be this the with the
+// the the this called function held the held and the the
+// held in entries the returns held table the the with of the
+// with must called the must
+/* entries in with table the held */
+// held the held must entries in in function
+/* this and the this the lock be returns */
+/* entries must lock the the the */
+/* be returns lock of be entries in the number called this */
+/* the function the with */
+/* the this held must entries be the table function and in entries */
+/*
+ * held the and be
+ * lock returns this lock
+ * function the lock the
+ * in with called and
+ * in function lock held
+ */
+// must of called with must entries function of this and be the the entries
+// function held the called the the
+/* called be the table */
+// be lock called called returns in with held the lock the the this of must
+/*
+ * of table entries entries and must with held held table table lock returns the and
+ * number the with the number number lock and be with entries this of returns entries
+ * table number with entries of called the the number lock lock called returns called returns
+ * number the number the of and this this with held number table and the in
+ * the be of in with table be in held the the function called called the
+ */
+// number with table the returns of the of with the returns
+/* number returns be held held called be lock the function lock table called */
+/* function function this table of entries returns called returns returns in function entries the the */
+/*
+ * held the of of the entries of
+ */
+/*
+ * with called returns table returns with and the be of
+ * table lock and with the be called entries number and
+ * lock held entries must called function returns must table with
+ * function in the number of with this this with entries
+ */
+// of function of the the table lock the the table
+/*
+ * function number the the of function be the be called of returns with with the
+ * held must in held lock must with must held number table must called entries be
+ * lock the must and function of this must this function number called lock table with
+ */
+/* the held entries the the returns called of of the function be the and */
+/* entries lock with entries and table must number the table this be function table function table */
+// be this the held the the in lock function
+/*
+ * returns with of returns be held and lock with
+ * lock must the held returns table called held table
+ * returns number must this and held be table the
+ * with held of returns lock returns in entries function
+ * must the returns number called the of be this
+ * and entries called number this the with lock function
+ */
+/* the the number entries this */
+x = y; // of this be the the held this in the the called the returns table called
+/*
+ * and the and
+ * entries entries entries
+ * returns the held
+ */
+/* this called the and with must called and */
+// entries table held in this in entries this called the be lock this of
+/* of the of */
+/*
+ * the and function function called this be in entries the be called function held
+ * held entries the the entries of lock returns the be this in returns returns
+ * lock number the function with entries returns this called with called with of entries
+ * this with with lock entries the held must table called called be must number
+ * be returns number table returns the lock the the with held entries the called
+ * be be returns the this entries and the number lock function be function this
+ */
+/* entries the and entries function and function */
+/*
+ * held in be the function the held function with lock function in entries of
+ * must in the entries function this the returns in returns be the the lock
+ * be function function with this returns function entries function in this number entries the
+ * in called with the the with of table must with with number in function
+ * the the held table the called and with this entries the be entries number
+ */
+x = y; // the called with be must held in with held
+x = y; // be the returns the must of
+/* this must in the this must number and in be be entries the function and */
+/* in held this called be this the entries function returns with number this lock called held */
+/*
+ * and entries entries the
+ * this of the lock
+ */
+x = y; // lock this number function in and
+/* this held number in in must held */
+// the must held number held this called of the returns with the held
+/*
+ * held the must called entries must the returns the in must lock
+ * and held lock table called with number and and held the the
+ * the must with and and lock function the returns function the function
+ * the the held with and held entries and must this number function
+ * this in and in returns the entries entries returns this the and
+ */
+/* in called returns of held the must in in lock */
+/* with lock this the lock returns and be must */
+/* lock with function and and */
+// be the of held
+// and function number the held and
+x = y; // returns number be lock and of in the of lock this with number
+/* lock with the this the must the the called in the the be in held */
+x = y; // the and of lock must the in the must function with
+/* lock be entries held this returns table this table number lock function */
+/*
+ * this table with be lock held called the held lock number returns the function
+ * and the be function the be and function function lock and and the with
+ * lock number the the function the held number the in must this the of
+ * in function the function returns of table the be the called the the must
+ * the the be this be number the the this called the with table and
+ * held lock function must called this the the with function lock number number number
+ */
+/* called entries function returns returns the */
+/* be table function called the called called with this held be entries */
+/* this returns in returns must held with */
+x = y; // held lock be with of number returns with of function
+x = y; // this in this lock the in must of of the
+/* the the and and of held must this of */
+/*
+ * function the and and the entries entries
+ * the function lock called must returns number
+ * number returns the be and entries of
+ * called of be with this in called
+ * held returns held function held lock must
+ */
+/*
+ * with the and number of and called returns the and be
+ * the returns table of in returns held the in the number
+ * the number in the and this returns be table held lock
+ * returns be and of function the entries with of entries entries
+ * returns function returns number held of this with returns in function
+ */
+// of the and called the of and be held in held
+/* function and function this the function be table be */
+/* with must the entries lock called lock the the called */
+// called held be function the in in must called and the must in the with held
+/*
+ * and called must called and the entries the
+ * number table with the number held held and
+ */
+/* be and called of lock this and this this in and */
+/*
+ * must entries entries the lock and returns and this with this in entries
+ * must called held the returns the the the table and the the the
+ * lock returns number held in held be lock with the called this table
+ * function function and the table entries of function and the the in the
+ * of with in returns entries with the the with the number be of
+ * the must of returns called table returns called in in number returns with
+ */
+/*
+ * with with the the must this in the
+ */
+/*
+ * the the returns returns the the number entries this and held and the in the
+ * the the with and of lock table the held the this with lock table function
+ * and held this lock this the must with this this be function with table the
+ * with in the table with called returns and and with the the with function must
+ * lock this be number with entries the be the must table table in called with
+ * called the lock must the in be the held of of in function function held
+ */
+// of and entries the lock must entries table lock entries table called called the of
+/*
+ * must of the number entries and and table
+ * returns with the entries entries function of this
+ * this be and be table lock returns of
+ * lock with the table the be the held
+ */
+// of called must and entries and the returns function entries held the
+/*
+ * lock table in this this be
+ * number the of number the returns
+ */
+// the be the with this and this table entries the held with called
+/*
+ * number the the the be the and and called returns
+ */
+/*
+ * must table table this held the the be the table must and table must
+ * function held returns the called table number of must called lock held table the
+ */
+/* of called entries must the entries and the in called in number of */
+/* with this and called lock this the */
+/* lock be be with in the called this */
+/*
+ * and table must the called must this entries held with held
+ * the must the the of called the table with function table
+ * in number entries entries held this in with the of held
+ * returns the called and lock number the the and and the
+ * with must called returns the lock must this the returns the
+ * the and returns function the table the must entries returns must
+ */
+/*
+ * returns called entries of the of and number returns must this number must returns lock this
+ * the in table the and called of entries returns called number entries the in be table
+ * must function function of this be must with called number the called number the in the
+ * entries entries the number with of table of in table be be this of the table
+ */
+/*
+ * table table lock with this be this number and number function with with the of
+ * with the returns and the this and called and this in in table entries be
+ * must with the entries in of in the number the with must in the number
+ * number must table function and number with the lock lock the returns and table called
+ * function returns with number must entries held entries table this and table this entries returns
+ */
+/*
+ * lock number lock this with this and the of of
+ * the and function the with entries lock this function with
+ * of in this the be the this lock must table
+ */
+x = y; // returns number the with entries entries this of in held
+// with be called table number
+/* called with held in the function function the with held with with of table */
+// must and number the entries the and
+// be the the be with function must of held held the of the
+/* and of function and this be entries of must must of */
+/*
+ * be held the with this
+ */
+// table returns be
+/* lock function the called lock function table be */
+// table table the of number of in
+/*
+ * lock of lock and the the number
+ * with the this must lock this must
+ * function entries held called and must the
+ * lock of and in with in lock
+ */
+x = y; // and returns number and the this must held the must of held must called called
+x = y; // of in number the held and and called number of in this the called be and
+/* the this the lock lock */
+/* of number the function with the lock of number the */
+x = y; // the of the table entries in of the the table called table lock
+/* must this the number and called returns held lock */
+// table returns the and with with entries of in function called with the be the must
+// entries be of entries in the number function
+// number this held the this the this lock
+// function must called function and number the number the entries and
+x = y; // the be of and must lock must be be number table returns entries lock be in
+// the must lock called returns be called the number in of the and
+/* the function and number the the table lock be */
+/* entries held be this the must this entries called held returns in */
+/* must the of entries function lock must the table must the be returns with function returns */
+// in of of be entries
+/*
+ * of entries number the returns of
+ * the and the lock table the
+ * lock must number the returns in
+ * number entries called function in of
+ */
+// function be of number be table the held held lock lock in function of called be
+// called of this
+/* returns entries entries returns lock number number held this */
+x = y; // with the be this held of of
+/* entries of the function must must the called returns the function of number entries in */
+// the be of must
+/* the returns entries must of of of function and and the */
+// of and the with held with of function entries the entries the held the
+/*
+ * this function entries number and must number this entries function with be be the called
+ * be lock called be this with table with of number in called number entries the
+ * held number entries this held the be held entries returns returns this table in this
+ * number of the the in this the entries the with this table be this lock
+ */
+/*
+ * table this function and
+ */
+x = y; // must entries held must lock the in of with the of
+/* the the lock returns called must the held entries of the number must with */
+/*
+ * and held be of with function returns
+ * the must called held the the entries
+ * this of of this called and with
+ */
+// returns number lock in called lock function be number entries be with
+/*
+ * the be of be must table entries the
+ * held must and called with be function be
+ * in with held lock be held the be
+ * with number this entries function in the held
+ * must entries this table this this table table
+ */
+/* the in the table held in entries returns lock of */
+/*
+ * returns returns of and in the number of this of this must must number
+ * returns called table with and function returns of function lock with this called this
+ * called and entries and and table entries in number returns number table with and
+ */
+/* and be held */
+x = y; // in held function of the held be called the and called
+/*
+ * number the returns in with called held function number entries function
+ * the called be lock function of must number be must held
+ * this of be number and this called called function function held
+ */
+// called held with returns function in must and this the number table entries number entries
+/* lock the entries lock function the the be held function with function held function number */
+/*
+ * held must in the in entries the held function be this the must the and entries
+ * must entries and the entries of lock of this the and and must of entries function
+ * and the the function of table must returns the returns the function table number with the
+ * function held the held held the with number called must with in and the the returns
+ * and held lock with with lock table must in number in in the must of with
+ * the of of in lock lock and number the with of held entries the this of
+ */
+// with entries function the and returns be be the table be the number number called
+/* held of called and number this returns the the */
+/* must must the */
+// must the must the lock
+/* lock the called with held table function */
+/* must with with this returns table the of table called must function the */
+/* lock the held the the the in and entries */
+/*
+ * called lock held be this function the table lock and function the lock the lock
+ * held lock of the returns must the number with called entries held called this be
+ * this in table lock the held table returns the be the called in function with
+ */
+x = y; // entries in table number called held number the lock lock of this
+// the called the the the held in number this entries held and table this
+x = y; // table lock table lock be of table number table table function
+// with entries table the must the and called held of of entries entries this entries
+/*
+ * entries function held of and the table number this returns this held the with
+ * held the in and returns the function called the must function returns this this
+ * of with lock called in table with this held the be the of held
+ * returns table with must and be must entries of function function function function with
+ * must table number must of in held of the with the must called this
+ */
+/* and in of returns number must table this the called and with the in held and */
+// number with the entries called number entries and returns and of held
+x = y; // in must function the must lock must and
+/* the returns must called the of be table in this the in of number the */
+x = y; // function function held table in called the number with the called the
+// and lock in number of
+x = y; // entries called the be the be with entries this entries with entries
+// of in the be the number in function the of be this in and
+// and and with held called number the
+/*
+ * number held the number function of must
+ * this this and returns the number called
+ * number of with called be this the
+ * table the with the function in table
+ * returns the the this must be the
+ */
+/* and entries entries table must */
+/* entries lock lock with held function must table entries */
+/* function this the with the and */
+/*
+ * be number number
+ * this entries called
+ */
+// table be of of function with the table and be the entries this and
+/* the of lock */
+/* entries this in held */
+// the must returns in this must returns of of number the
+// of called lock of held must
+/* must this entries held be number number this and */
+/* returns this and function held */
@@ -0,0 +1,652 @@
+    if continue restrict x1 icount;
+    x1 break valueright left sizeof MAX_LINE left;
+    harena_alloc auto hash extern;
+    h q q k auto;
+    right buffer_size case count _private for parent float next_entry arena_allock;
+    _private long hashvalue;
+    x1 MAX_LINE value q sizeof ptable_find extern goto q;
+    switch int double const goto if karena_alloc _private value;
+    restrict i enum case MAX_LINE buffer_size table_find;
+    void sizeof j node;
+    x1count char y2 const hash;
+    value arena_allockey_len p node MAX_LINE ki extern;
+    register switch arena_alloc nodeh buffer_sizek y2;
+    while enum unsigned parentcount q auto next_entry unsigned right;
+    hash next_entry q_private key_len restrict;
+    h k value;
+    next_entry p jp int;
+    key_len count j signed hash next_entry;
+    node h q y2 continue;
+    valuekey_len j void volatile q i buffer_sizearena_alloc hash for;
+    key_lenhash x1 parent float qk;
+    void arena_allocright volatile table_find register inline parent parent if arena_alloccount;
+    static right value signed;
+    parent next_entry signed p count unsigned;
+    int typedef if buffer_size;
+    const inline h;
+    qtable_find char rightbuffer_size hbuffer_size char arena_alloc table_find buffer_size MAX_LINE next_entry;
+    arena_alloch const hash buffer_size auto MAX_LINEleft restrict signed k;
+    left arena_allocbuffer_size j x1buffer_size i;
+    jnode MAX_LINE goto jhash rightnode sizeof inline i;
+    x1count for enum union else q;
+    enum int sizeof _privatep hash arena_allocvalue;
+    rightq next_entryMAX_LINE left char rightcount unsigned break if buffer_size;
+    p table_findnext_entry struct double j char value countnode hashMAX_LINE;
+    table_findbuffer_size continue left value h;
+    j y2i hash;
+    long y2value next_entry value leftnode enum break y2 inline valuekey_len;
+    hashj jcount x1 key_len node i continue for;
+    struct h extern table_findq inline jarena_alloc MAX_LINE;
+    buffer_size int hash y2hash;
+    do sizeof short return jkey_len table_find parent float;
+    p kright parent;
+    kx1 kleft buffer_size i q double node union break leftright;
+    do parentx1 unsigned;
+    arena_alloc switch y2 typedef x1 ileft hash;
+    q hashhash arena_alloc _private table_find;
+    h key_lenbuffer_size return const knode value arena_alloc inline right;
+    sizeof enum qnode node buffer_size x1;
+    y2 extern table_find char static MAX_LINE;
+    arena_alloc value extern short count volatile left ih;
+    long hashkey_len buffer_size while q j;
+    p case do;
+    if union buffer_sizenext_entry arena_allocvalue left goto _privateMAX_LINE return p;
+    hashq arena_alloch continue struct;
+    buffer_size i union;
+    inline k hx1 key_len j arena_alloc;
+    MAX_LINE parent valueMAX_LINE key_len i hash;
+    i for switch MAX_LINE;
+    signed table_find hashp parentk unsigned table_find;
+    x1 _privateq buffer_sizecount parent hash j hash case hashj key_len;
+    table_find arena_alloc next_entry MAX_LINE value static;
+    leftj value valuearena_alloc righthash break k case;
+    long struct MAX_LINEarena_alloc next_entry next_entry parentMAX_LINE i;
+    const default do MAX_LINEparent value;
+    case arena_alloc y2i volatile sizeof do;
+    register while char if left short y2 rightk continue;
+    qvalue value MAX_LINEnext_entry else buffer_size void countq void;
+    float parent static int short key_len extern sizeof MAX_LINE float;
+    char parent i double short jy2 h typedef signed;
+    next_entry default next_entry break;
+    enum countq count enum key_len nodeleft;
+    typedef x1 struct p jvalue register hashy2 MAX_LINE;
+    for value goto qcount signed typedef restrict char;
+    j_private else continue void char for table_find;
+    x1h MAX_LINEbuffer_size parent MAX_LINEvalue long;
+    restrict extern right sizeof double if buffer_sizeparent;
+    j const righttable_find p arena_alloc unsigned long value void parentleft;
+    switch buffer_size table_findcount extern void while;
+    arena_alloc _private break MAX_LINE_private union parent arena_alloc key_len q_private;
+    h struct j j countMAX_LINE right;
+    ivalue table_findarena_alloc signed _privateright h double i hashi;
+    x1 default h k q buffer_size enum;
+    node break inline h h unsigned auto;
+    _private h kMAX_LINE arena_alloc MAX_LINEparent;
+    count_private buffer_sizenext_entry karena_alloc;
+    double extern _private;
+    key_lenj union ji;
+    kq register switch arena_alloc buffer_sizevalue short unsigned restrict;
+    _private inline _private k hasharena_alloc long signed;
+    left buffer_size left x1p ibuffer_size;
+    left switch nodenext_entry right _private typedef register while;
+    q h if p void MAX_LINE hash arena_alloc;
+    x1 if pright restrict short sizeof unsigned inline p parentk;
+    break table_find while restrict parent i;
+    rightMAX_LINE break extern;
+    buffer_sizex1 enum table_find k j;
+    while float continue node;
+    static return value buffer_size case goto;
+    volatile key_len struct j_private;
+    value y2 continue static;
+    hashx1 hashvalue hashj jright;
+    goto goto register table_find valueparent if signed left qcount char;
+    j key_len double auto buffer_size left hashcount hash;
+    short buffer_size h MAX_LINE for value const count hright _private;
+    hashx1 switch static while next_entry valuei;
+    rightkey_len struct typedef y2y2 pparent count else restrict;
+    j left y2 leftnode x1hash sizeof _private;
+    while key_lenhash node do q y2p j node;
+    enum char short i while _private hash const qj j;
+    continue y2 x1 double x1arena_alloc y2 if iarena_alloc;
+    break h arena_allocarena_alloc while qy2 q x1MAX_LINE;
+    table_findkey_len hy2 long int pright right;
+    void valuearena_alloc short break buffer_size key_len MAX_LINE else k;
+    nodeMAX_LINE register _privatei j hash y2;
+    j next_entry next_entry p MAX_LINE jhash value_private node;
+    default nodey2 x1;
+    short leftq default _private float typedef;
+    i typedef unsigned int;
+    continue MAX_LINE signed table_findparent q restrict;
+    next_entryx1 count static void right const qh;
+    node arena_alloc char value while p static;
+    next_entry value struct default q register lefty2;
+    register counttable_find signed sizeof;
+    return left int valuej;
+    double count h y2;
+    int int nodep;
+    const static enum char q phash void;
+    if h q register;
+    auto typedef hash else buffer_size;
+    auto return MAX_LINE;
+    continue x1left else long x1 while;
+    rightp arena_alloc itable_find;
+    arena_alloc static hash parent continue case register _privatetable_find double buffer_size;
+    rightbuffer_size short nodeh y2 long arena_alloc MAX_LINE typedef;
+    char unsigned auto extern y2 y2parent nodetable_find break;
+    x1 k default h _private buffer_size;
+    j parent while float do switch const _private;
+    hash k MAX_LINE _private valueh sizeof key_len;
+    long y2 valueright switch;
+    k x1k union ki _private;
+    _private long int jarena_alloc parent volatile y2 qx1;
+    switch leftbuffer_size long do k case float;
+    q goto _privatej x1 MAX_LINE k value short;
+    short default i typedef pparent y2p;
+    k buffer_size h unsigned;
+    key_lenk MAX_LINE switch next_entry right float;
+    left hash value key_lenparent y2buffer_size MAX_LINE volatile unsigned;
+    MAX_LINE key_lenk const default;
+    arena_alloch k auto void while;
+    break i for union goto y2key_len _privateMAX_LINE hashparent;
+    j unsigned x1value right i signed;
+    return double void value goto next_entry for;
+    y2h qj key_len default q left long key_len buffer_size;
+    x1 j do parent sizeof int x1 for node;
+    if valueMAX_LINE break;
+    p table_find right sizeof;
+    pright static MAX_LINE countkey_len enum;
+    table_find goto k left do p;
+    jnext_entry typedef righty2 parentcount key_len else jhash kparent;
+    hash signed MAX_LINE jp leftnode leftparent iy2 k switch;
+    node parentarena_alloc arena_alloc static county2;
+    parent k do count x1;
+    MAX_LINE int restrict buffer_size char unsigned enum iy2 parent arena_allocj;
+    hashnext_entry jnode q parentkey_len k;
+    enum goto i j _private const;
+    table_findnext_entry h volatile h arena_allocMAX_LINE register i int p;
+    _private return buffer_size int else;
+    auto return switch inline do register signed table_findMAX_LINE;
+    next_entry k count while case next_entryq;
+    table_find for qcount continue short table_findk arena_alloc node for;
+    count void count break key_len;
+    arena_alloc goto struct default int break;
+    switch next_entry break float y2;
+    value if countparent parent left i count union hash;
+    key_lenbuffer_size buffer_sizecount j inline double restrict valuetable_find leftq;
+    pj q default buffer_sizej nodenext_entry if long extern value right;
+    goto arena_alloc if y2h;
+    arena_alloc table_findhash table_find ij key_len MAX_LINE key_len;
+    auto restrict int hash;
+    continue countvalue unsigned count buffer_sizetable_find if y2 continue _private switch;
+    j left break continue MAX_LINE q;
+    arena_alloc i break next_entryk leftq;
+    do hash MAX_LINE_private;
+    return buffer_size auto;
+    y2 table_find table_find if parent;
+    right rightparent arena_alloc_private double char buffer_sizehash next_entry h;
+    typedef MAX_LINE _private long left int sizeof key_len;
+    break k typedef parent;
+    extern q _private table_find default sizeof next_entry buffer_size unsigned;
+    parent break goto y2left restrict continue void jkey_len;
+    count x1node table_findnext_entry;
+    signed key_len hashnext_entry left break left rightp extern volatile;
+    h h for struct k float do _private q;
+    char auto _private signed MAX_LINE;
+    key_len k table_find register key_lenMAX_LINE leftx1;
+    key_len hash parent volatile j value signed buffer_size left h;
+    auto return arena_alloc i;
+    x1 x1 q i signed do key_len q register table_findnext_entry;
+    x1 node enum j h parent switch;
+    p _private i right auto extern;
+    key_len right inline parent h short table_find buffer_size nodeh;
+    void right default MAX_LINEtable_find q;
+    rightnext_entry switch signed arena_alloc;
+    buffer_size else auto;
+    MAX_LINE k h parent pkey_len i;
+    p char default;
+    _privatey2 case left typedef MAX_LINE htable_find x1 signed break left;
+    table_find auto for restrict while long enum;
+    p union continue inline arena_allocy2 inline valueleft int;
+    inline else p px1;
+    j jarena_alloc case i volatile while inline default signed buffer_size;
+    countnode key_lenarena_alloc x1 _private arena_alloc buffer_size i;
+    k goto unsigned if void table_find y2count arena_alloc struct static;
+    if nodearena_alloc double y2 x1 right;
+    _private int int const j MAX_LINE auto right;
+    union continue continue value;
+    x1h break hashj table_find j;
+    left for i y2parent MAX_LINE short static rightvalue node restrict;
+    q value auto default node count x1 next_entrykey_len;
+    left buffer_size right extern typedef x1j short;
+    buffer_size kvalue MAX_LINE key_len parentvalue default i node next_entry;
+    key_lenright _privateMAX_LINE k arena_allocy2 next_entry static;
+    return i restrict volatile jnext_entry goto enum j const;
+    y2 leftvalue do q;
+    h kx1 right value h short buffer_size k count char;
+    jparent signed signed union h if y2 left static h;
+    return x1 inode _private void k key_len;
+    arena_alloc restrict sizeof left;
+    union hashi typedef hash default left sizeof;
+    node j k node buffer_size goto x1 if next_entry;
+    righty2 rightbuffer_size buffer_sizeleft case if k switch switch k;
+    hash ibuffer_size do p table_find count h count;
+    key_lenhash unsigned case k h return;
+    buffer_size register y2hash else signed const node;
+    do j parent int switch case char table_findMAX_LINE else;
+    q nodej else next_entryparent;
+    long int switch break;
+    right_private restrict volatile;
+    union MAX_LINEk return break left continue left_private rightvalue h p;
+    k key_len table_find parent do right valuep;
+    _private p inline q;
+    arena_allocparent case continue node long hash p buffer_sizeleft;
+    extern hvalue parent static p arena_alloc short;
+    enum int union;
+    extern countcount typedef node;
+    goto double MAX_LINE register static table_find leftarena_alloc;
+    signed next_entry double arena_alloc buffer_size p long do j long;
+    hash short break union extern x1;
+    p switch k MAX_LINEq next_entrynext_entry register struct;
+    p break default default hash register enum left struct next_entryp;
+    hash right auto khash next_entrynext_entry h left table_findbuffer_size arena_alloc valueMAX_LINE;
+    enum goto jnext_entry arena_allock table_findvalue key_len parentq default;
+    if arena_alloc do hashj case;
+    value kkey_len do;
+    else typedef register k value count if arena_allocx1 righti;
+    else do sizeof hash break pright register const count;
+    table_findkey_len p p;
+    char value long h value else double hash buffer_sizearena_alloc;
+    table_find count volatile struct enum hashcount left q extern long;
+    hash extern node node MAX_LINE key_leni;
+    hash else node volatile case k;
+    k hash signed j signed;
+    k continue arena_alloc restrict next_entry x1_private float;
+    parent buffer_size auto case enum;
+    goto x1 volatile _private j p;
+    valueparent buffer_sizekey_len int double return unsigned restrict void register;
+    extern h parentnode h switch;
+    continue restrict const goto char left _private MAX_LINEparent inline hash;
+    nodeq double char key_lenp q;
+    inline break jx1 buffer_size else struct;
+    i q right valuex1 do parent;
+    char continue long hash return extern parentcount break long;
+    hash restrict const;
+    buffer_size volatile void signed parent default short long if MAX_LINEtable_find;
+    register extern short arena_alloc;
+    table_findkey_len restrict struct right p union;
+    continue next_entry parent union;
+    p _private float countbuffer_size qk;
+    table_findcount register left y2 unsigned;
+    next_entryq y2 hash right right_private q MAX_LINEcount for;
+    next_entryparent left _privatekey_len enum;
+    struct union hash table_find node;
+    for left return q continue;
+    _privatekey_len left char for value ip next_entry long typedef;
+    hash node value double sizeof int restrict;
+    k y2 hash;
+    unsigned void hashnext_entry double table_find j parent void default hash;
+    key_lenhash MAX_LINEx1 iright table_find count arena_allock return valuekey_len else;
+    h h register hMAX_LINE auto node parent y2 i struct;
+    static while break next_entryleft j union buffer_size;
+    table_find extern union right do nodetable_find void y2 node;
+    arena_alloc j void double value goto enum;
+    count register y2 inline inline;
+    const q _private leftk;
+    h nodetable_find restrict else return do;
+    key_len char p;
+    hashx1 inline signed table_findhash else;
+    x1 extern table_find parent;
+    while py2 count signed i y2;
+    for x1 short parent hash char value;
+    do x1q jh key_len enum int y2;
+    x1table_find continue node hashleft x1 _private i k k j;
+    right jvalue void union typedef countright int;
+    continue count next_entrytable_find node arena_alloc j kright i;
+    y2k if case signed int h hash table_find left table_find;
+    MAX_LINEMAX_LINE _privatetable_find goto key_len typedef MAX_LINEvalue y2 right countp if;
+    h long inline k hash do sizeof buffer_size;
+    key_leni while lefthash long switch key_lennext_entry extern parentMAX_LINE continue jcount;
+    x1right inline q value node h;
+    k struct table_find;
+    j volatile value rightcount q valuey2;
+    hashcount typedef void MAX_LINEright continue x1i arena_alloc extern long;
+    _private MAX_LINE hash break;
+    rightnext_entry MAX_LINE double;
+    struct value auto i x1 float;
+    x1 switch countleft valueleft enum while buffer_sizebuffer_size arena_alloc;
+    unsigned char _private static hash inline iarena_alloc arena_alloc;
+    inline x1q float const;
+    qi table_findMAX_LINE union switch MAX_LINEk node;
+    i i leftparent auto qMAX_LINE kright;
+    node left struct volatile const return j switch if char;
+    unsigned qbuffer_size count y2 table_findtable_find h _private unsigned x1 default;
+    p k long char unsigned parent const auto default do;
+    int auto arena_alloc int y2 parent static leftparent signed _private;
+    right MAX_LINE left y2 next_entry;
+    q q int table_findy2 buffer_size;
+    value arena_alloc leftleft union;
+    count while typedef iy2 j x1;
+    key_len k MAX_LINEkey_len void;
+    for register buffer_size if arena_allocq;
+    x1 case h continue j noderight do break;
+    arena_alloc rightright left register parent buffer_size union while i;
+    key_len long _private;
+    node double j i leftkey_len k;
+    x1 unsigned left;
+    case const node x1j do parent buffer_sizeright parent long j;
+    else static y2 float union lefttable_find hash char;
+    default enum restrict arena_alloc continue;
+    nodetable_find p x1table_find do hash right;
+    signed count node key_lencount hash void signed signed restrict long;
+    MAX_LINE right do do parenttable_find for default p h x1;
+    return void switch static key_lenq signed x1j MAX_LINE _private k;
+    value count h value extern;
+    next_entry inline for buffer_sizep node right if valuearena_alloc j;
+    key_len karena_alloc key_len node union;
+    y2left int next_entryparent switch volatile buffer_size;
+    enum auto countj table_findq _privateq parent _private_private;
+    count hash q value hash char register buffer_size;
+    j parent if h lefth;
+    do hash hnode double buffer_size register pMAX_LINE key_len key_len;
+    short y2 do parent;
+    p buffer_size key_len q table_find i px1 static;
+    value countparent double sizeof inline;
+    j break while table_find do break unsigned _private do;
+    inline i float;
+    MAX_LINE arena_alloc q node left case register;
+    signed buffer_size else;
+    k char typedef auto struct const;
+    register restrict p key_len h;
+    volatile hashy2 p ibuffer_size;
+    sizeof case long parent void;
+    next_entrynode p double y2;
+    unsigned k parent k extern next_entry leftarena_alloc hash;
+    righti _private for y2 value ph;
+    auto parent union table_find enum;
+    do struct while union value else break parent;
+    char auto char node harena_alloc left count;
+    do count MAX_LINE int p y2 inline register h;
+    continue return left;
+    static i hashright key_len lefty2 arena_allocleft;
+    right table_find short;
+    hk x1 register double continue;
+    j parentp if parent x1hash while;
+    qparent right x1 MAX_LINE buffer_sizehash buffer_size;
+    arena_allocj left leftq;
+    key_lencount x1 k MAX_LINE p j register MAX_LINE;
+    struct p q next_entryleft next_entry table_find switch inline x1parent;
+    count short switch buffer_sizep q char static short x1 switch;
+    auto signed k sizeof y2table_find return parent char signed q;
+    signed x1 register j long y2i j left;
+    if iMAX_LINE auto float unsigned value h i;
+    table_find left valuetable_find y2 parentvalue;
+    int count enum buffer_size sizeof switch p extern char;
+    enum parent float const;
+    continue do next_entryvalue h enum while p;
+    case p k case register table_find sizeof;
+    extern inline const right k_private switch k restrict;
+    short default inline while q switch sizeof ih node;
+    int x1 static next_entry node hashcount;
+    k right phash MAX_LINE while next_entry next_entry case;
+    typedef right key_len x1 next_entrynext_entry const;
+    node continue countx1 countMAX_LINE j parent;
+    h return arena_allock;
+    parentnext_entry sizeof valuey2 k;
+    parent MAX_LINE register x1 volatile;
+    else table_findq else else next_entry j continue y2;
+    value _private switch hashtable_find;
+    buffer_sizey2 right buffer_size rightleft else arena_alloc right table_find table_find buffer_size;
+    continue const register y2 MAX_LINE node sizeof;
+    extern do goto;
+    k while nodej k default key_len key_len;
+    h enum count static MAX_LINE value;
+    arena_allocp MAX_LINE x1_private table_find count righthash q i double arena_alloc;
+    static case valueright enum;
+    MAX_LINE count MAX_LINEleft return qi hashh parent restrict if;
+    i k arena_alloc i typedef j;
+    struct count left enum;
+    next_entryright case arena_allock count key_leny2 parent buffer_sizei value countq;
+    enum struct signed long sizeof countbuffer_size h;
+    goto extern short goto _privatenode void MAX_LINEvalue buffer_size;
+    karena_alloc parent y2 do h p h;
+    auto default next_entry x1 jp q;
+    j extern void sizeof i MAX_LINE left y2k left;
+    p long right short y2 _private int hashleft register;
+    j _private iright right static unsigned do;
+    left table_find volatile enum k inline next_entry table_find p;
+    table_find q arena_alloc;
+    y2 signed goto volatile;
+    if next_entry key_len pkey_len p static inline next_entry;
+    break buffer_sizebuffer_size right kleft long continue return break extern _privateq;
+    register hash jk k while rightleft i_private;
+    union arena_alloc key_len long _private break char node;
+    k p register;
+    countkey_len while y2;
+    value q register valuei;
+    key_len parent double right;
+    x1 valuej switch switch struct noderight hhash continue parent next_entry;
+    table_find _privatebuffer_size jarena_alloc do;
+    q struct rightnode return const y2table_find key_len;
+    _private buffer_size int y2q right noderight continue next_entry;
+    table_find y2h long break parentparent k p continue while i;
+    double right buffer_size jk table_find short node i;
+    register struct key_lenarena_alloc struct next_entry;
+    key_len static long long buffer_size parent register key_len long next_entry;
+    do i short valuei return arena_alloc counti;
+    goto count next_entry buffer_sizek value short break;
+    return node int value continue key_lenleft;
+    buffer_sizek h parent signed restrict table_find;
+    restrict kleft j;
+    pnext_entry else arena_alloc case k return node table_find valuenode hashj;
+    MAX_LINE extern sizeof hash h case _private arena_allocnode node;
+    buffer_size x1hash restrict count switch _privatenext_entry qcount q int typedef;
+    sizeof valuej double nodek MAX_LINE q for node;
+    return char return _privateparent h;
+    left p q signed q key_lennext_entry union right p i;
+    restrict struct continue countarena_alloc;
+    _private y2 hash q return;
+    left j long khash else;
+    jright return key_len parent next_entry char MAX_LINE parenttable_find;
+    MAX_LINE inline kright next_entry if j right next_entry short;
+    ik i struct _privatep enum p table_find table_find value count;
+    x1 buffer_size inline next_entryy2;
+    buffer_size rightbuffer_size default;
+    value node buffer_sizep;
+    table_find value for inode float float;
+    const if parentk else;
+    break union jarena_alloc struct nodep right hash arena_alloc;
+    node y2 signed;
+    node MAX_LINEk hMAX_LINE qh buffer_sizei right arena_allocvalue x1 inline table_findleft;
+    right volatile q;
+    char j qj arena_alloc long volatile int;
+    i do char for;
+    _private arena_allock char unsigned py2 k volatile;
+    j float county2 table_find signed h key_len k;
+    parent y2 countleft int hash;
+    do hash pkey_len return if;
+    next_entry struct MAX_LINE;
+    volatile x1 node x1_private h signed;
+    continue right do x1q float return iMAX_LINE buffer_size parent;
+    h next_entryk do;
+    next_entrycount default if next_entry;
+    else register else key_lenMAX_LINE p i key_lenq node break count;
+    table_find lefttable_find q i else;
+    arena_allochash for MAX_LINEx1;
+    parentvalue else double double key_len parent restrict arena_alloctable_find parent;
+    switch jvalue double;
+    left count do unsigned q;
+    enum int parent return q;
+    long left buffer_size qy2 union k default y2;
+    long next_entryx1 key_len x1 continue count_private return;
+    for hash hy2 p y2 node_private ih;
+    next_entryj y2q continue MAX_LINE union const while righth volatile y2hash;
+    _private nodep const continue;
+    iparent MAX_LINE left MAX_LINEright y2;
+    righttable_find j hash char long MAX_LINE;
+    k hash q return;
+    next_entryhash return union sizeof arena_alloc;
+    parent float restrict _private const;
+    y2 signed unsigned break register;
+    continue const p double struct default struct for q key_len;
+    typedef restrict default break qMAX_LINE short x1 do case table_findkey_len;
+    const char static hash MAX_LINEy2;
+    key_len sizeof table_find right double short long for parent;
+    ij value switch while MAX_LINE signed;
+    parentkey_len buffer_sizey2 break arena_allocj inline float valuekey_len for hash rightleft;
+    union y2 right return j hnode union h y2 do;
+    static _private goto h inline parent table_findj MAX_LINE do struct;
+    _private auto restrict j unsigned float table_find nodei;
+    buffer_sizep buffer_size hj void hk struct;
+    hashnode case continue value for MAX_LINEh j px1;
+    void enum i q j x1 py2;
+    key_lenleft char h h typedef;
+    continue _private h h arena_alloc y2 signed _privatehash char q;
+    p float _private return jx1 kkey_len buffer_size inline y2;
+    case register _private signed parent table_find goto const;
+    float enum y2x1 j left arena_alloc enum hash valueleft;
+    const right harena_alloc extern key_lenparent jp left return;
+    case case restrict node ki node k double h struct;
+    q j p continue table_find valueleft double;
+    _privateh MAX_LINE const buffer_size unsigned x1x1 k;
+    hash y2 rightnext_entry signed;
+    case MAX_LINE table_findcount next_entry k;
+    left extern enum;
+    right i x1 return do MAX_LINE MAX_LINEcount long sizeof key_lennode;
+    _private switch MAX_LINEi volatile key_len;
+    k static hash buffer_size next_entry i kh x1 j parent;
+    j hashnode q volatile i node;
+    void next_entry table_find;
+    lefth hash typedef arena_alloc short buffer_sizeleft goto h value short;
+    case k case;
+    k j key_len;
+    register arena_alloc goto void y2 value key_lenright;
+    break hi p y2 value hash;
+    struct return k struct;
+    parent MAX_LINEkey_len register key_lenkey_len sizeof arena_alloc typedef;
+    q double p restrict case right register count k;
+    parent k const i right while extern;
+    unsigned jnode y2key_len restrict value p _private arena_alloc hashnode double;
+    sizeof arena_allocright hash while next_entry;
+    arena_alloc break float y2next_entry if return;
+    do short while jMAX_LINE;
+    i arena_alloc parent;
+    key_lenparent buffer_size parent struct do for y2 arena_alloc i hashy2;
+    i union node arena_alloc float goto default;
+    rightk pj sizeof;
+    parent while _private short buffer_size next_entryk hash sizeof;
+    left hash key_len x1next_entry;
+    extern q void q char;
+    node _privateMAX_LINE h leftparent;
+    while left short key_len left;
+    else enum extern q static node node buffer_sizearena_alloc;
+    valueMAX_LINE int do;
+    k struct y2 q;
+    arena_alloc while else register k next_entry buffer_size;
+    restrict static for right if valuenext_entry hasharena_alloc next_entry;
+    arena_alloc htable_find j signed volatile signed typedef;
+    if MAX_LINE while long j i static register restrict;
+    j countj i long typedef j x1arena_alloc qp h;
+    typedef rightk value next_entryp;
+    enum else hx1 extern;
+    inline union jleft value;
+    j enum break _private static;
+    leftparent union switch j x1 float p;
+    restrict else if value j while rightq key_len short long;
+    MAX_LINE node key_len node default node MAX_LINEleft;
+    arena_alloc next_entryright valuetable_find int counti volatile next_entryj q continue;
+    enum nodevalue j next_entrynext_entry inline nodekey_len k continue;
+    restrict y2 p goto _private;
+    y2 default switch while volatile;
+    sizeof valueMAX_LINE node void q x1i arena_alloc;
+    goto volatile do union table_find parentq unsigned if auto;
+    pq switch parent j enum i node q;
+    static case enum table_findright table_find MAX_LINE k;
+    key_lenp h do MAX_LINEarena_alloc enum arena_allocnode leftvalue if volatile MAX_LINE;
+    register union phash;
+    MAX_LINE key_lenx1 buffer_size next_entry do static signed i;
+    qkey_len unsigned next_entrynode i MAX_LINE y2 MAX_LINEy2 short do q;
+    counth x1 k do for key_len;
+    sizeof buffer_size right left long MAX_LINE h unsigned;
+    parent double h MAX_LINE count;
+    buffer_size_private p table_find;
+    inline q q hashbuffer_size hash y2buffer_size i auto;
+    restrict arena_alloc MAX_LINE goto extern sizeof long jnext_entry p continue;
+    goto table_find next_entry float p;
+    for ky2 goto extern key_len value;
+    arena_alloc inline right typedef hbuffer_size value volatile;
+    j buffer_size case key_lennext_entry register key_len _privatetable_find right value double;
+    count long continue;
+    k else key_len x1 signed counttable_find MAX_LINEarena_alloc;
+    x1next_entry k enum parenty2 _privatevalue return p k_private;
+    hash key_lenarena_alloc float _private case;
+    case default hx1 sizeof for MAX_LINE auto arena_alloc;
+    sizeof key_lenMAX_LINE qbuffer_size case long k goto k char unsigned;
+    node volatile continue MAX_LINE long q table_findkey_len sizeof hashparent next_entry;
+    k count i arena_alloc right auto right;
+    node _private right return int value y2 h break;
+    if MAX_LINEp else next_entry double;
+    if y2p arena_alloc;
+    signed next_entry auto case key_len parent;
+    nodeh h continue union float;
+    _private parent x1;
+    table_find unsigned j valueparent key_len;
+    arena_allocparent x1 k signed;
+    float auto volatile next_entryq volatile;
+    const key_len key_len hash;
+    i break restrict typedef if char goto hashbuffer_size parent;
+    do MAX_LINE extern long;
+    table_find static x1 leftright return key_len key_len;
+    k node q y2;
+    p extern next_entry buffer_sizevalue MAX_LINE do h;
+    extern i x1hash for _private union;
+    i count value void j continue while _privatetable_find;
+    value long qj parent_private union do restrict;
+    y2key_len MAX_LINE value int sizeof;
+    arena_allocnext_entry parent right buffer_size key_len y2 const k buffer_size auto;
+    value countcount MAX_LINEj MAX_LINEright hashvalue lefthash if p parentbuffer_size;
+    parentarena_alloc void switch j k struct auto;
+    long hashx1 hash k goto q pkey_len goto parent;
+    right default hash_private left x1 restrict float q enum union;
+    MAX_LINE signed double default table_findx1;
+    nodekey_len parentq _private i break value parentp;
+    value qnode h if;
+    do continue goto hashcount x1 auto static j;
+    struct counti MAX_LINE y2 MAX_LINEparent valuetable_find continue;
+    table_find table_find extern;
+    break k x1 void node goto y2 value;
+    key_lenparent j MAX_LINEkey_len righttable_find y2key_len do y2MAX_LINE left p;
+    MAX_LINE _private struct next_entry volatile restrict inline countp _privatekey_len if;
+    default k char sizeof;
+    y2 pnext_entry arena_alloc valuehash;
+    char return if j;
+    right j void continue lefthash restrict switch signed;
+    y2k kp enum key_len static do next_entrycount;
+    buffer_size volatile register right buffer_sizeh;
+    k const next_entryp volatile key_lenright;
+    node i register return x1 switch p union float;
+    node i signed h switch hash_private h right k;
+    x1 else table_find k;
+    switch continue value;
+    key_len y2k next_entry register x1 x1 _privatex1 p table_find;
+    auto value default continue y2;
+    table_find MAX_LINEq buffer_sizevalue goto goto h buffer_size left;
+    hash static switch parent double buffer_size;
+    short enum node long unsigned;
+    next_entryx1 table_find long i sizeof int;
+    restrict table_find kq break struct;
+    int struct signed;
+    register rightarena_alloc volatile left key_len count y2arena_alloc j;
+    void short h short double x1q k volatile node value;
+    hash q qh struct left x1 arena_alloccount break MAX_LINE;
+    left if const y2 signed extern;
+    parent node h _private long count j MAX_LINE_private while;
+    parent_private key_leny2 key_lenMAX_LINE node void return char for next_entry return;
+    sizeof short const i return;
+    sizeof q enum arena_allocj if y2buffer_size volatile continue;
+    rightkey_len volatile volatile inline return while value y2 continue;
+    for return break next_entry _private inline MAX_LINEk next_entry hash void;
+    key_len leftbuffer_size key_len k;
+    x1 void int q x1 void char;
+    valuecount else p;
+    double next_entry hash x1 union MAX_LINE;
+    key_lenvalue node signed next_entry;
@@ -0,0 +1,485 @@
+    56215, 74e1, 59.832f, 36e21, 1.66e+167, 255.5917, 55102, 6.48e+145,
+    03520, 5.84e+68, 99e28, 56.628f, .45, 30887, 4.38e-187, 40.682f,
+    56e16, 668.9577, 65787l, 52.244f, 4161, 39e27, 546.1326, 7.72e+76,
+    986.1582, 22e26, 44.443f, .456, 87.281f, 9.22e136, 39e6, 3.61e+167,
+    .229, 71414, 43470, 31801U, 03454, .596, 7.63e-123, 04123,
+    78e16, 170.8018, 52e5, .554, 70604lu, 90e6, 13e14, 370,
+    69e3, 45827, 155.1781, 63e5, 56e25, 44e24, 07136, 55e11,
+    4.41e-16, 82.926f, 4e26, 985.4854, .871, 91.296f, 47.9785, 836.4677,
+    8.18e+205, 44.186f, 605.3189, .212, 700.5054, 96e25, .458, 34.611f,
+    15194u, 54.624f, .895, .892, 8.790f, .816, 843.905, 33383UL,
+    55e25, 80.767f, 03570, 04033, 65e30, 03172, 82e11, 95229ul,
+    58e28, 76e16, 706.8844, 94643lu, 7.92e-33, 0103, 85387UL, 758.6496,
+    37004l, 21.315f, 569.873, 72.762f, 973.6908, 72.585f, 76e1, .206,
+    75266L, 6246u, 74079, 52039UL, 3.15e-176, 1.92e-261, 11561lu, 74e29,
+    7819l, 91e16, 93e15, 6.54e+286, 50e7, 443.2499, 24571, 72.439f,
+    73284lu, 79351, 21691, 07516, 6.593f, 2.81e-184, 5.5e+219, 353.3193,
+    21e6, .828, 43e29, 22689, 7.19e-200, 406.1939, 13.432f, 05623,
+    04212, 353.8549, 78e8, 063, 7.88e49, 13e19, .596, 36.363f,
+    992.3088, 9812, .830, 2265, .346, 1.45e+243, 1.26e148, 31.927f,
+    49.629f, .894, 16429, 16146, 7209, 2.88e+34, 86777, .756,
+    7.6e-86, 92110, .592, 59e11, 1.51e-235, 91e23, 87289U, 5.32e46,
+    2e5, 0502, 01101, 549.1972, 05512, 459ul, .896, 1.81e30,
+    68.14f, 18.313f, .154, 49036, 489.4907, 60e6, 1.51e-78, 85e29,
+    6.64e-240, 1.62e-199, 8.89e+108, 67e12, .152, 96810UL, 1.58e171, 49823,
+    935.588, 1.1e+222, 84.489f, 105.1111, 59768lu, 01330, 7.69e-276, 87.974f,
+    92.159f, .223, 88e27, .807, 8.548f, 9.16e202, 12e28, 1.465f,
+    3.46e+106, 42.306f, 01173, 63515, .364, 643UL, 04007, 53283,
+    03532, 2.53e+47, 473.2647, 839.6205, 977.115, 04442, 11e14, 771.6667,
+    29e13, 58176, 82e19, 90e14, 04376, 8.21e241, 74e15, .309,
+    77e25, 65639, 82688LL, 01361, 28.382f, 9.99e277, 7652, 7.97e+84,
+    3.172f, 41e2, 4.17f, 8.58e+11, .646, 33931u, 5.5e122, 527.7755,
+    02634, 72361lu, 78298ul, .57, 493.5893, 93e14, 46e3, 4.70e+147,
+    0.747f, .741, 96115, 3.61e+201, 398.4064, 73.870f, 503.877, 03721,
+    797.1414, 82.178f, 8.51e-286, 87.433f, 55.423f, 29.740f, 63075l, 73.673f,
+    95600, 4.10e-201, 79212, 88.731f, 41312LL, 8.31e+204, 66e4, .617,
+    252.966, 741.1068, 01770, 05601, 99174ul, 17741UL, 2.1e+60, .980,
+    21428, 7.30e+236, 175.1281, 84993ul, 1.56e-266, 86410, 4380, 68e14,
+    05743, 38287l, 93e11, 9149ul, 05161, 92137ull, 964.4141, .320,
+    55e13, 5.14e284, 1.56e+220, 01215, 24732l, 7024, 9.70e30, 02645,
+    98e12, 06702, 0450, 83.993f, 9179U, 56.801f, 73.637f, 04341,
+    0314, .673, 61262u, 43845LL, 37e27, 1e12, 07107, 24e27,
+    49.446f, 89123ul, 348.1855, 109.4214, .240, 9.87e2, 05100, 6.73e62,
+    6.1e+243, 57.56f, 73e5, 73078, 04045, 9.75e77, 81e26, 07456,
+    0304, .977, 3.48e-4, 56e29, .622, 3994, 5.51e261, 49e8,
+    70792L, 75291u, 19228, 17272, 34.249f, 501.6766, 59366, 91570u,
+    22.631f, 88.772f, 3796ul, 9.77e+196, 832.2057, 10e10, 8.99e-243, 06041,
+    62473, 0300, 8820U, 69086lu, 14580, 3.5e214, 10016, 06760,
+    54265, 43681ull, 03060, 07267, .15, 61048, 71.71f, .853,
+    35145ull, 6462, 76455LL, 02447, 3.44e+48, 29037UL, 83528, 07226,
+    67492, 0720, 6968l, 35767, 45.548f, 79694, 04267, .950,
+    .639, 41e24, 86891, 5.24e+177, 03242, 461.2340, 48.548f, 88264ul,
+    75.701f, .983, 8506, 48.787f, 20.50f, 371.6102, 688.3058, 84164,
+    23.6763, 89.69f, .838, 34e4, 71085, 869.3222, 855.6192, 07531,
+    333.9875, 306.3828, 57.857f, 8.84e+150, 55.55f, .129, .982, 01107,
+    18458ul, .905, 62.413f, 265.815, 7.69e-50, 9.92e140, 14.62f, 91124,
+    .408, 94856, 935.2146, .313, 29109, .321, 03402, .841,
+    79704, 20.682f, 9.33f, 5.96e+128, 85988u, 4.50e+248, .584, .691,
+    46e14, 73572L, 70444lu, 2966, 60e6, 58805, 4.487f, 2.30e-53,
+    9.27e-190, 1.66e+123, 8.82e124, 13e2, 3.17e-120, 474.654, 823.1541, 836.994,
+    490.7229, 609.9814, 95.782f, 205.1819, 21599ull, 02421, 64.552f, 55.205f,
+    60e19, 05206, 99e1, 381ul, 0656, .420, 03347, 304.2645,
+    18466U, 384.4398, 4.5e+130, .407, 744.4305, 93139lu, 82.9f, 06722,
+    38.247f, 26964, 4.1e134, 03606, 924.5750, 599.9049, .703, 13583lu,
+    .434, .605, 95322, 43654u, 445.8875, 79092, .122, 74e6,
+    .819, 269.1873, 5.44e+272, 85.97f, .436, 98886L, .947, 631.7097,
+    123.7609, 42e11, 1.2e-245, 07224, .752, 01142, 7.38e292, 75016LL,
+    62223u, 01162, 01320, 64.809f, 2.25e240, 42189LL, 16019UL, 2.87e-17,
+    0552, 79021ul, 17813LL, 907.4837, 03540, .842, 993.1500, 64227LL,
+    53215l, 81751L, 28642, .804, 73922, 51.3375, 64502lu, 60386,
+    .10, 768.4604, .28, 89.438f, .191, 91169, 43.833f, .742,
+    .663, 24e17, 944.1443, 41.3674, 98304, 99474, .324, 05352,
+    79e22, 75251U, 6.61e-230, 55e13, 31e26, 88e9, 3.17e180, 5.13f,
+    2.81e+55, 23e20, 79339, 5e4, 71471, 4.86e+171, 752.8958, .122,
+    96.876f, 49e29, 60909ull, .605, 64914UL, 71966UL, 223.2280, 07336,
+    2.39e+37, .140, 49e17, 425.8010, 96.160f, 83518, 4.53e-204, .891,
+    01173, 40e15, .786, 51200, 49641, 819.1423, 52885, .560,
+    189.6413, 88312, .526, 8.18e-163, 77e30, 494.411, .376, 68e29,
+    59e24, 32360, 454.2282, 60.897f, 23e28, 02357, 35e21, 40e6,
+    0343, .329, 315.6784, 453.1808, 44.226f, 574.9007, 14e22, 25819ull,
+    01005, 06031, 197.5839, 04121, .210, 0275, .584, 50.740f,
+    80753, 24324, 35292ull, 12177, 53592, .831, 4981, 10996,
+    340.8876, 03601, 274.6836, .126, 3.88e-87, 3.77e+55, 42e10, 590.9903,
+    .641, 46.956f, 97245U, 15.964f, 66157LL, 85500, 90e8, 54.611f,
+    29640lu, 90.535f, .468, 84736, 73e20, 75e22, 02112, 881.8513,
+    05763, .439, 62e15, .24, 34.793f, 4.54e208, 44e27, 57995u,
+    0712, .902, 299.3813, 26e12, 3.1e+7, 58.327f, 84352ul, .104,
+    42189, 03561, 02456, 03243, 52299, 60926u, 5.32e+6, 02344,
+    90990, 67e3, .351, .839, 02710, 35.6271, 69e16, 20.165f,
+    8.18e-167, 29e29, 14667U, 98783, 26e27, 05032, .482, 978.2946,
+    7.57e+171, 6.97e+53, 9.54e+157, 365.3260, 8.6e+260, 66751, 6.37e201, 23e21,
+    .284, 16552ul, 11926, 83692, 22122ul, 5862U, .708, 75240lu,
+    07613, 9.17e-190, 30195ull, 05772, 13e25, 6.76e-292, 03736, .281,
+    50402, 06357, .979, 76594U, .345, 1.24e-104, 96905UL, .904,
+    57521U, 811.1945, 84756L, 22813, 9.42e+296, 03241, 0660, 22e12,
+    366.5981, .903, 02430, 1.444f, 4.13e+299, 99e14, 64888, 05453,
+    .547, 69434ull, 71889ul, 53.796f, 9639, 4.985f, 3.59e-63, 595.4679,
+    96e27, 23e18, 18370, 29158, 2.597f, .534, 94012ull, 91565,
+    809.4184, 14.369f, 4.90e+209, 82880, 872.794, 06061, 68615ull, 9444,
+    51293LL, 36.914f, 67e25, 12e5, 0271, 3012, 86759, 57873ull,
+    79e7, 854.6633, 3.39e+35, 14e21, 51e1, 9.68e+94, 30e22, 03555,
+    01452, 02706, 47.547f, 705.2130, 63.636f, 54296, 73.427f, 2.53e205,
+    848.4079, 49.478f, 6.514f, 23e6, 945.8130, 22.932f, 05655, 963.2997,
+    04736, 65904U, 1.77e71, 9.33e200, .482, 18229LL, 88563UL, 457,
+    15.41f, 48.500f, 04111, .18, 873.5127, 56.81f, 7.719f, 07352,
+    7660, 59e26, 25.803f, 1.66f, 8.64e-277, 02145, 241.942, 1.13e-193,
+    98e13, 36139ull, 83.3409, 401.8539, 74934u, 69401lu, .455, 17.871f,
+    77.722f, 2.56e+266, 9579u, .490, .702, 04216, 71.665f, 69412,
+    39835, 74534LL, 440.6382, 78925, 48476, .169, 17267, 39.857f,
+    7.13e-182, 545.8174, 47791L, 980.7475, 57e20, 7.35e-277, .715, 03073,
+    5.40e-53, 248.8198, 22.241f, 3.10e+167, .735, 03767, 58e20, 6.17e-12,
+    66e16, 05705, .298, 5.94e-273, 90860, 21523, 05216, 52046,
+    2.13e+100, 71.350f, 69.413f, 97.778f, 84e11, 6.767f, .468, 6.43e+90,
+    8.44e-51, 19869ul, 07314, 2.79e-219, 36e16, .373, 97.393f, 715.325,
+    94.257f, 951.4378, 06701, 193.1569, 23.660f, .68, 22971UL, 30.348f,
+    .517, 31286ull, 5.69e140, 375.133, 14e23, 548.5862, .240, 02014,
+    1.42e+134, 9e19, 8.51e+185, 62.515f, 7.0e81, 33.659f, 0137, 55582u,
+    9657, 42.432f, 4.7e65, 53930, 1251UL, 44e12, 897.2206, 06450,
+    .398, 89e6, 2.35e-247, 16.773f, .411, 2.107f, 5.10e270, 8.69e175,
+    85e2, 54e7, 36654, 34.915f, 46e16, 53.227f, 207.9933, 8.21e+21,
+    9830, .859, 0557, 01120, 26403l, 9.73e-202, 62e30, 49.345f,
+    17753, 01744, 35457l, 2.67e201, .602, 3165lu, 735.9306, 2e12,
+    .415, 7.67e158, 5.235f, .520, 73007, 485.3405, 42.586f, 42375L,
+    67109U, 451.922, 06313, 06216, 71699L, .747, 7947U, 3.47e-90,
+    19160lu, 7.221f, 05333, 16064, 15e15, 11052, 54e25, 3.5e85,
+    4.87e-273, 14595lu, 02043, 17047LL, 82983U, .658, 01646, .632,
+    81.177f, 40588l, .603, 3.53e37, 5297, 76e16, 47e12, 92033UL,
+    94215u, 02457, .431, 62.963f, 92.612f, 24720, 06157, 58.109f,
+    569.6685, 74213UL, .4, 1.84e+72, 377.1161, 4.15e41, 62400, 79999,
+    69e16, 59e19, 37e16, 99422, 9.68e288, 37.29f, 86716, .100,
+    85.724f, 99505, 12.500f, 1.56e-155, 07130, 36e10, .817, 01633,
+    2.98e-208, 04473, 0540, 458.9082, 94627, 30380, .50, 40.687f,
+    98766, 689.742, 04430, 9.81e-182, 97.952f, 07416, 06636, 9.25e-86,
+    6.46e261, 33815, 97e16, 7.69e68, 8539, 03571, 34.447f, 447.1310,
+    640.4353, 02026, 06051, 67e27, .502, 03276, 8.80e212, 76.387f,
+    81e10, .539, 55.375f, 78e24, 3e16, .575, 93.349f, 24.945f,
+    .746, 02237, 01260, 27e14, 42805U, 858.3466, 81e5, .27,
+    86e8, 67.708f, 22102l, 17.22f, 8.68e188, 37.482f, 70e19, 02234,
+    05261, 248.4223, 50e2, 416.2337, .354, 85987, 23727U, 42466u,
+    9.53e+106, 01004, 77.329f, 84.3340, 5e13, 38292LL, 58.397f, 53e20,
+    .193, 31.155f, 53.192f, .429, 60.625f, 6.84e-42, 43791U, 17084,
+    9e28, 12429, 72446, 2.58e+184, .397, 59421, 2.199f, 14542,
+    42.424f, .172, 50e1, 121.4830, 18682ull, 7.88e-260, 61.308f, 49232,
+    02477, 01577, 10822l, 41e14, 03276, 05762, 89461lu, .653,
+    40878, 51e21, 14.740f, 2.99e-65, 919.9904, 12e29, 21684, 35e9,
+    9.18e+43, .455, 2.49e-37, .768, 119.6729, 11481, 56163l, 35.169f,
+    1.4e+210, 70597, 1785, 22.538f, 27320U, 13.131f, 72515, 02427,
+    137.3449, .335, 765.8286, 75.331f, 609.425, 17e13, 39.172f, 9.27e116,
+    89735, 43719L, 03150, 65e9, 84.334f, 16369, 4.99e+179, 5.95e98,
+    .154, .360, 0551, 67e15, 9.13e+113, 77543L, 558.8991, 170.4737,
+    40153, .796, 16024u, .539, 42e26, 1.4e208, 10.995f, 55e21,
+    5.37e-1, 3e19, 77e9, 44089, 02726, 0571, 18113l, 207.8548,
+    36.692f, 47572u, 0726, 05636, 97580, 36.871f, 9.640f, 67.226f,
+    78e14, 51.962f, 61926L, 07400, 163.2554, 13.879f, 71e25, 02030,
+    45.668f, 466.8942, 97.319f, 38.26f, 26190, 8.51e-185, 427.4708, .725,
+    07, 02035, 02062, 3.91e-248, 56e24, 03221, 8.73e166, 33742ull,
+    02032, 500.7756, 22493, 01101, 06136, 861.5835, 01122, 55065ull,
+    74.959f, 98115ul, 16235UL, 82e24, 67e18, 40e10, 33e3, 01753,
+    98.280f, 63.4699, 62e17, 70178, 43.854f, 02770, 671.3046, 40428U,
+    0447, 6.69e299, .380, 68.876f, 60525u, 81.993f, .788, 54731,
+    7429UL, 11244L, 91.703f, .429, 650.4673, 0206, .213, 29e19,
+    98.4f, 59.734f, 07347, 14e16, 01344, 61.567f, .253, 52e9,
+    3e1, 02250, 71747lu, 97e19, 320.2291, 61575l, .767, 2.6e+183,
+    79086u, 04736, 48952, 07057, 03647, 67.985f, 1.57e+157, 7682U,
+    461.6369, 77843, 7.77e-280, 06272, 82.253f, 9.2531, 82.777f, .758,
+    .625, .920, 62210u, 45372ull, 20.556f, .645, 15.88f, 442.1688,
+    73149ull, 40986LL, 1.66e-248, 3.16e-264, 6482lu, 2.24e-209, 15.450f, 9.48e+277,
+    07555, 35.795f, 38.601, 28061, 39e25, 55186, 02511, 94281u,
+    8e20, 96741, 36e19, 48204LL, .437, .970, 47145LL, 4.52e268,
+    .217, 0350, 49530, 210, .27, 89.254f, 2.670f, 524.8310,
+    58e14, .301, 62.203f, 36e3, 1.13e-214, 94335ull, 94e14, 44442ul,
+    72.137f, 62853l, 94e28, 52e1, .446, 78744, 50345ul, 66951ul,
+    05763, 50347lu, 56168, 0457, 44.765f, 21.869f, 89e27, 449.1590,
+    6e6, 05676, 620.5, 6.81e+251, 13362, .575, 82102U, 5.76e-244,
+    366.4513, 756.9932, 5.55e-116, 65.501f, 251.8639, 800.9252, 01301, 01612,
+    44.534f, 57398, 990.5995, .496, 20e24, 8e17, 04277, 79e10,
+    90087L, 86368L, 53.390f, 6.20e-110, 717.5755, 627.6043, 07047, 29e7,
+    2.14e166, 53e8, 06321, .815, 64e26, 37491lu, 60.824f, 4.41e+140,
+    89117, 0465, .677, 940.3115, 18654, 85591U, 16259, 99304lu,
+    89.159f, 02454, .347, 64.13f, 28380, 05704, 03315, .374,
+    47884, .776, 824.7512, 02712, 50827U, .899, 4.5e+136, 49.218f,
+    80e16, 730.4219, 86e14, 73.262f, 275.4739, 02040, 50e3, 69737,
+    69562LL, 9.81e+146, 04260, 79e24, 06730, 731.7575, 04141, 27e2,
+    542.824, 57.304f, 370.6832, 92088, 15.513f, 84980L, 156.8701, 0267,
+    89.699f, 37.439f, 54e3, .549, 04024, 30.694f, 643.4850, 76775ull,
+    06077, 36.957f, 64e7, 10.4695, 3.0e240, 56e29, 4e15, 01776,
+    96.777f, .407, 23.237f, 908.3711, 4328ull, 74.871f, 66247UL, 5.47e-123,
+    5.56e-221, 39440, 1e21, 06756, 7.84e-141, 7.84e+40, 45e2, 3.385f,
+    .428, 3.86e-180, 22777, 33305ul, .267, 25347, 1.46e+277, 40012u,
+    89e23, 32e20, 23.664, 87.7969, 31170L, 1.25e+57, .598, 024,
+    .695, 95.748f, 7.0e+160, 15.104f, 7637, 02150, .432, 5099,
+    72188, 79572lu, 498.82, 06017, 3.65e-256, 5.18e233, 126.5896, 228.2349,
+    05716, 24e23, 96e17, 8.7e+39, 04033, 23.3528, 2e8, 7145ul,
+    149.991, 181.1741, 82.914f, 32.959f, 01054, 99e5, 816.6397, 497.2940,
+    97e23, 46693, .142, 44e29, 90.182f, 84784U, 3979ul, 87766ul,
+    16.283f, 57398u, 293.865, 745.2473, 0334, 47739, 0112, 991.6571,
+    69e13, 73.417f, 75.524f, 12.9395, 43e22, 45151, 288.6567, 30.425f,
+    2.13e39, 775.1813, 01062, 53365l, 42e13, 29812UL, 49.577f, 71829,
+    65.760f, .558, 7.6e-31, 28e9, 78087lu, 4476, 0245, 1.35e-162,
+    41e22, .689, 07066, 839.6607, 14457LL, 21e8, 97998LL, 11e25,
+    653.9339, 6.336f, 57.46f, 6.74e-255, 07475, 80802, 35e15, 90663,
+    02500, 0453, 35e26, 36e27, 06452, .712, 56e15, 6.91e+258,
+    3.78e185, 641.479, 07257, .328, 51501l, 03333, 38e29, 03504,
+    4.62e34, 38e10, 66.556f, 01351, 70846L, .738, 25e10, 5.36e+72,
+    8.48e+284, 71e25, .348, .296, 47491UL, 32.528f, 43589ul, 0733,
+    .475, 51528UL, 0531, 45977U, 112.6006, 63.7462, 04210, 27342L,
+    .496, 02276, 54010L, 80424ul, 3569LL, 21523, 19473ull, 82417LL,
+    18841, .601, 99.87f, 45e19, 76.31f, 189.658, 370.6462, .9,
+    37e30, 07171, 8.28e173, 6.88e206, 19698, 67343, 6.93e-95, 19275,
+    33205L, 0514, 57.654f, 40e9, 85724, .816, 34823, 15.285f,
+    51204L, 99998U, .798, 01225, .747, 27116, 55.72f, 01304,
+    32593, 89639lu, .12, 414.8886, 01450, .45, .407, 97e22,
+    9.70e-86, 13.729f, 3.89e-77, 1.33e296, 342.9422, 04220, 0323, 02377,
+    02620, 730.8123, 01447, 89289, 04120, 23e18, 933.2208, 06240,
+    725.7841, 4.42e-262, 81158, 85083LL, 57.241f, 01454, 246.625, 37.121f,
+    2.46e-101, 7512, 27384u, 60.469f, 45.486f, 59e18, 47e14, 02155,
+    1.17e-300, 85471U, 39e7, 33e17, 1.747f, .277, 162.2722, 4.9e271,
+    60921, 0376, 123.9466, 04511, 609.6049, 75383UL, .142, 06315,
+    54e30, 2.73e+27, 664.2935, .445, 238.4178, 39831, 71e16, 7.11e-175,
+    06601, 0172, 48568LL, 9.71e-74, 40e27, 47.486f, 62e1, 27667ull,
+    .228, 28e4, 46e20, 68e24, 95840, 01727, .371, 83e24,
+    28394, 203.3259, 97.400f, 80056, .644, 84.726f, 7.58e141, .856,
+    51e17, .733, 80.444f, 15.681f, 59018, 0757, 23120, 20558U,
+    .785, 76e29, 72568l, 4.81e+283, 38501, 11607, .80, 79735ull,
+    .780, 46.442f, 71928, 84342, 95.144f, .199, 07240, 4.41e-280,
+    43e25, 61563, 7.95e99, 3.71e+171, 37932u, 62e2, 11148U, 5258,
+    05360, .528, 74.458f, 39473, 02512, 92010, 7.23e+3, 01127,
+    71817l, 671.4699, 20606, 04441, 9.72e+92, 393.48, 0131, 06063,
+    06642, 66e29, 33281, 8327ul, 3.58e+155, 23e27, 126.4066, .981,
+    23693l, 47e10, 26218, 11525ul, 47891, 63.690f, 45e22, 230.2041,
+    .961, 75975u, 43.78f, 577.4003, 866.8652, 528lu, 19282lu, 67720,
+    517.4910, 432.5073, .850, 44698u, 156.78, 5e12, 05563, 01635,
+    06114, 310.2653, 743.8741, .573, .730, 3.20e135, 77.658f, 756.4780,
+    86e2, 66e9, 4821, 57e15, 03156, 365.2443, 4033ull, 4224UL,
+    21e30, 7.30e+52, .308, 28.222f, 18228, 11e6, .609, 855.7074,
+    2.56e-282, 66461, 31501lu, 17921, 03353, 56275, 33.928f, 2.49e+214,
+    17.653f, 02040, 02610, 2.92e117, .460, 02603, 21.972f, 6.15e-285,
+    87611, 02730, 03254, 31.328f, 557.4486, 12125UL, 76699, 12e27,
+    6.2e-261, 40574ull, 258.8479, 599.4810, 6.74e+262, 55265U, .926, .376,
+    12.555f, .232, 7.66e-284, 70e15, 58e27, 47e15, 01317, .266,
+    78764ull, 4.9e-81, 66.939f, 7.83e-109, 93.904f, 133.5804, 83579lu, 645.287,
+    .141, 84.1930, 430.8571, 30e7, 90796U, 96935U, 03455, 9.27e-234,
+    38841, 01171, 28784lu, 966.4090, 05155, .95, 26748, 81.302f,
+    20365ul, .374, 9.28e+99, 63.825f, 03402, 06554, 167.7960, 25917,
+    04277, 45602, 06713, .755, 3.2e115, 32467, 70953, 2178LL,
+    39.241f, 670.7652, 2.73e-103, .474, 24e12, 68493, .909, 72296ull,
+    .957, 42141LL, 2.37e+51, 753.4521, .697, 7.87e+76, 15200U, 89310lu,
+    .212, 537.2072, 53595U, .352, .671, 87e13, 21.167f, 53576,
+    02177, 99991ull, 599.6417, 01513, 9e11, 848.6922, .595, 97253,
+    02662, 59e18, 4899, 743.5494, 91e5, 96.743f, 29.126f, 9.54e207,
+    06311, 25e16, .625, 73863, 166.9949, .443, 1.31e-110, 34e6,
+    1.42e-255, 8.74e-56, .12, 06152, 392.1930, 651.7607, .682, 73417UL,
+    718.303, 899.7773, 3.94e272, 95.47f, 66e28, 86e30, 3.43e253, 53e17,
+    .711, 8.6381, 05531, 764.5774, 4.78e+219, 592.5090, 72.5701, 37e25,
+    29e24, 9766, 02013, 88805L, .616, 77.315f, 67642l, 642.7089,
+    2.56e-1, 497.8838, 54153L, 47.632f, 718.4314, 61e10, 1.26e+275, 53.499f,
+    0304, 44.404f, 05201, 02313, 01143, 04052, 0.738f, 9.47e285,
+    2e12, 05015, 34613U, 526.1621, 29e21, 23.511f, 4.40e-81, 86.927f,
+    .186, 556.9028, 04764, .152, 95.623f, 9.32e-165, .481, 36e13,
+    72359ull, 41e26, 94507U, 8.59e-181, 29599ull, 2e13, 20e13, 92105ull,
+    .570, 53.457f, 194.5596, 10803L, 82526, 976.8011, 25041ull, 07114,
+    98531, 5.50e171, 95785U, 85566, 04255, 02451, 15640, 451.4874,
+    06471, 2.6e33, 78523l, 25802U, .67, 04711, 59873U, 91343U,
+    .959, 4.78e-187, 48.9434, .958, 6.67e+178, 41e18, 4.30e272, 02336,
+    930.9539, 94647u, 78e1, 49808UL, .295, 16851, .463, .517,
+    05236, 73.270f, .600, 69.656f, 5.37e-84, 69639ull, 22.268f, 2.18e-234,
+    8.14e-197, 07231, 36.391f, .382, 38185U, .53, .748, 47459,
+    1.31e-67, 547, 62165, 5.99e+265, 52e1, 04161, 36828, 82779,
+    8.688f, 01747, .105, 03157, 90e7, 99247l, 97321UL, 6.974f,
+    48e14, 12665U, .173, .350, 165.4270, 03716, 92.871f, 82.432f,
+    4.59e206, 811.8564, 6.91e+191, 6.6e275, 1.55e138, 7.35e-16, 07455, 762.9200,
+    76.180f, 05026, 92334LL, 5123ull, .789, 1330, 04020, 06254,
+    01013, 0460, 57482ul, 95828ul, 19722, 29.49f, 10348, 10048ul,
+    79247ull, 73e10, 39e18, 55353lu, .766, 65589ul, 3.54e19, 27.372f,
+    1168L, 0763, .915, 31e3, 1.38e+14, .275, 20110, 5124,
+    7.16e134, 06557, 34e11, 3.83e+287, 74815u, 5.52e-257, 75e25, 11886LL,
+    384.8333, 5.64e-49, 50e9, 603.5700, 8.58e+127, 907.5651, 453.6707, 9.6e153,
+    .738, 531.3701, 4.70e-30, 41e28, 545.3392, 54.471f, 91225, 22e30,
+    9.943f, 1.29e-170, .824, 16e6, 55930, 52210, 1.31e34, 172.8991,
+    .860, 20060, 01402, 648.9904, 629.931, 54652, 826.7765, 4.37e206,
+    1.29e+170, 29631l, 6.43e-192, .971, 65304, 784.7512, 69678, 84.6286,
+    55674u, 29e3, 59665, 93680ull, 45.786f, 96025, 38339, 90e29,
+    101.4115, 07275, .341, 4.54e+142, 49581, 877.5747, .88, 01716,
+    54e17, .494, 04565, 04154, 01761, .360, 30109u, 79690,
+    05337, 97826, 79280LL, 297.4605, .444, 78.843f, .900, 9.95e-83,
+    69.786f, 98e27, 645.1973, 1.84e-72, 6.18e-207, .212, 64e16, 5.9e25,
+    04447, 06463, 1.34e+256, 68.140f, 514.9710, 330.9701, 90592, .281,
+    11.341f, 15553u, 9.73e54, .948, .453, 81e9, 01325, 06372,
+    7.59e+286, 689.8371, 914.141, 41644U, 37207L, 3560LL, 7.29e+13, 622.8062,
+    33e25, 7.71e191, 47337l, 06667, 264.7787, .364, 91160, 69e2,
+    05656, 4.928f, 71.909f, 25913ul, 68528, 01167, 322.7651, 70e6,
+    05417, 01275, 32561L, 60.303f, 1.83e+78, 56e6, 46863ul, 99192,
+    6.53e47, 66.637f, 1.50e+81, 68482l, 04473, 4662u, 2.65e299, 543.9586,
+    55287, 46391, 2572, 22125ul, 96383lu, 30690, 4.33e-114, 29e12,
+    948.4586, 489.1610, 2.83e+158, 56.104f, 01712, 9.94e+178, 81454, 0675,
+    82325lu, 53.792f, 05556, 8.92e-239, 1.55e-212, .353, 14e5, .867,
+    97.665f, 78666ul, 628.1211, .423, 73750, 10263u, 03454, 57600,
+    44.752f, 9e16, 760.3081, 27.923f, 04643, 30941L, 55223u, 83.197f,
+    6e25, 42e11, 15628lu, 459.6196, 815.5633, 340.8179, 67e25, 54600UL,
+    57.9656, 38.824f, 34415l, 23.786f, 53.102f, 47e24, 6.56e255, 51e27,
+    .322, 23e11, 357.2052, 36.155f, .944, 138.5371, 28084u, 22869,
+    68519u, .450, 88e29, 31.285f, 85e17, 5.58e-271, 02073, 8.54e83,
+    1.86e+205, 5.22e+107, 06775, 94e11, 50566, 74216, 519.8664, 363.4433,
+    54.167f, .835, 7397L, 941.191, 85316LL, 77e27, 1.24e+160, 88e24,
+    8.928f, 7.20e-142, 07607, 96.487f, 17208u, .178, 12982l, 31419LL,
+    266.5101, 8.432f, 3.69e296, .807, .489, 73334, 85421, .823,
+    21.95f, .89, 91876LL, 18426, 74698u, 5.0e62, 94e4, 84.389f,
+    .605, 11e10, 205.9434, 7.96e-287, 01642, 56.757f, 29e10, .561,
+    97.432f, 62570, .949, .924, 02117, 207.4301, .401, 567.233,
+    904.3491, 5.56e+19, 559.1454, 74419, .23, 67e18, 25813, 24.972f,
+    49.760f, 72.835f, 74.822f, 6485UL, 63067lu, 83255u, 55237, 04466,
+    575.2372, 31348U, 6.42e-199, 06171, 3.30e120, 450.5029, .990, .864,
+    .3, 17667l, 3.13e+75, 3.70e+136, 198.6109, 55405l, 06363, 34071,
+    76.986f, 10279ul, 43.912f, 82403ul, 66e15, 4e26, 02312, 05267,
+    43630, 8.14e-280, .947, 62e23, 1.57e182, 38818ull, 3.14e7, 04777,
+    438.1143, 20873U, 32e3, .274, 60805, 6095, 75868, 1610,
+    65127, .607, 0527, 4518LL, .40, .409, .543, 4993l,
+    90e7, 29e10, .361, 910.2250, .603, 30041ull, 93e28, 06174,
+    04751, 63e18, 55214L, .797, 49.821f, 53001, 1767, 27568,
+    .474, .841, .840, 7.9e-217, 74946, 7.74e+226, 839.3241, 67.479f,
+    92.75f, 172.5475, 99800lu, 03041, 95923l, 3.47e+190, 07220, 1.94e+185,
+    32777L, 01010, 94e5, 31313, 90.451f, 51.774f, .949, 2.85e+262,
+    14.698f, 199.8981, .491, .801, 01561, 4.13e+152, 61283L, 76663,
+    01221, 43.710f, .837, 04155, .752, 5.27e58, 61261, 73.55f,
+    903.4891, 54e5, 1.89e-155, 88.82f, 13893L, 23341, 232.4592, 126.5111,
+    59e13, .877, 02774, 0545, .613, 81690, 3540U, 04606,
+    4874, 4.89e+291, 68464ul, 06076, 82.604f, 17540lu, 63790, 8.70e-166,
+    01202, 41796ul, .337, 987.6512, 04217, 3.92e141, 7317u, 06315,
+    02405, .233, 3.40e-1, 22e14, 40e21, 03713, 3.2e+160, .289,
+    7.92e+30, 1.571f, 5.55e+47, 9.66e+119, 76.783f, 56.804f, 44.629f, 3.65e102,
+    13558U, 83498U, 6.18e+134, 6.72e-211, 88e1, 55772lu, 84e6, 6.89e+60,
+    .586, 422.1589, 319.7142, 65749, .860, 6.11e+143, .359, 109.3888,
+    .177, 26173, 23962, 04267, 8.85e91, 05562, 6.49e261, 1.5e+272,
+    03574, 80715, 85067u, 707.957, 35614, .681, .23, .896,
+    325.9028, 97345, .723, 11.4494, 35e15, 8.19f, 95.281f, 6.88e-36,
+    234.7956, .90, 9896U, 01071, 46e27, 13e16, 32459, 713.7284,
+    74.9752, 82013u, 03733, 05052, 5.88e19, 37.815f, 7.72e-256, 84372ull,
+    63.162f, 9.436f, 884.5934, .505, 63207u, 30087, .99, 37139,
+    198.7768, .208, 62939l, 17.7485, 673.7135, 4.927f, .924, 54900LL,
+    .336, 64e23, 7.17e-218, 6.93e209, 06334, 52.334f, 33256lu, 72e15,
+    79420l, .65, 9.79e-30, 63647, 71728, 9.275f, .376, 01450,
+    26294, 48e24, 5e30, 42e23, 6.25e191, 0.3945, .91, 39e6,
+    4.43e-221, 702.9739, .112, 07606, 91e14, 2.44e+32, 1.71e-300, .551,
+    01457, 0.4847, 1119ul, 268.4316, 6680, 98.765f, 06613, 82528lu,
+    23.256f, 543, 32e30, 47e22, 98.986f, 150.6833, 56e19, 05775,
+    4.40e+187, 06715, 26.933f, 34e18, 92158, 90e9, 88e27, 60734,
+    7083, 36413l, 17364UL, 01172, 227.5653, 02545, .863, 21214,
+    894.4409, 8.40e125, 7e15, 77.718f, 38e10, 6.4e74, 75539LL, 60895L,
+    35738l, .136, 7.42e+64, 48e30, 70.292f, 11451, 18672l, .957,
+    32482u, 99055, 10568, 32708ul, 75180, 5.37e197, .877, 58951,
+    16927, 20.411f, 1e15, 584.595, 6216, 44.1605, 05556, 57.439f,
+    35.534f, 7.78e160, 57.67f, 7.22e14, 16677l, 3.203f, 144.6881, 19.459f,
+    6.67e+299, 90e2, 317.6706, 30712, 05114, 373.9695, 01020, 05711,
+    10570, 9e15, 46193, .512, 8e3, .716, 841.2464, 99897u,
+    421.6439, .301, 445.5763, 41e15, 6.24e-160, 68600, 96394, 16e29,
+    4e1, 17.854f, 322.8005, 570.3989, 21105ul, 4.62e+149, 6216, 29052u,
+    07226, 7.28e37, 0245, 230.4673, 148.2734, 02326, 87e3, 0244,
+    75457U, 47099ul, 2.69e238, 7434UL, 14629, 51e23, 1.32e-18, 16.323f,
+    45e12, 334.3497, 14182lu, 11e3, 16.744f, 71345, 10517, 04225,
+    304.9437, 8.39e+74, 66880L, 7.749f, .903, 60.725f, 1790, 24e17,
+    .458, .826, 24567U, 24859, 961.9091, 85.364f, 98531UL, .360,
+    22e27, 64656u, 939.4167, 2715U, 05103, .997, 92e1, 59.41f,
+    33797, 55790, 554.8865, .431, .938, .350, 92e9, 7.67e+30,
+    7.68e113, 87e4, 34e9, 26.591f, 86130LL, 96.553f, 91712l, 43159,
+    06004, 18e2, 23069ul, 85.60f, 45281, 50e21, 80.9054, 04646,
+    47.839f, 187.3030, 6970, 63.715f, 88e3, 1.36e196, 896.4143, 73930,
+    459.3749, 51e7, 43e26, 748.5339, 91.890f, 84.829f, 890.2080, .137,
+    56660u, 454L, 4.27e236, 39e12, 70645lu, 05241, 93843lu, 05310,
+    31750lu, 50.970f, 19e19, .501, 0646, 513.9661, 44761, 93946UL,
+    05374, 633.5958, 14.50f, .344, 81446l, 83863UL, 0136, .29,
+    53741, 1.27e213, 0674, 603.5726, 20316U, 04140, 5.97e167, 93615l,
+    74467UL, 6709, 41523U, 07224, 07001, 1.70e150, 80254UL, 3e18,
+    13e20, 14342ull, 771.4053, 04725, 33072u, .237, 9941ul, 4.17e273,
+    24595, 34241l, .705, .253, 70e9, 16598U, 98.5712, 56967,
+    27.389f, .104, 567.6703, 89395, 8.98e-285, 72e17, 33e13, 05342,
+    01023, 414.758, 78162UL, 7.25e227, 8.51e-277, 68662LL, .156, 77e11,
+    140.5481, .355, 34551, 14e22, 07213, 840.7951, 96e15, 14e20,
+    07342, 80e21, 71087, 06672, 311.8406, 51480, 20100, 65e7,
+    819.7792, 14e13, 47.537f, 59e8, .57, 27.990f, 76018U, 59384,
+    1.824f, .894, 39e25, 29908ull, 07131, 22881U, 7498lu, .203,
+    50112, 84e28, 24806, 02744, 22402u, 6.558f, 07514, 07317,
+    55404, 8.61e-217, .38, 62.2896, 3e1, 413.7551, 159.1964, 7.7e281,
+    .587, 07016, 973.1059, 555.2026, 76.121f, 8.84e83, 1.77e-21, 33185,
+    47e30, 775.9550, 8.43e+204, 5.263f, 34.350f, 25731, 04272, 80028UL,
+    24667UL, 05424, .133, 8e1, .978, 6.0e+95, 06713, 63934,
+    .888, 74920U, 4.945f, 73598, 04355, 655.3831, .652, .127,
+    95788L, 4548, 07500, .601, 5.59e200, 6.68e+152, 99345lu, 104.3106,
+    40.411f, 290.9061, 26559, .1, 74e15, 33.773f, 773.246, 05063,
+    66707l, 55470U, 1.18e-196, 195.3949, 25.544f, 81385UL, 798.7544, 07400,
+    753u, 466.6549, .774, 52e12, 49e14, 55224, 316.5216, 38712,
+    30825, 8.536f, 68104l, 6.14e+50, .432, 24429, 1e23, .224,
+    .833, 8300, 718.7925, 88796U, 1.674f, 8334, 32476, 0766,
+    93358, 5.69e256, 62.504f, 77e20, 9.71e-54, 1.31e+52, 0556, 732.9412,
+    2.31e113, 63925UL, 562.4195, 777.6668, 63740, 90.766, 331.893, 4262,
+    84772LL, 73077UL, .0, 729, 14.847f, 264.5990, 19e21, .525,
+    58e16, 7.97e+296, 5.16e52, 5.86e70, 65e12, 61308lu, 0.676f, 73023,
+    07157, 72091u, 19e9, 43e18, 77524UL, 93910ull, .941, .128,
+    55e17, 964.4135, .676, .733, 42998, 5.32e133, 63563U, 97649u,
+    5.20e69, 168.139, 04723, 9.59e+175, 161.8080, 82e28, .186, 01307,
+    20.868f, 12e19, 494.9224, 48.138f, 879.8043, 04011, 74204, 3.68e+31,
+    .586, 57e21, .241, 27671l, 34546, 31626LL, 02050, 04017,
+    7.74e91, 6.96e-27, 6.51e108, 0117, 94.91f, 1.41e8, .553, 122.3139,
+    443.3896, 3.76e151, 96.549f, 169.2563, 81543, 86e10, 339.138, .672,
+    0104, .872, .643, 6.73e-31, .542, 8.80e239, 1.98e273, .484,
+    5.627f, 06460, 39766, 288.6794, 1.62e+130, 32.451f, 23442LL, 45355,
+    06272, 564.6179, 68e8, 84221, .53, 6390UL, 77.117f, 0463,
+    77333, 07114, .272, 5.67e+56, 04470, 47599L, 80.185f, .265,
+    1.38e-173, .488, 64.774f, 46575U, 07237, 04444, 04636, 03253,
+    04171, 8094, .561, 06555, 06155, 42.2171, 89894ull, .753,
+    20e15, 77e5, 61773lu, 5.57e136, 442.1371, 39122, 2.24e-113, 11e26,
+    72216UL, 18645L, 6.22e-47, 68544LL, 99181, 06043, 42e21, 59e11,
+    .350, 39e17, 06624, 36977, 41.715f, .258, 06210, .965,
+    950.4017, 8329UL, 12e19, 5.16e106, 50238u, 44068, 03113, 21.889f,
+    328.5673, .884, 80601, 4.50e+265, 60e19, 27696, 75599ul, 77.86f,
+    57.37f, 751.3682, 04216, 32726u, 82e22, 811.4614, 06027, 5e19,
+    .133, 48740LL, 90285, 2.79e263, 4.15e+278, 57244, 366.1578, 851.2392,
+    06534, 3e24, 83.130f, 04121, 713.1179, 9.74e-53, 84e23, 48631UL,
+    .978, 04165, 72454U, 2.17e+86, 7.13e-141, 79e18, 31088U, 6e19,
+    .966, 9.816f, 5.89e-297, 30.300f, 34.660f, 9.56e-292, 72466ul, 635.1740,
+    2.72e229, .961, 40.169f, 41.235f, 7.79e109, 02377, 17904ull, 07225,
+    58.120f, 91459U, 98098, 04376, .847, 12e27, 23e24, 2.18e88,
+    .227, .700, 75473, 730.2418, 87e13, 01542, 3.23e-7, 97.394f,
+    57.856f, 01211, 83e7, 12637L, 3.31e+216, 47e13, 68e16, 69e18,
+    2.20e-211, 6.42e-210, .203, 2.9e288, 29026, 11.816f, 6.75e-189, 37.412f,
+    771.4134, 82.46f, 05010, .185, 38193, 39690, 34313, 27785l,
+    227.6129, 2815ull, 11570UL, 2.85e+87, 32e21, 07062, 81e24, 692.4106,
+    71052, 8.94e+112, 07153, 948.2089, 67e13, 47335LL, 97072, .222,
+    27299l, 61801, 52.547f, 71512lu, 02661, 3.24e+61, .650, 95e26,
+    01571, 92340ull, 4.48e58, 20453UL, 8e17, 83825UL, 59.796f, 86.424f,
+    8.80e+17, 7.15e191, 99966, .864, .644, 42677L, 15503LL, 174.7327,
+    34e3, 806.2056, 71e4, 9.40e+298, 47910, .375, 05631, 48e7,
+    03012, 07157, 02743, 47885, 10384, 2.42e-152, 01341, .550,
+    03345, 02505, 54276u, .693, .888, 141.9537, .505, 80.779f,
+    .781, 07330, 78e12, 65e12, 56875, 2.48e234, 06467, 483.859,
+    52e27, 29e25, 204.7965, 01522, 61360LL, 57793, 62e3, 04714,
+    1.70e123, 1.46e+142, .111, .35, .600, 02754, 47169, 7.29e+47,
+    .641, 923.7090, 76995, 100.8757, 02764, 89782, 85e5, 86.317f,
+    07171, 40.320f, 8.34e193, 057, 90520u, 27.511f, 43146, 631.359,
+    06704, 01721, 77.78f, 04176, 71132, 98003, 05006, 91239lu,
+    30.743f, 42.410f, 04721, 604.4443, 9.28e-280, 8.72e12, .966, 56373,
+    03612, 38.73f, 03202, 02420, 77.13f, 31e16, 04054, 34.127f,
+    11716, 06073, 6.62e146, 07, 224.2375, 9.78e293, 55e7, 74966U,
+    57025, 1.38e-64, 22643UL, 05423, 18246LL, 93.803f, .830, 40434u,
+    07011, 23255UL, 93.498f, .94, .783, 25e26, 69810, 8.59e-123,
+    .106, 959.5084, .883, 47e30, 86.540f, 59256, 02133, 20e1,
+    75e13, 6.55e-33, 260.8574, 5.53e+249, 11809, .478, .472, 060,
+    2937ull, 4.52e122, .251, 05264, 10e3, 44729, 70.709f, 40341ull,
+    .556, 684.3380, 985.1126, 2650ull, 789.288, 42.782f, 69.8355, 4878LL,
+    20251l, .74, 35806u, 3.42e274, .123, 57079L, 0422, 70905,
+    30506UL, .725, 0503, 81.1f, 92355, 20476, 70366, 1.562f,
+    .771, 79640ull, 12.573f, 37782, 7.333f, 139.4223, .431, 4.82e+246,
+    07447, 59978, 75027l, 5.183f, 466.3951, .886, .838, 970.2969,
+    20672L, 03626, 29466, 64073, 16972, 9863UL, 52811LL, 28.780f,
+    21.143f, 29290, 332.7812, 05502, 01477, 2.85e-8, 04071, .806,
+    584.9427, 45957, 42e14, 03371, 39e10, 44811LL, 37e12, .347,
+    26972, 73489, 64368l, 04423, 5.51e-183, 36079ul, 48062, 41.558f,
+    86e20, 1.59e+73, 1195u, 12612u, 345.8396, .419, 54064, 64e12,
+    .45, 85e5, 48e17, 3.57e+69, 659.4283, 05341, .716, 76274L,
+    52212, 854.229, 5426u, 43.73f, 25.334f, .627, 609.5719, 66e22,
+    5.56e30, 30.4814, 94728, 7.95e+257, 53203U, 18555L, 35776, 47e25,
+    22945L, .40, 67e3, 558.7390, 6.36e+147, 9.537f, 88.514f, 74662,
+    322.9636, 82011L, 12e4, 4.43e-291, 5.55e108, 180.9929, 1.0e-252, 42.143f,
+    19679, 31770l, 41712L, .563, 133.3782, 29e13, .87, .663,
+    582.1935, .61, 03411, 65818, .843, 59.149f, .907, 48e8,
+    .457, 07377, 71982, 85e30, 1.2e287, 73e30, 04077, .669,
+    6.83e-142, 57713, 21.234f, 03071, 6.29e284, 787.8352, 399.8759, 02512,
+    1.88e-51, 1.32e-8, 06330, 72658LL, .909, 19.131f, 98e5, 12809u,
+    .24, 4.75e+175, 8.7e131, 02102, 02131, 03430, 99e13, 8678,
+    79741, .529, 16830, 04175, 35e7, 96.270f, 78.35f, 9.13e42,
+    285.6905, 253.7448, 400.8434, 98.604f, 409.1219, 97229ull, 7.39e55, .725,
+    .24, 2.7e-128, 30548, 56075, 46470, .302, 03457, 87e28,
+    60e16, 53018, 901.6406, 3.5e-226, 15621, 54909L, 12530L, 55209,
+    7.10e+284, 03622, 59198ul, 05046, 26e19, .753, 621.8813, 723.5800,
+    31209, 15559, 245.1596, 7.77e+61, 57007, 04107, 90820, 07605,
+    01153, 02671, 57869l, 398.1659, 90.66f, 714.9974, 03223, 87.516f,
+    32074UL, 58.353f, 05502, 53e14, 30838, 3e7, 35804lu, 96312U,
+    71e2, 05331, 03314, 8.12f, 3529UL, 06507, 824.6340, .693,
+    56e10, 79e8, 34.661f, .285, 99e21, 71.852f, 05665, 7.86e+260,
+    9.10e+159, 1.52e-260, 82418, 9e7, 606.1135, 605.1827, 497.4952, 39657u,
+    5.62e290, 54e22, 43400L, 04135, 3.15e-39, 21.641f, 6.21e8, 2293,
+    79574, 74e13, 06467, 520.7811, 484.7563, 6.22e39, 03721, 821.7451,
+    58096L, 34966ul, 39435, 32609, 40e24, 621.2117, .642, 31e30,
+    6743LL, 80009ul, 15.146, 12285lu, 35635, 06410, 59321ul, 613.2275,
+    69e24, 93789, 60381, .49, 65346, 0600, 55382, 29143,
+    3.58e+108, 79513, 04475, 7.78e278, 8.59e-64, 6.88e+299, 507.1447, 8.37e-191,
+    62e3, 8225, 05126, 6.39e+73, 6.75e+222, 891.5625, 49437lu, .190,
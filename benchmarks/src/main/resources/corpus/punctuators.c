@@ -0,0 +1,710 @@
+    p + b ? b >>= i >= a <% i &= a | i |= p ] p ^ p >;
+    i / a &= a %= a <= p %> b %> i ! a | a - p %= b ; a %;
+    a > i [ p . b % p %> i % b <: a >= i ... p ?;
+    p ? a >> b -> a %> b %= p ~ p ( b != a || b + p |= b ~ p !;
+    p <<= a < b | b /=;
+    p < a ) i / b >> a %> a ... b &= b && i <<= p /= b ! b <% a &;
+    a } b <% i ^= p < a <= i ! b < p ? i [ i != a != a + b <= b !=;
+    p [ a ] i += b % p || i ++ p [ i * a <: i > b <=;
+    a % i ^ p -- a : p ^=;
+    a | b -= p += p %>;
+    a || i ... p ( a :> a . a -> p !;
+    i %:%: p ~ p ( i [ p ++ i } a == b %: b ^=;
+    i -- b | p %= p <% a !=;
+    i <= i / b { b * i < p { a != b <<= b [ b /=;
+    i *= p ^ b %= i /;
+    i %> i %:%: p * b ++ b || a ~ p -= b ; a >=;
+    p *= p != p <<= a % p [ a , b >>= b +=;
+    i & i : a && i ^ i ? i : i : a ... i -> b . p ; b >;
+    b <<= i ~ p . b : a ^= b <<;
+    a { a + i / i { p += p { p >=;
+    i <% a %: b *= i . i /= a &= a ];
+    i ^ i [ b ^= b *;
+    a &= a ? b >> i ~ i >>=;
+    b , p ] a -> b * i %:%: b && b ~ p );
+    i ) b [ b ? b &= p %= i : a ( i :;
+    b -= p & p ; b <<= b ~ b <: b == p %: b || a ) p -- p ~ i (;
+    a & p < p && p * i -- p <: i -= b << p <<;
+    b <<= b >>= a == a -= b || i :> b + b <= p ... i !;
+    a |= i ] a <<= b %: a ] p != i | i {;
+    i - i ++ a - p ( b { a * i ~ i . a -- i >>= b { b ? i <=;
+    b ++ i :> a ] i < b } p &&;
+    p <: a %= b { p += b /= b %:%: p ; a +=;
+    p ? b | p ] b || b != i < p -- p /= b >= p %> a | p >;
+    i && p ... a %= b ~ b %:%: b -- i ~;
+    a ; b [ i <% b ^;
+    p << p %:%: p &= p *= b ++;
+    p <% i ^ a %= i ++ a ++ i > i %:%: a ; p ,;
+    p - p || p , p %= i << p %:%: b >= a |=;
+    p / b << i %> p { i && p ... a -> a ? a ! b ; i <<= p ~ a %>;
+    p , a &= b <: p ) b >>=;
+    b <% a > b %:%: b . b +=;
+    a << b %= i ! p ; a < i ! i <<= a ] a ++ b | i += b ];
+    b += p <% i >> a && i - a %: a } b ; p . i +=;
+    a > p && a -= a ^= a . a ++ p /= i ^= b <= i >> a : i <% i !=;
+    b ) a >= i += p %: p | p <;
+    a <: b <: b * a >>= a * a .;
+    p | a ~ b >> a += i } a [ p &= a %:;
+    a ; i < i <= a > a ... b / b >> i *= b % i %= i <;
+    p -- b > i ++ b <<= p ^= p ) b << i &= p : a + a / p &= i ~;
+    a :> b -- b %: a /= b ! b != i >=;
+    b <<= i -- p += i - b *= a ) b + b %> a :> i &= b :>;
+    b %: p *= p &= a % b %: i -;
+    i ( i -- p + p :> b } b -- b -> i +=;
+    b - p >> a * p /= i <% i -= a << p %:%: i |= b ++;
+    p & i > p :> p <% p (;
+    i ++ p -= p %= i { a > b +=;
+    p ; b %:%: a *= i + p ...;
+    i :> b ^= p -> a | a ^ i << p += a *= p >> p -= p >> p ] p != b >>;
+    a [ p + b . b || p ; a - a ; p <<= a &= i ~ b : i ,;
+    p + b ^ p ++ p ; a / p ;;
+    p |= p -= p %> b == i >>;
+    b %> p << p < i >= a + p ; b ++ p ! p } i --;
+    p << a %:%: b ^ p + a >>= i -= a ( p , p && p } a };
+    i %: a . a > i |= p <% i += i -> a != i --;
+    i , i <= b , p != a |= p *= i ( b , p { a :> b ^= p %>;
+    a * a ( p ( p ; i >> a ==;
+    i ; b - p <: b %: a / i %:%: a >>= i ~ a -= p || a <<= p == i :> a <:;
+    p - b -- i >>= i %:;
+    p *= b | a ! i ! b ! a !=;
+    p * b || p { p <: p <: i ...;
+    b || b >= b - p <: b %= i ! i <%;
+    a || i . i :> i == p <<= p ,;
+    p ? b [ a <<= b >>=;
+    b >> p / i != b <% p != b != p || b % a ? p / p :>;
+    i + p %> i %> b %= p <% a >= i %:%:;
+    b *= p <<= b ) a , i ! p <= i && i ~ p } b ] b /= i |=;
+    a /= a ; i % p >> i [ i + i <<= a , p ++;
+    p ( b ^= b ( p ];
+    i ~ i / b * p ; i ^ i <= a [ i <% b -- i +;
+    i , b ) p / b && i <% b >>= p ^ p != i / b |= i { b <<= i << a ];
+    i && p %: b [ p ^ i *= i ) a - p <:;
+    i += i % p ) b ~;
+    p * p &= i <= b - a | a ^= i >> i >= p %:%: a -> a == i <% b -=;
+    b || i :> b += p ^ b <=;
+    i ++ b / i : b ! i [ b > a ...;
+    b >> a -= a < i |= p != p % b &= i &&;
+    p += i - p - p % p ? i << p <= b : p &=;
+    i - b >>= b % p } i % b ,;
+    b ; b %:%: b -> a -> a == b *= b ( b != p >= b *= a ++ b . a , p {;
+    i %:%: a || i /= i -- p [ p <% p |= p |= b += b <% a <;
+    i ! p -= b . p % i || a ~;
+    b <= i >> p & i -- i ( p == b /= i | p >>= a %> p %=;
+    i [ p & b ++ p *= b == i -> p & p + i -= p <% a -> a ^= a :> a |;
+    i / p == i ++ a / i * a } i !;
+    i ^ b &= b %: i >= i [ b += b %: p <% b *;
+    a <<= b { i += b << p &=;
+    b &= i :> p ~ a &= i %= p == i * i : p [;
+    b == p %: a ^ i . b -- i ... i %:%: p :> b ^= b >> a , p -= b ^=;
+    b ) p ] b ] i == p >>;
+    b / a /= p |= p %: i == b != b ? i > i <<= i %> i >> i %> i ; p ||;
+    b -> b <: p << b :> a += i += a %> a <<= i &= a %= i >= i + i ^=;
+    p <: p * p * a >>;
+    p && p ( b % p % p ~ b %: b ~ p &&;
+    a [ a -- b *= i ? a - i { p . p -=;
+    a += i * p || b & b ! a + a * a >>= p >= a :> b |= p && i /=;
+    i ^ a + b ] i == p { i ^ b : p %> i :> p : p -> b + b >> i };
+    a ) a >= b ! p ...;
+    b /= i % i >= b ;;
+    i && b >= b && a [ i %> p -- i <<= i + b << b -> p <<= p %: b - b [;
+    p / a << p &= i ++;
+    i <: i /= b || a { p ] i / i /= a { b , p |= p -;
+    p <<= a ++ p != b << b :> i ... b *= b ~;
+    p ++ i ; i == i ~ p ; p ^= b %> p ^ p ^ a ++ b >= i ; p |=;
+    a >> i | p %:%: p [ a % a ( p <= a + p ] i <% a & p ^;
+    i != b >> i ^ a [ p || b :> p ? a + b ( a ; i > i == b ^;
+    b ~ i , a /= i & b :> p >= i %> i . b << b && b % b :> i -= i ~;
+    i ? a |= p <% i >>= b &= i *= b | i , p <= p -= b >>= b <<= p -=;
+    i && b %> i || b >>= i , b % a -> a ~ a %: b == a %;
+    b |= b || i ~ i . p <: i %:%: a %> p ] p . b < i < p ~ p ^;
+    p >= b && a + b { i ^= p == b | a /= b %= b <;
+    i << a >= a || p << i > b &= b -= b -= a ~ a ? a /= a ...;
+    p ? b |= b ) i && a - i [ b > b % p } p ? a + i += a *= p ->;
+    a ? b ^ b { b } a += b %:%: i %> p %:%: i ~ b |;
+    p ^ i -> p += p %= b %: b >> b | a %> b *=;
+    i /= i <: a %:%: p ? b /= i ? a += i %> i ++ b << i ^ p %:%:;
+    a * a != i %= b <<= a ^= b +;
+    p > a % p < i . i <<= a / i ++ p & a |= a %>;
+    b << a %> i <= b %= b / a < i ( a ++ a - b && a <<=;
+    p ] b ! p [ i ^= b ++ a -- p -- p { i --;
+    i [ i | b ] b / a /= i [;
+    p < a } a | i << b ) b <= b +=;
+    a , a ) p %: b ; b |;
+    i :> a -- p >> p >= b %: b -> b ^ b . a >> i ^=;
+    p . p || p } a >>= i ?;
+    i / i / i >>= p && p [ p %> a /= b %:%: p %= a ^= a << i %:%: p };
+    p / a ... b /= b & i } p %: a { i /= i : p < b (;
+    a :> b > a ~ b %= a ] b - p || b <<;
+    p |= p -> i - i & p |;
+    i <% i , p %> a ! a >= a ) p / i |= i % a < a %:%: p & b < a <;
+    i * b |= b . a | i <% b && p <%;
+    b >> i >= a { i %: i <= p -> a <% b ( p >>= a . i /= i &;
+    p ; a <= p &= b %: p &=;
+    b += p ! b >> p < i ] a <<;
+    a , i < a || p + p -> p -= p ^= i || a || p <= b |=;
+    p , p %= a || p { i >= a -- a { i <= b /= b , a } p |;
+    i ... i && i / b <= a ) a + a : i >= i ; a . p ^= i /= p *= i *=;
+    i != p || b ( b * b ? i > i {;
+    a , b || i += a |= p };
+    a <% p . i ^= p &= i -> b , p != i + i ||;
+    a ++ a ... p < b ? i && a >= i -- i >>;
+    i % a -> b > b } p -= a <<= a - p < p %= b *= a -= i /;
+    p *= a ! p |= i && a : b ];
+    a += p << b < i *= a ~ a . a << b &=;
+    i >>= a ^ i ... b %:%: p * a >> a ++ b << a :> p |=;
+    i %: p != b ( i >>= p += a -> b %: i %:%: a ; p *= p <<=;
+    p ! a >> p >> i %: a %:%: b %: p || b != b );
+    i / p , p & i : p !=;
+    i ] p ^= b | a != b || b ? b %:%: a ... p += b <=;
+    a % i /= p <= p ; b <= p } i *= p ~ p ^ a <:;
+    i <<= p ( b /= p . p <<= a --;
+    a ~ a | p && b ->;
+    i [ i } b > a ^= a / i ++ a [ i <: b <:;
+    i += p != p / i != b -= p { i :;
+    i -- i %: i %> i %> b %= a { b :> b : i [ a . i >>= p [ a -- i .;
+    a ^ p && b *= b ? b ^= i += p == p (;
+    a ++ i %:%: b *= i &= i == i * b *;
+    i /= a -= i :> a -> b , a += b &;
+    b ! i / a | i } p /= a ( i : b += a ) b & i * p && i -- i ];
+    b ( a <: a > i {;
+    a || i || a -- a ] i - i >>= b %= b %> p );
+    b && i ) p %= b };
+    a &= a ... p < i <<= p !;
+    b < i == b %: a ; a } b ... a ! a /=;
+    b / i ] p ? p , p % i -- i >> b !;
+    i << b |= b %: i %:;
+    p |= i & a ... p ; p { a ( a . a >>;
+    i &= a -> i { i * b >> b += a <<= b +;
+    i >= i %: b <<= a * a % p , a %= p %: b << i %: p >> b ^ i . p |;
+    b , p <<= b <% b %:%: p << a -=;
+    p |= a |= i ( b ) i >>= i <;
+    b && i { i * b >>= b , p <<= b ) p . a &= i << a |= b } b %> b >;
+    a ^= p ^ p *= p -= i += a >= i [ p & b == a ... p { a %= b -=;
+    i ^= p >>= a { a / p / b ++ a - p -- p - a ++ p > i != i ) b %:;
+    p -> b ( a % i -> p {;
+    b - i %= b ( i -> i += i + b <% p , i ? a , a |;
+    i %: p %= i % b --;
+    a ] p : a ^= b -> b ) i ; i >> a /= b -- i } i ! p += i . a ...;
+    p } i ] i &= b < p %:%: a && p || b ... a { i >>= p > p *= i *= p -;
+    p /= i &= b << a > b %> b <% p >>=;
+    p <= a ^ a ... a >> p } b %:%: a . b ?;
+    a &= b ... b >>= a +;
+    a || a >>= i ( p / b } a ... p | b - b <<=;
+    b ^= i | i / b %= i %>;
+    i >= p %: i ( b :> b ^ i >= b %:%: i %> a :> b !;
+    a %= b *= i } b } a .;
+    a ^= i { i ... b >= p /= b <= i || b += b >= a { p += i > a | i /=;
+    a <% i %: b % a + b ^= i %: a ; a + b &= a ^ b |= a << b ) b {;
+    b % p ; a += b <= i ; b : b >= a );
+    p -= i ? b <= p { a :> a <= b % b >>= a &;
+    p , p || p %= p , p -=;
+    b . i %:%: b <<= b ( b *= a {;
+    b { b % b :> p <= p <: p % i ] p >= a %>;
+    i >= p % i % i | i <<= p *= b ^= i %:%: b <: a ^ i <<= i +=;
+    p /= p %= b > i -- b %= b ] b ?;
+    i < i %:%: a ; i << a %:%: p -= p < i &&;
+    p % b >>= b >= b > a %= i <: b %= p += i -> p <:;
+    b %: p ~ i <% i %:%: i || p < i |= b %> a ++ i } a & b -- a -> a <<;
+    p { p <<= p ^= b > p ^ i , p > a |=;
+    b ; i ) a * a + p * p && i %= i ->;
+    a >> i ? b } a -> b += p :> p *= a %>;
+    p ? i ^= a :> p << i . i && a <= p &= i } a %: a ^ a ?;
+    i + i [ p > a ] p [;
+    i -= b >>= b / i : p *=;
+    p / i / a && i %:%: i <% i ++;
+    a ( p && i ; b && a *= b [ i * b ( a | i ... a | p %:%: a <;
+    p ! p : a > p | b >= i ^ a { b , p [ i %:%: i -- b <% b *=;
+    p %> b ^ i ++ i );
+    b - b *= p ] p == b == i : b %:%:;
+    b - b %= a |= a };
+    a == i <: i <= b %:%: p <: i % a *= p %: i >> p - i %:;
+    p : b %> b || p } b : b += i <<= i > i : p : b ++ p { i ] i >;
+    b &= i ] b ... p >> b %> a *= a & a , p . a &=;
+    i == p /= i ? a ] p <=;
+    a /= p >= b >= i == a [ p -> i != b += b *;
+    i %> p || i < b >>= a ? b : b -= i & i [ a <%;
+    a <% p & i . p -- a <<= a --;
+    p < p <% b ++ b } a %=;
+    b ; b &= p <: p ->;
+    b != b >= p <= p %= a : b ] a %: i && a -> i ||;
+    a ( b <= a , p << i : b +=;
+    a -= i << p >> a %:%: a -- a } b <: a . b * a :>;
+    p ! b ... p += b -= a ++ b -= a > b ; a : a :> b >> b > i !;
+    i ! i | b - a ; p -- p += a [ b ] b -> p &;
+    p &= p } a ... i *= b -= b -= b ; i : p ~ p < b %= i <% b - b ];
+    b %= b &= p ++ b &= i << p -= p >= b | a { p !=;
+    p . i | i << p %: i -> a % a } a %> i : b &&;
+    i == a != b >= i >> b ^= a ^ p %= b [;
+    i } b + a <: p |;
+    p ... p ? p &= i -- b :> i && a - i /;
+    p ~ a %:%: p <% b > i || a > i % a ^ p +;
+    a ! i ++ a -= b ||;
+    b <<= p %:%: p . a *= i |= p <% i ] a ) p << b * p += b == p > b :>;
+    i ! i && p } i < p ^ a [ a >= p { i :> a ( b <% a % i | p %=;
+    b << a ! b % a >= i %: i ; a ) a %= i % p %>;
+    a << b > p %> p ^=;
+    i ~ i != a ) p %= i ! b . i >> b * b -= p [;
+    i %= a . a ; b ++ p : a << b , i :;
+    a <= i < p != i <<= b ^= a > a -- i / p ++ p <<= a >;
+    a <% b /= b != p [;
+    i -> p %:%: i -= a /= a ( p %> i %=;
+    p ? b += a %= i . a &= b % i ~ b : b ) b /= i || b +;
+    b ! a << i ++ p & b , p /;
+    a ] i != i &= p :;
+    b *= a ] i | i * i %: p || a >>= a - i %= i < p . b <;
+    b >>= p == b -> p || a %:%: a % i ^= p > i &=;
+    p %:%: i % i ( p ... a &= b != p % a + i ~;
+    p | i , p * b /= b << i -> b < i <:;
+    b ? b ++ b -- p != a <<= i |= b %:%: b {;
+    a %= a <<= i >>= p ... i } b ->;
+    b :> p -- i [ a } i |= i !=;
+    b [ b %= p :> p << i + b ... a : a ~ p %:%: a ^;
+    b + p ... a -= i :> b %:%: p [ b );
+    p ++ i /= p > b && p { b -- i -- a -> p >>;
+    p > p %:%: p * i + b + a ^= a <= a >>= a ! p >> b ^ a &;
+    i != a ? b ^= p %> p % a <<= b ^= a <<=;
+    p > p ... a - a || i && a :> b - p [;
+    p ~ a >= a & a { i : a [ i != p ! p <<;
+    a & a -= a ~ b <<= b [ i <=;
+    i ) p > p /= i -= b && i ; i [ a ^= b &= i %> i %> i [ i :> b };
+    a , b < p >= p <: b ! i ^= p [ p /= p , b ~ p ++ i > b <=;
+    p ! b ^ i *= b ^ p % i |= p ( i *= a ? i &= b < p &=;
+    p ? b << i += b +;
+    p >>= a ~ p >= a < p < b %= p -> p >= a ,;
+    i <= i -- i | a , i <: b ^ a << a ! i |= a > p -- p );
+    a :> a , i -= b ^= b << a ) p . i >= i ^ i >= p ... i .;
+    p } i : b %:%: p ... b >> p <;
+    i == i } p >= i ? i ^= p %> p <<=;
+    a %= i ! b ... a % i ; b *= b } p ;;
+    p ^= p << i ? a >> i :> p <% p ? i += p *= b *= a |;
+    b |= i | i + b *= a } p ... b -;
+    b / p ; p ( b <= a + p { p /= b ~ i |= a ++ i >> p >>;
+    p %= p -- i ? i ! a <<= i |;
+    i [ a } a != p %;
+    i == b : a ) p +;
+    b / b /= b <= p ( p -= b %: p . p >>= i -> b &;
+    p [ p ( b ) a == i %> b /= b : b && i *= b *;
+    i < b * i << a <<= p /= p + p * i ^= b : a %: a <% b * p , i &&;
+    b : p -= p % p * i < a ^ i >>= a :> i %:%: p % a - p > a > a %:%:;
+    a - i <<= a ( p ++ b %= b :> a + i <: a %: a ^= p % p < p /=;
+    a <% a { b | i ( b > p * b | p || i ; p [ b [ i -> p (;
+    p ... i &= i && a >>= a *= p << a %> p ;;
+    b >>= p > a :> p +=;
+    i ; a } i ^ a <% i : b > b ^= i &= b ] b [ a -- b <:;
+    b /= a ^ b -- i | p ( i <: a || b ( p %:%: i ^=;
+    a -- a <: a == b , p /=;
+    a ! a ^ p & a , p ~ i <<= i >>= a ];
+    a ? a <: a , b : b /= p , i ~ p -;
+    p ] a ) a ? i *= i ; p && p >>= a -;
+    p > i ++ i - b ... b ^ i ^= i == p ^= i ] p /= a ++ i &=;
+    a <% p &= p << p <% p << p -- p >> p %> p ) a } i << b ^ p <%;
+    i + a :> b ] b . b ] b <<= b ... b ~ p && i < i -= i %> i && i -;
+    a < a , a >> i ? i * i .;
+    i *= b %: p ; i /= p &=;
+    b | i :> b / a ; b -> p ^= i . i != p &= i || i ? b %;
+    a ! p : p : b %: i [ b >= b / i &= p [;
+    i <= i ? i >> b /= p * b ? b /= p % b ?;
+    p ) b | p * p |= a ++ a : p | i > p ^ b :> a |= i << i ^= b -;
+    b ] a /= b [ p ; p &= b -= a <: i / i *= a ; a % i %> p |=;
+    p -- p ? a >> a %= a % p <: b : a ) i >>= a ^= a % p [ i <% i +=;
+    i == b , a > a || a <<= a - p ~ a ^ i );
+    i % p &= a |= b : a } a /= b ( i & b ->;
+    i >>= i - b % p - a <%;
+    b <% i || p %: i %> p ];
+    p ^= i - p | a . p ) a ( i !=;
+    b >= b >= b / p >>= b ( a << a :> p * b ... b ~;
+    p += b -- b |= i ( p -;
+    p && p [ p <<= a [ i ~ a << b /= p != b == i ] b %> b ~ b <<=;
+    b } i ] b : p %> p &= i %=;
+    b ! i <<= b -> i <% a / i /= b < i - a :> i ...;
+    a ++ a * b & b += i ++ a , i ~ b -- i >>= i : p <% i <<= b };
+    b <<= b /= b ] p > a ] b % p { a <: b :;
+    b : b ^= i ( i ^= a <= a &= i >> i } a << i --;
+    b %= i -= i && b [ i << b + b /= p && b /= a ) p * a == p ++;
+    i ~ b ^= b . b != p >>= p [ p << p += i != b %: a ++ b ; i %=;
+    i -= b && a > p || b == a -= b ~ i ~ b > a <= a % a >>= p += p *=;
+    b >>= i *= b |= i ( b );
+    p %: a == p [ i :> b ... i <=;
+    a != a > b > p << i ~ b ++ p } i > p :> p . a <<= a == b ! p ;;
+    i %= a %= i ? b ] p == b | a || a <<;
+    i %:%: b != b >= i [ b &= a , p >>=;
+    a } p % a <<= a [ a % a ; p > p ->;
+    b & a < p == p != i ( b += a ];
+    b %= p >>= i > a . i *= i ~ i %: b ! a || i %= a -> p | i |=;
+    b += i %= p ? b < a -> b -= p . a != p [ i || b ++ p - b -- a |=;
+    b : a &= p <% i < a || a == i && a ^= b ? a <= i - i ; b *;
+    i & p - i ; b { a <: a %;
+    a . p *= i ... a [ b >= b ^= i >>=;
+    a <<= p :> b ++ i );
+    a *= i / i %> i %: p %= a <<= b / b -= a :> b %:%: a %= i ^ p < b <%;
+    p < a } a %:%: a *= a <% p |= b || b & b , p );
+    b ^ i ; i *= i ( b <<= b ^=;
+    a ] a | b ( i /= p += p == p < p - i ^ i ! i };
+    a ( a & p ^= p || b { b + p <<;
+    p <<= i * p >>= a > i != i [;
+    p . a / b >> a && b ! i += a <<= b | a >> a >=;
+    i ^= b ~ p -= b ... p && a <% b ! a += a <: i ;;
+    a : b >>= i += p &= p %= b ~ a >= p !;
+    a <% i ^ b |= b ~ a %: a ( b / b } i :> i ; p ? b --;
+    a [ a >>= p > i , a ( i ; a <= p <= p <=;
+    a ; p ^= b [ i ? a : b } i / b { i * a [ p && b ! b *;
+    p ? i < b + a ++ a <= p ++ b -> i + p |= b !=;
+    p % i %: p . b >= i & i ( b ~ p -> a & a |= p %> p < a ... p !=;
+    i <: i :> i << b /= i >>= a == a >> a ; a [ a <: b ) a ( p :> b *;
+    a *= a <= a | i ] p << a < a %= i - a ( p >=;
+    a , i /= p -- p >= i %:%: b ^=;
+    p || p / i : i * i || a ^;
+    b , b ! i %= p << a -> b ^= p -= i ^= p != i |= i ... p >>;
+    p || b ; a , p -= i > i ! a *= i < p += p += p ... p ->;
+    b ~ b < i % a < a :> i * b ] a { p / b %:%: i /;
+    b < a -= b : b ... i <% p ^ i ++ b |;
+    p : p -- p %> b [ b &= b ; b , p ++ b , p |= b ~ i ^= i || a <;
+    p ? a -- a &= b ( a , p ( b ! a | a ) a | p == b %= p &= p ,;
+    b /= a } b -> i <%;
+    p ( p <: i <= p & b ^= i , b ) p && a |=;
+    a *= a += i & p %:%: b % a > a <= p -> i ^= i >= i : p ];
+    p + p <% i { a != i /= a >>= b - i -= b %:;
+    i :> p -- p %= a / i <% i );
+    a } p -> p ... a += p < a +;
+    i - i -- a [ b && b ! b %:%: b << b ? b == b %: i >= b [ p ~;
+    b <= a ( a & a %:%: i >> b != b , b ? b . i -- a !;
+    i ! b <<= p |= a >>= b . a != p < b += b .;
+    b != p *= i -= i %> p -> b ^;
+    b /= a :> a } i <% p !;
+    i < p /= b ~ i ] i == i | a -= b -;
+    b ++ p &= b : i * a ++ a ! b *= p - a %=;
+    p : p ! a , p >>;
+    i %> a } i || i | b >> a |= p && b -= p !=;
+    a ] a >>= b ? b [ p < a == i %= b );
+    b == p >> b <% a %: i || p <=;
+    p ++ p ? a <= a && i ; a || a ==;
+    b * a - p -> b /= a *= i -= i > b ~ a ; i ! a &=;
+    p && p -> b != p { p { i :> p ( p +=;
+    p :> p << a <% p <% i |= a - i [ i ; p | b ,;
+    a & a /= b >> b <: i == p /= p << i % a && p % i <% b !=;
+    b ^ i ; a -= p <= b >= p %> p << i <<=;
+    p ! i { i [ p , p < i >= a ~ i + i [ b ^;
+    a ^ p || b *= a ^= i ++ i / i &= a + b >>= a &= p ];
+    b ( a >= i || i <<= a | b >> a < b %: i /= a %> a --;
+    a [ b { p : a <<= b != i :> i > a !=;
+    i | p %:%: i ^= i : p %: p ) b } b -> i && p %:%: b << i };
+    b . i ... p ] p <= b ... a ? b | p ! b || b ( p ? p } p ! b <%;
+    p *= b != b < a ; a >> i , b { a * i %= a < p <% a >=;
+    b ; p % b < i -> i ] i += a ,;
+    b [ b ] i >> b ++ a . a %>;
+    p / b %:%: b ~ i , a += b < p == i < p ?;
+    p *= a ~ i ~ b ^= i ; a : a != b ^=;
+    p [ a & a % a - a / b ~ b <: a || p [ i %:%:;
+    a -> a >> i += a { a <% a >> p || b % b :> i :;
+    i %: a > b ... a :;
+    b % i <: i . a |;
+    p <<= a : i } a ? b /= a >>= b !=;
+    b & b ^ a , b & p |=;
+    b <= p % i != i - b %: a ^ i : i += i .;
+    a ++ i >= i , a ^ i <% i % i += p <%;
+    p |= i << p >> p % b . p ; i <: a -- i -> p :;
+    b { a . i { p + i <: p , i / i ? a | a -= p &= a +;
+    i > p ~ a <= p ~ a % b ^ b &= b <: p { a ? a . p %= p <: b !=;
+    i > a -- p %= a . a | a + a ; a -= a * p ++ i |= p (;
+    p && b >= i ^ i , p *= p < b >;
+    p |= a ] a ! a ( p == p ...;
+    p %= b - i ? b ; a > b ( a ... b %> a < i . i <: p *= b %:%:;
+    p * p / p -> a && p <% b * b <% p %= p + i <= b /= p /;
+    i %: b + a >>= b >= b } a |;
+    b >>= p %: b * b ! a ; i %:%: b -- a || p &= a ?;
+    a != i , a / a |= i ; b % b , a { a >> b |;
+    b += a * i != i ! p || p , i >>= b %:%: p || a >= p ? a %:%: p /=;
+    p , a <= a :> i %: p } i <<= b { p ) i %:;
+    p ++ p |= p :> i ^ b ...;
+    i -- p ? a ? p |= b > a || i %:%:;
+    p % b != i %:%: b | p ] a >> b >>= i { b ];
+    a && p <<= b ++ p - p << i += i ; a /= a >= p .;
+    b > b :> a ^ p ==;
+    b >= b < a ... a { p +;
+    i ( a { b -= b ) p < p <<= a -> p &= i <<= i += a ... p ...;
+    b ++ a ... p || p &= b ] p /= a ; a -- b >= i %:;
+    i >= a : a ~ p } a <% i ~ i - b ~;
+    p } i & i << i ( i <<= a <% a && a != i &&;
+    b < b & b ] p / b ; b [ a > i % i |= i . i -= p < a / b +;
+    p : p == b >= i ~ p :> i >>= b ) b -> b ==;
+    p < b } a - a ( b > i -= p [ a != b -> b , i != i ];
+    b ] a -> p -- p [ a -> p :> i || b ! p &=;
+    i ~ p } p } b %= b ! b );
+    b ( b , a %: a + p -- a -= p %> b >=;
+    b , a ? a || i , b --;
+    i , p -- a -= p %> a >>=;
+    a ! p :> b ~ i ( b <= i .;
+    b -> i & a < a %:%:;
+    p } a ++ b && a %= p [ p == a ! b .;
+    p += b -= b /= b <<= b %: p [ a &&;
+    a %= i -= a ^= p ... p != p ? a >>= i + a %:%: a { p ^;
+    p ) p >> p >> i >>= p *= b } i *=;
+    b &= a -= b : b ! a . p -> b != b %= p << p ~;
+    i && p ~ a += b <% i & b %>;
+    b %: b < b >= p -> b += p ...;
+    i ] a [ b -= i <= a +=;
+    i |= p /= p - b >>= a ) b %> a ^ i ;;
+    b |= a [ b ++ b &= b , p * b ^= a *=;
+    i <= p : p <% p ~;
+    b <<= p /= b < b -= b ];
+    i <= a && p ^ p >>= i ? a -;
+    i >>= p %: a > i || i <= b ] b ... b *=;
+    b . p { i || p <= p ~ b ->;
+    i >>= a >= b ^= a ! a %:%: a ) p += p . a ^ p >> b /= p != i ];
+    b / i { p <<= b ; i << p ! i :> b ...;
+    i %:%: a %> a << a <: i } b > p ? p >= p * a + i %: i == b %=;
+    i ] i * p { p %= b | a ] a + a ++ b >>;
+    p + a *= p |= p %> i &= i ! i ... a };
+    a <= b %> i . i ! p && b ; p %:%: p << p & a *= p &;
+    a += i :> i && p <= p ! a ^= i %:%:;
+    i : i %:%: a ? a ) p { a || i <: p ] a ; p /= b ] b [;
+    i - a % i != p ? a ) p <: b < b -= p < b <= p + p <= b == b <<;
+    a += a ++ p |= i / i != i >>= a ? a * b + p %> i { i % b %>;
+    b <: p :> b & a >= a ! a == i %: a == b <% p ^;
+    a % b . i || i { i == p ~ a <% i -- a || a |= p <: a .;
+    i & a <= i %> a , a -> b | b ] i -> a : a * b -= b .;
+    b % b ~ b [ b . a << i %>;
+    b |= i ? a | b && a /= b + a -- p + i ! p [ i ... i >=;
+    i ; b ... i >> i <<;
+    b %= p |= p & b <<= b ; b ( i *= b <<= b %:%: b ;;
+    i ; p <: b ) a ~ b *= a [ p *= i -= i ~ a << b .;
+    b < p - i |= a <<;
+    i ^= b <= a -- a | a ? b | p : p !;
+    a == a , a >>= p - p :> b <=;
+    b { p %> i <= p & p ? i &= b ) b %:%: a |= i & a : i };
+    p < i |= b ++ b , p == a -= b <;
+    p % i ) b [ i += b /= p >= p :;
+    a + i [ b < i :> i ? i ++ b ++ p &= a & i + a /= i -= a ... b <;
+    p < i ^ b ... i ; b ^=;
+    i && b || a . b <<= a / a + b |= i %: b == b &=;
+    b < b >> i %:%: i ++;
+    i *= p - a ( b %:%:;
+    p != p && b ) b & a != a %> p <: a :> i >>= b >> b -- i <<= i /= p (;
+    p * i >= i . a ^ a |=;
+    p + i ? i == p *= a <% p ^ p ! a ] b );
+    p ^= a %: a ( b } p %:%: b < b : b ~ b ; p ; b ];
+    i <: b |= a /= p %: a & b %>;
+    p -= i >> a == i %: i , a += p /= p >= i ~;
+    i : b <= i - i ^= b >>= a , i >= i ; p ^= b ->;
+    i <<= b - a ++ b || b <% i ++ i . b ] p ++ a ; i <: i /=;
+    b } a >= b ++ b . p != a > i <:;
+    p ~ a ! b * b ^;
+    p / b &= p ^ b *= a != i - i >= b %: b ) b (;
+    p <<= i / b %> i / i &= i > i >;
+    b ! a ^= i && p == i :> p <% a ^= p & b != b += i *;
+    p %:%: a ... p <<= a >= i -> a -> p ; p == b ) a ; b );
+    b & i -- a % b ... a & b -- p &= p %> p ; b %: b %= p ^;
+    a [ b ( p , p ] a == i += b != b *= b >= p - a ^ a ? b %:;
+    b << b . b <: b ^= i <: i %= i %> i |= a * a |= a ~ b : a %: p :;
+    b %: a [ p < a [ p && i >>;
+    i , b ^= a ... i { a %: i . i >= b %> a . p <<= i -= a ^= p %:%: p [;
+    a ? b <<= i ? i % p <= i |= a & b >>= a /= i ~ a -= i &= p ^ p ];
+    b % i -> i == p !;
+    b %: b %= p ( i ( b ?;
+    a -- p * b -> i && a &= a ~ i -- p ] a <= i & p } a ];
+    b >> p <% p . p <<= b <= a || a . a ? i *= a += b :;
+    i << p | b ! a } a ~ i <% b += a <: b > p ^ i [ b *;
+    b && a -= a | a <% p -> i == i *=;
+    p ? a } a += p ( a -= a %: b >= b -> i <: p /= p ( a %;
+    a ] p } p ? a ~ p ^= b ^ a >> a ? i ];
+    a ^= i ( i += p -= b >= b %>;
+    i ; a %= a %= b == i || b ; i &= a . p !=;
+    i -= p *= a ) b == a %:%:;
+    p && a | i -- a <: a >> a || a %:%:;
+    a %: a } i % b & i ^ b > a %;
+    i :> p << i -> b >= b / i >> p ++ b {;
+    b || i != p - a - a } a <;
+    p &= p ~ i - a . b *= a } b %:;
+    p -- i * i -- p < i , b == p &=;
+    a -> b %= i |= b -> b ^= p %: i ? b == a < p );
+    p ] p <<= p ^= p <: a ... i *= b >>= b -- p , i : p ~ b ^ a >>=;
+    b ^= i %:%: p <% i <= p / b * b - a +;
+    p & p { b ) i };
+    p >> b == p % b %=;
+    b <: i += p + p && b <<= p %= i - a ~ b / a |;
+    a >> a ( b <: i >=;
+    b . i *= a : i >= a ) a <% a ++;
+    b >= a >> p / i * p &= a %;
+    p , p -> a { p -- b ( p < p <% b /= p [ p :> p >>=;
+    a & a ] a ] b && b << p ^;
+    i <: b :> b == p ! i ( b ( p ] i != p ~ i ~;
+    p >>= b << b *= b ^= p ^ b < i : a . i -- p : b } i / a -;
+    b [ i /= b *= b ^= i > i <= b >> a <:;
+    b %:%: i >>= p >= p ^ a %> p &= p %>;
+    a >= p ; b <: b <= b %: a <<= i ? i >= p ^= b .;
+    b ; p <<= b ++ a << i --;
+    b += p /= i &= b < i += b <= a * i + a ++ b < a + a ++ b :> i ~;
+    p *= b - p <= a ^ a == b ++ i %:%: i { i /= b ++ a -=;
+    a && a <<= p { a &= p < i : b && a >> b *= b / b { b (;
+    a * a /= p << p -> a ( p | b |=;
+    a -- b ^= a / b ! i += p } i ] b += b %: i };
+    b <% p } i > p != p . i > a |;
+    i ^ i == a %: a >> a | b >> p { a || p += p >>;
+    b ! p |= b % i ^= p |=;
+    p -> b ++ b ^ b +;
+    p == a ^= p != p ... b <= p << i /= i !=;
+    i > i :> i + i ] i & p ! p -= a || p { p <<= p == i !;
+    b ) p * b :> p /= a <<= i <=;
+    b >= b ! b ... a += b * i ~ b |=;
+    i ~ b <= i += a - p <<;
+    b << i <= p %: a %> a ? b ] b ; b |=;
+    a * p %: i :> a ! p ? p <<;
+    b * b ( a * b ^= a } p >= a } p >> b --;
+    p <<= b ^= p ] i <% a && a & i += i >> a /= b %= a . i ... a | i <=;
+    i /= i ] p - a } p /= b %:%: p -- b *= p %: p *= b ; b ^ a (;
+    p /= a ++ a & i -= i <<= i ? i %= p [ p ? p ( i --;
+    a + b [ p ~ p ++ p &= b << p ) b -- a :> b ... b >= b ( a < i >>;
+    a ^= b ^ b += i << i / p %> a & i : i == a > p > i ^= p &;
+    a } b -- i > a += i { a | a < b += p ~ a :>;
+    p << p |= b ++ p >> a - a - a - a [;
+    a ... p %> p ) b : i <<=;
+    a <<= i : i %> i %=;
+    a ; b ] b < b >> i != b *=;
+    i += b <: i ? a <=;
+    p ( p >>= b -= i -> i == p %= p <: a & i :> a ^= i %= b <= i *=;
+    p [ i > b > i >= b - b <: i ++ a ... i ^ i & p ; i ) i == a {;
+    i . p ... b %> i : a ++ p <% b %= i ^= b & p <<= a %: a +;
+    b { p && a ( i ! p % p ] i <= i [;
+    i * p /= a ( b , i |= i *= p ! a :> p >= p ( i | i %:%: b <;
+    a >> p + i / a <% a :> p * i -> a ? i -> a -> a < p * p ,;
+    i %:%: p %:%: b <<= p / b } i ? b %:;
+    i >> a < b < p ^ p >= p :>;
+    b -- b %> a -> i += b /= a %;
+    a >= a <= p || b -- b ! b ... p :> b * p :> p >= b *= p . p >>= b ~;
+    i << a && p - a %:%: b /= a : i & b + i & i == a - i <<=;
+    i ! a %= a ) p << a <% p .;
+    b /= i || a %= b & p *= b == a %: i > i + i ] b < b %> b - p |=;
+    i %> p >= p ( b ( p *= a ^= b &&;
+    p [ i ( i >> a && b &=;
+    p | a -= p / i );
+    i / i <% p == p ? i { i >= i <<= a -> i <<= p >>= b %= b .;
+    a || i %> a != p <<= p && b <% i -- a <<= p ~ p %= p ->;
+    a * b >> a <% b :;
+    b ] a [ a ) a :> p < a /= p : i { p ~ p >= p -- p |;
+    p } b :> i < i ... a <: i ? b >= i != b . i ~ i ; p == b { b ^=;
+    p /= p & p || b : a / b :> a <: a &= i ? p | i &= a &= p <:;
+    b |= b ^= a || i ) b ( i == p :> b : p *;
+    a | p ... b *= a != p -= b <= p ++ b - p /= i == p |;
+    p -> i %> b > b < a && p / a >>= a -- p ++ p *= b -- i {;
+    p && a *= i >> i <: p << i . a <= a ~ i || i <<= p && b %>;
+    b { i ++ i -- b &= b &=;
+    a :> b ... b <% p ^ i [ i -> a [ b >> p <<= b |=;
+    i / i ^= i ) b } p . b ! a + i <<= i > a || b ) p %> a <= i {;
+    b ~ b &= i : a * b ; p [ a ~;
+    a > i >>= p %:%: p /=;
+    a <<= p -= p { a %=;
+    i / a - p * b * a :>;
+    i ? b && i >>= b + a / a * b -- i } a } b -- p /= a < a < p *=;
+    b -- b <% p * p -= a - b ; b <: a %:%: p *;
+    a * i ] p + a & a / a > b ];
+    b *= i % a ? i ... i : p /= p ~ a << b %> b );
+    i + b & b * b %> p <<= i != i ; b += p ; a ~ i ^= a % b +;
+    p ... b %:%: p %:%: i >>= b [ a &&;
+    p <: i } a -> p ...;
+    i < p & b ! a ) i && b | i } p ! b : p + i { i >>;
+    a |= b * a ++ b %= i <= i + p ! p . a -> p + b : a > p <= p &;
+    p { p /= i %> a > b != b && i : i < p ... i ++;
+    p ; i -> p <: b . p |= a |=;
+    i >> a %:%: i ) b == i *=;
+    a << i -> p * b %:%: a ; a &= a -> b -> i && a . p %: p /= a %:%:;
+    i <= i -- p / p | i %:%: i ^ b ] p != i >= a %> b && i :> a << p {;
+    p /= p << i ) a & b &&;
+    b ^ p > a != i -= b ) i ...;
+    i ++ p %:%: i -> b <<= p %= i -= p & b |;
+    a -= p ! a <= a ++ i ... b ; p <<=;
+    b ? i == b || a ( p -> i &= i <= p ^= i :>;
+    b == b > a ( b , a >>= p :> i %= p & p >= b :> b |=;
+    a >> p %: i %= i >> i >= p / a ) p | a ... b ! b ) b -;
+    p ... i -= a >= p < i (;
+    i :> p << a <= b ; i %= p %= p ++ a -;
+    b >> p ++ b ... b << a * a %=;
+    b > p -> a ] a ||;
+    i ^= b - i < b || b } b } a != p + i } p <:;
+    p -= p || a * i ... i != p ... i /;
+    i += i != b , p ! p == a <<= b % p [ a < b <<=;
+    i += a %:%: i :> a != i ... b ~ a += p %> b { i + p >> a == a -> p +;
+    p [ p || p != b %: a == i + p > i <<= a . p <<= p --;
+    i . i >= p ( p & a { i ||;
+    i -> i &= i == i << b +;
+    b . a - b %:%: b || b / b &=;
+    a & p - a <= p % a & i -= i :> a + b > i ) i | i > i && p *=;
+    p *= a <% b ) b -> p --;
+    p / p ? b - a %: b %> b <= a >= p %: p >> i <% i ,;
+    i /= i - b <: p ] a += b . a &= b ] a ^;
+    a ! p |= p ! a >= b % i != a |= a ~ p : a ! a % a /= a ];
+    i == a ? b > i >>= b ++ a ) b >=;
+    i . p { a << b > b & p / a <<= i &= p <<;
+    p ? b ) p | a %= a } b %=;
+    b ) a ] p ~ b <<= i <= p <<= p += i > b ^=;
+    i >= a ) p . i !=;
+    p . b &= b |= i += i > a -= i %:%: i |;
+    i ; i :> i ~ b /= i . p >> a & i > b ... b <% a <% p *= i ...;
+    a >>= i , b / a %;
+    a -> b ; b %: i <<=;
+    i *= b <: a ^ i %> p ( i : b &= i ( a [ i ; i .;
+    a << i <: b : i <% p *= b [ a :> b <% i ++ i : b ;;
+    i ~ a % b -= a ... b % p [ b - p -= a &= a % p [;
+    i : b >> i :> p [ i -= p <<= i ? a . a /= a , p ; i / b *=;
+    b ... i == i <= i : i || b -=;
+    a [ p . p >>= i >>= p ];
+    p . a %: p , i << p ; p <<= b <= a +;
+    p - p << i . p , p &;
+    b && b /= i && p != a :> a : i ? p -;
+    i ] b ++ a && i . b <<= a %> b : p . p <= i +=;
+    a >= i || i &= i -> b ... p : i ! i :> p += i *= a / i ^;
+    p %: p && i |= a ++;
+    a == i << a | b ->;
+    a ( p += p %> i . p ++;
+    p *= i || i / a <= b ^ i %: b , p |= a } i %>;
+    b << b / i ^= b ^= b ( a += i %= a -= b > b <% p -> a ; p &=;
+    a || a / i %:%: p %:%: b <: i ( b <= b ^= b | p [ p / a |;
+    a ... i , i << a < b <<= i <: a ! a || p <<= a <% i ! b <<;
+    b - i |= a < b + a ( a %:%: b <:;
+    a += i - p ! i :> i || i <% p %: i % a >= b <: b %:;
+    i <% i == i ? p . i - a -- p *= p +=;
+    p < a } a + a ; a ];
+    b <= p << i *= p ^ b (;
+    p ? i -- a > p -> a } i >> a || b : a | a >>=;
+    i ... b || b { a %;
+    b & b <<= a | i [;
+    b & i | a + p <% a &= i > i * a ^ a ; i .;
+    a < p < a != a -= p [ b <% b ! p } b ? b | p :>;
+    i , b -> a ] a ^= a .;
+    p %> b %:%: a [ a == i ( a . a ! b <<=;
+    b %> a % b >>= i - b + p ^= b << a ^ a ++ i [ i . p < p , i --;
+    b -= p |= b , i <<= i ) b ~ p ++ a ) b <= b -;
+    i |= b } b <% b * i %= a % b > p ^= b >>;
+    a % i + b > b & p <% a [ b :> b /= p & a && i : i < b *= a ];
+    a >> i ) a : b ? b } b >= i ; a | i ^= b >>= p & a : b .;
+    p ++ i || a | a ? b &;
+    i %:%: i , p -- a > b < i [ i && b - a :> b , i {;
+    b == p > p -= i -= i %: i : p -- a ] p < b != b << a {;
+    b ) p <: p ~ i |= b . a ==;
+    i >>= b - a ( a ] b : p ) a >> a , p || a + i >>=;
+    i <: p , i /= p ; a || b * i %> p -= i ^ i % p %= i ->;
+    p [ p * i >= b %= i + a : i ( a >>= a * p } p { i .;
+    p & p -= i %= b *= p %: b * p >> b / a >>=;
+    i ( i *= b ! b << p ^= p ? b -= i | a | b :> a - b :> b ++ i <=;
+    a |= a & a [ p >>= b ( a % b >>= a < b : p >= p %:;
+    i <% p ! b , a ] i += b * a >> b . i && b ? i -;
+    i <% a += a ~ p * i <= a <: p [ i [ b + p ++ i %: b <;
+    b >>= a :> a > p -> i ! a | a &= a & b , i [ i % i >>= a +;
+    b ~ p >> b ... i >= a -- p > p + p :;
+    p /= p , b -- b * a + b - a ) b ~ p ] i >> i & i +;
+    a %= b *= a ... i %= p <= p ; b ->;
+    p ! b - b %> i || b ^ a | a >> p | i += i %= b ; b -- p (;
+    a > p * b { i %> p % i [ a ->;
+    a -= a & a %= a & a ... i << a <<= p ?;
+    b ! b || b -= p &= b & p != a -> b <: i : b <= i );
+    p [ p | b >>= i -;
+    a ] p <= p == a & p ++ b ( i &= b ^= p > b >= a ++;
+    a ] a -- a ... i ^= b ; b || p << i &= a && p / i :>;
+    a :> p ] b } i } p ^ b <% p %> b + a , i *;
+    p . a *= i } a <% i ->;
+    i %: i %: p ^ b :> i >> p :> p : p * p [;
+    b } b ... a + i ... a << a <: p ++ p > i + p == p + b ->;
+    i <<= a == a <: a (;
+    i ? i ^ i != a %:%: b >;
+    a ? b -= p > b ~ i : i &=;
+    p / p << p *= i . a :> a -= i ! b += p <= a << p >>=;
+    a ? p * p && i & i % b ! p == i |;
@@ -0,0 +1,259 @@
+/*
+ * A small line-oriented key/value store: an arena allocator, an open-addressing
+ * hash table and a command loop. Used as a realistic mix of C tokens.
+ */
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+#include <stdint.h>
+
+#define ARENA_BLOCK_SIZE (64 * 1024)
+#define TABLE_MIN_CAPACITY 16
+#define MAX_LINE 4096
+
+typedef struct arena_block {
+    struct arena_block *next;
+    size_t used;
+    size_t capacity;
+    unsigned char data[];
+} arena_block;
+
+typedef struct {
+    arena_block *head;
+    size_t total;
+} arena;
+
+typedef struct {
+    const char *key;
+    const char *value;
+    uint32_t hash;
+    int occupied;
+} entry;
+
+typedef struct {
+    entry *slots;
+    size_t capacity;
+    size_t count;
+    arena *strings;
+} table;
+
+static const double LOAD_FACTOR = 0.75;
+static const float GROWTH = 2.0f;
+static volatile int interrupted = 0;
+
+/* Allocates size bytes from the arena, starting a new block when needed. */
+static void *arena_alloc(arena *a, size_t size)
+{
+    size_t aligned = (size + 7u) & ~(size_t) 7u;
+    arena_block *block = a->head;
+    if (block == NULL || block->used + aligned > block->capacity) {
+        size_t capacity = aligned > ARENA_BLOCK_SIZE ? aligned : ARENA_BLOCK_SIZE;
+        block = malloc(sizeof(arena_block) + capacity);
+        if (!block) {
+            fprintf(stderr, "out of memory (%zu bytes)\n", capacity);
+            exit(1);
+        }
+        block->next = a->head;
+        block->used = 0;
+        block->capacity = capacity;
+        a->head = block;
+    }
+    void *p = block->data + block->used;
+    block->used += aligned;
+    a->total += aligned;
+    return p;
+}
+
+static char *arena_strdup(arena *a, const char *s, size_t n)
+{
+    char *copy = arena_alloc(a, n + 1);
+    memcpy(copy, s, n);
+    copy[n] = '\0';
+    return copy;
+}
+
+static void arena_free(arena *a)
+{
+    arena_block *block = a->head;
+    while (block != NULL) {
+        arena_block *next = block->next;
+        free(block);
+        block = next;
+    }
+    a->head = NULL;
+    a->total = 0;
+}
+
+/* FNV-1a over the bytes of a key. */
+static uint32_t hash_key(const char *key, size_t n)
+{
+    uint32_t h = 2166136261u;
+    for (size_t i = 0; i < n; i++) {
+        h ^= (unsigned char) key[i];
+        h *= 16777619u;
+    }
+    return h;
+}
+
+static int table_init(table *t, arena *strings, size_t capacity)
+{
+    if (capacity < TABLE_MIN_CAPACITY)
+        capacity = TABLE_MIN_CAPACITY;
+    t->slots = calloc(capacity, sizeof(entry));
+    if (t->slots == NULL)
+        return -1;
+    t->capacity = capacity;
+    t->count = 0;
+    t->strings = strings;
+    return 0;
+}
+
+static entry *table_find(const table *t, const char *key, size_t n, uint32_t h)
+{
+    size_t mask = t->capacity - 1;
+    size_t i = h & mask;
+    for (;;) {
+        entry *e = &t->slots[i];
+        if (!e->occupied)
+            return e;
+        if (e->hash == h && strncmp(e->key, key, n) == 0 && e->key[n] == '\0')
+            return e;
+        i = (i + 1) & mask;
+    }
+}
+
+static int table_grow(table *t)
+{
+    size_t capacity = (size_t) (t->capacity * GROWTH);
+    entry *old = t->slots;
+    size_t old_capacity = t->capacity;
+    if (table_init(t, t->strings, capacity) != 0) {
+        t->slots = old;
+        t->capacity = old_capacity;
+        return -1;
+    }
+    for (size_t i = 0; i < old_capacity; ++i) {
+        if (old[i].occupied) {
+            entry *e = table_find(t, old[i].key, strlen(old[i].key), old[i].hash);
+            *e = old[i];
+            t->count++;
+        }
+    }
+    free(old);
+    return 0;
+}
+
+static int table_put(table *t, const char *key, size_t key_len, const char *value, size_t value_len)
+{
+    if ((double) (t->count + 1) > t->capacity * LOAD_FACTOR && table_grow(t) != 0)
+        return -1;
+    uint32_t h = hash_key(key, key_len);
+    entry *e = table_find(t, key, key_len, h);
+    if (!e->occupied) {
+        e->key = arena_strdup(t->strings, key, key_len);
+        e->hash = h;
+        e->occupied = 1;
+        t->count++;
+    }
+    e->value = arena_strdup(t->strings, value, value_len);
+    return 0;
+}
+
+static const char *table_get(const table *t, const char *key, size_t key_len)
+{
+    entry *e = table_find(t, key, key_len, hash_key(key, key_len));
+    return e->occupied ? e->value : NULL;
+}
+
+enum command { CMD_GET, CMD_PUT, CMD_STATS, CMD_QUIT, CMD_UNKNOWN };
+
+static enum command parse_command(const char *line, const char **rest)
+{
+    static const struct {
+        const char *name;
+        enum command cmd;
+    } commands[] = {
+        { "get", CMD_GET },
+        { "put", CMD_PUT },
+        { "stats", CMD_STATS },
+        { "quit", CMD_QUIT },
+    };
+    for (size_t i = 0; i < sizeof commands / sizeof commands[0]; i++) {
+        size_t n = strlen(commands[i].name);
+        if (strncmp(line, commands[i].name, n) == 0 && (line[n] == ' ' || line[n] == '\n' || line[n] == '\0')) {
+            *rest = line + n + (line[n] == ' ');
+            return commands[i].cmd;
+        }
+    }
+    return CMD_UNKNOWN;
+}
+
+static size_t trim(const char *s, size_t n)
+{
+    while (n > 0 && (s[n - 1] == '\n' || s[n - 1] == '\r' || s[n - 1] == ' '))
+        n--;
+    return n;
+}
+
+int main(int argc, char **argv)
+{
+    arena strings = { NULL, 0 };
+    table t;
+    char line[MAX_LINE];
+    long lines = 0, misses = 0;
+    int verbose = argc > 1 && strcmp(argv[1], "-v") == 0;
+
+    if (table_init(&t, &strings, TABLE_MIN_CAPACITY) != 0) {
+        perror("table_init");
+        return EXIT_FAILURE;
+    }
+
+    while (!interrupted && fgets(line, sizeof line, stdin) != NULL) {
+        const char *rest = NULL;
+        lines++;
+        switch (parse_command(line, &rest)) {
+        case CMD_GET: {
+            size_t n = trim(rest, strlen(rest));
+            const char *value = table_get(&t, rest, n);
+            if (value != NULL) {
+                printf("%s\n", value);
+            } else {
+                misses++;
+                printf("(nil)\n");
+            }
+            break;
+        }
+        case CMD_PUT: {
+            const char *space = strchr(rest, ' ');
+            if (space == NULL) {
+                fprintf(stderr, "line %ld: put needs a key and a value\n", lines);
+                continue;
+            }
+            size_t value_len = trim(space + 1, strlen(space + 1));
+            if (table_put(&t, rest, (size_t) (space - rest), space + 1, value_len) != 0) {
+                fprintf(stderr, "line %ld: out of memory\n", lines);
+                goto done;
+            }
+            break;
+        }
+        case CMD_STATS:
+            printf("entries=%zu capacity=%zu arena=%zu load=%.2f\n", t.count, t.capacity,
+                   strings.total, (double) t.count / t.capacity);
+            break;
+        case CMD_QUIT:
+            goto done;
+        default:
+            if (verbose)
+                fprintf(stderr, "line %ld: unknown command '%.*s'\n", lines, (int) trim(line, strlen(line)), line);
+            break;
+        }
+    }
+
+done:
+    if (verbose)
+        fprintf(stderr, "%ld lines, %ld misses, hit rate %.1f%%\n", lines, misses,
+                lines ? 100.0 * (lines - misses) / lines : 0.0);
+    free(t.slots);
+    arena_free(&strings);
+    return 0;
+}
@@ -0,0 +1,800 @@
+    puts("\t \0 value lazy error \" \t");
+    puts("\n over");
+    puts("lazy");
+    c = '\\';
+    c = '\t';
+    msg = "brown lazy file \x41" "path over %d \0 path";
+    puts("%zu quick over path over dog");
+    puts("value the %zu file value \t value fox the");
+    puts("quick jumps \" error warning quick \" \t %s");
+    c = '\'';
+    puts("error");
+    puts("%s \" warning %s path %s the");
+    puts("\t warning lazy quick \t over lazy the");
+    puts("\0 dog over the \n \t");
+    puts("\0 %s \0 fox");
+    puts("the %s value file dog over brown");
+    c = '\n';
+    puts("\"");
+    puts("warning value \t lazy \x41");
+    puts("value jumps jumps dog quick path \0 warning quick lazy");
+    puts("dog jumps %d %s %d jumps fox %d \t");
+    puts("%s \0 %zu %d over value lazy dog lazy");
+    puts("%zu fox value lazy error fox brown %zu value quick");
+    puts("over");
+    puts("file \\ error lazy \n \n dog");
+    c = '\'';
+    puts("%zu \0 %s");
+    c = 'z';
+    puts("\\ %s quick");
+    msg = "\\" "error \" dog";
+    puts("lazy \n");
+    puts("lazy %zu %s \\ error the file over warning quick");
+    puts("%s over lazy \\ \"");
+    puts("%s dog \0 path \x41 \" path");
+    puts("brown");
+    puts("\0 lazy");
+    puts("value dog %zu warning dog over file");
+    puts("path jumps %zu %zu %s lazy jumps jumps jumps %zu");
+    puts("\0 %d jumps \" over warning \" \n brown fox");
+    puts("%d file \x41 jumps value the error quick lazy \n");
+    puts("brown the the the the %zu dog");
+    puts("warning \x41 fox dog");
+    puts("file %zu the dog \0 %s");
+    puts("error");
+    puts("the \x41 file dog warning fox over dog");
+    puts("warning error path %s");
+    puts("warning brown jumps error path warning path");
+    puts("%zu warning \" %zu");
+    puts("lazy value quick error \" quick warning over");
+    puts("%d error %s");
+    puts("brown \0 the \0 \\ jumps quick %s brown the");
+    puts("\x41 brown quick \t \"");
+    puts("the \" %d error path error error quick jumps");
+    puts("file value \x41 over \x41 path \t the quick");
+    puts("path %s jumps brown fox \0 dog dog dog %s");
+    puts("lazy the");
+    msg = "error warning \x41" "path";
+    c = '\\';
+    msg = "path the the %zu brown error the the path jumps" "dog over value file %zu";
+    msg = "\x41 fox fox \t" "fox path warning \\ path over \x41 warning jumps";
+    puts("fox lazy error \\ error %s value \"");
+    puts("jumps file \n %zu %s error value brown brown warning");
+    puts("warning the over");
+    puts("over path lazy \x41 \\ \x41");
+    puts("the \\ quick \0 path \"");
+    puts("over \" %d %s %zu %zu warning lazy");
+    puts("fox fox");
+    c = '\t';
+    puts("over brown");
+    puts("fox value over value dog over over");
+    puts("fox file value the %zu \0 dog fox");
+    msg = "file warning dog" "%zu";
+    puts("quick");
+    puts("lazy \0 fox %d file value over dog warning error");
+    puts("error brown dog \"");
+    puts("over %d");
+    puts("lazy \0 \" value");
+    msg = "%s dog" "jumps file";
+    puts("quick lazy lazy jumps");
+    puts("over jumps");
+    puts("error fox \t the \n");
+    puts("\n error file over %zu error lazy path \n \x41");
+    msg = "error" "fox";
+    puts("the value path \n");
+    puts("quick %zu path warning warning path");
+    puts("warning \x41 jumps \\ \\");
+    puts("lazy brown \\ brown lazy the file");
+    puts("path");
+    c = 'z';
+    puts("\" dog file \\");
+    puts("quick brown brown error quick \" \t");
+    puts("fox file value jumps");
+    msg = "lazy path fox quick %zu %zu %d" "jumps jumps %zu \0 \\ \t value file";
+    puts("the \" file \0 \0 file %d");
+    puts("path quick error \x41 lazy %d quick");
+    puts("%s the warning over lazy");
+    c = '\'';
+    puts("\\ brown %zu");
+    puts("\x41 the");
+    puts("file dog over path dog the brown warning quick");
+    puts("over error warning value over");
+    puts("jumps \\ over lazy");
+    puts("warning \0");
+    puts("error the path error value");
+    puts("\" error %s %s");
+    puts("jumps %zu over %zu path path path fox");
+    puts("%s the");
+    puts("lazy %zu %zu quick fox %zu over file quick %zu");
+    puts("path lazy jumps jumps \0 value");
+    puts("brown");
+    puts("warning \t warning the \n");
+    puts("lazy \\ warning \" jumps %d \0 %d %d \x41");
+    puts("value");
+    puts("\n");
+    msg = "%s dog quick the %s" "value error %d quick \n quick lazy the dog";
+    puts("warning brown over dog over \t %s %s file \"");
+    puts("error the \0 fox \n %s path dog the");
+    puts("over value");
+    c = '\t';
+    puts("brown over file fox value");
+    puts("%s %s %d \x41 \0 fox path dog");
+    puts("jumps dog over %s");
+    puts("value path warning the over jumps");
+    puts("brown error dog");
+    puts("path warning brown value the over");
+    puts("%d \0 path \\ path value path dog dog");
+    puts("error \\ over path path the");
+    puts("%s");
+    c = 'z';
+    puts("value lazy %s lazy \\ \\");
+    c = 'a';
+    puts("lazy the quick");
+    puts("%s quick %d \" \n warning path fox warning");
+    msg = "\\ error over %s dog \n jumps value file \t" "quick jumps";
+    puts("file the \\");
+    puts("fox \" error fox the \n warning %d warning");
+    puts("error warning fox \n the error file lazy \0");
+    puts("lazy \" fox dog brown \t %s fox error \n");
+    puts("path file %d \x41 \"");
+    puts("%d dog warning \" dog value jumps \"");
+    puts("error dog lazy fox warning path warning");
+    puts("\t \" lazy %d");
+    puts("path error \x41 path \n dog %d jumps");
+    puts("path quick \t");
+    puts("warning error \\");
+    puts("jumps %s the dog value %zu warning fox \"");
+    puts("\0");
+    msg = "\\ brown error %d %zu %s warning fox \\ %d" "\0 over \x41 brown %d jumps dog \\ \t dog";
+    c = 'z';
+    c = 'a';
+    puts("\x41 \x41 error warning \\ error %d");
+    puts("\0 jumps %zu value");
+    puts("\n");
+    puts("jumps");
+    msg = "brown lazy quick \n \" fox %d" "brown %s over %s";
+    puts("warning jumps \" fox");
+    msg = "jumps the %d quick brown \t path value %s path" "%d quick value file";
+    puts("jumps");
+    puts("%zu %s %s warning %d value jumps lazy");
+    puts("\n %zu jumps over");
+    puts("%d \0 jumps jumps file \x41");
+    msg = "value fox over" "path \0 jumps \t";
+    puts("\0 fox fox brown the quick the");
+    puts("dog file \0 fox file jumps");
+    c = '\'';
+    puts("value %zu fox path \0 over %d \" %zu");
+    puts("jumps \t warning \" %s dog file");
+    puts("\\ quick \n file");
+    c = 'z';
+    puts("brown \\ fox \0 lazy \\");
+    puts("fox dog");
+    puts("brown %s jumps fox file quick");
+    msg = "file \n %zu" "warning jumps path quick";
+    puts("\" %zu over %s %s");
+    msg = "file error \\ lazy" "over error fox jumps file jumps %d";
+    puts("%s %s jumps warning file %d %d lazy %s");
+    msg = "dog over path \n \\ lazy over brown" "over \n file dog \t \" jumps file the";
+    puts("\n dog brown the %d %d value warning jumps");
+    puts("quick error %s path");
+    msg = "error path lazy \t file" "value \0 %s";
+    msg = "\x41 warning warning jumps" "the \n error warning value %d \" dog";
+    puts("%s quick quick %zu jumps dog value %zu jumps %d");
+    puts("lazy");
+    c = 'z';
+    msg = "\" over warning \" the the \0 \\ brown" "dog \t";
+    msg = "\0 over %d warning brown \" dog path" "error";
+    puts("error %zu brown fox brown over \n jumps error");
+    puts("quick \0 %s");
+    puts("error value path \x41 value %s");
+    puts("value warning the %zu file over warning warning");
+    puts("fox \x41 jumps");
+    puts("error brown \t brown dog quick \"");
+    puts("\\ dog \0 error lazy path fox");
+    puts("path %d warning dog \n warning %s brown");
+    msg = "warning quick quick warning over path" "value";
+    msg = "%zu %zu \n \" %s \x41 %d %zu" "the";
+    puts("\0 \n dog warning file %zu warning \0 jumps");
+    puts("brown quick brown quick the \t the fox dog %s");
+    puts("the \" \n \\ value path value path");
+    puts("\" the quick");
+    puts("%zu \t \x41 value");
+    msg = "the %zu %d jumps value" "\\ dog fox dog \\ warning error";
+    puts("path warning");
+    c = 'a';
+    puts("\x41 %s \0 \0 dog %zu brown");
+    puts("%s the error the the \x41 brown \0 dog \"");
+    msg = "\\ jumps %zu dog file \0" "%d \\ %zu %d jumps fox fox over";
+    puts("jumps the %s");
+    puts("dog error over the \t quick \0 error");
+    msg = "the jumps value" "over value \n warning dog";
+    puts("value quick \\ brown fox");
+    puts("file quick value file %d value");
+    puts("the warning path file jumps path");
+    puts("over %zu file \n");
+    msg = "fox file value value path" "dog lazy warning file file the \n error";
+    c = '\'';
+    puts("error brown %zu quick %zu over \x41");
+    puts("\n the path fox path the \t file \n \n");
+    puts("\" fox \n \x41");
+    c = '0';
+    msg = "quick \t brown value over the %s" "%zu value fox \0 \" brown";
+    msg = "brown jumps \\ \t \0 the \" %s" "\n brown quick error value warning brown path";
+    msg = "jumps %zu \0 %zu \t quick over \0" "\" the";
+    c = '0';
+    puts("warning fox the \" quick dog");
+    puts("%zu value %d %zu fox");
+    c = '0';
+    puts("fox quick over");
+    puts("file %d jumps value quick \t quick lazy lazy");
+    puts("%zu dog");
+    msg = "brown %zu quick value fox brown fox the over %zu" "dog \n \x41";
+    puts("fox the %zu the jumps file dog brown");
+    puts("error");
+    puts("%zu \n \n brown");
+    puts("jumps the fox value over error \0 %s lazy");
+    c = 'z';
+    puts("\" jumps \t warning");
+    puts("%zu warning path %s %zu %zu error");
+    puts("%d %zu \0 fox the value");
+    puts("\\ %d \t brown dog quick jumps path");
+    puts("file");
+    puts("file fox dog \0 path");
+    puts("value \0");
+    puts("path the file over jumps brown fox \" jumps");
+    c = '\t';
+    puts("value lazy %zu the dog the quick warning dog file");
+    puts("warning jumps brown quick jumps \0 \"");
+    c = '0';
+    msg = "%zu" "\t value file jumps %s path path path path";
+    puts("\n \0 error \n value %s %s over quick over");
+    puts("\\ jumps \\ path path quick");
+    msg = "%s quick value \\ the" "\t %s brown \n file";
+    puts("over value file dog quick lazy warning quick warning");
+    puts("quick lazy brown jumps");
+    puts("warning");
+    puts("\0 %zu value value lazy %d \0 jumps \\ file");
+    c = '0';
+    puts("dog warning jumps dog fox %d %d");
+    c = 'z';
+    puts("\" \" brown over path value value %zu");
+    puts("\" %s \0 fox %s");
+    c = '\t';
+    puts("quick error");
+    puts("%s file path");
+    puts("brown quick warning");
+    puts("quick error %s file %zu value value %zu path warning");
+    msg = "dog value file \t" "%s the \x41 dog";
+    puts("over lazy \\ brown brown \n %d file");
+    c = '\n';
+    puts("%zu path quick \0 error jumps lazy value");
+    c = '\t';
+    puts("\\ the %d value \0 the %d");
+    msg = "file dog brown brown lazy dog" "warning";
+    puts("warning \0 the the \\ brown \n \n lazy");
+    puts("jumps fox error lazy %s \t lazy dog \\");
+    puts("jumps dog error \x41 dog \0 over brown lazy");
+    puts("the file error \x41 error jumps quick \n the jumps");
+    puts("\n the over quick lazy \0 lazy \x41 quick");
+    msg = "the path value error path error" "path error \x41 value file";
+    puts("\t file error %s value path");
+    msg = "%zu quick quick" "error over \n";
+    puts("fox error \0 error quick brown \0 \" brown brown");
+    puts("over %s lazy %zu fox \0 error quick over brown");
+    puts("\\");
+    puts("\" dog fox brown \" brown \t value fox");
+    puts("warning \0 %zu path jumps \x41 brown");
+    puts("\n over path error");
+    msg = "error \t \t file \t brown" "error \t \n %s file lazy jumps %s over \\";
+    msg = "fox the" "fox dog brown \t the";
+    msg = "fox dog dog dog warning %d error value quick jumps" "dog %s dog \" %d jumps file the \" \0";
+    puts("dog %d lazy dog lazy quick \\ jumps %d");
+    puts("path brown %d file %zu error lazy");
+    puts("jumps lazy");
+    msg = "path" "over fox \t jumps \0 \x41";
+    puts("brown lazy %d file fox dog the \t \t file");
+    msg = "warning %zu \t %s" "%zu \n \\ file \"";
+    puts("%s file jumps value \n \" fox lazy brown");
+    puts("over");
+    puts("\\ warning value");
+    puts("lazy");
+    puts("path jumps");
+    puts("\t \\");
+    puts("\\ \\ jumps \n \t %s \"");
+    c = 'z';
+    puts("%s dog path over \x41");
+    puts("warning %zu \t file warning \n brown brown");
+    puts("warning lazy path error %zu");
+    c = '\n';
+    puts("%d \\ brown path brown value %zu value");
+    msg = "jumps the file %zu over %s" "%d value file %d over lazy lazy over the path";
+    puts("quick %d value %s %s file error quick brown");
+    puts("\t warning \0 value jumps");
+    c = '\n';
+    puts("over lazy lazy value path lazy the dog value \\");
+    puts("%d");
+    puts("jumps path \" file \x41 jumps");
+    puts("\\ the file over path lazy value path warning");
+    msg = "dog \\ \0" "dog value";
+    puts("warning");
+    puts("fox \0 lazy jumps \n lazy %d the \n fox");
+    msg = "%s warning" "lazy error dog %s path fox";
+    msg = "%d lazy over jumps fox \" fox" "the quick";
+    puts("\t %zu dog \" the");
+    puts("lazy lazy dog the");
+    puts("path \\ value over \" fox over");
+    puts("warning fox dog warning quick %d %d warning \n path");
+    msg = "lazy %s %zu %s the brown dog \\" "over jumps over path %s quick brown jumps quick";
+    puts("path %d fox \x41 \x41 \0 jumps");
+    puts("warning \t error jumps %d \n \0 \x41 file");
+    puts("path path dog fox fox brown error quick error the");
+    msg = "fox brown \t %d error" "over dog warning";
+    puts("%zu file warning \\ \n over path \n %s lazy");
+    puts("warning path %zu error \0 dog");
+    c = '0';
+    puts("\" value");
+    msg = "fox file" "brown";
+    puts("dog");
+    puts("quick warning %d \t %d");
+    msg = "file \t path over \0 value value path %s error" "fox \n path %d jumps warning \0";
+    puts("fox file over %s %s %zu file over \\");
+    puts("error dog dog \" %d file \x41 \n jumps");
+    puts("quick %d over over path fox error quick over over");
+    puts("\n value %zu");
+    puts("\\ quick %zu over quick quick \\");
+    puts("warning %zu error warning value file warning \n value");
+    c = '\t';
+    puts("fox");
+    puts("fox %s error brown over warning %d");
+    puts("dog jumps %d file");
+    puts("\x41");
+    c = '\'';
+    puts("brown quick fox jumps brown");
+    puts("value %zu warning \x41");
+    puts("fox \\ warning %d the");
+    puts("the warning");
+    msg = "\n jumps %zu brown %d" "the quick \t \0 over jumps quick";
+    puts("value lazy %zu warning");
+    puts("\\ %zu value");
+    puts("\n %d %zu value %s \0 the");
+    puts("warning \n \x41 \0 \0 file");
+    puts("error dog %s %zu %zu");
+    puts("dog over path");
+    puts("the the \x41 \t %zu");
+    puts("error the value dog %s %d the");
+    puts("\0 fox");
+    msg = "path quick error value over" "warning";
+    puts("jumps the fox over brown path \\ \n error fox");
+    msg = "quick value" "brown %d \0 brown fox %zu the";
+    c = '\n';
+    puts("\\ the fox jumps brown warning %zu");
+    c = 'z';
+    c = '\'';
+    msg = "\0 \" path" "%d value lazy the %s %s quick \" warning %zu";
+    c = 'a';
+    msg = "the \\ warning \\ \" \x41 quick %d path file" "path \t \t %zu %zu";
+    msg = "\n file lazy path the \x41" "%d";
+    puts("\\ fox dog over \t");
+    puts("path fox quick fox");
+    msg = "the" "%zu quick lazy brown \t quick";
+    c = '\'';
+    puts("jumps %s fox \x41 \t \n value warning");
+    puts("quick \"");
+    puts("\\ file %d %zu value brown %d %d dog");
+    puts("file value %s");
+    puts("jumps file \n error the warning %zu over file warning");
+    puts("value the brown the %s file brown \\");
+    c = '\'';
+    puts("\\ warning \n");
+    puts("over \" \0 error value");
+    msg = "quick lazy %zu %zu value brown the warning lazy the" "path %zu the value %s lazy %zu %d jumps dog";
+    msg = "quick fox \" %zu" "path jumps";
+    puts("fox");
+    puts("\n warning value %s dog lazy error \0 lazy");
+    puts("warning %zu over lazy dog fox");
+    puts("file fox \n warning dog \n %d %d dog");
+    puts("file %zu file \t warning %zu file jumps lazy");
+    puts("%s \t \x41 warning brown lazy jumps");
+    puts("dog error \x41 fox error path %zu over path path");
+    puts("brown");
+    puts("\\ %d %zu fox the");
+    puts("%s warning jumps");
+    puts("%zu jumps path file fox");
+    puts("quick lazy lazy \n fox");
+    msg = "jumps brown path %s over %zu %zu" "%zu quick error jumps brown value";
+    msg = "over fox over %d the value \0" "dog \\ %s %d \\ warning quick \0 warning";
+    puts("\t over");
+    puts("\n brown file \0");
+    puts("%zu");
+    puts("%zu the warning dog dog warning value");
+    puts("the \x41 quick quick value");
+    msg = "path jumps fox value path %zu file" "\" path fox %zu %s value";
+    puts("%s dog %s \t quick %s lazy value %s");
+    msg = "warning jumps \\ path" "value warning";
+    puts("the file");
+    puts("\0 dog lazy over warning over jumps error over lazy");
+    puts("\\ \x41 %d %d quick \\ error \" the %d");
+    puts("dog %d %d \"");
+    puts("path");
+    msg = "error \0 file dog %zu \\ dog the \0" "error %s \t \x41 quick \" \t quick file %zu";
+    puts("\0 jumps %s over");
+    puts("value value brown error \x41 \t brown \\");
+    puts("quick \\ \n \\ warning fox jumps");
+    puts("\n %zu quick warning \0 \t quick error %d warning");
+    puts("fox \" %d \0 the warning");
+    msg = "file \n jumps" "dog";
+    puts("%s value error \t value dog \n \\ warning");
+    puts("value fox error over \0 \n file");
+    msg = "value the \n dog dog path the" "brown";
+    puts("%zu \\");
+    c = 'z';
+    c = '0';
+    puts("\n dog dog \n jumps");
+    puts("quick");
+    puts("%s");
+    puts("lazy");
+    msg = "file \\ %s lazy warning quick" "file lazy over \x41 dog";
+    puts("error the the over over \\ path %zu over \"");
+    puts("%zu brown");
+    puts("path the error warning");
+    puts("jumps \0 \x41 value the dog path dog");
+    puts("\\ %zu %zu");
+    puts("error");
+    puts("the path \0 over %s fox");
+    msg = "\" jumps" "fox \n jumps brown file the the";
+    c = 'z';
+    msg = "dog \0 value error lazy error %s %zu fox" "jumps \" quick path path";
+    puts("\" jumps value the quick %zu");
+    puts("value");
+    puts("\x41 value over %d");
+    puts("the quick \t jumps \t over");
+    msg = "warning file the dog quick \0 brown" "%d dog path \x41 warning \x41 warning";
+    puts("error value over dog %s fox file path %d dog");
+    puts("quick the %d brown lazy %zu \t error %d fox");
+    puts("file %d fox jumps");
+    puts("\x41 error brown");
+    msg = "value over" "file dog";
+    puts("lazy \" brown %zu");
+    msg = "path warning quick" "warning %s \x41 \n the \x41 \0 %zu";
+    msg = "value error brown jumps fox dog \x41 the %d" "error warning %zu";
+    c = 'a';
+    puts("\" %s error \\ file file");
+    puts("%zu \" the warning \0 fox brown \"");
+    puts("error \" brown %s the \0 \n");
+    msg = "quick \n \\ lazy \0 path" "%s path error %d over value brown";
+    msg = "brown error quick" "dog \t %d lazy %d dog";
+    puts("\x41 \" jumps warning dog error error \t");
+    puts("dog value the brown value");
+    puts("file over the");
+    puts("jumps fox path \" fox dog");
+    msg = "dog quick \\ warning" "%zu %s %s \n \t \n file path quick dog";
+    msg = "%zu file jumps lazy value quick %zu quick over %s" "lazy \n over warning warning lazy quick";
+    puts("dog \t \n dog");
+    puts("%zu quick lazy jumps jumps %zu");
+    puts("brown warning");
+    puts("\0");
+    puts("error jumps brown \\ \n");
+    msg = "\0 brown warning brown \\ %zu lazy %s" "file error value path fox warning file over \n brown";
+    puts("path \n \x41 error value lazy");
+    c = 'z';
+    puts("file path");
+    puts("%d \\");
+    puts("%d over file brown");
+    msg = "warning fox %zu jumps file error" "\x41 \0 path file %d file";
+    puts("brown \0 quick warning brown \x41 jumps brown the");
+    msg = "lazy %d lazy %d \t the %zu over \0" "warning value error";
+    msg = "jumps %s" "value";
+    puts("value file quick");
+    puts("value value jumps value");
+    puts("\" dog lazy path %d quick \" the dog the");
+    puts("quick warning \t file lazy brown lazy");
+    puts("%zu %s fox \\ \t over \n quick warning \\");
+    msg = "quick" "brown quick \x41";
+    puts("\" brown quick jumps \x41 file %zu dog value %d");
+    msg = "error the warning dog \0" "%s";
+    puts("error file");
+    c = '\n';
+    puts("%d path %zu error \" jumps \0 value");
+    puts("fox %s file error quick file fox");
+    puts("dog");
+    puts("\\ the the \" error %d");
+    msg = "\t %d quick warning path value fox fox" "dog path \\ value";
+    puts("path lazy");
+    puts("over jumps \0");
+    puts("warning lazy %s %s path %d %zu brown");
+    c = '\n';
+    puts("\\ %zu dog quick the error \\ lazy");
+    puts("quick error lazy warning \\");
+    c = '\n';
+    msg = "brown dog quick %s" "%s warning file quick fox lazy";
+    puts("jumps \0 the value \0 brown lazy \x41 error");
+    puts("\\ \0 brown warning dog");
+    c = '\'';
+    puts("dog over \" fox lazy fox dog path warning");
+    msg = "path error quick jumps \\ path \" %zu lazy \x41" "jumps";
+    puts("the the jumps jumps");
+    msg = "%d file fox %zu" "\n %s brown";
+    puts("warning %zu over %zu \t");
+    puts("%d the brown brown quick fox path value");
+    puts("error dog over");
+    puts("file the brown \\");
+    msg = "lazy %d \" \0 \t warning" "\n the %d value warning %s over";
+    puts("jumps over value file %zu");
+    puts("jumps lazy %d value");
+    puts("path the \n \x41 jumps fox warning");
+    puts("the dog lazy value path dog");
+    puts("\\ \t");
+    puts("error quick jumps brown error lazy %s");
+    puts("%d the value the \n dog lazy \\ \\");
+    puts("over %d path jumps error error the");
+    puts("%zu path jumps error fox");
+    puts("fox");
+    msg = "over fox dog over lazy \" \t" "\0 warning";
+    puts("quick %s \\ %s \x41");
+    puts("lazy lazy over fox fox file dog");
+    msg = "fox the jumps \0 path value \x41 dog fox error" "brown %s the error the";
+    puts("\" \n error the \x41 \n");
+    puts("jumps value \n value file %d");
+    puts("path path value");
+    c = '\'';
+    puts("file the");
+    puts("%s %s warning value");
+    puts("lazy \0 fox fox \0");
+    msg = "%d error %d %zu fox lazy \" over brown" "value \0 over the";
+    puts("lazy");
+    puts("error path brown");
+    puts("jumps %s jumps %s over value \n over dog %zu");
+    puts("\n %s file \t fox quick %s the");
+    puts("dog error \\ %d %zu value the %zu \t");
+    msg = "path \\ fox %d %zu over" "%s quick";
+    puts("%zu \t warning value the the \"");
+    puts("fox \" lazy dog dog %s");
+    puts("brown");
+    puts("\x41 warning dog path %zu lazy jumps %s \" brown");
+    puts("\\ error warning brown fox dog %s value");
+    msg = "over" "warning \n";
+    puts("path %s \" error over lazy %zu \x41");
+    puts("warning fox dog \x41 dog");
+    puts("\" brown %d dog over");
+    puts("warning quick over the error jumps %d");
+    puts("\n value jumps quick value \" jumps %s fox");
+    puts("warning \" %s %s %s");
+    puts("over");
+    puts("fox \" %s \n \\ quick brown");
+    c = '\'';
+    puts("\0 error dog warning lazy \x41");
+    msg = "fox" "\\ \n";
+    c = 'a';
+    msg = "over %zu brown" "\" over path brown \\ %zu \" \" %s %d";
+    puts("%d file error");
+    msg = "quick %s" "\0 %s lazy \\ \n fox jumps \t \0 fox";
+    puts("%d quick path value");
+    puts("warning jumps jumps jumps error error %d path value the");
+    c = '\\';
+    msg = "lazy over %s dog lazy \t path \n dog" "jumps %zu lazy warning fox value path";
+    c = '\'';
+    c = 'z';
+    puts("error \\ quick");
+    puts("warning brown %zu value error warning over warning");
+    puts("warning error dog");
+    puts("\\");
+    puts("\" \0 value jumps");
+    msg = "\t" "file %zu warning over path warning \\ warning value path";
+    puts("quick");
+    puts("jumps quick \\ %d lazy over");
+    c = '0';
+    puts("dog warning file fox");
+    puts("jumps");
+    puts("\n \x41 \n");
+    puts("fox \n dog %d value \0 fox error \x41");
+    puts("quick \t brown");
+    msg = "\" \\ lazy the" "file over over \0 over %d";
+    msg = "brown %s" "over over over quick \\ the file \0";
+    puts("\t \"");
+    puts("lazy %zu %d %s \t jumps the %d");
+    puts("value the");
+    puts("\" \" lazy value warning");
+    puts("value the");
+    puts("dog %d fox error dog over brown path");
+    puts("value");
+    puts("warning %d error over warning \" \0 \\ \0 jumps");
+    msg = "%zu dog %s over dog lazy the file %s the" "\n \n \\ file warning brown file %s jumps error";
+    puts("path warning the \t");
+    puts("%d \0 %d dog %s %zu");
+    msg = "file %s \0" "quick over fox";
+    puts("%d \0 over over lazy error path");
+    puts("brown fox");
+    puts("%zu the");
+    puts("\" %d \" path %s \\ the brown \t error");
+    puts("file brown value %d fox %s");
+    c = '\\';
+    msg = "the jumps %d value jumps error %s file \n" "%zu over path %zu value value";
+    puts("%s \x41 %s \0 dog over \t warning file");
+    msg = "value lazy" "error dog \\ \n \\ the value over jumps";
+    puts("file the");
+    puts("value %zu over over %s fox");
+    puts("%s quick \n %d error dog lazy");
+    puts("error quick \\ file lazy %d error %zu");
+    puts("brown dog jumps");
+    puts("%s jumps lazy \t \0 the");
+    puts("warning jumps brown %s \x41 file");
+    msg = "%s the dog value path \t quick fox" "\t error";
+    puts("fox warning fox %s %d");
+    puts("fox error %d the brown brown %zu");
+    puts("lazy %d \\ warning over the path error fox %d");
+    c = '\'';
+    puts("the fox %d jumps value \0 jumps");
+    puts("warning the %zu lazy");
+    puts("lazy jumps %zu");
+    puts("\t fox dog value lazy warning");
+    msg = "%s quick over jumps fox" "brown quick \\ brown %d file the lazy warning jumps";
+    puts("path \t \0 value %s error lazy warning %s file");
+    puts("file \t \\ over the the \0 file lazy");
+    puts("%zu");
+    msg = "the brown" "%d brown file \x41 \t warning path";
+    c = '\t';
+    c = '\\';
+    msg = "path %d lazy dog path error %zu" "value path \0 value lazy over fox error fox";
+    msg = "warning file the the %s" "dog the lazy over lazy brown value fox error value";
+    puts("\n jumps lazy quick");
+    puts("%zu over");
+    puts("warning");
+    puts("fox quick lazy \t brown \t");
+    puts("%zu jumps dog");
+    msg = "over lazy" "\0 lazy \n path path path \t %d %s";
+    puts("%s %s");
+    puts("brown \n value file brown");
+    msg = "brown quick brown over quick path %s error the" "%s lazy jumps";
+    puts("%d dog \n \0");
+    puts("%d over path lazy the \t brown \0");
+    puts("warning \0");
+    puts("dog value dog %s \\ value");
+    puts("jumps brown \0 the path");
+    msg = "%zu path lazy %d \t \0 \x41 %zu dog path" "jumps brown lazy %s %zu jumps the fox warning";
+    puts("brown quick path fox quick fox path \x41 quick jumps");
+    puts("lazy \n over path value dog fox");
+    c = '\'';
+    c = 'a';
+    puts("dog \0 error %s fox \n \\ quick \0");
+    puts("warning the %s \0 dog");
+    puts("jumps warning file brown \t over \n fox the");
+    puts("%d %zu");
+    msg = "the brown value %zu %d \" over" "%zu \0 lazy %zu brown";
+    c = 'z';
+    c = '0';
+    msg = "over quick lazy warning path" "%s %zu path fox %s %d quick \" %zu brown";
+    puts("jumps jumps lazy dog brown quick");
+    puts("the jumps lazy warning the fox warning");
+    puts("error the \" warning lazy the");
+    puts("lazy");
+    msg = "error \x41 %zu \n file %s %d" "warning error %d file";
+    puts("%s fox jumps the \n dog error \0 value");
+    puts("jumps %zu jumps warning brown \n dog \0 error brown");
+    puts("over \t jumps dog path the warning file");
+    puts("lazy \0 jumps fox quick error path %d brown dog");
+    puts("over the");
+    msg = "quick quick file fox the" "error %s \" jumps %s dog the \"";
+    puts("%zu path error error file the \\ file");
+    c = '0';
+    puts("\t value");
+    puts("jumps \" fox %d quick %s file over");
+    msg = "%d warning %zu jumps file value file value" "quick";
+    puts("lazy brown warning \0 lazy warning");
+    msg = "jumps \\ \" \0" "\x41 path file";
+    c = '\t';
+    c = '\'';
+    msg = "fox %zu lazy quick file the" "brown \" \" \n fox lazy lazy";
+    puts("brown jumps the brown");
+    msg = "%s \0 %d \\ lazy quick brown \t lazy" "value";
+    puts("fox \t \\ file the error brown the error");
+    msg = "path fox" "\\ \\ over %zu value file dog path error";
+    puts("jumps \t \" over warning \0 jumps");
+    puts("path %s %zu brown path brown path fox");
+    puts("dog fox value the dog path jumps over path");
+    c = 'z';
+    msg = "the \n error jumps over" "%s \t dog \n";
+    c = '\t';
+    puts("value file %d value lazy");
+    c = '\t';
+    msg = "%zu fox \t dog" "fox dog brown the path %zu quick";
+    puts("\\ fox dog %s brown \" brown");
+    puts("over the warning \x41 \t %zu \t warning quick");
+    puts("quick \0 dog dog");
+    c = '\t';
+    puts("path");
+    puts("\x41 dog over over value \0 %d");
+    puts("the lazy quick %d %d warning file brown");
+    puts("%d brown value value");
+    puts("%s %d %zu");
+    puts("brown error quick path");
+    msg = "over over %s" "warning over error brown \n lazy warning \n";
+    puts("warning %d brown lazy warning %s \n fox dog \"");
+    puts("%d error quick %zu dog over jumps %s \" \n");
+    puts("\" %zu %zu quick lazy");
+    puts("warning %s warning warning error \"");
+    puts("error quick path");
+    puts("path dog %s %d over lazy \" \" value \0");
+    msg = "brown fox %d \x41 %s file \0" "file quick path \\ path \x41 dog \n %d";
+    c = '\'';
+    c = 'z';
+    puts("\\ over file lazy");
+    c = 'a';
+    puts("jumps warning");
+    puts("the \n \\ %d dog warning jumps brown");
+    c = 'z';
+    puts("\t");
+    msg = "jumps quick \\ %s %zu jumps \t warning" "\" error \\ lazy";
+    puts("error");
+    puts("fox dog path file fox file fox over");
+    puts("\" %d");
+    puts("\n the jumps \0 %s the");
+    msg = "file warning the %d quick path jumps the the" "value file brown lazy";
+    msg = "dog %d fox the %d the path %d warning" "value";
+    puts("lazy lazy value");
+    puts("fox %s \" fox");
+    puts("path fox file \\ warning \" \n lazy error");
+    msg = "\t fox %s" "path quick fox lazy %zu warning";
+    puts("%zu brown dog fox error dog fox error %zu");
+    c = '\'';
+    puts("quick over %zu jumps \n \\ %zu brown lazy jumps");
+    puts("the over lazy %zu warning path \" warning dog \\");
+    puts("over file value");
+    puts("value the \t %zu");
+    puts("%d quick over path %zu brown %zu");
+    puts("\0 brown %s over %s \x41 \x41 the %zu");
+    puts("\\ \t %d value");
+    puts("warning %zu the dog path over");
+    puts("path brown \"");
+    c = '\'';
+    msg = "\0 dog file quick %d \0 value over" "quick file \0 over the warning brown path";
+    puts("lazy \\");
+    puts("%s warning %zu lazy error path \t the");
+    puts("%d the brown jumps dog");
+    puts("jumps jumps over \n");
+    puts("jumps fox error over value %d value");
+    puts("%zu \0");
+    msg = "warning dog %d the" "quick path \0 lazy quick";
+    puts("brown error %s value value");
+    puts("lazy jumps \0");
+    c = 'z';
+    puts("\0 warning brown \x41");
+    puts("the dog file error \x41 \t path lazy");
+    msg = "error jumps \0 \" \t %zu" "warning value lazy warning lazy quick %d file path";
+    puts("quick the file \" \0 \n %zu dog");
+    c = 'a';
+    puts("file");
+    puts("path lazy value lazy the %d");
+    c = '\'';
+    puts("the brown dog brown fox warning value the warning quick");
+    puts("\0 %zu brown \0 \"");
+    puts("error the fox \\ %d file \\");
+    puts("over \x41");
+    puts("%zu value warning %s quick over \t %s lazy");
+    puts("quick error value");
+    puts("\n quick file file fox");
+    puts("lazy \\ \" lazy %s fox dog the");
+    c = 'z';
+    puts("\" quick");
+    msg = "%s" "\" \x41 \x41 error";
+    puts("path jumps");
+    puts("error");
+    msg = "%zu dog brown \0 file jumps warning \x41 path value" "fox";
+    puts("dog value %s");
+    puts("path");
+    puts("\\ %zu");
+    puts("the quick");
+    puts("the quick lazy %d \x41 error quick");
+    msg = "fox" "\t jumps value warning \n path fox %zu %s quick";
+    puts("\t warning the the");
+    puts("over file dog \x41 \n jumps");
+    puts("path jumps jumps %d");
+    puts("\x41 quick the warning warning \" dog");
+    puts("\x41 %s lazy dog");
+    puts("%s");
+    puts("fox over fox jumps");
+    puts("\0");
+    puts("path path error warning fox %s quick value the warning");
+    puts("file dog %d jumps %d quick %zu");
+    puts("path \" brown file over file lazy \" \" error");
+    puts("quick jumps jumps \t");
+    puts("\x41 path path fox \x41 %zu over jumps the quick");
@@ -0,0 +1,97 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares ByteTokenizer with a Tokenizer reading the same bytes through an InputStreamReader.
+ * Starts and lengths in bytes are turned into chars by decoding the bytes of each token, and
+ * of each gap between tokens, with the JDK decoder. Characters that start no token are left
+ * out, since a supplementary one is one null token for ByteTokenizer and two for Tokenizer.
+ */
+class ByteTokenizerTest {
+
+    @Test
+    void tokensMatchTheTokenizerOnTheCorpora(){
+        for(String name : TestCorpus.RESOURCES){
+            compare(name, TestCorpus.resource(name).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void tokensMatchTheTokenizerOnTokenSoup(){
+        int i = 0;
+        for(String text : TestCorpus.tokenSoup(29, 20000)){
+            compare("soup " + i++, text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void tokensMatchTheTokenizerOnMalformedUtf8(){
+        Random random = new Random(5);
+        byte[] malformed = MappedInputTest.malformedBytes(5, 1 << 16);
+        compare("malformed bytes", MappedInputTest.MALFORMED);
+        int i = 0;
+        for(String text : TestCorpus.tokenSoup(5, 5000)){
+            byte[] soup = text.getBytes(StandardCharsets.UTF_8);
+            byte[] bytes = new byte[soup.length + 16];
+            int cut = random.nextInt(soup.length + 1);
+            int from = random.nextInt(malformed.length - 16);
+            System.arraycopy(soup, 0, bytes, 0, cut);
+            System.arraycopy(malformed, from, bytes, cut, 16);
+            System.arraycopy(soup, cut, bytes, cut + 16, soup.length - cut);
+            compare("malformed soup " + i++, bytes);
+        }
+    }
+
+    @Test
+    void tokensStopAtANulMidFile(){
+        byte[] text = TestCorpus.resource("realistic.c").getBytes(StandardCharsets.UTF_8);
+        for(int cut = 0; cut < text.length; cut += 61){
+            byte[] bytes = new byte[text.length + 1];
+            System.arraycopy(text, 0, bytes, 0, cut);
+            System.arraycopy(text, cut, bytes, cut + 1, text.length - cut);
+            compare("NUL at " + cut, bytes);
+        }
+    }
+
+    private static void compare(String name, byte[] bytes){
+        List<String> expected = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        Token.Type type;
+        do{
+            type = tokenizer.advance();
+            if(type != null){
+                expected.add(type + "@" + tokenizer.getStart() + "+" + tokenizer.getLength() + " " + tokenizer.getLexeme());
+            }
+        } while(type != Token.Type.END);
+
+        List<String> actual = new ArrayList<>();
+        ByteTokenizer bytesTokenizer = new ByteTokenizer(bytes);
+        long chars = 0;
+        int end = 0;
+        do{
+            type = bytesTokenizer.advance();
+            if(type != null){
+                int start = (int) bytesTokenizer.getStart();
+                int length = bytesTokenizer.getLength();
+                chars += decodedLength(bytes, end, start);
+                int charLength = decodedLength(bytes, start, start + length);
+                actual.add(type + "@" + chars + "+" + charLength + " " + bytesTokenizer.getLexeme());
+                chars += charLength;
+                end = start + length;
+            }
+        } while(type != Token.Type.END);
+        assertEquals(expected, actual, name);
+    }
+
+    private static int decodedLength(byte[] bytes, int from, int to){
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8).length();
+    }
+}
@@ -0,0 +1,124 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Edits a text with IncrementalTokenizer and compares its tokens after every edit with those
+ * of a Tokenizer over the edited text, null entries and END included. Most edits start or end
+ * at a token boundary, where a token can merge with its neighbour or an opened string or
+ * comment swallows the tokens after it. The inserted text is token soup, now and then with
+ * NULs, which later edits remove again. The Change of each edit must also account for the difference in tokens, and leave the tokens
+ * before it as they were.
+ */
+class IncrementalTokenizerTest {
+
+    @Test
+    void editsAtTokenBoundariesMatchTheTokenizer(){
+        for(String name : new String[]{"realistic.c", "strings.c", "comments.c"}){
+            String text = TestCorpus.resource(name);
+            edit(name, text.substring(0, Math.min(text.length(), 6000)), 3, 600);
+        }
+    }
+
+    @Test
+    void editsOfTokenSoupMatchTheTokenizer(){
+        StringBuilder text = new StringBuilder();
+        for(String soup : TestCorpus.tokenSoup(47, 300)){
+            text.append(soup.replace('\0', ' '));
+        }
+        edit("soup", text.toString(), 47, 1500);
+    }
+
+    private static void edit(String name, String initial, long seed, int edits){
+        Random random = new Random(seed);
+        List<String> inserts = TestCorpus.tokenSoup(seed, edits);
+        StringBuilder text = new StringBuilder(initial);
+        IncrementalTokenizer incremental = new IncrementalTokenizer(text);
+        List<String> before = tokens(incremental);
+        assertEquals(sequential(text), before, name);
+        for(int e = 0; e < edits; e++){
+            List<int[]> bounds = boundaries(text);
+            int[] token = bounds.get(random.nextInt(bounds.size()));
+            int offset = random.nextBoolean() ? token[0] : token[0] + token[1];
+            int removed;
+            switch(random.nextInt(4)){
+                case 0:
+                    removed = 0;
+                    break;
+                case 1:
+                    removed = Math.min(token[1], text.length() - offset);
+                    break;
+                case 2:
+                    int[] next = bounds.get(Math.min(bounds.size() - 1, bounds.indexOf(token) + 1 + random.nextInt(3)));
+                    removed = Math.max(0, Math.min(next[0] + next[1], text.length()) - offset);
+                    break;
+                default:
+                    offset = random.nextInt(text.length() + 1);
+                    removed = Math.min(random.nextInt(3), text.length() - offset);
+            }
+            String inserted = random.nextInt(3) == 0 ? "" : inserts.get(e);
+            if(random.nextInt(10) != 0){
+                inserted = inserted.replace("\0", "");
+            }
+            int nul = text.indexOf("\0");
+            if(nul >= 0 && random.nextInt(4) == 0){
+                offset = nul;
+                removed = 1;
+                inserted = "";
+            }
+            text.replace(offset, offset + removed, inserted);
+            IncrementalTokenizer.Change change = incremental.edit(offset, removed, inserted);
+
+            String where = name + " after edit " + e + " at " + offset + " removing " + removed;
+            assertEquals(text.toString(), incremental.toString(), where);
+            List<String> after = tokens(incremental);
+            assertEquals(sequential(text), after, where);
+            assertEquals(before.size() - change.getRemovedCount() + change.getInsertedCount(), after.size(), where + ", token count");
+            assertEquals(before.subList(0, change.getStart()), after.subList(0, change.getStart()), where + ", tokens before the change");
+            before = after;
+        }
+    }
+
+    /**
+     * Returns the start and length of every token of a text, END and the characters that
+     * start no token included.
+     */
+    private static List<int[]> boundaries(CharSequence text){
+        List<int[]> bounds = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new StringReader(text.toString()));
+        Token.Type type;
+        do{
+            type = tokenizer.advance();
+            bounds.add(new int[]{(int) tokenizer.getStart(), tokenizer.getLength()});
+        } while(type != Token.Type.END);
+        return bounds;
+    }
+
+    private static List<String> sequential(CharSequence text){
+        List<String> tokens = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new StringReader(text.toString()));
+        Token token;
+        do{
+            token = tokenizer.nextToken();
+            tokens.add(describe(token));
+        } while(token == null || token.getType() != Token.Type.END);
+        return tokens;
+    }
+
+    private static List<String> tokens(IncrementalTokenizer incremental){
+        List<String> tokens = new ArrayList<>();
+        for(int i = 0; i < incremental.getTokenCount(); i++){
+            tokens.add(describe(incremental.getToken(i)));
+        }
+        return tokens;
+    }
+
+    private static String describe(Token token){
+        return token == null ? "null" : token.getType() + "@" + token.getPosition() + " " + token.getLexeme();
+    }
+}
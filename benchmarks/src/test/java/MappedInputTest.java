@@ -0,0 +1,92 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that MappedInput decodes malformed UTF-8 to the same characters as the JDK decoder,
+ * so that a file lexed from its path gives the same tokens at the same offsets as the file
+ * lexed through an InputStreamReader.
+ */
+class MappedInputTest {
+    static final byte[] MALFORMED = bytes(0x61, 0xE0, 0x80, 0x41, 0x62, 0x20, 0xF0, 0x90, 0x80, 0x63, 0x20, 0x64, 0xED, 0xA0, 0x80, 0x65, 0x0A);
+
+    private static final int[] MALFORMED_PARTS = {
+            0x00, 0x0A, 0x20, 0x41, 0x7F, 0x80, 0x8F, 0x90, 0x9F, 0xA0, 0xBF, 0xC0, 0xC1, 0xC2, 0xDF, 0xE0,
+            0xE1, 0xEC, 0xED, 0xEE, 0xEF, 0xF0, 0xF1, 0xF3, 0xF4, 0xF5, 0xFF};
+
+    @Test
+    void malformedSequencesAreReplacedLikeTheJdkDoes(@TempDir Path dir) throws IOException {
+        Path file = Files.write(dir.resolve("malformed.c"), MALFORMED);
+        List<String> expected = Arrays.asList("IDENTIFIER@0+1 a", "IDENTIFIER@3+2 Ab", "IDENTIFIER@7+1 c", "IDENTIFIER@9+1 d", "IDENTIFIER@11+1 e");
+        assertEquals(expected, identifiers(new Tokenizer(file)));
+        assertEquals(expected, identifiers(new Tokenizer(new InputStreamReader(new ByteArrayInputStream(MALFORMED), StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void randomBytesDecodeLikeTheJdk(@TempDir Path dir) throws IOException {
+        byte[] bytes = malformedBytes(7, 1 << 20);
+        Path file = Files.write(dir.resolve("random.c"), bytes);
+        String expected = new String(bytes, StandardCharsets.UTF_8);
+        try(MappedInput input = new MappedInput(file)){
+            assertEquals(expected, read(input));
+        }
+    }
+
+    /**
+     * Generates bytes made mostly of the bytes that lead, continue or break UTF-8 sequences at
+     * the edges of their ranges, with random bytes among them.
+     * @param seed the seed of the generator
+     * @param count the number of bytes
+     * @return the bytes
+     */
+    static byte[] malformedBytes(long seed, int count){
+        Random random = new Random(seed);
+        byte[] bytes = new byte[count];
+        for(int i = 0; i < count; i++){
+            bytes[i] = (byte) (random.nextInt(3) == 0 ? random.nextInt(256) : MALFORMED_PARTS[random.nextInt(MALFORMED_PARTS.length)]);
+        }
+        return bytes;
+    }
+
+    private static List<String> identifiers(Tokenizer tokenizer){
+        List<String> tokens = new ArrayList<>();
+        Token.Type type;
+        while((type = tokenizer.advance()) != Token.Type.END){
+            if(type == Token.Type.IDENTIFIER){
+                tokens.add(type + "@" + tokenizer.getStart() + "+" + tokenizer.getLength() + " " + tokenizer.getLexeme());
+            }
+        }
+        return tokens;
+    }
+
+    private static String read(Reader in) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[4096];
+        int n;
+        while((n = in.read(buffer, 0, buffer.length)) >= 0){
+            text.append(buffer, 0, n);
+        }
+        return text.toString();
+    }
+
+    private static byte[] bytes(int... values){
+        byte[] bytes = new byte[values.length];
+        for(int i = 0; i < values.length; i++){
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,78 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that reading a Tokenizer with nextTokens until the first empty batch gives the same
+ * tokens as advance until END, for batches of several sizes, on the corpora with and without
+ * NUL characters cut into them.
+ */
+class NextTokensTest {
+    private static final int[] BATCH_SIZES = {1, 2, 7, 64, 4096};
+
+    @Test
+    void batchesMatchAdvanceOnTheCorpora(){
+        for(String name : TestCorpus.RESOURCES){
+            compare(name, TestCorpus.resource(name));
+        }
+    }
+
+    @Test
+    void batchesStopAtTheFirstNul(){
+        Random random = new Random(12);
+        for(String name : TestCorpus.RESOURCES){
+            String text = TestCorpus.resource(name);
+            for(int i = 0; i < 20; i++){
+                StringBuilder cut = new StringBuilder(text);
+                for(int k = 1 + random.nextInt(3); k > 0; k--){
+                    cut.insert(random.nextInt(cut.length() + 1), '\0');
+                }
+                compare(name + " with NULs, run " + i, cut.toString());
+            }
+        }
+        for(String fragment : TestCorpus.numberFragments(12, 2000)){
+            compare("\"" + fragment.replace("\0", "\\0") + "\"", fragment + " a \0 b c d");
+        }
+    }
+
+    @Test
+    void batchesStayEmptyUntilReset(){
+        Tokenizer tokenizer = new Tokenizer(new StringReader("a \0 b c d"));
+        TokenBatch batch = new TokenBatch();
+        assertEquals(1, tokenizer.nextTokens(batch, 16));
+        for(int i = 0; i < 3; i++){
+            assertEquals(0, tokenizer.nextTokens(batch, 16));
+            assertEquals(0, batch.size());
+        }
+        tokenizer.reset(new StringReader("b c"));
+        assertEquals(2, tokenizer.nextTokens(batch, 16));
+    }
+
+    private static void compare(String name, String text){
+        List<String> expected = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new StringReader(text));
+        Token.Type type;
+        while((type = tokenizer.advance()) != Token.Type.END){
+            if(type != null){
+                expected.add(type + "@" + tokenizer.getStart() + "+" + tokenizer.getLength());
+            }
+        }
+        for(int size : BATCH_SIZES){
+            List<String> actual = new ArrayList<>();
+            tokenizer = new Tokenizer(new StringReader(text));
+            TokenBatch batch = new TokenBatch(size);
+            while(tokenizer.nextTokens(batch, size) > 0){
+                for(int i = 0; i < batch.size(); i++){
+                    actual.add(batch.getType(i) + "@" + batch.getStart(i) + "+" + batch.getLength(i));
+                }
+            }
+            assertEquals(0, tokenizer.nextTokens(batch, size), name + " after the last batch");
+            assertEquals(expected, actual, name + " in batches of " + size);
+        }
+    }
+}
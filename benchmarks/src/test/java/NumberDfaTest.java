@@ -0,0 +1,284 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares NumberDfa with the switch-based number scanner it replaced, kept here as
+ * LegacyNumberScanner: every transition on every char, and every number token the Tokenizer
+ * lexes from the corpora and from generated number fragments.
+ */
+class NumberDfaTest {
+
+    @Test
+    void transitionsMatchTheSwitchOnEveryChar(){
+        for(int state = 2; state <= 20; state++){
+            for(int c = 0; c <= Character.MAX_VALUE; c++){
+                int expected = LegacyNumberScanner.next(state, (char) c);
+                int actual = NumberDfa.next(state, (char) c);
+                if(expected != actual){
+                    assertEquals(expected, actual, "state " + state + " on U+" + Integer.toHexString(c));
+                }
+            }
+        }
+    }
+
+    @Test
+    void acceptMatchesTheSwitchInEveryEndState(){
+        for(int state = -2; state >= -20; state--){
+            assertEquals(LegacyNumberScanner.accept(state), NumberDfa.accept(state), "state " + state);
+        }
+    }
+
+    @Test
+    void numberTokensMatchTheSwitchScanner(){
+        List<String> texts = new ArrayList<>(TestCorpus.numberFragments(6, 200000));
+        for(String name : TestCorpus.RESOURCES){
+            texts.add(TestCorpus.resource(name));
+        }
+        long compared = 0;
+        for(String text : texts){
+            compared += compareNumbers(text);
+        }
+        assertTrue(compared > 100000, "only " + compared + " number tokens compared");
+    }
+
+    /**
+     * Lexes a text and checks each token that starts with a digit or '.' against the legacy
+     * scanner started at the same offset.
+     * @return the number of tokens checked
+     */
+    private static long compareNumbers(String text){
+        Tokenizer tokenizer = new Tokenizer(new StringReader(text));
+        long compared = 0;
+        Token.Type type;
+        while((type = tokenizer.advance()) != Token.Type.END){
+            int start = (int) tokenizer.getStart();
+            char first = text.charAt(start);
+            if(!Character.isDigit(first) && first != '.'){
+                continue;
+            }
+            LegacyNumberScanner.Scan expected = LegacyNumberScanner.scan(text, start);
+            String where = "at " + start + " of " + describe(text, start);
+            assertEquals(expected.type, type, where);
+            assertEquals(expected.end - start, tokenizer.getLength(), where);
+            assertEquals(expected.lexeme, tokenizer.getLexeme().toString(), where);
+            compared++;
+        }
+        return compared;
+    }
+
+    private static String describe(String text, int start){
+        String near = text.substring(start, Math.min(text.length(), start + 20));
+        return '"' + near.replace("\0", "\\0").replace("\n", "\\n") + '"';
+    }
+
+    /**
+     * The number scanner of the Tokenizer before NumberDfa, with its switch over the states
+     * and its HashSets of hex letters and punctuators, reading a String instead of the input.
+     */
+    private static final class LegacyNumberScanner {
+        private static final Set<Character> HEX = chars("ABCDEFabcdef");
+        private static final Set<Character> PUNCTUATORS = chars("[](){}-+&*~!|/%<>=^?:;,");
+
+        /**
+         * The result of scanning one number token.
+         */
+        static final class Scan {
+            final Token.Type type;
+            final int end;
+            final String lexeme;
+
+            Scan(Token.Type type, int end, String lexeme){
+                this.type = type;
+                this.end = end;
+                this.lexeme = lexeme;
+            }
+        }
+
+        /**
+         * Scans the number, period or ellipsis starting at an offset, the way the old
+         * checkConstantNumbers did.
+         * @param text the text
+         * @param start the offset of a digit or '.'
+         * @return the type, end and lexeme of the token
+         */
+        static Scan scan(String text, int start){
+            char c = at(text, start);
+            int pos = start + 1;
+            int state;
+            if(c == '.'){
+                state = 4;
+                c = at(text, pos);
+                char d = at(text, pos + 1);
+                if(c == '.' && d == '.'){
+                    return new Scan(Token.Type.VARIADIC, pos + 2, "...");
+                }
+                else if(!Character.isDigit(c)){
+                    return new Scan(Token.Type.PERIOD, pos, ".");
+                }
+            }
+            else{
+                char d = at(text, pos);
+                state = c == '0' && Character.isDigit(d) ? 9 : 2;
+            }
+            c = at(text, pos++);
+            while(state > 0){
+                state = next(state, c);
+                if(state > 0){
+                    c = at(text, pos++);
+                }
+            }
+            pos--;
+            if(state == -3){
+                return new Scan(Token.Type.INTEGER_CONSTANT, pos, "0");
+            }
+            return new Scan(accept(state), pos, text.substring(start, pos));
+        }
+
+        /**
+         * Returns the state reached from a state on a character.
+         */
+        static int next(int state, char c){
+            switch(state){
+                case 2:
+                    if(Character.isDigit(c))
+                        return 2;
+                    else if(c == 'e' || c == 'E')
+                        return 5;
+                    else if(c == '.')
+                        return 3;
+                    else if(isIntSuffix(c))
+                        return 12;
+                    return -2;
+                case 3:
+                    return Character.isDigit(c) ? 8 : -3;
+                case 4:
+                    return Character.isDigit(c) ? 3 : -4;
+                case 5:
+                    if(Character.isDigit(c))
+                        return 6;
+                    else if(c == '-' || c == '+')
+                        return 7;
+                    return -5;
+                case 6:
+                    if(Character.isDigit(c))
+                        return 6;
+                    else if(isFloatSuffix(c))
+                        return 19;
+                    return -6;
+                case 7:
+                    return Character.isDigit(c) ? 6 : -7;
+                case 8:
+                    if(Character.isDigit(c))
+                        return 8;
+                    else if(c == 'e' || c == 'E')
+                        return 5;
+                    else if(isFloatSuffix(c))
+                        return 19;
+                    return -8;
+                case 9:
+                    return c == 'x' || c == 'X' ? 11 : 10;
+                case 10:
+                    int num = c - '0';
+                    if(Character.isDigit(c) && num < 7)
+                        return 10;
+                    else if(isIntSuffix(c))
+                        return 12;
+                    return -10;
+                case 11:
+                    if(Character.isDigit(c) || HEX.contains(c))
+                        return 11;
+                    else if(isIntSuffix(c))
+                        return 12;
+                    return -11;
+                case 12:
+                    if(c == 'U')
+                        return 13;
+                    else if(c == 'u')
+                        return 14;
+                    else if(c == 'L')
+                        return 15;
+                    else if(c == 'l')
+                        return 16;
+                    return PUNCTUATORS.contains(c) ? -2 : -12;
+                case 13:
+                    if(c == 'L')
+                        return 15;
+                    return PUNCTUATORS.contains(c) ? -2 : -12;
+                case 14:
+                    if(c == 'l')
+                        return 16;
+                    return PUNCTUATORS.contains(c) ? -2 : -12;
+                case 15:
+                    if(c == 'L')
+                        return 17;
+                    return PUNCTUATORS.contains(c) ? -2 : -12;
+                case 16:
+                    if(c == 'l')
+                        return 18;
+                    return PUNCTUATORS.contains(c) ? -2 : -12;
+                case 17:
+                    return -2;
+                case 18:
+                    return PUNCTUATORS.contains(c) ? -2 : -12;
+                case 19:
+                    return PUNCTUATORS.contains(c) ? -6 : -12;
+                case 20:
+                    return -6;
+                default:
+                    throw new IllegalArgumentException("state " + state);
+            }
+        }
+
+        /**
+         * Returns the Token type of a constant whose scan ended in a state.
+         */
+        static Token.Type accept(int state){
+            switch(-state){
+                case 2:
+                case 3:
+                    return Token.Type.INTEGER_CONSTANT;
+                case 4:
+                    return Token.Type.PERIOD;
+                case 6:
+                case 8:
+                    return Token.Type.FLOAT_CONSTANT;
+                case 10:
+                    return Token.Type.BAD_OCTAL;
+                case 11:
+                    return Token.Type.BAD_HEX;
+                case 12:
+                    return Token.Type.BAD_SUFFIX_TOKEN;
+                default:
+                    return Token.Type.BAD_FLOAT;
+            }
+        }
+
+        private static boolean isIntSuffix(char c){
+            return c == 'l' || c == 'L' || c == 'u' || c == 'U';
+        }
+
+        private static boolean isFloatSuffix(char c){
+            return c == 'f' || c == 'F' || c == 'l' || c == 'L';
+        }
+
+        private static char at(String text, int i){
+            return i < text.length() ? text.charAt(i) : 0;
+        }
+
+        private static Set<Character> chars(String s){
+            Set<Character> set = new HashSet<>();
+            for(char c : s.toCharArray()){
+                set.add(c);
+            }
+            return set;
+        }
+    }
+}
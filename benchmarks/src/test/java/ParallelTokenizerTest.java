@@ -0,0 +1,125 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compares the tokens of ParallelTokenizer with those of one sequential Tokenizer over the
+ * same bytes, null entries and END included, on files large enough to be cut into several
+ * chunks: the corpora, token soup, strings, character constants and comments that span the
+ * chunk boundaries, a NUL before and after a boundary, and malformed UTF-8 between lines.
+ */
+class ParallelTokenizerTest {
+    private static final int SIZE = 4 << 20;
+    private static final int[] PARALLELISM = {1, 4};
+
+    @Test
+    void corporaMatchTheSequentialTokens(@TempDir Path dir) throws IOException {
+        StringBuilder text = new StringBuilder();
+        while(text.length() < SIZE){
+            for(String name : TestCorpus.RESOURCES){
+                text.append(TestCorpus.resource(name));
+            }
+        }
+        compare(dir, "corpora", text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void tokenSoupMatchesTheSequentialTokens(@TempDir Path dir) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for(String soup : TestCorpus.tokenSoup(41, 400000)){
+            text.append(soup.replace('\0', ' '));
+            if(text.length() > SIZE){
+                break;
+            }
+        }
+        compare(dir, "soup", text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void tokensAcrossChunkBoundariesMatchTheSequentialTokens(@TempDir Path dir) throws IOException {
+        String[][] spans = {{"\"", "\""}, {"'", "'"}, {"/*", "*/"}, {"/* \" ", " \" */"}, {"\"\\\\", "\\\"\""}};
+        String lines = TestCorpus.resource("realistic.c");
+        for(String[] span : spans){
+            StringBuilder text = new StringBuilder();
+            for(int quarter = 1; quarter <= 3; quarter++){
+                while(text.length() < SIZE * quarter / 4 - 100000){
+                    text.append(lines);
+                }
+                text.append(span[0]);
+                while(text.length() < SIZE * quarter / 4 + 100000){
+                    text.append("int a = b;\n");
+                }
+                text.append(span[1]);
+            }
+            while(text.length() < SIZE){
+                text.append(lines);
+            }
+            compare(dir, span[0] + " to " + span[1], text.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void tokensStopAtANul(@TempDir Path dir) throws IOException {
+        String lines = TestCorpus.resource("realistic.c");
+        StringBuilder text = new StringBuilder();
+        while(text.length() < SIZE){
+            text.append(lines);
+        }
+        for(int cut : new int[]{SIZE / 3, SIZE / 2 + 7}){
+            StringBuilder withNul = new StringBuilder(text);
+            withNul.insert(cut, '\0');
+            compare(dir, "NUL at " + cut, withNul.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void malformedUtf8MatchesTheReader(@TempDir Path dir) throws IOException {
+        byte[] lines = TestCorpus.resource("realistic.c").getBytes(StandardCharsets.UTF_8);
+        byte[] malformed = MappedInputTest.malformedBytes(43, 1 << 16);
+        byte[] bytes = new byte[SIZE];
+        int n = 0;
+        int m = 0;
+        while(n < bytes.length){
+            int count = Math.min(lines.length, bytes.length - n);
+            System.arraycopy(lines, 0, bytes, n, count);
+            n += count;
+            for(int k = 0; k < 40 && n < bytes.length; k++, m++){
+                byte b = malformed[m % malformed.length];
+                bytes[n++] = b == 0 ? (byte) ' ' : b;
+            }
+        }
+        compare(dir, "malformed", bytes);
+    }
+
+    private static void compare(Path dir, String name, byte[] bytes) throws IOException {
+        Path file = Files.write(dir.resolve("source.c"), bytes);
+        List<String> expected = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        Token token;
+        do{
+            token = tokenizer.nextToken();
+            expected.add(describe(token));
+        } while(token == null || token.getType() != Token.Type.END);
+        for(int parallelism : PARALLELISM){
+            List<String> actual = new ArrayList<>();
+            for(Token t : new ParallelTokenizer(file, parallelism).tokenize()){
+                actual.add(describe(t));
+            }
+            assertEquals(expected, actual, name + " with parallelism " + parallelism);
+        }
+    }
+
+    private static String describe(Token token){
+        return token == null ? "null" : token.getType() + "@" + token.getPosition() + " " + token.getLexeme();
+    }
+}
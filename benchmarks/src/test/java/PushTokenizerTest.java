@@ -0,0 +1,111 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feeds sources to PushTokenizer in chunks and compares the Tokens it hands over with those
+ * of a Tokenizer over the same bytes, leaving out END and the characters that start no token
+ * as PushTokenizer does. Chunks of one byte split every UTF-8 sequence and every token, and
+ * chunks of random sizes end anywhere in strings and comments. The sources are the corpora,
+ * token soup with NULs, malformed UTF-8 and texts with a NUL mid-file.
+ */
+class PushTokenizerTest {
+
+    @Test
+    void oneByteChunksMatchTheTokenizerOnTheCorpora(){
+        for(String name : TestCorpus.RESOURCES){
+            byte[] bytes = TestCorpus.resource(name).getBytes(StandardCharsets.UTF_8);
+            compare(name, bytes, new Random(0), 1);
+        }
+    }
+
+    @Test
+    void randomChunksMatchTheTokenizerOnTheCorpora(){
+        Random random = new Random(19);
+        for(String name : TestCorpus.RESOURCES){
+            byte[] bytes = TestCorpus.resource(name).getBytes(StandardCharsets.UTF_8);
+            for(int run = 0; run < 5; run++){
+                compare(name + " run " + run, bytes, random, 1 + random.nextInt(5000));
+            }
+        }
+    }
+
+    @Test
+    void chunksMatchTheTokenizerOnTokenSoup(){
+        Random random = new Random(37);
+        int i = 0;
+        for(String text : TestCorpus.tokenSoup(37, 5000)){
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            compare("soup " + i, bytes, random, 1);
+            compare("soup " + i++, bytes, random, 1 + random.nextInt(16));
+        }
+    }
+
+    @Test
+    void chunksMatchTheTokenizerOnMalformedUtf8(){
+        Random random = new Random(53);
+        compare("malformed bytes", MappedInputTest.MALFORMED, random, 1);
+        byte[] malformed = MappedInputTest.malformedBytes(53, 1 << 16);
+        for(int from = 0; from + 256 <= malformed.length; from += 256){
+            byte[] bytes = new byte[256];
+            System.arraycopy(malformed, from, bytes, 0, bytes.length);
+            for(int k = 0; k < bytes.length; k++){
+                if(bytes[k] == 0){
+                    bytes[k] = 'a';
+                }
+            }
+            compare("malformed " + from, bytes, random, 1);
+            compare("malformed " + from, bytes, random, 1 + random.nextInt(8));
+        }
+    }
+
+    @Test
+    void chunksStopAtANulMidFile(){
+        Random random = new Random(59);
+        byte[] text = TestCorpus.resource("realistic.c").getBytes(StandardCharsets.UTF_8);
+        for(int cut = 0; cut < text.length; cut += 173){
+            byte[] bytes = new byte[text.length + 1];
+            System.arraycopy(text, 0, bytes, 0, cut);
+            System.arraycopy(text, cut, bytes, cut + 1, text.length - cut);
+            compare("NUL at " + cut, bytes, random, 1);
+            compare("NUL at " + cut, bytes, random, 1 + random.nextInt(300));
+        }
+    }
+
+    /**
+     * Feeds the bytes in chunks of random sizes up to a maximum, and compares the Tokens.
+     */
+    private static void compare(String name, byte[] bytes, Random random, int maxChunk){
+        List<String> expected = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        Token token;
+        while((token = tokenizer.nextToken()) == null || token.getType() != Token.Type.END){
+            if(token != null){
+                expected.add(describe(token));
+            }
+        }
+
+        List<String> actual = new ArrayList<>();
+        PushTokenizer push = new PushTokenizer(t -> actual.add(describe(t)));
+        int fed = 0;
+        while(fed < bytes.length){
+            int size = Math.min(bytes.length - fed, 1 + random.nextInt(maxChunk));
+            push.feed(ByteBuffer.wrap(bytes, fed, size));
+            fed += size;
+        }
+        push.finish();
+        assertEquals(expected, actual, name + " in chunks of up to " + maxChunk + " bytes");
+    }
+
+    private static String describe(Token token){
+        return token.getType() + "@" + token.getPosition() + " " + token.getLexeme();
+    }
+}
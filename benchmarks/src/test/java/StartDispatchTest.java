@@ -0,0 +1,347 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the Tokenizer, which picks the scanner for a token from the class CharScan gives
+ * its first character, with ChainLexer, the lexer it replaced, which tried each scanner in
+ * turn until one matched. Both must give the same types, starts, lengths and lexemes on the
+ * corpora, on generated token soup and on every BMP character at the start of a token.
+ */
+class StartDispatchTest {
+    private static final String[] SUFFIXES = {
+            "", "a", "1", ".", "..", "=", "*", "/", "\"", "'", ">", "<", "&", "|", "+", "-", ":", "%",
+            "\\", "😀", "٣"};
+
+    @Test
+    void tokensMatchTheChainOnTheCorpora(){
+        for(String name : TestCorpus.RESOURCES){
+            compare(name, TestCorpus.resource(name));
+        }
+    }
+
+    @Test
+    void tokensMatchTheChainOnTokenSoup(){
+        for(String text : TestCorpus.tokenSoup(25, 50000)){
+            compare("soup", text);
+        }
+    }
+
+    @Test
+    void tokensMatchTheChainForEveryFirstCharacter(){
+        for(int c = 1; c <= Character.MAX_VALUE; c++){
+            StringBuilder text = new StringBuilder();
+            for(String suffix : SUFFIXES){
+                text.append((char) c).append(suffix).append('\n');
+            }
+            compare("U+" + Integer.toHexString(c), text.toString());
+        }
+    }
+
+    private static void compare(String name, String text){
+        List<String> expected = new ArrayList<>();
+        ChainLexer chain = new ChainLexer(text);
+        Token.Type type;
+        do{
+            type = chain.advance();
+            expected.add(type + "@" + chain.start + "+" + chain.length() + " " + chain.lexeme());
+        } while(type != Token.Type.END);
+
+        List<String> actual = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new StringReader(text));
+        do{
+            type = tokenizer.advance();
+            actual.add(type + "@" + tokenizer.getStart() + "+" + tokenizer.getLength() + " " + tokenizer.getLexeme());
+        } while(type != Token.Type.END);
+        assertEquals(expected, actual, name);
+    }
+
+    /**
+     * The lexer of the Tokenizer before the scanners were picked by the first character: a
+     * chain of checks, each of which claims the token or returns null for the next to try.
+     * Only the lexing is kept, with the NUL handling of the current Tokenizer.
+     */
+    private static final class ChainLexer {
+        private final InputWindow input;
+        private long start;
+        private int lexemeLength;
+        private String fixedLexeme;
+
+        ChainLexer(String text){
+            this.input = new InputWindow(new StringReader(text));
+        }
+
+        int length(){
+            return (int) (this.input.position() - this.start);
+        }
+
+        String lexeme(){
+            if(this.fixedLexeme != null){
+                return this.fixedLexeme;
+            }
+            return new String(this.input.buffer(), this.input.markIndex(), this.lexemeLength);
+        }
+
+        Token.Type advance(){
+            char c;
+            Token.Type type;
+
+            this.input.skipRun(CharScan.SPACE);
+            this.input.mark();
+            this.start = this.input.position();
+            this.lexemeLength = 0;
+            this.fixedLexeme = null;
+
+            c = this.input.next();
+            if((int) c == 0){
+                this.input.end();
+                return setLexeme("EOF", Token.Type.END);
+            }
+
+            this.lexemeLength++;
+
+            type = checkConstantNumbers(c);
+            if(type != null){
+                return type;
+            }
+            type = checkConstantString(c);
+            if(type != null){
+                return type;
+            }
+            type = checkConstantChar(c);
+            if(type != null){
+                return type;
+            }
+            type = checkBlockComment(c);
+            if(type != null){
+                return type;
+            }
+            type = checkLineComment(c);
+            if(type != null){
+                return type;
+            }
+            type = checkPunctuators(c);
+            if(type != null){
+                return type;
+            }
+            return checkIdentifier(c);
+        }
+
+        private Token.Type checkConstantNumbers(char c){
+            int state;
+            if(Character.isDigit(c) || c == '.'){
+                if(c == '.'){
+                    state = 4;
+                    c = this.input.peek(0);
+                    char d = this.input.peek(1);
+                    if(c == '.' && d == '.'){
+                        return accept(2, Token.Type.VARIADIC);
+                    }
+                    else if(!Character.isDigit(c)){
+                        return Token.Type.PERIOD;
+                    }
+                }
+                else {
+                    char d = this.input.peek(0);
+                    state = c == '0' && Character.isDigit(d) ? 9 : 2;
+                }
+
+                c = this.input.next();
+                while(state > 0){
+                    state = NumberDfa.next(state, c);
+                    if(state > 0){
+                        this.lexemeLength++;
+                        c = this.input.next();
+                    }
+                }
+                this.input.unread();
+                if(state == -3){
+                    return setLexeme("0", Token.Type.INTEGER_CONSTANT);
+                }
+                return NumberDfa.accept(state);
+            }
+            return null;
+        }
+
+        private Token.Type checkConstantString(char c){
+            if(c == '"'){
+                return skipQuoted('"') ? Token.Type.STRING_CONSTANT : Token.Type.BAD_STRING;
+            }
+            return null;
+        }
+
+        private Token.Type checkConstantChar(char c){
+            if(c == '\''){
+                return skipQuoted('\'') ? Token.Type.CHAR_CONSTANT : Token.Type.BAD_CHAR;
+            }
+            return null;
+        }
+
+        private boolean skipQuoted(char quote){
+            char c;
+            while((c = this.input.skipPast(quote)) == quote && isEscaped()){
+                //Escaped quote, keep looking.
+            }
+            this.lexemeLength = c == 0 ? this.input.sinceMark() - 1 : this.input.sinceMark();
+            return c != 0;
+        }
+
+        private Token.Type checkBlockComment(char c){
+            if(c == '/' && this.input.peek(0) == '*'){
+                this.input.next();
+                this.lexemeLength++;
+                while(this.input.skipPast('*') != 0){
+                    if(this.input.peek(0) == '/'){
+                        this.input.next();
+                        return Token.Type.BLOCK_COMMENT;
+                    }
+                }
+                return Token.Type.BAD_COMMENT;
+            }
+            return null;
+        }
+
+        private Token.Type checkLineComment(char c){
+            if(c == '/' && this.input.peek(0) == '/'){
+                this.input.next();
+                this.lexemeLength++;
+                this.input.skipPast('\n');
+                return Token.Type.LINE_COMMENT;
+            }
+            return null;
+        }
+
+        private Token.Type checkIdentifier(char c){
+            if(Character.isAlphabetic(c) || c == '_' || c == '$'){
+                this.lexemeLength += this.input.skipRun(CharScan.IDENTIFIER_PART);
+                Token.Type keyword = Tokenizer.KEYWORD_TABLE.lookup(this.input.buffer(), this.input.markIndex(), this.lexemeLength);
+                return keyword != null ? keyword : Token.Type.IDENTIFIER;
+            }
+            return null;
+        }
+
+        private Token.Type checkPunctuators(char c){
+            char first = this.input.peek(0);
+            char second;
+            switch(c){
+                case '[':
+                    return Token.Type.OPEN_BRACKET;
+                case ']':
+                    return Token.Type.CLOSE_BRACKET;
+                case '(':
+                    return Token.Type.OPEN_PARENT;
+                case ')':
+                    return Token.Type.CLOSE_PARENT;
+                case '{':
+                    return Token.Type.OPEN_BRACE;
+                case '}':
+                    return Token.Type.CLOSE_BRACE;
+                case '.':
+                    return first == '.' ? accept(1, Token.Type.BAD_PUNCTUATOR) : null;
+                case '-':
+                    if(first == '>')
+                        return accept(1, Token.Type.ARROW);
+                    else if(first == '-')
+                        return accept(1, Token.Type.DECREMENT);
+                    else if(first == '=')
+                        return accept(1, Token.Type.MINUS_EQUALS);
+                    return Token.Type.SUB_OP;
+                case '+':
+                    if(first == '+')
+                        return accept(1, Token.Type.INCREMENT);
+                    else if(first == '=')
+                        return accept(1, Token.Type.PLUS_EQUALS);
+                    return Token.Type.ADD_OP;
+                case '*':
+                    return first == '=' ? accept(1, Token.Type.MULT_EQUALS) : Token.Type.MULT_OP;
+                case '/':
+                    return first == '=' ? accept(1, Token.Type.DIV_EQUALS) : Token.Type.DIV_OP;
+                case '%':
+                    second = this.input.peek(1);
+                    char third = this.input.peek(2);
+                    if(first == ':' && second == '%' && third == ':')
+                        return accept(3, Token.Type.PERCENT_COLON_PERCENT_COLON);
+                    else if(first == '=')
+                        return accept(1, Token.Type.MOD_EQUALS);
+                    else if(first == ':')
+                        return accept(1, Token.Type.PERCENT_COLON);
+                    else if(first == '>')
+                        return accept(1, Token.Type.RIGHT_ANGLE_PERCENT);
+                    return Token.Type.MOD_OP;
+                case '&':
+                    if(first == '&')
+                        return accept(1, Token.Type.LOG_AND);
+                    else if(first == '=')
+                        return accept(1, Token.Type.ASSIGN_AND);
+                    return Token.Type.BIT_AND;
+                case '~':
+                    return Token.Type.BIT_NOT;
+                case '!':
+                    return first == '=' ? accept(1, Token.Type.NOT_EQUAL) : Token.Type.LOG_NOT;
+                case '^':
+                    return first == '=' ? accept(1, Token.Type.ASSIGN_XOR) : Token.Type.BIT_XOR;
+                case '|':
+                    if(first == '|')
+                        return accept(1, Token.Type.LOG_OR);
+                    else if(first == '=')
+                        return accept(1, Token.Type.ASSIGN_OR);
+                    return Token.Type.BIT_OR;
+                case '<':
+                    second = this.input.peek(1);
+                    if(first == '<' && second == '=')
+                        return accept(2, Token.Type.ASSIGN_LEFT);
+                    else if(first == '<')
+                        return accept(1, Token.Type.BIT_LEFT);
+                    else if(first == '=')
+                        return accept(1, Token.Type.LESS_THAN_EQUAL);
+                    else if(first == ':')
+                        return accept(1, Token.Type.LEFT_ANGLE_COLON);
+                    else if(first == '%')
+                        return accept(1, Token.Type.LEFT_ANGLE_PERCENT);
+                    return Token.Type.LESS_THAN;
+                case '>':
+                    second = this.input.peek(1);
+                    if(first == '>' && second == '=')
+                        return accept(2, Token.Type.ASSIGN_RIGHT);
+                    else if(first == '>')
+                        return accept(1, Token.Type.BIT_RIGHT);
+                    else if(first == '=')
+                        return accept(1, Token.Type.GREATER_THAN_EQUAL);
+                    return Token.Type.GREATER_THAN;
+                case '=':
+                    return first == '=' ? accept(1, Token.Type.EQUAL) : Token.Type.ASSIGN;
+                case '?':
+                    return Token.Type.TERNARY;
+                case ':':
+                    return first == '>' ? accept(1, Token.Type.RIGHT_ANGLE_COLON) : Token.Type.COLON;
+                case ';':
+                    return Token.Type.SEMI_COLON;
+                case ',':
+                    return Token.Type.COMMA;
+                case '#':
+                    return Token.Type.POUND;
+                default:
+                    return null;
+            }
+        }
+
+        private Token.Type accept(int count, Token.Type type){
+            this.input.skip(count);
+            this.lexemeLength += count;
+            return type;
+        }
+
+        private Token.Type setLexeme(String text, Token.Type type){
+            this.fixedLexeme = text;
+            return type;
+        }
+
+        private boolean isEscaped(){
+            return this.input.peek(-2) == '\\' && this.input.peek(-3) != '\\';
+        }
+    }
+}
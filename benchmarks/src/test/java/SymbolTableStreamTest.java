@@ -0,0 +1,42 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a parallel tokens Stream over a Tokenizer with a SymbolTable interns every
+ * identifier, with the same ids as a sequential run, on an input large enough to be split
+ * without a table.
+ */
+class SymbolTableStreamTest {
+
+    @Test
+    void parallelStreamInternsEveryIdentifier(){
+        StringBuilder text = new StringBuilder();
+        while(text.length() < 4 << 20){
+            text.append(TestCorpus.resource("realistic.c"));
+        }
+        char[] chars = text.toString().toCharArray();
+
+        SymbolTable sequentialTable = new SymbolTable();
+        Tokenizer sequential = new Tokenizer(chars);
+        sequential.setSymbolTable(sequentialTable);
+        List<String> expected = sequential.tokens().map(SymbolTableStreamTest::describe).collect(Collectors.toList());
+
+        SymbolTable parallelTable = new SymbolTable();
+        Tokenizer parallel = new Tokenizer(chars);
+        parallel.setSymbolTable(parallelTable);
+        List<String> actual = parallel.tokens().parallel().map(SymbolTableStreamTest::describe).collect(Collectors.toList());
+
+        assertTrue(parallelTable.size() > 0, "no identifier was interned");
+        assertEquals(sequentialTable.size(), parallelTable.size());
+        assertEquals(expected, actual);
+    }
+
+    private static String describe(Token token){
+        return token.getType() + " " + token.getLexeme() + (token.getType() == Token.Type.IDENTIFIER ? " #" + token.getSymbol() : "");
+    }
+}
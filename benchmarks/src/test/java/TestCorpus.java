@@ -0,0 +1,127 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The inputs of the differential tests: the benchmark corpora under src/main/resources/corpus,
+ * and texts generated from fixed seeds, so that every run sees the same characters.
+ */
+final class TestCorpus {
+    static final String[] RESOURCES = {"realistic.c", "numbers.c", "identifiers.c", "strings.c", "comments.c", "punctuators.c"};
+
+    private static final String[] NUMBER_PARTS = {
+            "0", "1", "7", "9", "00", "07", "08", "0x", "0X", "1f", "ABC", "e", "E", "+", "-", ".", "..",
+            "u", "U", "l", "L", "f", "F", "ul", "LL", "x", "g", "_", " ", "\n", ";", "(", ")", "%", "=",
+            "٣", "๓", "\0"};
+
+    private static final String[] SOUP_PARTS = {
+            "int", "while", "x", "_a1", "$b", "é", "жук", "\uD835\uDC65", "\uD83D\uDE00", "٣", "0x1F", "017", "1.5e+3f",
+            ".", "...", "\"", "'", "\\", "/*", "*/", "//", "/", "*", "\n", "\r\n", " ", "\t", "\f",
+            "[", "]", "(", ")", "{", "}", "-", "+", "&", "~", "!", "|", "%", "<", ">", "=", "^", "?", ":",
+            ";", ",", "#", "@", "`", "\0"};
+
+    private TestCorpus(){
+    }
+
+    /**
+     * Reads one of the benchmark corpora.
+     * @param name the file name under corpus/
+     * @return the characters of the corpus
+     */
+    static String resource(String name){
+        try(InputStream in = TestCorpus.class.getResourceAsStream("/corpus/" + name)){
+            if(in == null){
+                throw new IllegalStateException("missing corpus " + name);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int n;
+            while((n = in.read(buf)) > 0){
+                bytes.write(buf, 0, n);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates texts made of pieces of number constants: digits of every base, exponents,
+     * suffixes, signs, periods, Unicode digits, NULs and the characters that end a constant.
+     * @param seed the seed of the generator
+     * @param count the number of texts
+     * @return the texts
+     */
+    static List<String> numberFragments(long seed, int count){
+        Random random = new Random(seed);
+        List<String> texts = new ArrayList<>();
+        for(int i = 0; i < count; i++){
+            StringBuilder text = new StringBuilder();
+            int parts = 1 + random.nextInt(8);
+            for(int k = 0; k < parts; k++){
+                text.append(NUMBER_PARTS[random.nextInt(NUMBER_PARTS.length)]);
+            }
+            texts.add(text.toString());
+        }
+        return texts;
+    }
+
+    /**
+     * Generates texts made of pieces of C tokens and of the characters between them: keywords,
+     * identifiers with Unicode and supplementary characters, numbers, quotes, backslashes,
+     * comment delimiters, every punctuator, line ends, NULs and random characters.
+     * @param seed the seed of the generator
+     * @param count the number of texts
+     * @return the texts
+     */
+    static List<String> tokenSoup(long seed, int count){
+        Random random = new Random(seed);
+        List<String> texts = new ArrayList<>();
+        for(int i = 0; i < count; i++){
+            StringBuilder text = new StringBuilder();
+            int parts = 1 + random.nextInt(40);
+            for(int k = 0; k < parts; k++){
+                if(random.nextInt(16) == 0){
+                    text.append((char) random.nextInt(Character.MAX_VALUE + 1));
+                }
+                else{
+                    text.append(SOUP_PARTS[random.nextInt(SOUP_PARTS.length)]);
+                }
+            }
+            texts.add(text.toString());
+        }
+        return texts;
+    }
+
+    /**
+     * Lexes a text with a sequential Tokenizer, the reference the differential tests compare
+     * the other lexers with.
+     * @param text the text
+     * @return the tokens, as described by tokens(TokenCursor)
+     */
+    static List<String> tokens(String text){
+        return tokens(new Tokenizer(new StringReader(text)));
+    }
+
+    /**
+     * Reads a cursor until END and describes every token, and every character that starts no
+     * token, by its type, start, length and lexeme.
+     * @param cursor the cursor
+     * @return one line per token, END included
+     */
+    static List<String> tokens(TokenCursor cursor){
+        List<String> tokens = new ArrayList<>();
+        Token.Type type;
+        do{
+            type = cursor.advance();
+            tokens.add(type + "@" + cursor.getStart() + "+" + cursor.getLength() + " " + cursor.getLexeme());
+        } while(type != Token.Type.END);
+        return tokens;
+    }
+}
@@ -0,0 +1,105 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that the tokens TokenCache returns on a miss, on a hit and after their entry was
+ * evicted are the tokens a Tokenizer lexes from the file, for sources and entries below and
+ * above the size at which they are mapped, and while several threads open files of a cache
+ * too small to hold them all.
+ */
+class TokenCacheTest {
+
+    @Test
+    void missesAndHitsGiveTheLexedTokens(@TempDir Path dir) throws IOException {
+        List<String> texts = new ArrayList<>();
+        for(String name : TestCorpus.RESOURCES){
+            texts.add(TestCorpus.resource(name));
+        }
+        StringBuilder large = new StringBuilder();
+        while(large.length() < 3 << 20){
+            large.append(TestCorpus.resource("punctuators.c"));
+        }
+        texts.add(large.toString());
+        texts.add("a \0 b c");
+
+        TokenCache cache = new TokenCache(dir.resolve("cache"), 1L << 30);
+        for(int i = 0; i < texts.size(); i++){
+            Path source = write(dir, "source" + i + ".c", texts.get(i));
+            List<String> expected = TestCorpus.tokens(texts.get(i));
+            assertEquals(expected, TestCorpus.tokens(cache.open(source)), "miss on source " + i);
+            assertEquals(expected, TestCorpus.tokens(cache.open(source)), "hit on source " + i);
+        }
+        assertEquals(texts.size(), cache.getMisses());
+        assertEquals(texts.size(), cache.getHits());
+    }
+
+    @Test
+    void concurrentOpensSurviveEviction(@TempDir Path dir) throws Exception {
+        List<Path> sources = new ArrayList<>();
+        List<List<String>> expected = new ArrayList<>();
+        List<String> soup = TestCorpus.tokenSoup(31, 2000);
+        for(int i = 0; i < 40; i++){
+            StringBuilder text = new StringBuilder();
+            for(int k = 0; k < 50; k++){
+                text.append(soup.get(50 * i + k).replace('\0', ' '));
+            }
+            Path source = write(dir, "source" + i + ".c", text.toString());
+            sources.add(source);
+            expected.add(TestCorpus.tokens(new String(Files.readAllBytes(source), StandardCharsets.UTF_8)));
+        }
+
+        long maxBytes = 16 * 1024;
+        TokenCache cache = new TokenCache(dir.resolve("cache"), maxBytes);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0; t < 4; t++){
+                Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for(int k = 0; k < 300; k++){
+                        int i = random.nextInt(sources.size());
+                        assertEquals(expected.get(i), TestCorpus.tokens(cache.open(sources.get(i))), "source " + i);
+                    }
+                    return null;
+                }));
+            }
+            for(Future<?> future : futures){
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.getHits() > 0, "no open was a hit");
+        assertTrue(cache.getMisses() > sources.size(), "no entry was evicted");
+
+        new TokenCache(dir.resolve("cache"), maxBytes);
+        long total = 0;
+        try(Stream<Path> files = Files.walk(dir.resolve("cache"))){
+            for(Path file : (Iterable<Path>) files::iterator){
+                if(Files.isRegularFile(file)){
+                    total += Files.size(file);
+                }
+            }
+        }
+        assertTrue(total <= maxBytes, "the cache holds " + total + " bytes");
+    }
+
+    private static Path write(Path dir, String name, String text) throws IOException {
+        return Files.write(dir.resolve(name), text.getBytes(StandardCharsets.UTF_8));
+    }
+}
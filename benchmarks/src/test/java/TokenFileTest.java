@@ -0,0 +1,58 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that a token file written by TokenWriter from a Tokenizer reads back with TokenReader
+ * as the same tokens, with the same starts, lengths and lexemes, on the corpora, on generated
+ * token soup with NULs, supplementary and unpaired surrogate characters, and on texts cut
+ * short by a NUL.
+ */
+class TokenFileTest {
+
+    @Test
+    void corporaReadBackAsLexed(@TempDir Path dir) throws IOException {
+        for(String name : TestCorpus.RESOURCES){
+            roundTrip(dir, name, TestCorpus.resource(name));
+        }
+    }
+
+    @Test
+    void tokenSoupReadsBackAsLexed(@TempDir Path dir) throws IOException {
+        int i = 0;
+        for(String text : TestCorpus.tokenSoup(13, 5000)){
+            roundTrip(dir, "soup " + i++, text);
+        }
+    }
+
+    @Test
+    void textsCutByANulReadBackAsLexed(@TempDir Path dir) throws IOException {
+        String text = TestCorpus.resource("realistic.c");
+        for(int cut = 0; cut < text.length(); cut += 97){
+            roundTrip(dir, "NUL at " + cut, text.substring(0, cut) + '\0' + text.substring(cut));
+        }
+    }
+
+    private static void roundTrip(Path dir, String name, String text) throws IOException {
+        Path file = dir.resolve("tokens.ctok");
+        long written;
+        try(TokenWriter writer = new TokenWriter(Files.newOutputStream(file))){
+            written = writer.writeAll(new Tokenizer(new StringReader(text)));
+        }
+        List<String> expected = TestCorpus.tokens(text);
+        List<String> actual = TestCorpus.tokens(new TokenReader(file));
+        assertEquals(expected, actual, name);
+
+        List<String> counted = new ArrayList<>(expected);
+        counted.removeIf(token -> token.startsWith("null@") || token.startsWith("END@"));
+        assertEquals(counted.size(), written, name + " token count");
+    }
+}
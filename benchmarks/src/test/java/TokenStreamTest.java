@@ -0,0 +1,172 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compares the Tokens of Tokenizer.tokens, split into ranges that are lexed apart, with the
+ * Tokens of one sequential Tokenizer, for char array and file inputs: on the corpora, on
+ * token soup whose split points fall inside strings, character constants and comments, on
+ * strings and comments that span the middle of the input, with a NUL before or after the
+ * middle, and on a file with malformed UTF-8 between its lines.
+ */
+class TokenStreamTest {
+    private static final int SIZE = 2 << 20;
+
+    @Test
+    void splitCorporaMatchTheSequentialTokens(@TempDir Path dir) throws IOException {
+        StringBuilder text = new StringBuilder();
+        while(text.length() < SIZE){
+            for(String name : TestCorpus.RESOURCES){
+                text.append(TestCorpus.resource(name));
+            }
+        }
+        compare(dir, "corpora", text.toString());
+    }
+
+    @Test
+    void splitTokenSoupMatchesTheSequentialTokens(@TempDir Path dir) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for(String soup : TestCorpus.tokenSoup(17, 400000)){
+            text.append(soup.replace('\0', ' '));
+            if(text.length() > SIZE){
+                break;
+            }
+        }
+        compare(dir, "soup", text.toString());
+    }
+
+    @Test
+    void tokensSpanningTheMiddleAreNotSplit(@TempDir Path dir) throws IOException {
+        String[][] spans = {
+                {"\"", "\""}, {"'", "'"}, {"/*", "*/"}, {"\"\\\\", "\\\"\""}, {"/* \" ", " \" */"}};
+        String lines = TestCorpus.resource("realistic.c");
+        for(String[] span : spans){
+            StringBuilder text = new StringBuilder();
+            while(text.length() < SIZE / 2 - lines.length()){
+                text.append(lines);
+            }
+            text.append(span[0]);
+            for(int i = 0; i < 2000; i++){
+                text.append("int a = b;\n");
+            }
+            text.append(span[1]);
+            while(text.length() < SIZE){
+                text.append(lines);
+            }
+            compare(dir, span[0] + " to " + span[1], text.toString());
+        }
+    }
+
+    @Test
+    void splitTokensStopAtANul(@TempDir Path dir) throws IOException {
+        String lines = TestCorpus.resource("realistic.c");
+        StringBuilder text = new StringBuilder();
+        while(text.length() < SIZE){
+            text.append(lines);
+        }
+        for(int cut : new int[]{1, SIZE / 3, SIZE / 2, SIZE / 2 + 1, SIZE - 10}){
+            StringBuilder withNul = new StringBuilder(text);
+            withNul.insert(cut, '\0');
+            compare(dir, "NUL at " + cut, withNul.toString(), cut > SIZE / 2 + 1 ? 2 : 1);
+        }
+    }
+
+    @Test
+    void splitFileWithMalformedUtf8MatchesTheReader(@TempDir Path dir) throws IOException {
+        byte[] lines = TestCorpus.resource("realistic.c").getBytes(StandardCharsets.UTF_8);
+        byte[] malformed = MappedInputTest.malformedBytes(23, 1 << 16);
+        byte[] bytes = new byte[SIZE];
+        int n = 0;
+        int m = 0;
+        while(n < bytes.length){
+            int count = Math.min(lines.length, bytes.length - n);
+            System.arraycopy(lines, 0, bytes, n, count);
+            n += count;
+            for(int k = 0; k < 40 && n < bytes.length; k++, m++){
+                byte b = malformed[m % malformed.length];
+                bytes[n++] = b == 0 || b == '"' || b == '\'' || b == '/' ? (byte) ' ' : b;
+            }
+            if(n < bytes.length){
+                bytes[n++] = '\n';
+            }
+        }
+        Path file = Files.write(dir.resolve("malformed.c"), bytes);
+        List<String> expected = sequential(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        assertEquals(expected, split(new Tokenizer(file), 4), "split file");
+        assertEquals(expected, parallel(new Tokenizer(file)), "parallel file");
+    }
+
+    private static void compare(Path dir, String name, String text) throws IOException {
+        compare(dir, name, text, 4);
+    }
+
+    private static void compare(Path dir, String name, String text, int minRanges) throws IOException {
+        text = new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        List<String> expected = sequential(new StringReader(text));
+        assertEquals(expected, split(new Tokenizer(text.toCharArray()), minRanges), name + " split chars");
+        assertEquals(expected, parallel(new Tokenizer(text.toCharArray())), name + " parallel chars");
+        Path file = Files.write(dir.resolve("source.c"), text.getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected, split(new Tokenizer(file), minRanges), name + " split file");
+    }
+
+    private static List<String> sequential(Reader reader){
+        List<String> tokens = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(reader);
+        Token token;
+        while((token = tokenizer.nextToken()) == null || token.getType() != Token.Type.END){
+            if(token != null){
+                tokens.add(describe(token));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Splits the Spliterator of the tokens as far as it goes, lexes the ranges one by one and
+     * checks that the input was split into at least a number of ranges.
+     */
+    private static List<String> split(Tokenizer tokenizer, int minRanges){
+        List<Spliterator<Token>> ranges = new ArrayList<>();
+        splitAll(tokenizer.tokens().spliterator(), ranges);
+        assertTrue(ranges.size() >= minRanges, "split into " + ranges.size() + " ranges");
+        List<String> tokens = new ArrayList<>();
+        for(Spliterator<Token> range : ranges){
+            range.forEachRemaining(token -> tokens.add(describe(token)));
+        }
+        return tokens;
+    }
+
+    private static void splitAll(Spliterator<Token> range, List<Spliterator<Token>> ranges){
+        Spliterator<Token> prefix = range.trySplit();
+        if(prefix != null){
+            splitAll(prefix, ranges);
+            splitAll(range, ranges);
+        }
+        else{
+            ranges.add(range);
+        }
+    }
+
+    private static List<String> parallel(Tokenizer tokenizer){
+        return tokenizer.tokens().parallel().map(TokenStreamTest::describe).collect(Collectors.toList());
+    }
+
+    private static String describe(Token token){
+        return token.getType() + "@" + token.getPosition() + " " + token.getLexeme();
+    }
+}
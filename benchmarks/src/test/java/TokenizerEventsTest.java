@@ -0,0 +1,54 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that lexing with no recording running leaves the JFR event types undefined, which
+ * would add hundreds of milliseconds to the start of every run, by lexing in a new JVM that
+ * logs the classes it loads.
+ */
+class TokenizerEventsTest {
+
+    @Test
+    void lexingWithoutARecordingDoesNotLoadTheEventFactory() throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-verbose:class", "-cp", System.getProperty("java.class.path"), Lex.class.getName());
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try(InputStream in = process.getInputStream()){
+            byte[] buffer = new byte[8192];
+            int n;
+            while((n = in.read(buffer)) > 0){
+                output.write(buffer, 0, n);
+            }
+        }
+        assertEquals(0, process.waitFor());
+        String log = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(log.contains(" Tokenizer ") && log.contains("TokenizerEvents"), "Tokenizer was not loaded");
+        assertTrue(log.contains("lexed 3 tokens"), "the tokens were not lexed");
+        assertFalse(log.contains("jdk.jfr.EventFactory"), "lexing loaded jdk.jfr.EventFactory");
+    }
+
+    /**
+     * Lexes a line and prints its number of tokens.
+     */
+    static final class Lex {
+        public static void main(String[] args){
+            Tokenizer tokenizer = new Tokenizer(new StringReader("int a;"));
+            int tokens = 0;
+            while(tokenizer.advance() != Token.Type.END){
+                tokens++;
+            }
+            System.out.println("lexed " + tokens + " tokens");
+        }
+    }
+}
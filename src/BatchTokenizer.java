@@ -0,0 +1,346 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Tokenizes many C files at once, one Tokenizer per file, spread across the workers of a
+ * ForkJoinPool. Files are handed out largest first from a shared queue, so a worker that
+ * finishes early takes the next file instead of waiting on a fixed share, and the longest
+ * files do not end up last. With a TokenCache, files whose content is already in the cache
+ * are read from it instead of being lexed. Main method accepts directories and files as
+ * command line arguments, optionally after "--cache <directory>", and prints the token count
+ * of each file followed by the totals per Token type.
+ */
+public class BatchTokenizer {
+    private static final long MAPPED_THRESHOLD = 1024 * 1024;
+
+    private static final long CACHE_SIZE = 1L << 30;
+
+    private final int parallelism;
+    private final TokenCache cache;
+    private final TokenizerPool pool;
+
+    /**
+     * Constructs a BatchTokenizer with one worker per available processor.
+     */
+    public BatchTokenizer(){
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a BatchTokenizer.
+     * @param parallelism the number of files to tokenize at the same time
+     */
+    public BatchTokenizer(int parallelism){
+        this(parallelism, null);
+    }
+
+    /**
+     * Constructs a BatchTokenizer that reads the tokens of files from a cache when it can.
+     * @param parallelism the number of files to tokenize at the same time
+     * @param cache the cache to read and fill, or null to lex every file
+     */
+    public BatchTokenizer(int parallelism, TokenCache cache){
+        this(parallelism, cache, null);
+    }
+
+    /**
+     * Constructs a BatchTokenizer whose workers count what they lex in shared metrics.
+     * @param parallelism the number of files to tokenize at the same time
+     * @param cache the cache to read and fill, or null to lex every file
+     * @param metrics the metrics to count in, or null; files read from the cache are not lexed
+     * and so not counted
+     */
+    public BatchTokenizer(int parallelism, TokenCache cache, TokenizerMetrics metrics){
+        if(parallelism < 1){
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.cache = cache;
+        this.pool = new TokenizerPool(parallelism, metrics);
+    }
+
+    /**
+     * Tokenizes every .c and .h file under a directory, or a single file.
+     * @param root the directory to search, or a file
+     * @return the per-file and total counts
+     * @throws IOException if the directory cannot be walked
+     */
+    public Result run(Path root) throws IOException {
+        List<Path> files = new ArrayList<>();
+        collect(root, files);
+        return run(files);
+    }
+
+    /**
+     * Tokenizes a list of files.
+     * @param files the files to tokenize
+     * @return the per-file and total counts, with the files in the order given
+     */
+    public Result run(List<Path> files){
+        FileResult[] results = new FileResult[files.size()];
+        Integer[] order = new Integer[files.size()];
+        long[] sizes = new long[files.size()];
+        for(int i = 0; i < order.length; i++){
+            order[i] = i;
+            sizes[i] = size(files.get(i));
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(sizes[b], sizes[a]));
+
+        AtomicInteger next = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            int i;
+            while((i = next.getAndIncrement()) < order.length){
+                int index = order[i];
+                results[index] = tokenize(files.get(index), sizes[index]);
+            }
+            return null;
+        };
+        int workers = Math.min(this.parallelism, Math.max(order.length, 1));
+        ForkJoinPool forkJoin = new ForkJoinPool(workers);
+        try{
+            for(Future<Void> f : forkJoin.invokeAll(Collections.nCopies(workers, worker))){
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            forkJoin.shutdown();
+        }
+        return new Result(Arrays.asList(results));
+    }
+
+    /**
+     * Tokenizes one file. Large files are memory-mapped; small ones are read through a
+     * Reader, since a mapping is only released when it is garbage collected and a tree of
+     * many small files could otherwise run out of mappings. Both paths decode UTF-8, and both
+     * reuse a Tokenizer from the pool, so its buffers are not allocated again for every file.
+     * The Tokenizer goes back to the pool and the file is closed even if lexing throws, or
+     * stops at a NUL before the end of the file.
+     */
+    private FileResult tokenize(Path file, long size){
+        long[] counts = new long[Token.Type.values().length];
+        TokenCursor cursor;
+        Tokenizer lexer = null;
+        Reader reader = null;
+        if(this.cache != null){
+            try{
+                cursor = this.cache.open(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return new FileResult(file, size, counts);
+            }
+        }
+        else if(size >= MAPPED_THRESHOLD){
+            lexer = this.pool.acquire(null);
+            lexer.reset(file);
+            cursor = lexer;
+        }
+        else{
+            try{
+                reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return new FileResult(file, size, counts);
+            }
+            lexer = this.pool.acquire(reader);
+            cursor = lexer;
+        }
+        try{
+            Token.Type type;
+            while((type = cursor.advance()) != Token.Type.END){
+                if(type != null){
+                    counts[type.ordinal()]++;
+                }
+            }
+        } finally {
+            if(lexer != null){
+                this.pool.release(lexer);
+            }
+            if(reader != null){
+                try{
+                    reader.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return new FileResult(file, size, counts);
+    }
+
+    private static long size(Path file){
+        try{
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Adds a file, or every .c and .h file under a directory, to a list.
+     */
+    private static void collect(Path path, List<Path> files) throws IOException {
+        if(!Files.isDirectory(path)){
+            files.add(path);
+            return;
+        }
+        try(Stream<Path> paths = Files.walk(path)){
+            paths.filter(BatchTokenizer::isSource).forEach(files::add);
+        }
+    }
+
+    private static boolean isSource(Path path){
+        String name = path.getFileName().toString();
+        return (name.endsWith(".c") || name.endsWith(".h")) && Files.isRegularFile(path);
+    }
+
+    /**
+     * The token counts of one file.
+     */
+    public static final class FileResult {
+        private final Path path;
+        private final long size;
+        private final long[] counts;
+
+        private FileResult(Path path, long size, long[] counts){
+            this.path = path;
+            this.size = size;
+            this.counts = counts;
+        }
+
+        /**
+         * Returns the path of the file.
+         * @return the path of the file
+         */
+        public Path getPath(){
+            return this.path;
+        }
+
+        /**
+         * Returns the size of the file in bytes.
+         * @return the size of the file
+         */
+        public long getSize(){
+            return this.size;
+        }
+
+        /**
+         * Returns the number of tokens of a type in the file.
+         * @param type the Token type
+         * @return the number of tokens of that type
+         */
+        public long getCount(Token.Type type){
+            return this.counts[type.ordinal()];
+        }
+
+        /**
+         * Returns the number of tokens in the file, not counting END.
+         * @return the number of tokens
+         */
+        public long getTokenCount(){
+            long total = 0;
+            for(long count : this.counts){
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * The token counts of every file in a batch and their totals per Token type.
+     */
+    public static final class Result {
+        private final List<FileResult> files;
+        private final long[] counts;
+
+        private Result(List<FileResult> files){
+            this.files = Collections.unmodifiableList(files);
+            this.counts = new long[Token.Type.values().length];
+            for(FileResult file : files){
+                for(int i = 0; i < this.counts.length; i++){
+                    this.counts[i] += file.counts[i];
+                }
+            }
+        }
+
+        /**
+         * Returns the results of the individual files.
+         * @return the file results
+         */
+        public List<FileResult> getFiles(){
+            return this.files;
+        }
+
+        /**
+         * Returns the number of tokens of a type across all the files.
+         * @param type the Token type
+         * @return the number of tokens of that type
+         */
+        public long getCount(Token.Type type){
+            return this.counts[type.ordinal()];
+        }
+
+        /**
+         * Returns the number of tokens across all the files, not counting END.
+         * @return the number of tokens
+         */
+        public long getTokenCount(){
+            long total = 0;
+            for(long count : this.counts){
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Returns the total size of the files in bytes.
+         * @return the total size
+         */
+        public long getSize(){
+            long total = 0;
+            for(FileResult file : this.files){
+                total += file.size;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Tokenizes the directories and files given on the command line. Each file is printed
+     * with its token count, followed by the totals for each Token type that occurred.
+     * @param args the directories and files to tokenize
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length == 0){
+            System.err.println("Usage: BatchTokenizer [--cache <directory>] <directory or file>...");
+            System.exit(1);
+        }
+        List<Path> files = new ArrayList<>();
+        TokenCache cache = null;
+        for(int i = 0; i < args.length; i++){
+            if(args[i].equals("--cache") && i + 1 < args.length){
+                cache = new TokenCache(Paths.get(args[++i]), CACHE_SIZE);
+            }
+            else{
+                collect(Paths.get(args[i]), files);
+            }
+        }
+        Result result = new BatchTokenizer(Runtime.getRuntime().availableProcessors(), cache).run(files);
+        for(FileResult file : result.getFiles()){
+            System.out.println(file.getPath() + "\t" + file.getTokenCount());
+        }
+        for(Token.Type type : Token.Type.values()){
+            if(result.getCount(type) > 0){
+                System.out.println(type + "\t" + result.getCount(type));
+            }
+        }
+        System.out.println("TOTAL\t" + result.getTokenCount());
+    }
+}
@@ -0,0 +1,166 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable view of a range of UTF-8 bytes as a CharSequence, without copying or decoding
+ * them up front. The ByteTokenizer hands out its lexemes this way. ASCII bytes are their own
+ * characters, so an ASCII range is read in place; any other range is decoded the first time
+ * its characters are asked for, the way MappedInput decodes a file, with malformed sequences
+ * replaced by U+FFFD.
+ */
+public final class ByteSlice implements CharSequence {
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private byte[] bytes;
+    private int offset;
+    private int length;
+    private boolean ascii;
+    private String decoded;
+
+    /**
+     * Points the view at a range of a buffer.
+     * @param bytes the array holding the bytes
+     * @param offset the index of the first byte in the view
+     * @param length the number of bytes in the view
+     * @return this view
+     */
+    ByteSlice set(byte[] bytes, int offset, int length){
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.decoded = null;
+        this.ascii = true;
+        for(int i = offset; i < offset + length; i++){
+            if(bytes[i] < 0){
+                this.ascii = false;
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes in the view.
+     * @return the number of bytes
+     */
+    public int byteLength(){
+        return this.length;
+    }
+
+    /**
+     * Returns a byte of the view.
+     * @param index the index of the byte in the view
+     * @return the byte
+     */
+    public byte byteAt(int index){
+        if(index < 0 || index >= this.length){
+            throw new IndexOutOfBoundsException("index " + index + ", length " + this.length);
+        }
+        return this.bytes[this.offset + index];
+    }
+
+    /**
+     * Returns a read-only buffer over the bytes of the view, sharing them with the source.
+     * @return a buffer positioned at the first byte of the view and limited at its end
+     */
+    public ByteBuffer asByteBuffer(){
+        return ByteBuffer.wrap(this.bytes, this.offset, this.length).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Checks if the bytes of the view are all ASCII, so that each is one character.
+     * @return true if every byte is below 0x80
+     */
+    public boolean isAscii(){
+        return this.ascii;
+    }
+
+    @Override
+    public int length() {
+        return this.ascii ? this.length : toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if(!this.ascii){
+            return toString().charAt(index);
+        }
+        return (char) byteAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    /**
+     * Decodes the bytes of the view into a new String, or returns the one decoded already.
+     * @return the characters of the view
+     */
+    @Override
+    public String toString() {
+        if(this.decoded != null){
+            return this.decoded;
+        }
+        if(this.ascii){
+            this.decoded = new String(this.bytes, this.offset, this.length, StandardCharsets.ISO_8859_1);
+            return this.decoded;
+        }
+        char[] chars = new char[this.length];
+        int n = 0;
+        int end = this.offset + this.length;
+        int i = this.offset;
+        while(i < end){
+            int packed = decode(this.bytes, i, end);
+            n += Character.toChars(packed >>> 3, chars, n);
+            i += packed & 7;
+        }
+        this.decoded = new String(chars, 0, n);
+        return this.decoded;
+    }
+
+    /**
+     * Decodes the UTF-8 character starting at an index, taking the same bytes as MappedInput
+     * does for it: a malformed sequence becomes U+FFFD and ends before the first byte that
+     * does not fit it.
+     * @param bytes the array holding the bytes
+     * @param index the index of the first byte of the character, below limit
+     * @param limit the index the character must end by
+     * @return the code point shifted left by three, or'ed with the number of bytes it takes
+     */
+    static int decode(byte[] bytes, int index, int limit){
+        int lead = bytes[index] & 0xFF;
+        if(lead < 0x80){
+            return lead << 3 | 1;
+        }
+        int count;
+        int codePoint;
+        if(lead >= 0xF0 && lead <= 0xF4){
+            count = 3;
+            codePoint = lead & 0x07;
+        }
+        else if(lead >= 0xE0 && lead < 0xF0){
+            count = 2;
+            codePoint = lead & 0x0F;
+        }
+        else if(lead >= 0xC2 && lead < 0xE0){
+            count = 1;
+            codePoint = lead & 0x1F;
+        }
+        else{
+            return REPLACEMENT << 3 | 1;
+        }
+        int i = index + 1;
+        for(int k = 0; k < count; k++){
+            if(i >= limit || (k == 0 ? !MappedInput.isSecondByte(lead, bytes[i] & 0xFF) : (bytes[i] & 0xC0) != 0x80)){
+                return REPLACEMENT << 3 | (i - index);
+            }
+            codePoint = (codePoint << 6) | (bytes[i] & 0x3F);
+            i++;
+        }
+        if(count == 2 && Character.isSurrogate((char) codePoint)){
+            return REPLACEMENT << 3 | (i - index);
+        }
+        return codePoint << 3 | (i - index);
+    }
+}
@@ -0,0 +1,518 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tokenizer for C source held as UTF-8 bytes, such as a file read into an array or a buffer
+ * received from a socket, that lexes the bytes directly instead of decoding them to chars
+ * first. Bytes below 0x80 are classified with the ASCII tables of CharScan and NumberDfa; a
+ * byte of 0x80 or above is only decoded where a token could start or continue with it, with
+ * the same result MappedInput would give, so the tokens are those of a Tokenizer over the
+ * same file. Lexemes are ByteSlice views of the input that are decoded only when their
+ * characters are asked for.
+ *
+ * Starts and lengths are in bytes rather than chars. A character outside the Basic
+ * Multilingual Plane that starts no token is one null token of four bytes here, where the
+ * Tokenizer, which sees it as two surrogate chars, gives two null tokens.
+ */
+public final class ByteTokenizer implements TokenCursor {
+    private final byte[] buf;
+    private final int base;
+    private int limit;
+    private final ByteSlice lexemeView = new ByteSlice();
+    private int pos;
+    private int start;
+    private int lexemeLength;
+    private String fixedLexeme;
+
+    /**
+     * Constructs a ByteTokenizer over C source held in a byte array. The array must not be
+     * changed while the ByteTokenizer is in use.
+     * @param source the UTF-8 bytes of the C source
+     */
+    public ByteTokenizer(byte[] source){
+        this(source, 0, source.length);
+    }
+
+    /**
+     * Constructs a ByteTokenizer over a range of a byte array. Starts are counted from the
+     * offset. The array must not be changed while the ByteTokenizer is in use.
+     * @param source the array holding the UTF-8 bytes of the C source
+     * @param offset the index of the first byte of the source
+     * @param length the number of bytes in the source
+     */
+    public ByteTokenizer(byte[] source, int offset, int length){
+        if(offset < 0 || length < 0 || offset > source.length - length){
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + source.length);
+        }
+        this.buf = source;
+        this.base = offset;
+        this.limit = offset + length;
+        this.pos = offset;
+    }
+
+    /**
+     * Constructs a ByteTokenizer over the bytes of a buffer from its position to its limit,
+     * without moving its position. The bytes of a buffer backed by an array are lexed where
+     * they are, and the others, such as those of a direct buffer, are copied into an array
+     * first, since the lexer reads every byte through a plain array index.
+     * @param source the buffer holding the UTF-8 bytes of the C source
+     */
+    public ByteTokenizer(ByteBuffer source){
+        this(source.hasArray() ? source.array() : copy(source),
+                source.hasArray() ? source.arrayOffset() + source.position() : 0, source.remaining());
+    }
+
+    /**
+     * Constructs a ByteTokenizer over the bytes of a C file, read into an array with one
+     * bulk read.
+     * @param path the path of the C file
+     * @throws IOException if the file cannot be read, or is 2 GB or larger
+     */
+    public ByteTokenizer(Path path) throws IOException {
+        this(Files.readAllBytes(path));
+    }
+
+    /**
+     * Copies the bytes of a buffer from its position to its limit into a new array.
+     * @param source the buffer
+     * @return the copied bytes
+     */
+    private static byte[] copy(ByteBuffer source){
+        byte[] bytes = new byte[source.remaining()];
+        source.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns the next token in the C source.
+     * @return the next token, with its lexeme copied into a String, or null if no token
+     * starts at the next character
+     */
+    public Token nextToken(){
+        Token.Type type = advance();
+        if(type == null){
+            return null;
+        }
+        return new Token(type, getLexeme().toString(), getStart());
+    }
+
+    /**
+     * Returns the offset in the source of the first byte of the current token.
+     * @return the start offset of the current token
+     */
+    @Override
+    public long getStart() {
+        return this.start - this.base;
+    }
+
+    /**
+     * Returns the number of bytes of the source consumed by the current token.
+     * @return the length of the current token in bytes
+     */
+    @Override
+    public int getLength() {
+        return this.pos - this.start;
+    }
+
+    /**
+     * Returns a view of the lexeme of the current token. The view is only valid until the
+     * next call to advance or nextToken.
+     * @return a ByteSlice over the lexeme, or a String for END and the "0" of a "1." constant
+     */
+    @Override
+    public CharSequence getLexeme() {
+        if(this.fixedLexeme != null){
+            return this.fixedLexeme;
+        }
+        return this.lexemeView.set(this.buf, this.start, this.lexemeLength);
+    }
+
+    /**
+     * Moves to the next token in the C source without creating a Token.
+     * @return the type of the next token, END once the source is exhausted or at a 0 byte,
+     * which ends the source for good, or null if no token starts at the next character
+     */
+    @Override
+    public Token.Type advance(){
+        this.pos = skip(this.pos, CharScan.SPACE);
+        this.start = this.pos;
+        this.fixedLexeme = null;
+        if(this.pos >= this.limit){
+            this.lexemeLength = 0;
+            return setLexeme("EOF", Token.Type.END);
+        }
+        int packed = charAt(this.pos);
+        char c = (char) (packed >>> 3);
+        if(c == 0){
+            this.limit = this.pos;
+            this.lexemeLength = 0;
+            return setLexeme("EOF", Token.Type.END);
+        }
+        this.pos += packed & 7;
+        this.lexemeLength = this.pos - this.start;
+
+        switch(CharScan.start(c)){
+            case CharScan.START_NUMBER:
+                return checkConstantNumbers(c);
+            case CharScan.START_STRING:
+                return skipQuoted((byte) '"') ? Token.Type.STRING_CONSTANT : Token.Type.BAD_STRING;
+            case CharScan.START_CHAR:
+                return skipQuoted((byte) '\'') ? Token.Type.CHAR_CONSTANT : Token.Type.BAD_CHAR;
+            case CharScan.START_SLASH:
+                int next = peek(0);
+                if(next == '*'){
+                    return skipBlockComment();
+                }
+                if(next == '/'){
+                    this.pos++;
+                    this.lexemeLength = 2;
+                    int end = find(this.pos, (byte) '\n');
+                    this.pos = Math.min(end + 1, this.limit);
+                    return Token.Type.LINE_COMMENT;
+                }
+                return next == '=' ? accept(1, Token.Type.DIV_EQUALS) : Token.Type.DIV_OP;
+            case CharScan.START_PUNCTUATOR:
+                return checkPunctuators(c);
+            case CharScan.START_IDENTIFIER:
+                this.pos = skip(this.pos, CharScan.IDENTIFIER_PART);
+                this.lexemeLength = this.pos - this.start;
+                Token.Type keyword = Tokenizer.KEYWORD_TABLE.lookup(this.buf, this.start, this.lexemeLength);
+                return keyword != null ? keyword : Token.Type.IDENTIFIER;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Determines if the token is a number constant, with the same checks as the Tokenizer.
+     * The bytes after the first character are scanned with the NumberDfa transition table.
+     * @param c the first character of the token, a digit or '.'
+     * @return a number token type, PERIOD or VARIADIC
+     */
+    private Token.Type checkConstantNumbers(char c){
+        int state;
+        if(c == '.'){
+            if(peek(0) == '.' && peek(1) == '.'){
+                return accept(2, Token.Type.VARIADIC);
+            }
+            if(!Character.isDigit((char) (charAt(this.pos) >>> 3))){
+                return Token.Type.PERIOD;
+            }
+            state = 4;
+        }
+        else if(c == '0' && Character.isDigit((char) (charAt(this.pos) >>> 3))){
+            state = 9;
+        }
+        else{
+            state = 2;
+        }
+        while(true){
+            int packed = charAt(this.pos);
+            state = NumberDfa.next(state, (char) (packed >>> 3));
+            if(state <= 0){
+                break;
+            }
+            this.pos += packed & 7;
+        }
+        this.lexemeLength = this.pos - this.start;
+        if(state == -3){
+            return setLexeme("0", Token.Type.INTEGER_CONSTANT);
+        }
+        return NumberDfa.accept(state);
+    }
+
+    /**
+     * Reads the rest of a string or char constant, up to and including the closing quote
+     * that is not escaped. A 0 byte ends the constant without being part of its lexeme.
+     * @param quote the quote that opened the constant
+     * @return true if the closing quote was found, false if the source or a 0 came first
+     */
+    private boolean skipQuoted(byte quote){
+        int i = this.pos;
+        while(true){
+            i = find(i, quote);
+            if(i >= this.limit || this.buf[i] == 0){
+                this.lexemeLength = i - this.start;
+                this.pos = Math.min(i + 1, this.limit);
+                return false;
+            }
+            i++;
+            if(this.buf[i - 2] != '\\' || this.buf[i - 3] == '\\'){
+                this.pos = i;
+                this.lexemeLength = i - this.start;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of a block comment. The lexeme is only the opening "/*".
+     * @return BLOCK_COMMENT, or BAD_COMMENT if the source or a 0 came before its end
+     */
+    private Token.Type skipBlockComment(){
+        this.pos++;
+        this.lexemeLength = 2;
+        int i = this.pos;
+        while(true){
+            i = find(i, (byte) '*');
+            if(i >= this.limit || this.buf[i] == 0){
+                this.pos = Math.min(i + 1, this.limit);
+                return Token.Type.BAD_COMMENT;
+            }
+            i++;
+            if(i < this.limit && this.buf[i] == '/'){
+                this.pos = i + 1;
+                return Token.Type.BLOCK_COMMENT;
+            }
+        }
+    }
+
+    /**
+     * Lexes a punctuator other than the ones starting with '.' or '/', with the same checks as
+     * the Tokenizer. Every punctuator is ASCII, so the characters after the first are compared
+     * as bytes.
+     * @param c the first character of the token, one CharScan classifies as START_PUNCTUATOR
+     * @return a punctuator token type
+     */
+    private Token.Type checkPunctuators(char c){
+        int first = peek(0);
+        switch(c){
+            case '[':
+                return Token.Type.OPEN_BRACKET;
+            case ']':
+                return Token.Type.CLOSE_BRACKET;
+            case '(':
+                return Token.Type.OPEN_PARENT;
+            case ')':
+                return Token.Type.CLOSE_PARENT;
+            case '{':
+                return Token.Type.OPEN_BRACE;
+            case '}':
+                return Token.Type.CLOSE_BRACE;
+            case '-':
+                if(first == '>'){
+                    return accept(1, Token.Type.ARROW);
+                }
+                else if(first == '-'){
+                    return accept(1, Token.Type.DECREMENT);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.MINUS_EQUALS);
+                }
+                return Token.Type.SUB_OP;
+            case '+':
+                if(first == '+'){
+                    return accept(1, Token.Type.INCREMENT);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.PLUS_EQUALS);
+                }
+                return Token.Type.ADD_OP;
+            case '*':
+                return first == '=' ? accept(1, Token.Type.MULT_EQUALS) : Token.Type.MULT_OP;
+            case '%':
+                if(first == ':' && peek(1) == '%' && peek(2) == ':'){
+                    return accept(3, Token.Type.PERCENT_COLON_PERCENT_COLON);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.MOD_EQUALS);
+                }
+                else if(first == ':'){
+                    return accept(1, Token.Type.PERCENT_COLON);
+                }
+                else if(first == '>'){
+                    return accept(1, Token.Type.RIGHT_ANGLE_PERCENT);
+                }
+                return Token.Type.MOD_OP;
+            case '&':
+                if(first == '&'){
+                    return accept(1, Token.Type.LOG_AND);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.ASSIGN_AND);
+                }
+                return Token.Type.BIT_AND;
+            case '~':
+                return Token.Type.BIT_NOT;
+            case '!':
+                return first == '=' ? accept(1, Token.Type.NOT_EQUAL) : Token.Type.LOG_NOT;
+            case '^':
+                return first == '=' ? accept(1, Token.Type.ASSIGN_XOR) : Token.Type.BIT_XOR;
+            case '|':
+                if(first == '|'){
+                    return accept(1, Token.Type.LOG_OR);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.ASSIGN_OR);
+                }
+                return Token.Type.BIT_OR;
+            case '<':
+                if(first == '<' && peek(1) == '='){
+                    return accept(2, Token.Type.ASSIGN_LEFT);
+                }
+                else if(first == '<'){
+                    return accept(1, Token.Type.BIT_LEFT);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.LESS_THAN_EQUAL);
+                }
+                else if(first == ':'){
+                    return accept(1, Token.Type.LEFT_ANGLE_COLON);
+                }
+                else if(first == '%'){
+                    return accept(1, Token.Type.LEFT_ANGLE_PERCENT);
+                }
+                return Token.Type.LESS_THAN;
+            case '>':
+                if(first == '>' && peek(1) == '='){
+                    return accept(2, Token.Type.ASSIGN_RIGHT);
+                }
+                else if(first == '>'){
+                    return accept(1, Token.Type.BIT_RIGHT);
+                }
+                else if(first == '='){
+                    return accept(1, Token.Type.GREATER_THAN_EQUAL);
+                }
+                return Token.Type.GREATER_THAN;
+            case '=':
+                return first == '=' ? accept(1, Token.Type.EQUAL) : Token.Type.ASSIGN;
+            case '?':
+                return Token.Type.TERNARY;
+            case ':':
+                return first == '>' ? accept(1, Token.Type.RIGHT_ANGLE_COLON) : Token.Type.COLON;
+            case ';':
+                return Token.Type.SEMI_COLON;
+            case ',':
+                return Token.Type.COMMA;
+            case '#':
+                return Token.Type.POUND;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the character starting at a byte index. ASCII bytes are taken as they are, and
+     * anything else is decoded; a character outside the Basic Multilingual Plane is given as
+     * its high surrogate, which is what the Tokenizer sees first.
+     * @param i the index of the first byte of the character
+     * @return the character shifted left by three, or'ed with the number of bytes it takes,
+     * or 0 past the end of the source
+     */
+    private int charAt(int i){
+        if(i >= this.limit){
+            return 0;
+        }
+        byte b = this.buf[i];
+        if(b >= 0){
+            return b << 3 | 1;
+        }
+        int packed = ByteSlice.decode(this.buf, i, this.limit);
+        int codePoint = packed >>> 3;
+        if(codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT){
+            return Character.highSurrogate(codePoint) << 3 | (packed & 7);
+        }
+        return packed;
+    }
+
+    /**
+     * Looks at a byte ahead of the current one without consuming it.
+     * @param n how many bytes ahead to look, 0 being the next one
+     * @return the byte, or 0 if it is past the end of the source
+     */
+    private int peek(int n){
+        int i = this.pos + n;
+        return i < this.limit ? this.buf[i] : 0;
+    }
+
+    /**
+     * Finds the characters of a class starting at an index, decoding only bytes of 0x80 or
+     * above.
+     * @param from the index to start at
+     * @param charClass CharScan.SPACE or CharScan.IDENTIFIER_PART
+     * @return the index of the first character not of the class, or the end of the source
+     */
+    private int skip(int from, byte charClass){
+        byte[] buf = this.buf;
+        int limit = this.limit;
+        int i = from;
+        while(i < limit){
+            byte b = buf[i];
+            if(b >= 0){
+                if(!CharScan.is((char) b, charClass)){
+                    return i;
+                }
+                i++;
+            }
+            else{
+                int packed = charAt(i);
+                if(!CharScan.is((char) (packed >>> 3), charClass)){
+                    return i;
+                }
+                i += packed & 7;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Finds the first occurrence of an ASCII byte, or of 0, from an index on. Neither can be
+     * part of a multi-byte character, so the bytes are searched without decoding.
+     * @param from the index to start at
+     * @param stop the byte to look for
+     * @return the index of the first stop or 0 byte, or the end of the source if there is none
+     */
+    private int find(int from, byte stop){
+        byte[] buf = this.buf;
+        int limit = this.limit;
+        for(int i = from; i < limit; i++){
+            byte b = buf[i];
+            if(b == stop || b == 0){
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Consumes bytes that were looked at with peek and adds them to the lexeme.
+     * @param count the number of bytes to consume
+     * @param type the Token type to return
+     * @return the given Token type
+     */
+    private Token.Type accept(int count, Token.Type type){
+        this.pos += count;
+        this.lexemeLength += count;
+        return type;
+    }
+
+    /**
+     * Replaces the lexeme with a fixed text that is not taken from the source.
+     * @param text the lexeme text
+     * @param type the Token type to return
+     * @return the given Token type
+     */
+    private Token.Type setLexeme(String text, Token.Type type){
+        this.fixedLexeme = text;
+        return type;
+    }
+
+    /**
+     * Takes a C file from the command line and prints its tokens, one per line, as the
+     * Tokenizer does. If no C file is supplied, the packaged CFile.c is used.
+     * @param args the C file to be run
+     */
+    public static void main(String[] args) throws IOException {
+        ByteTokenizer t = new ByteTokenizer(Paths.get(args.length > 0 ? args[0] : "src/CFile.c"));
+        Token tk;
+        while((tk = t.nextToken()) == null || tk.getType() != Token.Type.END){
+            if(tk != null){
+                System.out.println(tk);
+            }
+        }
+        System.out.println(tk);
+    }
+}
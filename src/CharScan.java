@@ -0,0 +1,179 @@
+/**
+ * Scans runs of characters in a char array with tight loops, for the parts of the lexer that
+ * would otherwise go through the input window one character at a time: white space between
+ * tokens, the rest of an identifier, and the bodies of strings, char constants and comments.
+ * It also tells the lexer, from the first character of a token, the one scanner that can
+ * lex it, so the lexer dispatches once instead of trying each scanner in turn.
+ *
+ * ASCII characters are classified with a table built from the same predicates the lexer used
+ * per character, and anything above ASCII falls back to those predicates, so a scan always
+ * stops exactly where the character-at-a-time loop would have.
+ */
+final class CharScan {
+    static final byte SPACE = 1;
+    static final byte IDENTIFIER_PART = 2;
+    static final byte IDENTIFIER_START = 4;
+
+    static final byte START_NONE = 0;
+    static final byte START_NUMBER = 1;
+    static final byte START_STRING = 2;
+    static final byte START_CHAR = 3;
+    static final byte START_SLASH = 4;
+    static final byte START_PUNCTUATOR = 5;
+    static final byte START_IDENTIFIER = 6;
+
+    private static final String PUNCTUATORS = "[](){}-+*%&~!^|<>=?:;,#";
+
+    private static final byte[] ASCII = new byte[128];
+    private static final byte[] STARTS = new byte[128];
+
+    static {
+        for(char c = 0; c < ASCII.length; c++){
+            if(isSpace(c)){
+                ASCII[c] |= SPACE;
+            }
+            if(isIdentifierPart(c)){
+                ASCII[c] |= IDENTIFIER_PART;
+            }
+            if(isIdentifierStart(c)){
+                ASCII[c] |= IDENTIFIER_START;
+            }
+            STARTS[c] = startOf(c, PUNCTUATORS.indexOf(c) >= 0);
+        }
+    }
+
+    private CharScan(){
+    }
+
+    /**
+     * Finds the first character in a range that is not of a class.
+     * @param buf the array to scan
+     * @param from the index to start at
+     * @param to the index to stop at
+     * @param charClass SPACE or IDENTIFIER_PART
+     * @return the index of the first character not of the class, or to if there is none
+     */
+    static int skip(char[] buf, int from, int to, byte charClass){
+        byte[] ascii = ASCII;
+        int i = from;
+        while(i < to){
+            char c = buf[i];
+            if(c < 128){
+                if((ascii[c] & charClass) == 0){
+                    return i;
+                }
+            }
+            else if(!(charClass == SPACE ? isSpace(c) : isIdentifierPart(c))){
+                return i;
+            }
+            i++;
+        }
+        return to;
+    }
+
+    /**
+     * Finds the first occurrence of a character, or of 0, in a range.
+     * @param buf the array to scan
+     * @param from the index to start at
+     * @param to the index to stop at
+     * @param stop the character to look for
+     * @return the index of the first stop or 0 character, or to if there is none
+     */
+    static int find(char[] buf, int from, int to, char stop){
+        int i = from;
+        while(i < to){
+            char c = buf[i];
+            if(c == stop || c == 0){
+                return i;
+            }
+            i++;
+        }
+        return to;
+    }
+
+    /**
+     * Checks if a character is of a class, with a table lookup for ASCII characters.
+     * @param c the character
+     * @param charClass SPACE, IDENTIFIER_PART or IDENTIFIER_START
+     * @return true if the character is of the class
+     */
+    static boolean is(char c, byte charClass){
+        if(c < 128){
+            return (ASCII[c] & charClass) != 0;
+        }
+        if(charClass == SPACE){
+            return isSpace(c);
+        }
+        return charClass == IDENTIFIER_PART ? isIdentifierPart(c) : isIdentifierStart(c);
+    }
+
+    /**
+     * Finds the scanner that can lex a token starting with a character, with a table lookup
+     * for ASCII characters. Above ASCII only numbers and identifiers can start.
+     * @param c the first character of the token, not 0
+     * @return START_NUMBER, START_STRING, START_CHAR, START_SLASH, START_PUNCTUATOR,
+     * START_IDENTIFIER, or START_NONE if no token starts with the character
+     */
+    static byte start(char c){
+        if(c < 128){
+            return STARTS[c];
+        }
+        return startOf(c, false);
+    }
+
+    /**
+     * Classifies the first character of a token with the checks the lexer makes, in the order
+     * it made them before it dispatched on the first character.
+     * @param c the character
+     * @param punctuator true if the character starts a punctuator
+     * @return the scanner that can lex a token starting with the character
+     */
+    private static byte startOf(char c, boolean punctuator){
+        if(Character.isDigit(c) || c == '.'){
+            return START_NUMBER;
+        }
+        if(c == '"'){
+            return START_STRING;
+        }
+        if(c == '\''){
+            return START_CHAR;
+        }
+        if(c == '/'){
+            return START_SLASH;
+        }
+        if(punctuator){
+            return START_PUNCTUATOR;
+        }
+        if(isIdentifierStart(c)){
+            return START_IDENTIFIER;
+        }
+        return START_NONE;
+    }
+
+    /**
+     * Checks if a character is white space between tokens. 0 is not, since it ends the input.
+     * @param c the character
+     * @return true if the character is white space
+     */
+    static boolean isSpace(char c){
+        return c > 0 && (Character.isWhitespace(c) || c == '\r');
+    }
+
+    /**
+     * Checks if a character can follow the first character of an identifier.
+     * @param c the character
+     * @return true if the character can be part of an identifier
+     */
+    static boolean isIdentifierPart(char c){
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Checks if a character can start an identifier.
+     * @param c the character
+     * @return true if the character can start an identifier
+     */
+    static boolean isIdentifierStart(char c){
+        return Character.isAlphabetic(c) || c == '_' || c == '$';
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * A mutable CharSequence view over a range of a char array. The view does not copy the
+ * characters, so it is only valid for as long as the owner leaves the array untouched.
+ */
+public final class CharSlice implements CharSequence {
+    private char[] chars;
+    private int offset;
+    private int length;
+
+    /**
+     * Constructs an empty CharSlice.
+     */
+    public CharSlice(){
+        this.chars = new char[0];
+    }
+
+    /**
+     * Points the view at a range of a char array.
+     * @param chars the array holding the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return this view
+     */
+    public CharSlice set(char[] chars, int offset, int length){
+        this.chars = chars;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if(index < 0 || index >= this.length){
+            throw new IndexOutOfBoundsException("index " + index + ", length " + this.length);
+        }
+        return this.chars[this.offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if(start < 0 || end > this.length || start > end){
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.length);
+        }
+        return new String(this.chars, this.offset + start, end - start);
+    }
+
+    /**
+     * Checks if the view holds the same characters as the given sequence.
+     * @param other the sequence to compare against
+     * @return true if both have the same characters, false otherwise
+     */
+    public boolean contentEquals(CharSequence other){
+        if(other.length() != this.length){
+            return false;
+        }
+        for(int i = 0; i < this.length; i++){
+            if(this.chars[this.offset + i] != other.charAt(i)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the characters of the view into a new String.
+     * @return the characters of the view
+     */
+    @Override
+    public String toString() {
+        return new String(this.chars, this.offset, this.length);
+    }
+}
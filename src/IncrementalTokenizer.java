@@ -0,0 +1,363 @@
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Keeps the tokens of a C source text up to date as the text is edited. An edit re-lexes from
+ * the last token that could have seen the edited characters, and stops as soon as a new token
+ * starts where an old token after the edit started: lexing from a token start does not depend
+ * on anything before it, so the rest of the old tokens are still right.
+ *
+ * The text and the tokens are both kept in gap buffers with the gap at the last edit. Tokens
+ * after the gap store their start relative to the end of the text, so an edit does not have to
+ * move them, and the cost of an edit depends on the number of tokens lexed again and on its
+ * distance from the previous edit, not on the size of the text.
+ *
+ * Tokens are numbered as nextToken would return them, including null for characters that
+ * start no token, and the last one is END.
+ */
+public class IncrementalTokenizer {
+    /**
+     * How many characters past the end of a token the lexer can look before deciding on it,
+     * for "%:%:" after a '%'.
+     */
+    private static final int LOOKAHEAD = 3;
+
+    private char[] text = new char[1024];
+    private int textGapStart;
+    private int textGapEnd = this.text.length;
+
+    private Token.Type[] types = new Token.Type[256];
+    private int[] starts = new int[256];
+    private int[] lengths = new int[256];
+    private int[] lexemeLengths = new int[256];
+    private String[] fixedLexemes = new String[256];
+    private int gapStart;
+    private int gapEnd = this.types.length;
+
+    private final Tokenizer lexer = new Tokenizer((Reader) null);
+
+    /**
+     * Constructs an IncrementalTokenizer and lexes the whole of a text.
+     * @param text the C source text
+     */
+    public IncrementalTokenizer(CharSequence text){
+        this.lexer.setFileEvents(false);
+        edit(0, 0, text);
+    }
+
+    /**
+     * Replaces a range of the text and updates the tokens.
+     * @param offset the offset of the first character to replace
+     * @param removed the number of characters to remove
+     * @param inserted the characters to insert in their place
+     * @return the range of tokens that were replaced
+     */
+    public Change edit(int offset, int removed, CharSequence inserted){
+        if(offset < 0 || removed < 0 || offset + removed > length()){
+            throw new IndexOutOfBoundsException("edit " + offset + "+" + removed + " of " + length());
+        }
+        int first = firstAffected(offset);
+        int restart = first > 0 ? start(first - 1) + this.lengths[physical(first - 1)] : 0;
+        moveGap(first);
+        replaceText(offset, removed, inserted);
+
+        int editEnd = offset + inserted.length();
+        int old = this.gapEnd;
+        int added = 0;
+        Tokenizer lexer = this.lexer;
+        lexer.reset(new TextReader(restart));
+        while(true){
+            Token.Type type = lexer.advance();
+            int start = restart + (int) lexer.getStart();
+            while(old < this.types.length && this.starts[old] + length() < start){
+                old++;
+            }
+            if(start >= editEnd && old < this.types.length && this.starts[old] + length() == start){
+                break;
+            }
+            if(this.gapStart == old){
+                int dropped = old - this.gapEnd;
+                grow();
+                old = this.gapEnd + dropped;
+            }
+            CharSequence lexeme = lexer.getLexeme();
+            this.types[this.gapStart] = type;
+            this.starts[this.gapStart] = start;
+            this.lengths[this.gapStart] = lexer.getLength();
+            this.lexemeLengths[this.gapStart] = lexeme.length();
+            this.fixedLexemes[this.gapStart] = lexeme instanceof String ? (String) lexeme : null;
+            this.gapStart++;
+            added++;
+            if(type == Token.Type.END){
+                old = this.types.length;
+                break;
+            }
+        }
+        int dropped = old - this.gapEnd;
+        Arrays.fill(this.fixedLexemes, Math.max(this.gapStart, this.gapEnd), old, null);
+        this.gapEnd = old;
+        return new Change(first, dropped, added);
+    }
+
+    /**
+     * Returns the number of tokens, including the END token.
+     * @return the number of tokens
+     */
+    public int getTokenCount(){
+        return this.gapStart + this.types.length - this.gapEnd;
+    }
+
+    /**
+     * Returns a token.
+     * @param index the index of the token
+     * @return the token, or null if the characters at that point start no token
+     */
+    public Token getToken(int index){
+        if(index < 0 || index >= getTokenCount()){
+            throw new IndexOutOfBoundsException("token " + index + " of " + getTokenCount());
+        }
+        int i = physical(index);
+        if(this.types[i] == null){
+            return null;
+        }
+        int start = start(index);
+        String lexeme = this.fixedLexemes[i];
+        if(lexeme == null){
+            lexeme = substring(start, this.lexemeLengths[i]);
+        }
+        return new Token(this.types[i], lexeme, start);
+    }
+
+    /**
+     * Returns the number of characters in the text.
+     * @return the length of the text
+     */
+    public int length(){
+        return this.text.length - (this.textGapEnd - this.textGapStart);
+    }
+
+    /**
+     * Returns the current text.
+     * @return the text
+     */
+    @Override
+    public String toString(){
+        return substring(0, length());
+    }
+
+    /**
+     * Finds the first token that may have looked at the character at an offset. This is
+     * never past END, which can come before the end of the text if the text holds a NUL.
+     * @param offset the offset of the first edited character
+     * @return the index of the token
+     */
+    private int firstAffected(int offset){
+        int low = 0;
+        int high = getTokenCount() - 1;
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(start(mid) + this.lengths[physical(mid)] + LOOKAHEAD <= offset){
+                low = mid + 1;
+            }
+            else{
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int physical(int index){
+        return index < this.gapStart ? index : index + this.gapEnd - this.gapStart;
+    }
+
+    private int start(int index){
+        if(index < this.gapStart){
+            return this.starts[index];
+        }
+        return this.starts[index + this.gapEnd - this.gapStart] + length();
+    }
+
+    /**
+     * Moves the token gap to an index, converting the starts of the tokens that cross it.
+     */
+    private void moveGap(int index){
+        int length = length();
+        if(index < this.gapStart){
+            int count = this.gapStart - index;
+            moveRecords(index, this.gapEnd - count, count);
+            this.gapStart -= count;
+            this.gapEnd -= count;
+            for(int i = this.gapEnd; i < this.gapEnd + count; i++){
+                this.starts[i] -= length;
+            }
+        }
+        else if(index > this.gapStart){
+            int count = index - this.gapStart;
+            moveRecords(this.gapEnd, this.gapStart, count);
+            for(int i = this.gapStart; i < this.gapStart + count; i++){
+                this.starts[i] += length;
+            }
+            this.gapStart += count;
+            this.gapEnd += count;
+        }
+    }
+
+    /**
+     * Moves a run of token records across the gap, clearing the lexemes left behind.
+     */
+    private void moveRecords(int from, int to, int count){
+        System.arraycopy(this.types, from, this.types, to, count);
+        System.arraycopy(this.starts, from, this.starts, to, count);
+        System.arraycopy(this.lengths, from, this.lengths, to, count);
+        System.arraycopy(this.lexemeLengths, from, this.lexemeLengths, to, count);
+        System.arraycopy(this.fixedLexemes, from, this.fixedLexemes, to, count);
+        if(from < to){
+            Arrays.fill(this.fixedLexemes, from, Math.min(from + count, to), null);
+        }
+        else{
+            Arrays.fill(this.fixedLexemes, Math.max(from, to + count), from + count, null);
+        }
+    }
+
+    /**
+     * Doubles the token arrays, keeping the tokens after the gap at the end.
+     */
+    private void grow(){
+        int size = this.types.length * 2;
+        int end = size - (this.types.length - this.gapEnd);
+        Token.Type[] types = new Token.Type[size];
+        int[] starts = new int[size];
+        int[] lengths = new int[size];
+        int[] lexemeLengths = new int[size];
+        String[] fixedLexemes = new String[size];
+        copyRecords(this.types, types, end);
+        copyRecords(this.starts, starts, end);
+        copyRecords(this.lengths, lengths, end);
+        copyRecords(this.lexemeLengths, lexemeLengths, end);
+        copyRecords(this.fixedLexemes, fixedLexemes, end);
+        this.types = types;
+        this.starts = starts;
+        this.lengths = lengths;
+        this.lexemeLengths = lexemeLengths;
+        this.fixedLexemes = fixedLexemes;
+        this.gapEnd = end;
+    }
+
+    private void copyRecords(Object from, Object to, int end){
+        System.arraycopy(from, 0, to, 0, this.gapStart);
+        System.arraycopy(from, this.gapEnd, to, end, this.types.length - this.gapEnd);
+    }
+
+    /**
+     * Replaces a range of the text, moving the text gap to it.
+     */
+    private void replaceText(int offset, int removed, CharSequence inserted){
+        if(offset < this.textGapStart){
+            int count = this.textGapStart - offset;
+            System.arraycopy(this.text, offset, this.text, this.textGapEnd - count, count);
+            this.textGapStart -= count;
+            this.textGapEnd -= count;
+        }
+        else if(offset > this.textGapStart){
+            int count = offset - this.textGapStart;
+            System.arraycopy(this.text, this.textGapEnd, this.text, this.textGapStart, count);
+            this.textGapStart += count;
+            this.textGapEnd += count;
+        }
+        this.textGapEnd += removed;
+        int needed = inserted.length();
+        if(this.textGapEnd - this.textGapStart < needed){
+            int tail = this.text.length - this.textGapEnd;
+            char[] grown = new char[Math.max(this.text.length * 2, length() + needed + 1024)];
+            System.arraycopy(this.text, 0, grown, 0, this.textGapStart);
+            System.arraycopy(this.text, this.textGapEnd, grown, grown.length - tail, tail);
+            this.text = grown;
+            this.textGapEnd = grown.length - tail;
+        }
+        for(int i = 0; i < needed; i++){
+            this.text[this.textGapStart++] = inserted.charAt(i);
+        }
+    }
+
+    private String substring(int start, int count){
+        char[] chars = new char[count];
+        copyText(start, chars, 0, count);
+        return new String(chars);
+    }
+
+    /**
+     * Copies characters of the text, skipping over the gap.
+     */
+    private void copyText(int start, char[] target, int offset, int count){
+        int before = Math.max(0, Math.min(count, this.textGapStart - start));
+        System.arraycopy(this.text, start, target, offset, before);
+        int after = Math.max(start, this.textGapStart) + this.textGapEnd - this.textGapStart;
+        System.arraycopy(this.text, after, target, offset + before, count - before);
+    }
+
+    /**
+     * Reads the text from an offset to its end.
+     */
+    private final class TextReader extends Reader {
+        private int position;
+
+        TextReader(int position){
+            this.position = position;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len){
+            int count = Math.min(len, length() - this.position);
+            if(count <= 0){
+                return len == 0 ? 0 : -1;
+            }
+            copyText(this.position, cbuf, off, count);
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public void close(){
+        }
+    }
+
+    /**
+     * The range of tokens replaced by an edit: getRemovedCount tokens from getStart on were
+     * replaced by getInsertedCount new ones.
+     */
+    public static final class Change {
+        private final int start;
+        private final int removedCount;
+        private final int insertedCount;
+
+        private Change(int start, int removedCount, int insertedCount){
+            this.start = start;
+            this.removedCount = removedCount;
+            this.insertedCount = insertedCount;
+        }
+
+        /**
+         * Returns the index of the first replaced token.
+         * @return the index of the first replaced token
+         */
+        public int getStart(){
+            return this.start;
+        }
+
+        /**
+         * Returns the number of old tokens that were removed.
+         * @return the number of removed tokens
+         */
+        public int getRemovedCount(){
+            return this.removedCount;
+        }
+
+        /**
+         * Returns the number of new tokens in their place.
+         * @return the number of inserted tokens
+         */
+        public int getInsertedCount(){
+            return this.insertedCount;
+        }
+    }
+}
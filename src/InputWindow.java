@@ -0,0 +1,262 @@
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A window over the characters of an input, held in a primitive char buffer. The lexer reads
+ * with next and looks ahead with peek; backtracking is an index move, either one character
+ * with unread or back to the last mark with reset. Characters from the mark onward stay in
+ * the buffer, and anything before it is dropped when the buffer is refilled.
+ *
+ * Reads past the end of the input return 0 and still move the index, so that every read can
+ * be undone with unread whether or not it hit the end. A NUL character is also read as 0, and
+ * only the lexer can tell whether it is in the middle of a token; where a token would start,
+ * it calls end so that the NUL ends the input for good.
+ *
+ * Once the buffer has been handed out with share, it is never written below the limit again:
+ * the next refill that needs to drop characters copies the kept ones into a new buffer instead
+ * of moving them down, so slices of the old buffer stay valid.
+ */
+final class InputWindow {
+    private static final int DEFAULT_SIZE = 8192;
+
+    private Reader source;
+    private char[] buf;
+    private int pos;
+    private int limit;
+    private int mark;
+    private long base;
+    private boolean shared;
+    private boolean ended;
+
+    /**
+     * Constructs a window over the characters of a Reader.
+     * @param source the Reader to pull characters from, or null for an empty input
+     */
+    InputWindow(Reader source){
+        this.source = source;
+        this.buf = new char[DEFAULT_SIZE];
+    }
+
+    /**
+     * Starts over on the characters of another Reader, keeping the buffer unless it has been
+     * handed out with share or has grown past 32 times its default size for a long token.
+     * The Reader being replaced is closed if it is still open, including after end, so a
+     * source that is given up before its end does not leak.
+     * @param source the Reader to pull characters from, or null for an empty input
+     */
+    void restart(Reader source){
+        if(this.source != null && this.source != source){
+            close();
+        }
+        this.source = source;
+        if(this.shared || this.buf.length > DEFAULT_SIZE * 32){
+            this.buf = new char[DEFAULT_SIZE];
+        }
+        this.shared = false;
+        this.ended = false;
+        this.pos = 0;
+        this.limit = 0;
+        this.mark = 0;
+        this.base = 0;
+    }
+
+    /**
+     * Returns the next character and moves past it.
+     * @return the next character, or 0 at the end of the input
+     */
+    char next(){
+        if(this.pos < this.limit){
+            return this.buf[this.pos++];
+        }
+        char c = fill(0) ? this.buf[this.pos] : 0;
+        this.pos++;
+        return c;
+    }
+
+    /**
+     * Ends the input before the character just read, which is a NUL or a read past the end.
+     * Every read after this returns 0 as at the end of the input, whatever characters the
+     * source still holds. The source is left open, since its owner may still read it.
+     */
+    void end(){
+        this.pos--;
+        this.limit = this.pos;
+        this.ended = true;
+    }
+
+    /**
+     * Moves back one character.
+     */
+    void unread(){
+        this.pos--;
+    }
+
+    /**
+     * Returns a character ahead of the current one without moving past it.
+     * @param n how many characters ahead to look, 0 being the next character and negative
+     * values looking back at characters read since the mark
+     * @return the character, or 0 if it is past the end of the input
+     */
+    char peek(int n){
+        int i = this.pos + n;
+        if(i < this.limit){
+            return this.buf[i];
+        }
+        return fill(n) ? this.buf[this.pos + n] : 0;
+    }
+
+    /**
+     * Moves past characters that have already been looked at with peek.
+     * @param n the number of characters to move past
+     */
+    void skip(int n){
+        this.pos += n;
+    }
+
+    /**
+     * Moves past the characters of a class, stopping before the first one that is not.
+     * @param charClass CharScan.SPACE or CharScan.IDENTIFIER_PART
+     * @return the number of characters moved past
+     */
+    int skipRun(byte charClass){
+        int skipped = 0;
+        while(true){
+            int i = CharScan.skip(this.buf, this.pos, this.limit, charClass);
+            skipped += i - this.pos;
+            this.pos = i;
+            if(i < this.limit || !fill(0)){
+                return skipped;
+            }
+        }
+    }
+
+    /**
+     * Moves past the characters up to and including the next stop character or 0, the way
+     * calling next until it returns one of them would.
+     * @param stop the character to stop after
+     * @return the character moved past last, stop or 0
+     */
+    char skipPast(char stop){
+        while(true){
+            int i = CharScan.find(this.buf, this.pos, this.limit, stop);
+            this.pos = i;
+            if(i < this.limit){
+                this.pos++;
+                return this.buf[i];
+            }
+            if(!fill(0)){
+                this.pos++;
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of characters read since the mark, counting a read past the end of
+     * the input.
+     * @return the number of characters read since the mark
+     */
+    int sinceMark(){
+        return this.pos - this.mark;
+    }
+
+    /**
+     * Remembers the current position so that reset can return to it.
+     */
+    void mark(){
+        this.mark = this.pos;
+    }
+
+    /**
+     * Moves back to the position remembered by mark.
+     */
+    void reset(){
+        this.pos = this.mark;
+    }
+
+    /**
+     * Returns the buffer holding the characters from the mark onward. The buffer may be
+     * replaced by the next read, so it should not be kept across reads.
+     * @return the current buffer
+     */
+    char[] buffer(){
+        return this.buf;
+    }
+
+    /**
+     * Returns the current buffer and stops the window from overwriting the characters in it,
+     * so that slices of it can be kept.
+     * @return the current buffer
+     */
+    char[] share(){
+        this.shared = true;
+        return this.buf;
+    }
+
+    /**
+     * Returns the index in the buffer of the character at the mark.
+     * @return the index of the mark
+     */
+    int markIndex(){
+        return this.mark;
+    }
+
+    /**
+     * Returns the offset in the input of the next character.
+     * @return the offset of the next character
+     */
+    long position(){
+        return this.base + Math.min(this.pos, this.limit);
+    }
+
+    /**
+     * Pulls more characters from the source until the character n ahead of the current one
+     * is in the buffer. Characters before the mark are dropped to make room, and the buffer
+     * grows when the mark is already at its start.
+     * @param n how many characters ahead of the current one are needed
+     * @return true if the character is in the buffer, false if the input ends before it
+     */
+    private boolean fill(int n){
+        while(this.pos + n >= this.limit){
+            if(this.source == null || this.ended){
+                return false;
+            }
+            int keep = Math.min(Math.min(this.mark, this.pos), this.limit);
+            if(keep > 0 || this.limit == this.buf.length){
+                int size = keep > 0 ? this.buf.length : this.buf.length * 2;
+                char[] target = this.shared || size != this.buf.length ? new char[size] : this.buf;
+                System.arraycopy(this.buf, keep, target, 0, this.limit - keep);
+                this.buf = target;
+                this.shared = false;
+                this.base += keep;
+                this.pos -= keep;
+                this.mark -= keep;
+                this.limit -= keep;
+            }
+            int read;
+            try{
+                read = this.source.read(this.buf, this.limit, this.buf.length - this.limit);
+            } catch (IOException e) {
+                read = -1;
+            }
+            if(read < 0){
+                close();
+                return false;
+            }
+            this.limit += read;
+        }
+        return true;
+    }
+
+    /**
+     * Closes the source, once it has no more characters or when it is replaced.
+     */
+    private void close(){
+        try{
+            this.source.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        this.source = null;
+    }
+}
@@ -0,0 +1,128 @@
+import java.util.Map;
+
+/**
+ * A keyword lookup table compiled from the keyword map of the Tokenizer. Keywords are placed
+ * with a perfect hash, so a lookup hashes the candidate once, probes a single slot and compares
+ * the characters in place without building a String.
+ */
+final class KeywordTable {
+    private final char[][] keys;
+    private final Token.Type[] types;
+    private final int mask;
+    private final int seed;
+    private final int maxLength;
+
+    private KeywordTable(char[][] keys, Token.Type[] types, int seed, int maxLength){
+        this.keys = keys;
+        this.types = types;
+        this.mask = keys.length - 1;
+        this.seed = seed;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Compiles a keyword map into a table. The table size starts at twice the number of
+     * keywords and doubles until a seed that places every keyword in its own slot is found.
+     * @param keywords the keywords and their Token types
+     * @return the compiled table
+     */
+    static KeywordTable compile(Map<String, Token.Type> keywords){
+        int maxLength = 0;
+        for(String keyword : keywords.keySet()){
+            maxLength = Math.max(maxLength, keyword.length());
+        }
+        int size = Integer.highestOneBit(Math.max(keywords.size(), 1)) * 2;
+        while(size <= (1 << 16)){
+            for(int seed = 1; seed < (1 << 12); seed += 2){
+                char[][] keys = new char[size][];
+                Token.Type[] types = new Token.Type[size];
+                if(place(keywords, keys, types, seed)){
+                    return new KeywordTable(keys, types, seed, maxLength);
+                }
+            }
+            size <<= 1;
+        }
+        throw new IllegalStateException("no perfect hash found for " + keywords.keySet());
+    }
+
+    /**
+     * Places every keyword in the slot given by the seed.
+     * @return true if no two keywords share a slot, false otherwise
+     */
+    private static boolean place(Map<String, Token.Type> keywords, char[][] keys, Token.Type[] types, int seed){
+        int mask = keys.length - 1;
+        for(Map.Entry<String, Token.Type> entry : keywords.entrySet()){
+            char[] key = entry.getKey().toCharArray();
+            int slot = hash(key, 0, key.length, seed) & mask;
+            if(keys[slot] != null){
+                return false;
+            }
+            keys[slot] = key;
+            types[slot] = entry.getValue();
+        }
+        return true;
+    }
+
+    private static int hash(char[] chars, int offset, int length, int seed){
+        int h = length;
+        for(int i = offset; i < offset + length; i++){
+            h = 31 * h + chars[i];
+        }
+        h *= seed;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Looks up the Token type of a keyword.
+     * @param chars the array holding the candidate
+     * @param offset the index of the first character of the candidate
+     * @param length the number of characters in the candidate
+     * @return the Token type of the keyword, or null if the candidate is not a keyword
+     */
+    Token.Type lookup(char[] chars, int offset, int length){
+        if(length > this.maxLength){
+            return null;
+        }
+        int slot = hash(chars, offset, length, this.seed) & this.mask;
+        char[] key = this.keys[slot];
+        if(key == null || key.length != length){
+            return null;
+        }
+        for(int i = 0; i < length; i++){
+            if(key[i] != chars[offset + i]){
+                return null;
+            }
+        }
+        return this.types[slot];
+    }
+
+    /**
+     * Looks up the Token type of a keyword held as bytes, such as ASCII or UTF-8 source. The
+     * keywords are all ASCII, so their bytes hash the same as their characters.
+     * @param bytes the array holding the candidate
+     * @param offset the index of the first byte of the candidate
+     * @param length the number of bytes in the candidate
+     * @return the Token type of the keyword, or null if the candidate is not a keyword
+     */
+    Token.Type lookup(byte[] bytes, int offset, int length){
+        if(length > this.maxLength){
+            return null;
+        }
+        int h = length;
+        for(int i = offset; i < offset + length; i++){
+            h = 31 * h + (bytes[i] & 0xFF);
+        }
+        h *= this.seed;
+        int slot = (h ^ (h >>> 16)) & this.mask;
+        char[] key = this.keys[slot];
+        if(key == null || key.length != length){
+            return null;
+        }
+        for(int i = 0; i < length; i++){
+            if(key[i] != (bytes[offset + i] & 0xFF)){
+                return null;
+            }
+        }
+        return this.types[slot];
+    }
+}
@@ -0,0 +1,125 @@
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Maps offsets in a C source to line and column numbers. Tokens only carry their offset, so
+ * the Tokenizer never counts lines; the index is built the first time a line or column is
+ * asked for, with one pass over the source that records where each line starts, and every
+ * lookup after that is a binary search over the line starts.
+ *
+ * Lines end at '\n', so a '\r' before it counts as the last column of its line. Lines and
+ * columns are numbered from 1, and columns count chars, like the offsets.
+ */
+public final class LineIndex {
+    private static final int SCAN_BLOCK = 1 << 16;
+
+    private final Callable<Reader> source;
+    private long[] starts;
+    private int lineCount;
+
+    /**
+     * Constructs an index over C source held in memory.
+     * @param source the characters of the C source
+     */
+    public LineIndex(char[] source){
+        this(() -> new CharArrayReader(source));
+    }
+
+    /**
+     * Constructs an index over a C file, read as UTF-8 the way Tokenizer(Path) reads it.
+     * @param path the path of the C file
+     */
+    public LineIndex(Path path){
+        this(() -> new MappedInput(path));
+    }
+
+    /**
+     * Constructs an index over a source that can be opened again when the index is built.
+     * @param source opens a Reader over the source
+     */
+    LineIndex(Callable<Reader> source){
+        this.source = source;
+    }
+
+    /**
+     * Returns the line of an offset.
+     * @param offset the offset in the source
+     * @return the line number, from 1
+     */
+    public int getLine(long offset){
+        build();
+        int i = Arrays.binarySearch(this.starts, 0, this.lineCount, offset);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    /**
+     * Returns the column of an offset.
+     * @param offset the offset in the source
+     * @return the column number, from 1
+     */
+    public int getColumn(long offset){
+        return (int) (offset - getLineStart(getLine(offset))) + 1;
+    }
+
+    /**
+     * Returns the offset of the first character of a line.
+     * @param line the line number, from 1
+     * @return the offset of the start of the line
+     */
+    public long getLineStart(int line){
+        build();
+        if(line < 1 || line > this.lineCount){
+            throw new IndexOutOfBoundsException("line " + line + ", line count " + this.lineCount);
+        }
+        return this.starts[line - 1];
+    }
+
+    /**
+     * Returns the number of lines in the source. A source that ends with '\n' has an empty
+     * last line.
+     * @return the number of lines
+     */
+    public int getLineCount(){
+        build();
+        return this.lineCount;
+    }
+
+    /**
+     * Reads the source once and records the offset after every '\n', unless that has been
+     * done already.
+     */
+    private synchronized void build(){
+        if(this.starts != null){
+            return;
+        }
+        long[] starts = new long[1024];
+        int count = 1;
+        long offset = 0;
+        char[] block = new char[SCAN_BLOCK];
+        try(Reader reader = this.source.call()){
+            int n;
+            while((n = reader.read(block, 0, block.length)) >= 0){
+                for(int i = 0; i < n; i++){
+                    if(block[i] == '\n'){
+                        if(count == starts.length){
+                            starts = Arrays.copyOf(starts, count * 2);
+                        }
+                        starts[count++] = offset + i + 1;
+                    }
+                }
+                offset += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        this.lineCount = count;
+        this.starts = starts;
+    }
+}
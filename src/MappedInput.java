@@ -0,0 +1,258 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the characters of a UTF-8 file straight from memory-mapped regions of the file.
+ * ASCII bytes are copied across as they are; other bytes are decoded by hand, with malformed
+ * sequences replaced by U+FFFD the way the JDK decoder replaces them: one U+FFFD for each
+ * longest prefix of a valid sequence, ending before the first byte that does not fit it, and
+ * one for each three-byte sequence of a surrogate. Files larger than one mapping are mapped
+ * one region at a time, so there is no limit on the file size.
+ *
+ * Reading can start at any byte offset that begins a character, and the number of characters
+ * decoded before a given byte offset, the boundary, is recorded as it is passed. The boundary
+ * must follow an ASCII byte, so that no character is split by it. The boundary can also be
+ * made the end of the input, to read only a part of the file.
+ */
+final class MappedInput extends Reader {
+    private static final long REGION_SIZE = 1L << 28;
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final FileChannel channel;
+    private final long size;
+    private final long boundary;
+    private ByteBuffer region;
+    private long regionEnd;
+    private char pendingLowSurrogate;
+    private long chars;
+    private long boundaryChars = -1;
+    private boolean endAtBoundary;
+
+    /**
+     * Opens a file and maps its first region.
+     * @param path the path of the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    MappedInput(Path path) throws IOException {
+        this(path, 0, -1);
+    }
+
+    /**
+     * Opens a file and maps the region starting at an offset.
+     * @param path the path of the file
+     * @param offset the offset of the first byte to read
+     * @param boundary the offset at which to record the number of characters read, or -1
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    MappedInput(Path path, long offset, long boundary) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = this.channel.size();
+        this.boundary = boundary;
+        this.regionEnd = Math.min(offset, this.size);
+        mapNextRegion();
+        checkBoundary(0);
+    }
+
+    /**
+     * Returns the number of characters before the boundary.
+     * @return the number of characters, or -1 if the boundary has not been passed yet
+     */
+    long boundaryChars(){
+        return this.boundaryChars;
+    }
+
+    /**
+     * Makes the boundary the end of the input, so that no characters after it are read.
+     */
+    void endAtBoundary(){
+        this.endAtBoundary = true;
+    }
+
+    /**
+     * Reads and drops characters until the boundary has been passed or the file ends.
+     */
+    void skipToBoundary(){
+        char[] scratch = new char[8192];
+        while(this.boundaryChars < 0){
+            if(read(scratch, 0, scratch.length) < 0){
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the number of characters read once the read position reaches the boundary.
+     * @param n the number of characters read so far by the current read call
+     */
+    private void checkBoundary(int n){
+        if(this.boundaryChars < 0 && this.regionEnd - this.region.remaining() == this.boundary){
+            this.boundaryChars = this.chars + n;
+        }
+    }
+
+    /**
+     * Decodes characters of the file into an array. Runs of ASCII bytes are copied in a
+     * tight loop that stops at the first byte that needs decoding.
+     * @param cbuf the array to fill
+     * @param off the index of the first character to write
+     * @param len the maximum number of characters to write
+     * @return the number of characters written, or -1 at the end of the file
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len){
+        int n = 0;
+        while(n < len){
+            if(this.pendingLowSurrogate != 0){
+                cbuf[off + n++] = this.pendingLowSurrogate;
+                this.pendingLowSurrogate = 0;
+                continue;
+            }
+            if(this.endAtBoundary && this.boundaryChars >= 0){
+                break;
+            }
+            if(!this.region.hasRemaining() && !mapNextRegion()){
+                break;
+            }
+            ByteBuffer region = this.region;
+            int p = region.position();
+            int end = p + Math.min(len - n, region.remaining());
+            if(this.boundaryChars < 0 && this.boundary >= 0){
+                long untilBoundary = this.boundary - (this.regionEnd - region.remaining());
+                if(untilBoundary > 0 && untilBoundary < end - p){
+                    end = p + (int) untilBoundary;
+                }
+            }
+            int b;
+            while(p < end && (b = region.get(p)) >= 0){
+                cbuf[off + n++] = (char) b;
+                p++;
+            }
+            region.position(p);
+            if(p < end){
+                cbuf[off + n++] = (char) decode(nextByte());
+            }
+            checkBoundary(n);
+        }
+        this.chars += n;
+        return n == 0 && len > 0 ? -1 : n;
+    }
+
+    /**
+     * Decodes a multi-byte UTF-8 sequence.
+     * @param lead the first byte of the sequence
+     * @return the decoded character, or the high surrogate of a supplementary character
+     */
+    private int decode(int lead){
+        int count;
+        int codePoint;
+        if(lead >= 0xF0 && lead <= 0xF4){
+            count = 3;
+            codePoint = lead & 0x07;
+        }
+        else if(lead >= 0xE0 && lead < 0xF0){
+            count = 2;
+            codePoint = lead & 0x0F;
+        }
+        else if(lead >= 0xC2 && lead < 0xE0){
+            count = 1;
+            codePoint = lead & 0x1F;
+        }
+        else{
+            return REPLACEMENT;
+        }
+        for(int i = 0; i < count; i++){
+            int b = peekByte();
+            if(i == 0 ? !isSecondByte(lead, b) : (b & 0xC0) != 0x80){
+                return REPLACEMENT;
+            }
+            nextByte();
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if(count == 2 && Character.isSurrogate((char) codePoint)){
+            return REPLACEMENT;
+        }
+        if(count == 3){
+            this.pendingLowSurrogate = Character.lowSurrogate(codePoint);
+            return Character.highSurrogate(codePoint);
+        }
+        return codePoint;
+    }
+
+    /**
+     * Checks if a byte can follow a lead byte in a well-formed sequence. The range is
+     * narrower than the continuation bytes after E0, F0 and F4, so that overlong forms and
+     * code points above U+10FFFF are malformed from their second byte on.
+     * @param lead the lead byte of a multi-byte sequence
+     * @param b the byte after it, or -1 at the end of the input
+     * @return true if the byte continues the sequence
+     */
+    static boolean isSecondByte(int lead, int b){
+        switch(lead){
+            case 0xE0:
+                return b >= 0xA0 && b <= 0xBF;
+            case 0xF0:
+                return b >= 0x90 && b <= 0xBF;
+            case 0xF4:
+                return b >= 0x80 && b <= 0x8F;
+            default:
+                return b >= 0x80 && b <= 0xBF;
+        }
+    }
+
+    /**
+     * Returns the next byte of the file, mapping the next region when the current one is used up.
+     * @return the next byte, or -1 at the end of the file
+     */
+    private int nextByte(){
+        if(!this.region.hasRemaining() && !mapNextRegion()){
+            return -1;
+        }
+        return this.region.get() & 0xFF;
+    }
+
+    /**
+     * Returns the next byte of the file without consuming it.
+     * @return the next byte, or -1 at the end of the file
+     */
+    private int peekByte(){
+        if(!this.region.hasRemaining() && !mapNextRegion()){
+            return -1;
+        }
+        return this.region.get(this.region.position()) & 0xFF;
+    }
+
+    /**
+     * Maps the region following the current one. The channel is closed once the last region
+     * is mapped, since a mapping stays valid after its channel is closed.
+     * @return true if a new region was mapped, false at the end of the file
+     */
+    private boolean mapNextRegion(){
+        if(this.region != null && this.regionEnd >= this.size){
+            return false;
+        }
+        long start = this.regionEnd;
+        long length = Math.min(REGION_SIZE, this.size - start);
+        try{
+            this.region = this.channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            this.regionEnd = start + length;
+            if(this.regionEnd >= this.size){
+                this.channel.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            this.region = ByteBuffer.allocate(0);
+            this.regionEnd = this.size;
+            return false;
+        }
+        return length > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * The transition table of the number constant scanner. Characters are first mapped to a
+ * small set of classes, and the next state is looked up in a dense table indexed by the
+ * current state and the class. Positive states continue the scan; negative states end it,
+ * and the Token type of the constant is given by accept.
+ *
+ * States:
+ *  2 integer digits, 3 after '.', 4 leading '.', 5 after exponent mark, 6 exponent digits,
+ *  7 after exponent sign, 8 fraction digits, 9 leading '0', 10 octal digits, 11 hex digits,
+ *  12-18 integer suffixes, 19 after a float suffix.
+ */
+final class NumberDfa {
+    static final int OTHER = 0;
+    static final int OCTAL_DIGIT = 1;
+    static final int DIGIT = 2;
+    static final int UNICODE_DIGIT = 3;
+    static final int EXPONENT = 4;
+    static final int FLOAT_SUFFIX = 5;
+    static final int LOWER_L = 6;
+    static final int UPPER_L = 7;
+    static final int LOWER_U = 8;
+    static final int UPPER_U = 9;
+    static final int HEX_MARK = 10;
+    static final int DOT = 11;
+    static final int SIGN = 12;
+    static final int HEX_LETTER = 13;
+    static final int PUNCTUATOR = 14;
+    private static final int CLASS_COUNT = 15;
+    private static final int STATE_COUNT = 21;
+
+    private static final String PUNCTUATORS = "[](){}&*~!|/%<>=^?:;,";
+
+    private static final byte[] CLASSES = new byte[128];
+    private static final int[][] TRANSITIONS = new int[STATE_COUNT][CLASS_COUNT];
+
+    static {
+        for(char c = '0'; c <= '6'; c++){
+            CLASSES[c] = OCTAL_DIGIT;
+        }
+        for(char c = '7'; c <= '9'; c++){
+            CLASSES[c] = DIGIT;
+        }
+        for(char c : "abcdABCD".toCharArray()){
+            CLASSES[c] = HEX_LETTER;
+        }
+        for(char c : PUNCTUATORS.toCharArray()){
+            CLASSES[c] = PUNCTUATOR;
+        }
+        CLASSES['e'] = EXPONENT;
+        CLASSES['E'] = EXPONENT;
+        CLASSES['f'] = FLOAT_SUFFIX;
+        CLASSES['F'] = FLOAT_SUFFIX;
+        CLASSES['l'] = LOWER_L;
+        CLASSES['L'] = UPPER_L;
+        CLASSES['u'] = LOWER_U;
+        CLASSES['U'] = UPPER_U;
+        CLASSES['x'] = HEX_MARK;
+        CLASSES['X'] = HEX_MARK;
+        CLASSES['.'] = DOT;
+        CLASSES['+'] = SIGN;
+        CLASSES['-'] = SIGN;
+
+        int[] digits = {OCTAL_DIGIT, DIGIT, UNICODE_DIGIT};
+        int[] intSuffixes = {LOWER_L, UPPER_L, LOWER_U, UPPER_U};
+        int[] floatSuffixes = {FLOAT_SUFFIX, LOWER_L, UPPER_L};
+        int[] punctuators = {PUNCTUATOR, SIGN};
+
+        otherwise(2, -2);
+        on(2, 2, digits);
+        on(2, 5, EXPONENT);
+        on(2, 3, DOT);
+        on(2, 12, intSuffixes);
+
+        otherwise(3, -3);
+        on(3, 8, digits);
+
+        otherwise(4, -4);
+        on(4, 3, digits);
+
+        otherwise(5, -5);
+        on(5, 6, digits);
+        on(5, 7, SIGN);
+
+        otherwise(6, -6);
+        on(6, 6, digits);
+        on(6, 19, floatSuffixes);
+
+        otherwise(7, -7);
+        on(7, 6, digits);
+
+        otherwise(8, -8);
+        on(8, 8, digits);
+        on(8, 5, EXPONENT);
+        on(8, 19, floatSuffixes);
+
+        otherwise(9, 10);
+        on(9, 11, HEX_MARK);
+
+        otherwise(10, -10);
+        on(10, 10, OCTAL_DIGIT);
+        on(10, 12, intSuffixes);
+
+        otherwise(11, -11);
+        on(11, 11, digits);
+        on(11, 11, HEX_LETTER, EXPONENT, FLOAT_SUFFIX);
+        on(11, 12, intSuffixes);
+
+        otherwise(12, -12);
+        on(12, 13, UPPER_U);
+        on(12, 14, LOWER_U);
+        on(12, 15, UPPER_L);
+        on(12, 16, LOWER_L);
+        on(12, -2, punctuators);
+
+        otherwise(13, -12);
+        on(13, 15, UPPER_L);
+        on(13, -2, punctuators);
+
+        otherwise(14, -12);
+        on(14, 16, LOWER_L);
+        on(14, -2, punctuators);
+
+        otherwise(15, -12);
+        on(15, 17, UPPER_L);
+        on(15, -2, punctuators);
+
+        otherwise(16, -12);
+        on(16, 18, LOWER_L);
+        on(16, -2, punctuators);
+
+        otherwise(17, -2);
+
+        otherwise(18, -12);
+        on(18, -2, punctuators);
+
+        otherwise(19, -12);
+        on(19, -6, punctuators);
+
+        otherwise(20, -6);
+    }
+
+    private NumberDfa(){
+    }
+
+    private static void otherwise(int state, int next){
+        for(int i = 0; i < CLASS_COUNT; i++){
+            TRANSITIONS[state][i] = next;
+        }
+    }
+
+    private static void on(int state, int next, int... classes){
+        for(int c : classes){
+            TRANSITIONS[state][c] = next;
+        }
+    }
+
+    /**
+     * Returns the class of a character. Non-ASCII characters are either Unicode digits,
+     * which Character.isDigit accepts but the octal state does not, or OTHER.
+     * @param c the character
+     * @return the class of the character
+     */
+    static int classOf(char c){
+        if(c < 128){
+            return CLASSES[c];
+        }
+        return Character.isDigit(c) ? UNICODE_DIGIT : OTHER;
+    }
+
+    /**
+     * Returns the state reached from a state on a character.
+     * @param state the current state, greater than 0
+     * @param c the character
+     * @return the next state, negative if the scan ends before the character
+     */
+    static int next(int state, char c){
+        return TRANSITIONS[state][classOf(c)];
+    }
+
+    /**
+     * Returns the Token type of a constant whose scan ended in the given state.
+     * @param state the negative state the scan ended in
+     * @return the Token type of the constant
+     */
+    static Token.Type accept(int state){
+        switch(-state){
+            case 2:
+            case 3:
+                return Token.Type.INTEGER_CONSTANT;
+            case 4:
+                return Token.Type.PERIOD;
+            case 6:
+            case 8:
+                return Token.Type.FLOAT_CONSTANT;
+            case 10:
+                return Token.Type.BAD_OCTAL;
+            case 11:
+                return Token.Type.BAD_HEX;
+            case 12:
+                return Token.Type.BAD_SUFFIX_TOKEN;
+            default:
+                return Token.Type.BAD_FLOAT;
+        }
+    }
+}
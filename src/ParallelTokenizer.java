@@ -0,0 +1,268 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Tokenizes one large C file with several threads. The file is split into chunks just after
+ * newlines, and every chunk is lexed in parallel as if a token started at its first character.
+ * That guess is wrong when the chunk begins inside a block comment or a string, so the chunks
+ * are then merged in order: the tokens of a chunk are taken from the first one that starts
+ * where the tokens before it say the next token starts, and until such a token is found the
+ * lexer of the previous chunk carries on into the chunk instead. Lexing from a token start
+ * does not depend on anything before it, so once the start positions meet, the rest of the
+ * chunk is exactly what a sequential run would produce.
+ *
+ * Like the memory-mapped Tokenizer, the file is decoded as UTF-8.
+ */
+public class ParallelTokenizer {
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final Path path;
+    private final int parallelism;
+    private long relexedTokens;
+
+    /**
+     * Constructs a ParallelTokenizer with one worker per available processor.
+     * @param path The path of the C file.
+     */
+    public ParallelTokenizer(Path path){
+        this(path, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a ParallelTokenizer.
+     * @param path The path of the C file.
+     * @param parallelism the number of chunks to lex at the same time
+     */
+    public ParallelTokenizer(Path path, int parallelism){
+        if(parallelism < 1){
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        this.path = path;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns every token of the C file, in the same order and with the same positions as
+     * repeated calls to nextToken on a Tokenizer for the file, including the null entries for
+     * characters that start no token, up to and including the END token.
+     * @return the tokens of the C file
+     * @throws IOException if the file cannot be read
+     */
+    public List<Token> tokenize() throws IOException {
+        long[] bounds = split();
+        Chunk[] chunks = new Chunk[bounds.length - 1];
+        try{
+            for(int i = 0; i < chunks.length; i++){
+                chunks[i] = new Chunk(this.path, bounds[i], bounds[i + 1]);
+            }
+            ForkJoinPool pool = new ForkJoinPool(Math.min(this.parallelism, chunks.length));
+            try{
+                for(Future<Void> f : pool.invokeAll(Arrays.asList(chunks))){
+                    f.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("interrupted");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+            return merge(chunks);
+        } finally {
+            for(Chunk chunk : chunks){
+                if(chunk != null){
+                    chunk.reader.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tokens the last call to tokenize had to lex again because a
+     * chunk did not start at a token.
+     * @return the number of tokens lexed again
+     */
+    public long getRelexedTokens(){
+        return this.relexedTokens;
+    }
+
+    /**
+     * Joins the tokens of the chunks into one stream.
+     * @param chunks the chunks, each lexed up to its first token past its end
+     * @return the tokens of the whole file
+     */
+    private List<Token> merge(Chunk[] chunks){
+        long offset = 0;
+        for(Chunk chunk : chunks){
+            chunk.offset = offset;
+            offset += chunk.length();
+        }
+        this.relexedTokens = 0;
+        List<Token> tokens = new ArrayList<>();
+        Chunk current = chunks[0];
+        if(append(tokens, current, 0)){
+            return tokens;
+        }
+        Token pending = current.exit;
+        long pendingStart = current.offset + current.exitStart;
+        for(int i = 1; i < chunks.length; i++){
+            Chunk chunk = chunks[i];
+            long end = chunk.offset + chunk.length();
+            while(pendingStart < end){
+                int k = chunk.indexOf(pendingStart - chunk.offset);
+                if(k >= 0){
+                    current = chunk;
+                    if(append(tokens, chunk, k)){
+                        return tokens;
+                    }
+                    pending = chunk.exit;
+                    pendingStart = chunk.offset + chunk.exitStart;
+                    break;
+                }
+                tokens.add(shift(pending, current.offset));
+                if(pending != null && pending.getType() == Token.Type.END){
+                    return tokens;
+                }
+                pending = current.lexer.nextToken();
+                pendingStart = current.offset + current.lexer.getStart();
+                this.relexedTokens++;
+            }
+        }
+        tokens.add(shift(pending, current.offset));
+        return tokens;
+    }
+
+    /**
+     * Adds the tokens of a chunk from an index on.
+     * @return true if the last token added is END
+     */
+    private static boolean append(List<Token> tokens, Chunk chunk, int from){
+        Token last = null;
+        for(int i = from; i < chunk.tokens.size(); i++){
+            last = shift(chunk.tokens.get(i), chunk.offset);
+            tokens.add(last);
+        }
+        return last != null && last.getType() == Token.Type.END;
+    }
+
+    private static Token shift(Token token, long offset){
+        if(token != null){
+            token.shift(offset);
+        }
+        return token;
+    }
+
+    /**
+     * Picks the chunk boundaries: about CHUNKS_PER_WORKER chunks per worker, none smaller
+     * than MIN_CHUNK_SIZE, each ending just after a newline.
+     * @return the offsets of the chunk boundaries, starting with 0 and ending with the file size
+     */
+    private long[] split() throws IOException {
+        try(FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)){
+            long size = channel.size();
+            long count = Math.max(1, Math.min((long) this.parallelism * CHUNKS_PER_WORKER, size / MIN_CHUNK_SIZE));
+            long[] bounds = new long[(int) count + 1];
+            int n = 1;
+            ByteBuffer buf = ByteBuffer.allocate(4096);
+            for(long i = 1; i < count; i++){
+                long bound = nextLine(channel, Math.max(size * i / count, bounds[n - 1]), buf);
+                if(bound > bounds[n - 1] && bound < size){
+                    bounds[n++] = bound;
+                }
+            }
+            bounds[n++] = size;
+            return Arrays.copyOf(bounds, n);
+        }
+    }
+
+    /**
+     * Finds the offset just after the first newline at or after an offset.
+     * @return the offset after the newline, or the file size if there is none
+     */
+    private static long nextLine(FileChannel channel, long from, ByteBuffer buf) throws IOException {
+        long position = from;
+        while(true){
+            buf.clear();
+            int read = channel.read(buf, position);
+            if(read < 0){
+                return channel.size();
+            }
+            for(int i = 0; i < read; i++){
+                if(buf.get(i) == '\n'){
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * One chunk of the file and the tokens lexed from its first character. The lexer reads
+     * on to the end of the file, so the merge can keep using it past the end of the chunk.
+     */
+    private static final class Chunk implements Callable<Void> {
+        private final MappedInput reader;
+        private final Tokenizer lexer;
+        private final List<Token> tokens = new ArrayList<>();
+        private long[] starts = new long[1024];
+        private Token exit;
+        private long exitStart;
+        private long offset;
+
+        Chunk(Path path, long from, long to) throws IOException {
+            this.reader = new MappedInput(path, from, to);
+            this.lexer = new Tokenizer(this.reader);
+            this.lexer.setFileEvents(false);
+        }
+
+        /**
+         * Lexes the tokens that start in the chunk, and the first one after it.
+         */
+        @Override
+        public Void call(){
+            while(true){
+                Token token = this.lexer.nextToken();
+                long start = this.lexer.getStart();
+                long length = this.reader.boundaryChars();
+                if(length >= 0 && start >= length){
+                    this.exit = token;
+                    this.exitStart = start;
+                    return null;
+                }
+                if(this.tokens.size() == this.starts.length){
+                    this.starts = Arrays.copyOf(this.starts, this.starts.length * 2);
+                }
+                this.starts[this.tokens.size()] = start;
+                this.tokens.add(token);
+                if(token != null && token.getType() == Token.Type.END){
+                    this.reader.skipToBoundary();
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * Returns the number of characters in the chunk.
+         * @return the number of characters
+         */
+        long length(){
+            return this.reader.boundaryChars();
+        }
+
+        /**
+         * Finds the token that starts at an offset within the chunk.
+         * @param start the offset from the start of the chunk
+         * @return the index of the token, or a negative number if no token starts there
+         */
+        int indexOf(long start){
+            return Arrays.binarySearch(this.starts, 0, this.tokens.size(), start);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+import java.io.CharArrayReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.function.Consumer;
+
+/**
+ * Tokenizes C source that arrives in chunks, such as from a socket or a message queue, without
+ * waiting for the whole source. Each chunk of UTF-8 bytes given to feed is decoded and lexed,
+ * and every token that no later input can change is handed to a callback right away; finish
+ * hands over the rest once the source has ended. The callback gets the same Tokens, with the
+ * same positions, as nextToken on the whole source would give, leaving out END and the
+ * characters that start no token. Malformed UTF-8 is replaced by U+FFFD, and a 0 where a
+ * token would start ends the source, so any input after it is ignored.
+ *
+ * A token is done once the input reaches three characters past its end, since the lexer never
+ * looks further ahead than that. The characters of the token that is not done yet are kept and
+ * lexed again from its start when more input arrives, so memory is bounded by the longest
+ * token plus one chunk, not by the size of the source. An open string, char constant or
+ * comment can be much longer than a chunk, so it is not lexed again until a chunk brings the
+ * character that could close it.
+ */
+public final class PushTokenizer {
+    /**
+     * How many characters past the end of a token the lexer can look before deciding on it,
+     * for "%:%:" after a '%'.
+     */
+    private static final int LOOKAHEAD = 3;
+
+    private final Consumer<? super Token> sink;
+    private final Tokenizer lexer = new Tokenizer((Reader) null);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer carry = ByteBuffer.allocate(8);
+    private char[] chars = new char[8192];
+    private int length;
+    private long base;
+    private char closer;
+    private int scanFrom;
+    private boolean finished;
+    private boolean stopped;
+    private boolean[] skipped;
+
+    /**
+     * Constructs a PushTokenizer.
+     * @param sink the callback to hand the tokens to, in the order they appear in the source
+     */
+    public PushTokenizer(Consumer<? super Token> sink){
+        this.sink = sink;
+        this.lexer.setFileEvents(false);
+    }
+
+    /**
+     * Leaves out tokens of some types, as Tokenizer.setSkippedTypes does.
+     * @param types the types to leave out, or null to give every token
+     */
+    public void setSkippedTypes(EnumSet<Token.Type> types){
+        if(types == null || types.isEmpty()){
+            this.skipped = null;
+            return;
+        }
+        if(types.contains(Token.Type.END)){
+            throw new IllegalArgumentException("END cannot be skipped");
+        }
+        this.skipped = new boolean[Token.Type.values().length];
+        for(Token.Type type : types){
+            this.skipped[type.ordinal()] = true;
+        }
+    }
+
+    /**
+     * Decodes and lexes the next chunk of the source, and hands the tokens that are done to
+     * the callback. A UTF-8 sequence may be split across chunks.
+     * @param chunk the bytes of the chunk, all of which are consumed
+     * @throws IllegalStateException if finish has been called
+     */
+    public void feed(ByteBuffer chunk){
+        if(this.finished){
+            throw new IllegalStateException("feed after finish");
+        }
+        if(this.stopped){
+            chunk.position(chunk.limit());
+            return;
+        }
+        while(this.carry.position() > 0 && chunk.hasRemaining()){
+            this.carry.put(chunk.get());
+            this.carry.flip();
+            decode(this.carry, false);
+            this.carry.compact();
+        }
+        decode(chunk, false);
+        this.carry.put(chunk);
+        if(this.closer != 0 && !mayClose()){
+            return;
+        }
+        lex(false);
+    }
+
+    /**
+     * Ends the source, and hands all the tokens that are left to the callback.
+     * @throws IllegalStateException if finish has been called already
+     */
+    public void finish(){
+        if(this.finished){
+            throw new IllegalStateException("finish called twice");
+        }
+        this.finished = true;
+        if(this.stopped){
+            return;
+        }
+        this.carry.flip();
+        decode(this.carry, true);
+        CharBuffer out;
+        while(this.decoder.flush(out = output()).isOverflow()){
+            this.length = out.position();
+            grow();
+        }
+        this.length = out.position();
+        lex(true);
+        this.chars = null;
+    }
+
+    /**
+     * Returns the offset in the source of the first character that has not been handed over
+     * as part of a token yet.
+     * @return the offset of the first character of the unfinished token
+     */
+    public long getPosition(){
+        return this.base;
+    }
+
+    /**
+     * Decodes bytes onto the end of the characters waiting to be lexed.
+     * @param in the bytes to decode, left with the bytes of an incomplete sequence at its end
+     * @param endOfInput true if no more bytes follow
+     */
+    private void decode(ByteBuffer in, boolean endOfInput){
+        CharBuffer out;
+        while(this.decoder.decode(in, out = output(), endOfInput).isOverflow()){
+            this.length = out.position();
+            grow();
+        }
+        this.length = out.position();
+    }
+
+    /**
+     * Returns a CharBuffer over the free end of the character array.
+     * @return the buffer to decode into
+     */
+    private CharBuffer output(){
+        return CharBuffer.wrap(this.chars, this.length, this.chars.length - this.length);
+    }
+
+    /**
+     * Doubles the character array.
+     */
+    private void grow(){
+        this.chars = Arrays.copyOf(this.chars, this.chars.length * 2);
+    }
+
+    /**
+     * Checks if the characters added since an open string, char constant or comment was last
+     * lexed could close it, or end the input with a 0. Only the new characters are searched,
+     * so an open token that spans many chunks is searched once in all.
+     * @return true if the open token has to be lexed again
+     */
+    private boolean mayClose(){
+        int i = Math.max(this.scanFrom, 1);
+        if(this.closer != '/'){
+            i = CharScan.find(this.chars, i, this.length, this.closer);
+        }
+        else{
+            while((i = CharScan.find(this.chars, i, this.length, '/')) < this.length && this.chars[i] != 0 && this.chars[i - 1] != '*'){
+                i++;
+            }
+        }
+        this.scanFrom = this.length;
+        return i < this.length;
+    }
+
+    /**
+     * Lexes the waiting characters, hands over the tokens that are done, and drops their
+     * characters, keeping the ones from the start of the first token that is not done.
+     * @param end true if the source has ended, so that every token is done
+     */
+    private void lex(boolean end){
+        this.lexer.reset(new CharArrayReader(this.chars, 0, this.length));
+        boolean[] skipped = this.skipped;
+        int keep;
+        int tokenEnd;
+        Token.Type type;
+        while(true){
+            type = this.lexer.advance();
+            keep = (int) this.lexer.getStart();
+            tokenEnd = keep + this.lexer.getLength();
+            if(type == Token.Type.END || (!end && tokenEnd + LOOKAHEAD > this.length)){
+                break;
+            }
+            if(type != null && (skipped == null || !skipped[type.ordinal()])){
+                Token token = this.lexer.currentToken(type);
+                token.shift(this.base);
+                this.sink.accept(token);
+            }
+        }
+        if(type == Token.Type.END && keep < this.length){
+            //A 0 where a token would start ends the source, as it does for the Tokenizer.
+            this.stopped = true;
+        }
+        this.closer = 0;
+        if(!end && type != Token.Type.END && tokenEnd == this.length){
+            char last = this.chars[this.length - 1];
+            if(last != 0 && (type != Token.Type.LINE_COMMENT || last != '\n')){
+                this.closer = closer(type);
+                this.scanFrom = this.length - keep;
+            }
+        }
+        System.arraycopy(this.chars, keep, this.chars, 0, this.length - keep);
+        this.length -= keep;
+        this.base += keep;
+    }
+
+    /**
+     * Returns the character that has to arrive before a token that ran into the end of the
+     * input can turn out differently.
+     * @param type the type the token was lexed as
+     * @return the quote or '/' that could close an open string, char constant or comment, or
+     * 0 if the token has to be lexed again whatever arrives
+     */
+    private static char closer(Token.Type type){
+        if(type == Token.Type.BAD_STRING){
+            return '"';
+        }
+        if(type == Token.Type.BAD_CHAR){
+            return '\'';
+        }
+        if(type == Token.Type.BAD_COMMENT){
+            return '/';
+        }
+        if(type == Token.Type.LINE_COMMENT){
+            return '\n';
+        }
+        return 0;
+    }
+}
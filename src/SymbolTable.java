@@ -0,0 +1,182 @@
+import java.util.Arrays;
+
+/**
+ * Interns identifiers to dense int ids: the first distinct name gets 0, the next 1, and so on.
+ * Each name is stored once, as one String and as characters in a shared pool, and looked up
+ * in an open-addressing hash table of ids with linear probing, so interning a name that is
+ * already known allocates nothing.
+ *
+ * A Tokenizer given a SymbolTable interns every identifier it reads. One table can be shared
+ * by the Tokenizers of a run, so that the same name gets the same id in every file, but it is
+ * not thread-safe: Tokenizers on different threads need their own tables, or must not use a
+ * shared one at the same time.
+ */
+public final class SymbolTable {
+    private char[] pool = new char[4096];
+    private int poolSize;
+    private int[] offsets = new int[257];
+    private int[] hashes = new int[256];
+    private String[] names = new String[256];
+    private int size;
+    private int[] slots = new int[512];
+    private int mask = 511;
+
+    /**
+     * Returns the id of a name, adding the name if it is new.
+     * @param name the name
+     * @return the id of the name
+     */
+    public int intern(CharSequence name){
+        char[] chars = new char[name.length()];
+        for(int i = 0; i < chars.length; i++){
+            chars[i] = name.charAt(i);
+        }
+        return intern(chars, 0, chars.length);
+    }
+
+    /**
+     * Returns the id of a name held in a range of a char array, adding the name if it is new.
+     * The array is not kept.
+     * @param chars the array holding the name
+     * @param offset the index of the first character of the name
+     * @param length the number of characters in the name
+     * @return the id of the name
+     */
+    public int intern(char[] chars, int offset, int length){
+        int hash = hash(chars, offset, length);
+        int slot = hash & this.mask;
+        int id;
+        while((id = this.slots[slot] - 1) >= 0){
+            if(this.hashes[id] == hash && matches(id, chars, offset, length)){
+                return id;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return add(chars, offset, length, hash, slot);
+    }
+
+    /**
+     * Returns the id of a name without adding it.
+     * @param name the name
+     * @return the id of the name, or -1 if the table does not hold it
+     */
+    public int find(CharSequence name){
+        String text = name.toString();
+        int hash = hash(text.toCharArray(), 0, text.length());
+        int slot = hash & this.mask;
+        int id;
+        while((id = this.slots[slot] - 1) >= 0){
+            if(this.hashes[id] == hash && this.names[id].equals(text)){
+                return id;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the name with an id. The same String is returned for every occurrence of the name.
+     * @param id the id
+     * @return the name
+     */
+    public String getName(int id){
+        if(id < 0 || id >= this.size){
+            throw new IndexOutOfBoundsException("id " + id + ", size " + this.size);
+        }
+        return this.names[id];
+    }
+
+    /**
+     * Returns the number of names in the table, which is also the next id to be given out.
+     * @return the number of names
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Adds a name that is not in the table yet.
+     * @param chars the array holding the name
+     * @param offset the index of the first character of the name
+     * @param length the number of characters in the name
+     * @param hash the hash of the name
+     * @param slot the free slot the probe for the name ended at
+     * @return the id of the name
+     */
+    private int add(char[] chars, int offset, int length, int hash, int slot){
+        int id = this.size;
+        if(id == this.names.length){
+            this.offsets = Arrays.copyOf(this.offsets, id * 2 + 1);
+            this.hashes = Arrays.copyOf(this.hashes, id * 2);
+            this.names = Arrays.copyOf(this.names, id * 2);
+        }
+        if(this.poolSize + length > this.pool.length){
+            this.pool = Arrays.copyOf(this.pool, Math.max(this.pool.length * 2, this.poolSize + length));
+        }
+        System.arraycopy(chars, offset, this.pool, this.poolSize, length);
+        this.offsets[id] = this.poolSize;
+        this.poolSize += length;
+        this.offsets[id + 1] = this.poolSize;
+        this.hashes[id] = hash;
+        this.names[id] = new String(chars, offset, length);
+        this.slots[slot] = id + 1;
+        this.size++;
+        if(this.size * 2 > this.slots.length){
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * Doubles the hash table, which is kept at most half full so that probes stay short.
+     */
+    private void rehash(){
+        this.slots = new int[this.slots.length * 2];
+        this.mask = this.slots.length - 1;
+        for(int id = 0; id < this.size; id++){
+            int slot = this.hashes[id] & this.mask;
+            while(this.slots[slot] != 0){
+                slot = (slot + 1) & this.mask;
+            }
+            this.slots[slot] = id + 1;
+        }
+    }
+
+    /**
+     * Checks if the name with an id has the same characters as a range of a char array.
+     * @param id the id of the name
+     * @param chars the array holding the characters to compare
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return true if the characters are the name
+     */
+    private boolean matches(int id, char[] chars, int offset, int length){
+        int start = this.offsets[id];
+        if(this.offsets[id + 1] - start != length){
+            return false;
+        }
+        char[] pool = this.pool;
+        for(int i = 0; i < length; i++){
+            if(pool[start + i] != chars[offset + i]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes a range of a char array, spreading the bits so that the low ones used for the
+     * slot depend on every character.
+     * @param chars the array holding the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the hash
+     */
+    private static int hash(char[] chars, int offset, int length){
+        int h = 0;
+        for(int i = 0; i < length; i++){
+            h = 31 * h + chars[offset + i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
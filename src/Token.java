@@ -1,11 +1,23 @@
 /**
- * A class representing a token for a programming language.
+ * A class representing a token for a programming language. Tokens from the Tokenizer refer to
+ * a range of its shared input buffer instead of holding their own copy of the lexeme, and only
+ * build the lexeme String the first time getLexeme is called.
+ *
+ * A Tokenizer with a SymbolTable instead gives identifiers the String of their name from the
+ * table, along with its id, and gives every token of a fixed-spelling type as one shared
+ * Token per type, whose position is unknown.
  *
  * Created by Avi Amon
  */
 public class Token {
     private String lexeme;
-    private Type type;
+    private final char[] source;
+    // The index of the lexeme in source, or the complement of the symbol id of an identifier
+    // from a SymbolTable, which has no source.
+    private final int offset;
+    private final int length;
+    private long position;
+    private final Type type;
 
     /**
      * Constructs a Token with given properties.
@@ -13,18 +25,137 @@ public class Token {
      * @param type the Token type
      */
     public Token(char[] lexeme, Type type){
-        this.lexeme = new String(lexeme);
+        this(lexeme, 0, lexeme.length, type);
+    }
+
+    /**
+     * Constructs a Token from a range of a char array. The characters are copied, so the
+     * array can be reused afterwards.
+     * @param lexeme the array holding the lexeme text
+     * @param offset the index of the first character of the lexeme
+     * @param length the number of characters in the lexeme
+     * @param type the Token type
+     */
+    public Token(char[] lexeme, int offset, int length, Type type){
+        this(type, new String(lexeme, offset, length), -1);
+    }
+
+    /**
+     * Constructs a Token with a lexeme that is not taken from the input.
+     * @param type the Token type
+     * @param lexeme the lexeme text
+     * @param position the offset of the token in the input, or -1 if unknown
+     */
+    Token(Type type, String lexeme, long position){
+        this.lexeme = lexeme;
+        this.source = null;
+        this.offset = 0;
+        this.length = lexeme.length();
+        this.position = position;
         this.type = type;
     }
 
+    /**
+     * Constructs a Token whose lexeme is a range of a shared buffer. The buffer must not be
+     * changed afterwards.
+     * @param type the Token type
+     * @param source the buffer holding the lexeme
+     * @param offset the index of the first character of the lexeme
+     * @param length the number of characters in the lexeme
+     * @param position the offset of the token in the input
+     */
+    Token(Type type, char[] source, int offset, int length, long position){
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.position = position;
+        this.type = type;
+    }
+
+    /**
+     * Constructs an identifier Token whose lexeme is a name from a SymbolTable.
+     * @param symbols the table holding the name
+     * @param id the id of the name
+     * @param position the offset of the token in the input
+     */
+    Token(SymbolTable symbols, int id, long position){
+        this.lexeme = symbols.getName(id);
+        this.source = null;
+        this.offset = ~id;
+        this.length = this.lexeme.length();
+        this.position = position;
+        this.type = Type.IDENTIFIER;
+    }
+
+    /**
+     * Returns the shared Token for a type with a fixed spelling.
+     * @param type the Token type
+     * @return the shared Token, or null if the type has no fixed spelling
+     */
+    static Token canonical(Type type){
+        return Canonical.TOKENS[type.ordinal()];
+    }
+
     /**
      * Returns the lexeme text of the Token.
      * @return the lexeme text of the Token
      */
     public String getLexeme() {
+        if(lexeme == null){
+            lexeme = new String(source, offset, length);
+        }
         return lexeme;
     }
 
+    /**
+     * Returns the lexeme of the Token without building a String. If the lexeme is a range of
+     * a shared buffer, the given view is pointed at it and returned.
+     * @param view the view to point at the lexeme
+     * @return a CharSequence holding the lexeme
+     */
+    public CharSequence getLexeme(CharSlice view) {
+        if(source == null){
+            return lexeme;
+        }
+        return view.set(source, offset, length);
+    }
+
+    /**
+     * Returns the number of characters in the lexeme.
+     * @return the length of the lexeme
+     */
+    public int getLexemeLength() {
+        return length;
+    }
+
+    /**
+     * Returns the offset of the token in the input it was read from.
+     * @return the offset of the first character of the token, or -1 if unknown
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the id of the identifier in the SymbolTable of the Tokenizer that read it.
+     * @return the symbol id, or -1 if the Token was not read with a SymbolTable
+     */
+    public int getSymbol() {
+        return offset < 0 ? ~offset : -1;
+    }
+
+    /**
+     * Moves the Token by a number of characters. Used to turn a position within a part of
+     * the input into a position within the whole input, before the Token is handed out.
+     * Shared Tokens, whose position is unknown, are left as they are.
+     * @param delta the number of characters to add to the position
+     */
+    void shift(long delta){
+        if(this.position >= 0){
+            this.position += delta;
+        }
+    }
+
     /**
      * Gets the Token type of the token.
      * @return the Token type of the token.
@@ -42,6 +173,22 @@ public class Token {
         return "Token: " + getType() + ", Lexeme: " + getLexeme();
     }
 
+    /**
+     * Holds the shared Tokens of the types with a fixed spelling. It is a separate class so
+     * that they are only created once a Tokenizer with a SymbolTable asks for them.
+     */
+    private static final class Canonical {
+        private static final Token[] TOKENS = new Token[Type.values().length];
+
+        static{
+            for(Type type : Type.values()){
+                if(type.getSpelling() != null){
+                    TOKENS[type.ordinal()] = new Token(type, type.getSpelling(), -1);
+                }
+            }
+        }
+    }
+
     /**
      * All possible tokens represented as Type enums.
      */
@@ -53,100 +200,137 @@ public class Token {
         FLOAT_CONSTANT,
         CHAR_CONSTANT,
         STRING_CONSTANT,
-        AUTO_KEYWORD,
-        DOUBLE_KEYWORD,
-        INT_KEYWORD,
-        STRUCT_KEYWORD,
-        CONST_KEYWORD,
-        FLOAT_KEYWORD,
-        SHORT_KEYWORD,
-        UNSIGNED_KEYWORD,
-        BREAK_KEYWORD,
-        ELSE_KEYWORD,
-        LONG_KEYWORD,
-        SWITCH_KEYWORD,
-        CONTINUE_KEYWORD,
-        FOR_KEYWORD,
-        SIGNED_KEYWORD,
-        VOID_KEYWORD,
-        CASE_KEYWORD,
-        ENUM_KEYWORD,
+        AUTO_KEYWORD("auto"),
+        DOUBLE_KEYWORD("double"),
+        INT_KEYWORD("int"),
+        STRUCT_KEYWORD("struct"),
+        CONST_KEYWORD("const"),
+        FLOAT_KEYWORD("float"),
+        SHORT_KEYWORD("short"),
+        UNSIGNED_KEYWORD("unsigned"),
+        BREAK_KEYWORD("break"),
+        ELSE_KEYWORD("else"),
+        LONG_KEYWORD("long"),
+        SWITCH_KEYWORD("switch"),
+        CONTINUE_KEYWORD("continue"),
+        FOR_KEYWORD("for"),
+        SIGNED_KEYWORD("signed"),
+        VOID_KEYWORD("void"),
+        CASE_KEYWORD("case"),
+        ENUM_KEYWORD("enum"),
         REGISTER_KEYWORD,
-        TYPEDEF_KEYWORD,
-        DEFAULT_KEYWORD,
-        GOTO_KEYWORD,
-        SIZEOF_KEYWORD,
-        VOLATILE_KEYWORD,
-        CHAR_KEYWORD,
-        EXTERN_KEYWORD,
-        RETURN_KEYWORD,
-        UNION_KEYWORD,
-        DO_KEYWORD,
-        IF_KEYWORD,
-        INLINE_KEYWORD,
-        STATIC_KEYWORD,
-        WHILE_KEYWORD,
+        TYPEDEF_KEYWORD("typedef"),
+        DEFAULT_KEYWORD("default"),
+        GOTO_KEYWORD("goto"),
+        SIZEOF_KEYWORD("sizeof"),
+        VOLATILE_KEYWORD("volatile"),
+        CHAR_KEYWORD("char"),
+        EXTERN_KEYWORD("extern"),
+        RETURN_KEYWORD("return"),
+        UNION_KEYWORD("union"),
+        DO_KEYWORD("do"),
+        IF_KEYWORD("if"),
+        INLINE_KEYWORD("inline"),
+        STATIC_KEYWORD("static"),
+        WHILE_KEYWORD("while"),
         IDENTIFIER,
-        OPEN_BRACKET,
-        CLOSE_BRACKET,
-        OPEN_PARENT,
-        CLOSE_PARENT,
-        OPEN_BRACE,
-        CLOSE_BRACE,
-        ADD_OP,
-        SUB_OP,
-        MULT_OP,
-        DIV_OP,
-        MOD_OP,
-        INCREMENT,
-        DECREMENT,
-        PERIOD,
-        VARIADIC,
-        ARROW,
-        LOG_NOT,
-        BIT_NOT,
-        BIT_LEFT,
-        BIT_RIGHT,
-        LESS_THAN,
-        GREATER_THAN,
-        LESS_THAN_EQUAL,
-        GREATER_THAN_EQUAL,
-        EQUAL,
-        NOT_EQUAL,
-        BIT_AND,
-        BIT_XOR,
-        BIT_OR,
-        LOG_AND,
-        LOG_OR,
-        ASSIGN,
-        PLUS_EQUALS,
-        MINUS_EQUALS,
-        MULT_EQUALS,
-        DIV_EQUALS,
-        MOD_EQUALS,
-        ASSIGN_LEFT,
-        ASSIGN_RIGHT,
-        ASSIGN_AND,
-        ASSIGN_OR,
-        ASSIGN_XOR,
-        COMMA,
-        COLON,
-        SEMI_COLON,
-        POUND,
-        TERNARY,
-        LEFT_ANGLE_COLON,
-        RIGHT_ANGLE_COLON,
-        LEFT_ANGLE_PERCENT,
-        RIGHT_ANGLE_PERCENT,
-        PERCENT_COLON,
-        PERCENT_COLON_PERCENT_COLON,
-        BLOCK_COMMENT,
-        LINE_COMMENT,
-        BAD_COMMENT,
+        OPEN_BRACKET("["),
+        CLOSE_BRACKET("]"),
+        OPEN_PARENT("("),
+        CLOSE_PARENT(")"),
+        OPEN_BRACE("{"),
+        CLOSE_BRACE("}"),
+        ADD_OP("+"),
+        SUB_OP("-"),
+        MULT_OP("*"),
+        DIV_OP("/"),
+        MOD_OP("%"),
+        INCREMENT("++"),
+        DECREMENT("--"),
+        PERIOD("."),
+        VARIADIC("..."),
+        ARROW("->"),
+        LOG_NOT("!"),
+        BIT_NOT("~"),
+        BIT_LEFT("<<"),
+        BIT_RIGHT(">>"),
+        LESS_THAN("<"),
+        GREATER_THAN(">"),
+        LESS_THAN_EQUAL("<="),
+        GREATER_THAN_EQUAL(">="),
+        EQUAL("=="),
+        NOT_EQUAL("!="),
+        BIT_AND("&"),
+        BIT_XOR("^"),
+        BIT_OR("|"),
+        LOG_AND("&&"),
+        LOG_OR("||"),
+        ASSIGN("="),
+        PLUS_EQUALS("+="),
+        MINUS_EQUALS("-="),
+        MULT_EQUALS("*="),
+        DIV_EQUALS("/="),
+        MOD_EQUALS("%="),
+        ASSIGN_LEFT("<<="),
+        ASSIGN_RIGHT(">>="),
+        ASSIGN_AND("&="),
+        ASSIGN_OR("|="),
+        ASSIGN_XOR("^="),
+        COMMA(","),
+        COLON(":"),
+        SEMI_COLON(";"),
+        POUND("#"),
+        TERNARY("?"),
+        LEFT_ANGLE_COLON("<:"),
+        RIGHT_ANGLE_COLON(":>"),
+        LEFT_ANGLE_PERCENT("<%"),
+        RIGHT_ANGLE_PERCENT("%>"),
+        PERCENT_COLON("%:"),
+        PERCENT_COLON_PERCENT_COLON("%:%:"),
+        BLOCK_COMMENT("/*"),
+        LINE_COMMENT("//"),
+        BAD_COMMENT("/*"),
         BAD_PUNCTUATOR,
-        END,
+        END("EOF"),
         BAD_FLOAT,
         BAD_STRING,
-        BAD_CHAR
+        BAD_CHAR;
+
+        private final String spelling;
+        private final boolean bad;
+
+        /**
+         * Constructs a type whose tokens have varying lexemes.
+         */
+        Type(){
+            this(null);
+        }
+
+        /**
+         * Constructs a type whose tokens all have the same lexeme.
+         * @param spelling the lexeme of every token of the type
+         */
+        Type(String spelling){
+            this.spelling = spelling;
+            this.bad = name().startsWith("BAD_");
+        }
+
+        /**
+         * Returns the lexeme that every token of this type has, such as "+=" or "while".
+         * REGISTER_KEYWORD has none, since it also stands for "restrict", and neither have
+         * the constants, identifiers and bad tokens.
+         * @return the fixed lexeme, or null if the lexeme varies
+         */
+        public String getSpelling(){
+            return this.spelling;
+        }
+
+        /**
+         * Checks if the type marks malformed input, such as an unterminated string.
+         * @return true for the BAD_ types
+         */
+        public boolean isBad(){
+            return this.bad;
+        }
     }
 }
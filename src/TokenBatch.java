@@ -0,0 +1,135 @@
+/**
+ * A reusable batch of tokens stored column by column, filled by Tokenizer.nextTokens. Each
+ * token is a type ordinal, a start and a length in three parallel arrays, so a batch of
+ * thousands of tokens holds no objects and consumers can make one pass per column.
+ *
+ * Starts are stored relative to the base of the batch, the read position of the Tokenizer
+ * when the batch was filled, which keeps them ints for inputs of any size. Lengths are the
+ * numbers of source characters the tokens consume, as from TokenCursor.getLength. The arrays
+ * grow as needed and are kept between batches.
+ */
+public final class TokenBatch {
+    private static final Token.Type[] TYPES = Token.Type.values();
+
+    private byte[] types;
+    private int[] starts;
+    private int[] lengths;
+    private int size;
+    private long base;
+
+    /**
+     * Constructs an empty batch.
+     */
+    public TokenBatch(){
+        this(1024);
+    }
+
+    /**
+     * Constructs an empty batch with room for a number of tokens.
+     * @param capacity the number of tokens the arrays can hold before growing
+     */
+    public TokenBatch(int capacity){
+        this.types = new byte[capacity];
+        this.starts = new int[capacity];
+        this.lengths = new int[capacity];
+    }
+
+    /**
+     * Returns the number of tokens in the batch.
+     * @return the number of tokens
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Returns the offset in the source that the starts of the batch are relative to.
+     * @return the base offset of the batch
+     */
+    public long getBase(){
+        return this.base;
+    }
+
+    /**
+     * Returns the type of a token.
+     * @param i the index of the token in the batch
+     * @return the Token type
+     */
+    public Token.Type getType(int i){
+        return TYPES[this.types[i]];
+    }
+
+    /**
+     * Returns the offset in the source of the first character of a token.
+     * @param i the index of the token in the batch
+     * @return the start offset of the token
+     */
+    public long getStart(int i){
+        return this.base + this.starts[i];
+    }
+
+    /**
+     * Returns the number of source characters consumed by a token.
+     * @param i the index of the token in the batch
+     * @return the length of the token in the source
+     */
+    public int getLength(int i){
+        return this.lengths[i];
+    }
+
+    /**
+     * Returns the type column. The first size entries are the Token.Type ordinals of the tokens.
+     * The array is reused by the next batch.
+     * @return the array of type ordinals
+     */
+    public byte[] types(){
+        return this.types;
+    }
+
+    /**
+     * Returns the start column. The first size entries are the starts of the tokens, relative
+     * to the base. The array is reused by the next batch.
+     * @return the array of starts
+     */
+    public int[] starts(){
+        return this.starts;
+    }
+
+    /**
+     * Returns the length column. The first size entries are the lengths of the tokens. The
+     * array is reused by the next batch.
+     * @return the array of lengths
+     */
+    public int[] lengths(){
+        return this.lengths;
+    }
+
+    /**
+     * Empties the batch and makes sure it can hold a number of tokens.
+     * @param capacity the number of tokens the next fill may add
+     */
+    void reset(int capacity){
+        this.size = 0;
+        if(this.types.length < capacity){
+            this.types = new byte[capacity];
+            this.starts = new int[capacity];
+            this.lengths = new int[capacity];
+        }
+    }
+
+    /**
+     * Sets the number of tokens in the batch.
+     * @param size the number of tokens
+     */
+    void setSize(int size){
+        this.size = size;
+    }
+
+    /**
+     * Sets the offset that the starts of the batch are relative to.
+     * @param base the base offset
+     */
+    void setBase(long base){
+        this.base = base;
+    }
+}
@@ -0,0 +1,248 @@
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An on-disk cache of token files, so that a C file whose content has not changed since an
+ * earlier run is read back with a TokenReader instead of being lexed again. Entries are keyed
+ * by the SHA-256 of the file content together with the Tokenizer and token file versions, so
+ * renamed or copied files share an entry and a change to the Tokenizer never serves stale
+ * tokens.
+ *
+ * Any number of threads and processes on one machine can share a cache directory. An entry
+ * is written to a temporary file and then moved into place atomically, so readers only ever
+ * see complete entries, and two workers that miss on the same file at once just write the
+ * same entry twice. The cache is kept under a size limit by deleting the least recently used
+ * entries; a hit updates the modification time of its entry, which is what the eviction goes
+ * by. A source file must not change while it is being read.
+ *
+ * Like BatchTokenizer, only sources and entries of at least a megabyte are memory-mapped.
+ * Smaller sources are lexed through a Reader and smaller entries are read into the heap,
+ * since a mapping is only released when it is garbage collected and a build that opens many
+ * small files could otherwise run out of mappings.
+ */
+public final class TokenCache {
+    private static final String SUFFIX = ".ctok";
+    private static final String TEMP_SUFFIX = ".part";
+    private static final long STALE_TEMP_MILLIS = 60 * 60 * 1000;
+    private static final int HASH_BLOCK = 1 << 16;
+    private static final long MAPPED_THRESHOLD = 1024 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path dir;
+    private final long maxBytes;
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Opens a cache directory, creating it if needed, and trims it to the size limit.
+     * @param dir the cache directory
+     * @param maxBytes the size limit of the cache in bytes
+     * @throws IOException if the directory cannot be created or read
+     */
+    public TokenCache(Path dir, long maxBytes) throws IOException {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(dir);
+        evict();
+    }
+
+    /**
+     * Returns the tokens of a C file, from the cache if the cache has an entry for its content,
+     * or else by lexing the file and adding an entry for it.
+     * @param source the C file
+     * @return a TokenReader over the tokens of the file
+     * @throws IOException if the file cannot be read or the entry cannot be written
+     */
+    public TokenReader open(Path source) throws IOException {
+        String key = key(source);
+        Path entry = this.dir.resolve(key.substring(0, 2)).resolve(key + SUFFIX);
+        TokenReader reader = read(entry);
+        if(reader != null){
+            this.hits.incrementAndGet();
+            return reader;
+        }
+        this.misses.incrementAndGet();
+        Files.createDirectories(entry.getParent());
+        Path temp = Files.createTempFile(this.dir, "entry-", TEMP_SUFFIX);
+        try{
+            try(TokenWriter writer = new TokenWriter(Files.newOutputStream(temp))){
+                if(Files.size(source) >= MAPPED_THRESHOLD){
+                    writer.writeAll(new Tokenizer(source));
+                }
+                else{
+                    try(Reader in = new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8)){
+                        writer.writeAll(new Tokenizer(in));
+                    }
+                }
+            }
+            long entrySize = Files.size(temp);
+            try{
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            reader = load(entry);
+            if(this.size.addAndGet(entrySize) > this.maxBytes){
+                evict();
+            }
+            return reader;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the number of calls to open that were served from the cache.
+     * @return the number of hits
+     */
+    public long getHits(){
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the number of calls to open that had to lex the file.
+     * @return the number of misses
+     */
+    public long getMisses(){
+        return this.misses.get();
+    }
+
+    /**
+     * Opens a cache entry and marks it as recently used.
+     * @param entry the path of the entry
+     * @return a TokenReader over the entry, or null if there is no readable entry
+     */
+    private static TokenReader read(Path entry){
+        TokenReader reader;
+        try{
+            reader = load(entry);
+        } catch (IOException e) {
+            return null;
+        }
+        try{
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            //The entry was evicted after it was read, the reader stays valid.
+        }
+        return reader;
+    }
+
+    /**
+     * Opens an entry, mapping it if it is large and reading it into the heap otherwise.
+     * @param entry the path of the entry
+     * @return a TokenReader over the entry
+     * @throws IOException if the entry cannot be read or is not a token file
+     */
+    private static TokenReader load(Path entry) throws IOException {
+        ByteBuffer buffer;
+        try(FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)){
+            long size = channel.size();
+            if(size >= MAPPED_THRESHOLD){
+                return new TokenReader(entry);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while(buffer.hasRemaining() && channel.read(buffer) >= 0){
+                //Keep reading until the buffer is full.
+            }
+        }
+        buffer.flip();
+        return new TokenReader(buffer);
+    }
+
+    /**
+     * Computes the cache key of a file: the SHA-256 of the versions and the file content.
+     * @param source the file
+     * @return the key as a hex string
+     * @throws IOException if the file cannot be read
+     */
+    private static String key(Path source) throws IOException {
+        MessageDigest digest;
+        try{
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(("tokenizer " + Tokenizer.VERSION + " format " + TokenWriter.VERSION + "\n").getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer block = ByteBuffer.allocate(HASH_BLOCK);
+        try(FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)){
+            while(channel.read(block) >= 0){
+                block.flip();
+                digest.update(block);
+                block.clear();
+            }
+        }
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for(int i = 0; i < hash.length; i++){
+            hex[2 * i] = HEX[(hash[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Measures the cache and, if it is over the size limit, deletes the least recently used
+     * entries until it is down to nine tenths of the limit. Temporary files left behind by
+     * workers that died are deleted as well. Entries that other processes delete or add at
+     * the same time are simply skipped or picked up on the next pass.
+     */
+    private synchronized void evict() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        List<long[]> stats = new ArrayList<>();
+        long staleBefore = System.currentTimeMillis() - STALE_TEMP_MILLIS;
+        Files.walkFileTree(this.dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String name = file.getFileName().toString();
+                if(name.endsWith(SUFFIX)){
+                    paths.add(file);
+                    stats.add(new long[]{attrs.lastModifiedTime().toMillis(), attrs.size()});
+                }
+                else if(name.endsWith(TEMP_SUFFIX) && attrs.lastModifiedTime().toMillis() < staleBefore){
+                    Files.deleteIfExists(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e){
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        long total = 0;
+        for(long[] stat : stats){
+            total += stat[1];
+        }
+        if(total > this.maxBytes){
+            Integer[] order = new Integer[paths.size()];
+            for(int i = 0; i < order.length; i++){
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(stats.get(a)[0], stats.get(b)[0]));
+            long target = this.maxBytes / 10 * 9;
+            for(int i = 0; i < order.length && total > target; i++){
+                try{
+                    Files.deleteIfExists(paths.get(order[i]));
+                    total -= stats.get(order[i])[1];
+                } catch (IOException e) {
+                    //Still open elsewhere on a platform that does not allow deleting it, skip it.
+                }
+            }
+        }
+        this.size.set(total);
+    }
+}
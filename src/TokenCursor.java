@@ -0,0 +1,34 @@
+/**
+ * A cursor over the tokens of a C source. Unlike Tokenizer.nextToken, advancing the cursor
+ * does not create any objects: the lexeme and position of the current token are exposed
+ * through accessors that are only valid until the next call to advance.
+ */
+public interface TokenCursor {
+
+    /**
+     * Moves the cursor to the next token.
+     * @return the type of the next token, END once the input is exhausted or a NUL is where a
+     * token would start, and on every call after that, or null if the character at the cursor
+     * does not start any token
+     */
+    Token.Type advance();
+
+    /**
+     * Returns the offset in the source of the first character of the current token.
+     * @return the start offset of the current token
+     */
+    long getStart();
+
+    /**
+     * Returns the number of source characters consumed by the current token.
+     * @return the length of the current token in the source
+     */
+    int getLength();
+
+    /**
+     * Returns a view of the lexeme of the current token. The view is reused by the cursor,
+     * so call toString on it if the text is needed after the next call to advance.
+     * @return a view of the lexeme of the current token
+     */
+    CharSequence getLexeme();
+}
@@ -0,0 +1,270 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a token file written by TokenWriter straight from a memory mapping, or from a
+ * ByteBuffer that holds its bytes. Records are decoded in place and lexemes are views of the
+ * bytes, so advancing over a token copies nothing and allocates nothing; only nextToken
+ * creates Tokens. The tokens come back exactly
+ * as the TokenCursor that was written gave them, including the characters that start no token.
+ *
+ * The whole file is held at once, so token files are limited to 2 GB.
+ */
+public class TokenReader implements TokenCursor {
+    private static final Token.Type[] TYPES = Token.Type.values();
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int pos;
+    private int[] stringOffsets = new int[256];
+    private int[] stringHeaders = new int[256];
+    private int stringCount;
+    private final MappedString lexemeView = new MappedString();
+    private String fixedLexeme;
+    private long start;
+    private int length;
+    private long end;
+
+    /**
+     * Maps a token file and checks its header.
+     * @param path the path of the token file
+     * @throws IOException if the file cannot be mapped or is not a token file
+     */
+    public TokenReader(Path path) throws IOException {
+        this(map(path), path.toString());
+    }
+
+    /**
+     * Reads the token file held by the remaining bytes of a buffer and checks its header. The
+     * buffer must not be changed while it is being read.
+     * @param buffer the bytes of the token file, from its position to its limit
+     * @throws IOException if the bytes are not a token file
+     */
+    public TokenReader(ByteBuffer buffer) throws IOException {
+        this(buffer.slice(), "the buffer");
+    }
+
+    private TokenReader(ByteBuffer buffer, String name) throws IOException {
+        this.buffer = buffer;
+        this.limit = this.buffer.limit();
+        for(byte b : TokenWriter.MAGIC){
+            if(this.pos >= this.limit || this.buffer.get(this.pos++) != b){
+                throw new IOException(name + " is not a token file");
+            }
+        }
+        if(this.pos >= this.limit || this.buffer.get(this.pos++) != TokenWriter.VERSION){
+            throw new IOException(name + " has an unsupported token file version");
+        }
+    }
+
+    /**
+     * Maps a whole token file.
+     * @param path the path of the token file
+     * @return the mapping
+     * @throws IOException if the file cannot be mapped
+     */
+    private static ByteBuffer map(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            if(channel.size() > Integer.MAX_VALUE){
+                throw new IOException(path + " is larger than 2 GB");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Returns the next token in the file.
+     * @return the next token, or null if the character there does not start any token
+     */
+    public Token nextToken(){
+        Token.Type type = advance();
+        if(type == null){
+            return null;
+        }
+        return new Token(type, getLexeme().toString(), this.start);
+    }
+
+    /**
+     * Moves to the next token in the file.
+     * @return the type of the next token, END at the end of the file, or null if the character
+     * there does not start any token
+     */
+    @Override
+    public Token.Type advance(){
+        if(this.pos >= this.limit){
+            this.start = this.end;
+            this.length = 0;
+            this.fixedLexeme = Token.Type.END.getSpelling();
+            return Token.Type.END;
+        }
+        int code = this.buffer.get(this.pos++);
+        long gap = 0;
+        int length = -1;
+        if(code >= 0){
+            long word = readVarint();
+            gap = word >>> 1;
+            if((word & 1) != 0){
+                length = (int) readVarint();
+            }
+        }
+        code &= ~TokenWriter.ADJACENT & 0xFF;
+        Token.Type type;
+        int lexemeLength;
+        type = code == TokenWriter.NO_TOKEN ? null : TYPES[code];
+        this.fixedLexeme = type == null ? null : type.getSpelling();
+        if(this.fixedLexeme == null){
+            readLexeme();
+            lexemeLength = this.lexemeView.length();
+        }
+        else{
+            lexemeLength = this.fixedLexeme.length();
+        }
+        this.start = this.end + gap;
+        this.length = length < 0 ? lexemeLength : length;
+        this.end = this.start + this.length;
+        return type;
+    }
+
+    /**
+     * Returns the offset in the source of the first character of the current token.
+     * @return the start offset of the current token
+     */
+    @Override
+    public long getStart(){
+        return this.start;
+    }
+
+    /**
+     * Returns the number of source characters consumed by the current token.
+     * @return the length of the current token in the source
+     */
+    @Override
+    public int getLength(){
+        return this.length;
+    }
+
+    /**
+     * Returns a view of the lexeme of the current token in the token file. The view is only
+     * valid until the next call to advance or nextToken.
+     * @return a view of the lexeme of the current token
+     */
+    @Override
+    public CharSequence getLexeme(){
+        if(this.fixedLexeme != null){
+            return this.fixedLexeme;
+        }
+        return this.lexemeView;
+    }
+
+    /**
+     * Reads a string table index, and the string it defines if it is new, and points the
+     * lexeme view at the string.
+     */
+    private void readLexeme(){
+        int index = (int) readVarint();
+        if(index == this.stringCount){
+            if(index == this.stringOffsets.length){
+                this.stringOffsets = Arrays.copyOf(this.stringOffsets, index * 2);
+                this.stringHeaders = Arrays.copyOf(this.stringHeaders, index * 2);
+            }
+            int header = (int) readVarint();
+            this.stringHeaders[index] = header;
+            this.stringOffsets[index] = this.pos;
+            this.pos += (header >>> 1) << (header & 1);
+            this.stringCount++;
+        }
+        int header = this.stringHeaders[index];
+        this.lexemeView.set(this.stringOffsets[index], header >>> 1, (header & 1) != 0);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     * @return the value read
+     */
+    private long readVarint(){
+        ByteBuffer buffer = this.buffer;
+        int b = buffer.get(this.pos++);
+        if(b >= 0){
+            return b;
+        }
+        long value = b & 0x7F;
+        int shift = 7;
+        while((b = buffer.get(this.pos++)) < 0){
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        return value | ((long) b << shift);
+    }
+
+    /**
+     * A lexeme in the string table of the token file, with one byte per char or two for UTF-16.
+     */
+    private final class MappedString implements CharSequence {
+        private int offset;
+        private int length;
+        private boolean wide;
+
+        /**
+         * Points the view at a string of the table.
+         * @param offset the index in the buffer of the first byte of the string
+         * @param length the number of chars in the string
+         * @param wide true if the chars are stored as UTF-16
+         */
+        void set(int offset, int length, boolean wide){
+            this.offset = offset;
+            this.length = length;
+            this.wide = wide;
+        }
+
+        @Override
+        public int length(){
+            return this.length;
+        }
+
+        @Override
+        public char charAt(int index){
+            if(this.wide){
+                return TokenReader.this.buffer.getChar(this.offset + 2 * index);
+            }
+            return (char) (TokenReader.this.buffer.get(this.offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end){
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString(){
+            char[] chars = new char[this.length];
+            for(int i = 0; i < chars.length; i++){
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Prints the tokens of a token file the way Tokenizer.main prints the tokens of a C file.
+     * @param args the token file
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 1){
+            System.err.println("Usage: TokenReader <token file>");
+            System.exit(1);
+        }
+        TokenReader reader = new TokenReader(Paths.get(args[0]));
+        Token token;
+        while((token = reader.nextToken()) == null || token.getType() != Token.Type.END){
+            if(token != null){
+                System.out.println(token);
+            }
+        }
+        System.out.println(token);
+    }
+}
@@ -0,0 +1,397 @@
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The Spliterator behind Tokenizer.tokens. It hands out the Tokens of a range of the input,
+ * leaving out END and the characters that start no token. Nothing is lexed before the first
+ * Token is asked for.
+ *
+ * When the input is a char array or a mapped file, trySplit cuts the range in two at a safe
+ * boundary: the start of a line that is not inside a string, character constant or comment.
+ * No token crosses such a boundary, so each half can be lexed by its own Tokenizer and the
+ * halves together give exactly the Tokens of the whole range. The boundary is found with a
+ * scan that only follows quotes and comment delimiters, which is much cheaper than lexing;
+ * for a file, the same pass counts the chars before the boundary, which the Tokens of the
+ * second half are shifted by.
+ * A range is only split before it has been read from, and never across a NUL character,
+ * which ends the input for the Tokenizer. Tokenizer.tokens leaves the input unknown when the
+ * Tokenizer has a SymbolTable, so that every identifier is interned by that one Tokenizer.
+ */
+final class TokenSpliterator implements Spliterator<Token> {
+    private static final long MIN_SPLIT = 1 << 18;
+    private static final int SCAN_BLOCK = 1 << 16;
+    private static final int CODE = 0;
+    private static final int SLASH = 1;
+    private static final int STRING = 2;
+    private static final int CHAR = 3;
+    private static final int BLOCK_COMMENT = 4;
+    private static final int BLOCK_COMMENT_STAR = 5;
+    private static final int LINE_COMMENT = 6;
+
+    private final Path path;
+    private final char[] chars;
+    private final EnumSet<Token.Type> skippedTypes;
+    private long from;
+    private final long to;
+    private long charOffset;
+    private Tokenizer lexer;
+    private boolean started;
+    private boolean done;
+
+    /**
+     * Constructs a Spliterator over the Tokens of a Tokenizer. The range can only be split if
+     * the Tokenizer has not been read from yet and its input is known.
+     * @param lexer the Tokenizer to read from while the range has not been split
+     * @param path the mapped file read by the Tokenizer, or null
+     * @param chars the char array read by the Tokenizer, or null
+     * @param size the length of the input in bytes for a file, or in chars for an array
+     */
+    TokenSpliterator(Tokenizer lexer, Path path, char[] chars, long size){
+        this(path, chars, 0, size, 0, lexer.getSkippedTypes());
+        this.lexer = lexer;
+    }
+
+    /**
+     * Constructs a Spliterator over a range of the input that starts at a safe boundary.
+     * @param path the mapped file, or null
+     * @param chars the char array, or null
+     * @param from the offset of the start of the range
+     * @param to the offset of the end of the range
+     * @param charOffset the number of chars in the input before the range
+     * @param skippedTypes the types of the tokens to leave out, or null
+     */
+    private TokenSpliterator(Path path, char[] chars, long from, long to, long charOffset, EnumSet<Token.Type> skippedTypes){
+        this.path = path;
+        this.chars = chars;
+        this.skippedTypes = skippedTypes;
+        this.from = from;
+        this.to = to;
+        this.charOffset = charOffset;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Token> action){
+        if(this.done){
+            return false;
+        }
+        Tokenizer lexer = lexer();
+        Token token;
+        while((token = lexer.nextToken()) == null){
+            //Nothing to do, characters that start no token are left out.
+        }
+        if(token.getType() == Token.Type.END){
+            this.done = true;
+            return false;
+        }
+        if(this.charOffset != 0){
+            token.shift(this.charOffset);
+        }
+        action.accept(token);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Token> action){
+        if(this.done){
+            return;
+        }
+        Tokenizer lexer = lexer();
+        long charOffset = this.charOffset;
+        Token token;
+        while((token = lexer.nextToken()) == null || token.getType() != Token.Type.END){
+            if(token != null){
+                if(charOffset != 0){
+                    token.shift(charOffset);
+                }
+                action.accept(token);
+            }
+        }
+        this.done = true;
+    }
+
+    /**
+     * Splits off the first half of the range at a safe boundary near its middle.
+     * @return a Spliterator over the first half, or null if the range cannot be split
+     */
+    @Override
+    public Spliterator<Token> trySplit(){
+        if(this.started || (this.path == null && this.chars == null) || this.to - this.from < 2 * MIN_SPLIT){
+            return null;
+        }
+        long middle = this.from + (this.to - this.from) / 2;
+        long boundary;
+        long prefixChars;
+        try{
+            if(this.chars != null){
+                boundary = findBoundary(this.chars, (int) this.from, (int) middle, (int) this.to);
+                prefixChars = boundary - this.from;
+            }
+            else{
+                CharCount count = new CharCount();
+                boundary = findBoundary(this.path, this.from, middle, this.to, count);
+                prefixChars = count.chars;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if(boundary < 0){
+            return null;
+        }
+        TokenSpliterator prefix = new TokenSpliterator(this.path, this.chars, this.from, boundary, this.charOffset, this.skippedTypes);
+        this.from = boundary;
+        this.charOffset += prefixChars;
+        this.lexer = null;
+        return prefix;
+    }
+
+    /**
+     * Estimates the number of Tokens left from the length of the range, at about five input
+     * characters per token.
+     * @return the estimated number of Tokens, or Long.MAX_VALUE if the length is unknown
+     */
+    @Override
+    public long estimateSize(){
+        if(this.done){
+            return 0;
+        }
+        if(this.to < 0){
+            return Long.MAX_VALUE;
+        }
+        return Math.max((this.to - this.from) / 5, 1);
+    }
+
+    @Override
+    public int characteristics(){
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Returns the Tokenizer for the range, creating it on first use with the same types left
+     * out as the Tokenizer the Stream came from, and marks the range as started so that it is
+     * not split any more.
+     * @return the Tokenizer for the range
+     */
+    private Tokenizer lexer(){
+        this.started = true;
+        if(this.lexer == null){
+            if(this.chars != null){
+                this.lexer = new Tokenizer(new CharArrayReader(this.chars, (int) this.from, (int) (this.to - this.from)));
+            }
+            else{
+                try{
+                    MappedInput input = new MappedInput(this.path, this.from, this.to);
+                    input.endAtBoundary();
+                    this.lexer = new Tokenizer(input);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            this.lexer.setSkippedTypes(this.skippedTypes);
+            this.lexer.setFileEvents(false);
+        }
+        return this.lexer;
+    }
+
+    /**
+     * Finds the first safe boundary of a char array range at or after a given index.
+     * @param chars the input
+     * @param from the start of the range, which must be a safe boundary
+     * @param middle the index to look for a boundary from
+     * @param to the end of the range
+     * @return the index of the boundary, or -1 if there is none before the end of the range
+     */
+    private static int findBoundary(char[] chars, int from, int middle, int to){
+        Scan scan = new Scan();
+        for(int i = from; i < to - 1; i++){
+            if(scan.step(chars[i]) && i >= middle - 1){
+                return i + 1;
+            }
+            if(scan.state < 0){
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first safe boundary of a file range at or after a given byte offset, counting
+     * the chars that the bytes before it decode to in the same pass. The scan works on the
+     * UTF-8 bytes, since the quotes, backslashes and comment delimiters it follows are ASCII
+     * and no byte of a multi-byte sequence is ASCII.
+     * @param path the file
+     * @param from the start of the range, which must be a safe boundary
+     * @param middle the offset to look for a boundary from
+     * @param to the end of the range
+     * @param count the count of the chars from the start of the range to the boundary
+     * @return the byte offset of the boundary, or -1 if there is none before the end of the range
+     * @throws IOException if the file cannot be read
+     */
+    private static long findBoundary(Path path, long from, long middle, long to, CharCount count) throws IOException {
+        Scan scan = new Scan();
+        ByteBuffer block = ByteBuffer.allocate(SCAN_BLOCK);
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            long offset = from;
+            while(offset < to - 1){
+                block.clear();
+                block.limit((int) Math.min(SCAN_BLOCK, to - 1 - offset));
+                if(channel.read(block, offset) <= 0){
+                    return -1;
+                }
+                byte[] bytes = block.array();
+                int n = block.position();
+                for(int i = 0; i < n; i++){
+                    int b = bytes[i] & 0xFF;
+                    count.step(b);
+                    if(scan.step(b) && offset + i >= middle - 1){
+                        return offset + i + 1;
+                    }
+                    if(scan.state < 0){
+                        return -1;
+                    }
+                }
+                offset += n;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the chars that MappedInput decodes a run of UTF-8 bytes to, without decoding
+     * them: one per ASCII byte, per sequence and per malformed prefix of a sequence, and two
+     * for a supplementary character. A sequence cut short counts as soon as the byte that ends it
+     * is seen, so the count is exact after any ASCII byte.
+     */
+    private static final class CharCount {
+        private long chars;
+        private int needed;
+        private int length;
+        private int lead;
+
+        /**
+         * Counts one byte.
+         * @param b the byte, from 0 to 255
+         */
+        void step(int b){
+            if(this.needed > 0){
+                boolean fits = this.needed == this.length ? MappedInput.isSecondByte(this.lead, b) : (b & 0xC0) == 0x80;
+                if(fits){
+                    if(--this.needed == 0){
+                        this.chars += this.length == 3 ? 2 : 1;
+                    }
+                    return;
+                }
+                this.needed = 0;
+                this.chars++;
+            }
+            if(b >= 0xF0 && b <= 0xF4){
+                this.needed = this.length = 3;
+                this.lead = b;
+            }
+            else if(b >= 0xE0 && b < 0xF0){
+                this.needed = this.length = 2;
+                this.lead = b;
+            }
+            else if(b >= 0xC2 && b < 0xE0){
+                this.needed = this.length = 1;
+                this.lead = b;
+            }
+            else{
+                this.chars++;
+            }
+        }
+    }
+
+    /**
+     * Follows the parts of the input that tokens can stretch over lines with: string and
+     * character constants and comments. The states mirror the scanners of the Tokenizer,
+     * including the way isEscaped only looks two characters back.
+     */
+    private static final class Scan {
+        private int state = CODE;
+        private int previous;
+        private int beforePrevious;
+
+        /**
+         * Moves past one character of the input. The state becomes negative at a NUL.
+         * @param c the character
+         * @return true if a safe boundary follows the character
+         */
+        boolean step(int c){
+            if(c == 0){
+                this.state = -1;
+                return false;
+            }
+            switch(this.state){
+                case SLASH:
+                    if(c == '*'){
+                        this.state = BLOCK_COMMENT;
+                        break;
+                    }
+                    if(c == '/'){
+                        this.state = LINE_COMMENT;
+                        break;
+                    }
+                    this.state = CODE;
+                    code(c);
+                    break;
+                case STRING:
+                    if(c == '"' && !isEscaped()){
+                        this.state = CODE;
+                    }
+                    break;
+                case CHAR:
+                    if(c == '\'' && !isEscaped()){
+                        this.state = CODE;
+                    }
+                    break;
+                case BLOCK_COMMENT:
+                    if(c == '*'){
+                        this.state = BLOCK_COMMENT_STAR;
+                    }
+                    break;
+                case BLOCK_COMMENT_STAR:
+                    if(c == '/'){
+                        this.state = CODE;
+                    }
+                    else if(c != '*'){
+                        this.state = BLOCK_COMMENT;
+                    }
+                    break;
+                case LINE_COMMENT:
+                    if(c == '\n'){
+                        this.state = CODE;
+                    }
+                    break;
+                default:
+                    code(c);
+            }
+            this.beforePrevious = this.previous;
+            this.previous = c;
+            return c == '\n' && this.state == CODE;
+        }
+
+        private void code(int c){
+            if(c == '"'){
+                this.state = STRING;
+            }
+            else if(c == '\''){
+                this.state = CHAR;
+            }
+            else if(c == '/'){
+                this.state = SLASH;
+            }
+        }
+
+        private boolean isEscaped(){
+            return this.previous == '\\' && this.beforePrevious != '\\';
+        }
+    }
+}
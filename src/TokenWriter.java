@@ -0,0 +1,211 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes tokens in a compact binary format that TokenReader reads back without lexing.
+ *
+ * A token file starts with the magic bytes "CTOK" and a version byte, followed by one record
+ * per token in the order the TokenCursor gave them, including END:
+ *
+ *  type    one byte, the Token.Type ordinal, or 127 for a character that starts no token. The
+ *          high bit is set when the token starts right where the previous one ended and
+ *          consumes as many characters as its lexeme has, and then the gap is left out.
+ *  gap     varint, the number of characters between the end of the previous token and the
+ *          start of this one, shifted left once. The low bit is set when a length follows.
+ *  length  varint, the number of source characters the token consumes, only when it is not
+ *          the length of the lexeme, as for comments.
+ *  lexeme  varint, only for types without a fixed spelling and for characters that start no
+ *          token. An index into the string table.
+ *          The index one past the last string defines a new string, which follows as a varint
+ *          header, the char count shifted left once with the low bit set for UTF-16, and then
+ *          one byte per char, or two big-endian bytes per char for UTF-16.
+ *
+ * Most punctuators and keywords thus take one or two bytes. Varints are unsigned, seven bits
+ * per byte, lowest bits first. Each distinct lexeme is stored once, the first time it is used,
+ * so the string table needs no separate section and the file can be written in one pass.
+ */
+public final class TokenWriter implements Closeable {
+    static final byte[] MAGIC = {'C', 'T', 'O', 'K'};
+    static final int VERSION = 1;
+    static final int NO_TOKEN = 127;
+    static final int ADJACENT = 0x80;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[1 << 16];
+    private final Map<String, Integer> strings = new HashMap<>();
+    private int count;
+    private long end;
+
+    /**
+     * Constructs a TokenWriter and writes the file header.
+     * @param out the stream to write the token file to, closed by close
+     * @throws IOException if the header cannot be written
+     */
+    public TokenWriter(OutputStream out) throws IOException {
+        this.out = out;
+        this.out.write(MAGIC);
+        this.out.write(VERSION);
+    }
+
+    /**
+     * Writes every token of a TokenCursor, up to and including END.
+     * @param cursor the cursor to read the tokens from
+     * @return the number of tokens written, not counting END and characters that start no token
+     * @throws IOException if the tokens cannot be written
+     */
+    public long writeAll(TokenCursor cursor) throws IOException {
+        long tokens = 0;
+        Token.Type type;
+        do{
+            type = cursor.advance();
+            write(type, cursor.getStart(), cursor.getLength(), cursor.getLexeme());
+            if(type != null && type != Token.Type.END){
+                tokens++;
+            }
+        } while(type != Token.Type.END);
+        return tokens;
+    }
+
+    /**
+     * Writes one token. Tokens must be written in the order they appear in the source, and a
+     * token of a type with a fixed spelling must have that spelling as its lexeme.
+     * @param type the Token type, or null for a character that starts no token
+     * @param start the offset in the source of the first character of the token
+     * @param length the number of source characters consumed by the token
+     * @param lexeme the lexeme of the token
+     * @throws IOException if the token cannot be written
+     */
+    public void write(Token.Type type, long start, int length, CharSequence lexeme) throws IOException {
+        if(start < this.end){
+            throw new IllegalArgumentException("token at " + start + " starts before the previous one ends at " + this.end);
+        }
+        if(this.count > this.buffer.length - 64){
+            flushBuffer();
+        }
+        String spelling = null;
+        int code;
+        int lexemeLength;
+        if(type == null){
+            code = NO_TOKEN;
+            lexemeLength = lexeme.length();
+        }
+        else{
+            code = type.ordinal();
+            spelling = type.getSpelling();
+            if(spelling != null && !spelling.contentEquals(lexeme)){
+                throw new IllegalArgumentException(type + " token with the lexeme " + lexeme);
+            }
+            lexemeLength = lexeme.length();
+        }
+        long gap = start - this.end;
+        if(gap == 0 && length == lexemeLength){
+            this.buffer[this.count++] = (byte) (code | ADJACENT);
+        }
+        else{
+            this.buffer[this.count++] = (byte) code;
+            if(length == lexemeLength){
+                writeVarint(gap << 1);
+            }
+            else{
+                writeVarint((gap << 1) | 1);
+                writeVarint(length);
+            }
+        }
+        this.end = start + length;
+        if(spelling == null){
+            writeLexeme(lexeme);
+        }
+    }
+
+    /**
+     * Writes the index of a lexeme in the string table, and the lexeme itself if it is new.
+     * @param lexeme the lexeme
+     * @throws IOException if the lexeme cannot be written
+     */
+    private void writeLexeme(CharSequence lexeme) throws IOException {
+        String text = lexeme.toString();
+        Integer index = this.strings.get(text);
+        if(index != null){
+            writeVarint(index);
+            return;
+        }
+        int size = this.strings.size();
+        this.strings.put(text, size);
+        writeVarint(size);
+        boolean wide = false;
+        for(int i = 0; i < text.length() && !wide; i++){
+            wide = text.charAt(i) > 0xFF;
+        }
+        writeVarint(((long) text.length() << 1) | (wide ? 1 : 0));
+        for(int i = 0; i < text.length(); i++){
+            if(this.count > this.buffer.length - 2){
+                flushBuffer();
+            }
+            char c = text.charAt(i);
+            if(wide){
+                this.buffer[this.count++] = (byte) (c >> 8);
+            }
+            this.buffer[this.count++] = (byte) c;
+        }
+        if(this.count > this.buffer.length - 64){
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Writes an unsigned varint into the buffer. Records are only started with 64 bytes free,
+     * which leaves room for all the varints of one record.
+     * @param value the value to write
+     */
+    private void writeVarint(long value){
+        while((value & ~0x7FL) != 0){
+            this.buffer[this.count++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.count++] = (byte) value;
+    }
+
+    /**
+     * Writes the buffered records to the stream.
+     * @throws IOException if the records cannot be written
+     */
+    private void flushBuffer() throws IOException {
+        this.out.write(this.buffer, 0, this.count);
+        this.count = 0;
+    }
+
+    /**
+     * Writes out the buffered records and closes the stream.
+     * @throws IOException if the records cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try{
+            flushBuffer();
+        } finally {
+            this.out.close();
+        }
+    }
+
+    /**
+     * Tokenizes a C file and writes its tokens to a token file.
+     * @param args the C file and the token file to write
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 2){
+            System.err.println("Usage: TokenWriter <C file> <token file>");
+            System.exit(1);
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        long tokens;
+        try(TokenWriter writer = new TokenWriter(Files.newOutputStream(target))){
+            tokens = writer.writeAll(new Tokenizer(source));
+        }
+        System.out.printf("%d tokens, %d bytes of source, %d bytes written%n", tokens, Files.size(source), Files.size(target));
+    }
+}
@@ -1,921 +1,979 @@
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Tokenizer class for C. Takes in a file and parses the tokens. the nextToken method
  * will return the next token to the user. Main method accepts file as command line
  * argument. If no file is provided, the supplied CFile.c will be parsed. In it, there
  * is C code to show how the breakdown of tokens. Main method will print each Token type
- * followed by the lexeme for that token.
+ * followed by the lexeme for that token. Callers that do not need Token objects can use
+ * the TokenCursor methods instead, which do not allocate anything per token, and the tokens
+ * method gives the tokens as a Stream that can be lexed in parallel.
+ *
+ * A NUL character where a token would start ends the C source, as it would end a C string:
+ * END is returned there with a length of 0, and on every call after it. A NUL inside a
+ * string, char constant or comment ends that token as a bad one, and lexing goes on after it.
  *
  * Create by Avi Amon
  */
-public class Tokenizer {
-    private Stack<Character> stack;
-    private BufferedReader br;
-    private Map<String, Token.Type> keywordTypes;
-    private Set<Character> punctuators;
-    private Set<Character> hexSet;
+public class Tokenizer implements TokenCursor {
+    /**
+     * The keywords and their Token types. The map and the table compiled from it are built
+     * once and shared by every Tokenizer, and the ByteTokenizer, since neither is changed
+     * after it is built.
+     */
+    private static final Map<String, Token.Type> KEYWORD_TYPES = keywordMap();
+    static final KeywordTable KEYWORD_TABLE = KeywordTable.compile(KEYWORD_TYPES);
+
+    private InputWindow input;
+    private int lexemeLength;
+    private String fixedLexeme;
+    private CharSlice lexemeView;
+    /**
+     * The version of the tokens the Tokenizer produces. It must be raised by every change that
+     * makes the Tokenizer produce different tokens for some input, since TokenCache keys its
+     * entries with it.
+     */
+    static final int VERSION = 1;
+    private static final long BATCH_SPAN = 1L << 30;
+
+    private long start;
+    private Path path;
+    private char[] source;
+    private SymbolTable symbols;
+    private LineIndex lines;
+    private EnumSet<Token.Type> skippedTypes;
+    private boolean[] skipped;
+    private TokenizerMetrics metrics;
+    private TokenizerMetrics.Tally tally;
+    private int pushback;
+    private String pathName;
+    private boolean fileEvents = true;
+    private Object fileEvent;
+    private long fileTokens;
+    private Object scanEvent;
+    private boolean batchesDone;
 
     /**
      * Constructs a Tokenizer
      * @param pathToFile The path of the C file.
      */
     public Tokenizer(String pathToFile){
-        this.stack = new Stack<>();
+        this();
+        Reader reader = null;
         try{
-            this.br = new BufferedReader(new FileReader(new File(pathToFile)));
+            reader = new FileReader(new File(pathToFile));
         } catch (FileNotFoundException e) {
             e.printStackTrace();
         }
-        initKeywordMap();
-        initPuncSet();
-        initHexSet();
+        reset(reader);
+        this.pathName = pathToFile;
+        this.lines = new LineIndex(() -> new FileReader(new File(pathToFile)));
     }
 
     /**
-     * Returns the next token in the C file.
-     * @return the next token in the C file
+     * Constructs a Tokenizer that reads the C file through a memory mapping instead of a
+     * Reader. The file is decoded as UTF-8.
+     * @param path The path of the C file.
      */
-    public Token nextToken(){
-        char c;
-        int i = 0;
-        char token[] = new char[10000];
-        Token tk;
-
-        skipWhiteSpaces();
+    public Tokenizer(Path path){
+        this();
+        reset(path);
+    }
 
-        //if at end of input stream
-        c = getChar();
-        if((int) c == 0){
-            return new Token("EOF".toCharArray(), Token.Type.END);
-        }
+    /**
+     * Constructs a Tokenizer over C source held in memory. The array must not be changed
+     * while the Tokenizer is in use.
+     * @param source The characters of the C source.
+     */
+    public Tokenizer(char[] source){
+        this();
+        reset(source);
+    }
 
-        token[i++] = c;
+    /**
+     * Constructs a Tokenizer over the characters of a Reader. The Reader is closed once
+     * all of its characters have been read.
+     * @param reader The Reader holding the C source.
+     */
+    public Tokenizer(Reader reader){
+        this();
+        reset(reader);
+    }
 
-        //check for integer or float
-        tk = checkConstantNumbers(token, c, i);
-        if(tk != null){
-            return tk;
+    /**
+     * Points the Tokenizer at a new C source held by a Reader, closing the current one if it
+     * has not been read to its end. The input buffer is reused unless Tokens still refer to
+     * it, so a Tokenizer that is reset for each of many small files allocates next to nothing
+     * per file. The SymbolTable, the skipped types and the metrics are kept.
+     * @param reader The Reader holding the C source, or null for an empty input.
+     */
+    public void reset(Reader reader){
+        if(this.tally != null){
+            this.tally.flush(this.input.position());
+            this.tally.start(0);
         }
-
-        //check for string constant
-        tk = checkConstantString(token, c, i);
-        if(tk != null){
-            return tk;
+        if(this.input == null){
+            this.input = new InputWindow(reader);
         }
-
-        //check for char constant
-        tk = checkConstantChar(token, c, i);
-        if(tk != null){
-            return tk;
+        else{
+            this.input.restart(reader);
         }
+        this.path = null;
+        this.pathName = null;
+        this.source = null;
+        this.lines = null;
+        this.fileEvent = this.fileEvents && reader != null ? TokenizerEvents.beginFile() : null;
+        this.fileTokens = 0;
+        this.batchesDone = false;
+        this.start = 0;
+        this.lexemeLength = 0;
+        this.fixedLexeme = null;
+    }
 
-        //check for  block comment
-        tk = checkBlockComment(token);
-        if(tk != null){
-            return tk;
+    /**
+     * Points the Tokenizer at a new C file, read through a memory mapping as with the Path
+     * constructor.
+     * @param path The path of the C file.
+     */
+    public void reset(Path path){
+        Reader reader = null;
+        try{
+            reader = new MappedInput(path);
+        } catch (IOException e) {
+            e.printStackTrace();
         }
-
-        //check for line comment
-        tk = checkLineComment(token);
-        if(tk != null){
-            return tk;
+        reset(reader);
+        if(reader != null){
+            this.path = path;
         }
+        this.lines = new LineIndex(path);
+    }
+
+    /**
+     * Points the Tokenizer at new C source held in memory. The array must not be changed
+     * while the Tokenizer is in use.
+     * @param source The characters of the C source.
+     */
+    public void reset(char[] source){
+        reset(new CharArrayReader(source));
+        this.source = source;
+        this.lines = new LineIndex(source);
+    }
+
+    /**
+     * Returns the index that maps the offsets of tokens to lines and columns. The index reads
+     * the C file again the first time it is used, so the Tokenizer itself never counts lines.
+     * @return the line index, or null if the Tokenizer reads from a Reader, which cannot be
+     * read a second time
+     */
+    public LineIndex getLineIndex(){
+        return this.lines;
+    }
 
-        //check for keyword
-        tk = checkKeyword(token);
-        if(tk != null){
-            return tk;
+    /**
+     * Makes nextToken intern identifiers in a SymbolTable and hand out shared Tokens for the
+     * types with a fixed spelling, such as keywords and punctuators. Identifier Tokens then
+     * hold the name String from the table instead of referring to the input buffer, and the
+     * shared Tokens have no position; getStart still gives it after each nextToken. A tokens
+     * Stream over a Tokenizer with a table is not split across threads.
+     * @param symbols the table to intern identifiers in, or null to create a Token per token
+     */
+    public void setSymbolTable(SymbolTable symbols){
+        this.symbols = symbols;
+    }
+
+    /**
+     * Makes the Tokenizer leave out tokens of some types, such as comments, at the source:
+     * advance, nextToken, nextTokens and tokens all move straight past them, so no Token is
+     * created for them and TokenCursor consumers never see them. Comment bodies are skipped
+     * with a bulk search for their end either way.
+     * @param types the types to leave out, or null to give every token
+     * @throws IllegalArgumentException if the types include END, which cannot be left out
+     */
+    public void setSkippedTypes(EnumSet<Token.Type> types){
+        if(types == null || types.isEmpty()){
+            this.skippedTypes = null;
+            this.skipped = null;
+            return;
+        }
+        if(types.contains(Token.Type.END)){
+            throw new IllegalArgumentException("END cannot be skipped");
+        }
+        this.skippedTypes = EnumSet.copyOf(types);
+        this.skipped = new boolean[Token.Type.values().length];
+        for(Token.Type type : types){
+            this.skipped[type.ordinal()] = true;
         }
+    }
 
-        //check for punctuators
-        tk = checkPunctuators(token);
-        if(tk != null){
-            return tk;
+    /**
+     * Makes the Tokenizer count the tokens it lexes, and time each source from reset to END,
+     * in a TokenizerMetrics. The counts are kept in the Tokenizer and added to the metrics
+     * when the source ends, when the Tokenizer is reset or given other metrics, and every
+     * 65536 tokens, so Tokenizers on many threads can share the same metrics. Tokens lexed by
+     * the Tokenizers that a parallel tokens Stream splits the input between are not counted.
+     * @param metrics the metrics to count in, or null to stop counting
+     */
+    public void setMetrics(TokenizerMetrics metrics){
+        if(this.tally != null){
+            this.tally.flush(this.input.position());
         }
+        this.metrics = metrics;
+        this.tally = metrics == null ? null : metrics.newTally();
+        if(this.tally != null){
+            this.tally.start(this.input.position());
+        }
+    }
 
-        //check for identifier
-        tk = checkIdentifier(token);
-        if(tk != null) {
-            return tk;
+    /**
+     * Returns the metrics the Tokenizer counts in.
+     * @return the metrics set with setMetrics, or null if the Tokenizer does not count
+     */
+    public TokenizerMetrics getMetrics(){
+        return this.metrics;
+    }
+
+    /**
+     * Turns the tokenizer.File JFR event off for a Tokenizer that lexes parts of a source, so
+     * that each part is not reported as a source of its own.
+     * @param enabled false to leave out the event, true to give it again from the next reset
+     */
+    void setFileEvents(boolean enabled){
+        this.fileEvents = enabled;
+        if(!enabled){
+            this.fileEvent = null;
         }
+    }
 
-        return null;
+    /**
+     * Returns the types of the tokens that are left out.
+     * @return a copy of the types set with setSkippedTypes, or null if every token is given
+     */
+    public EnumSet<Token.Type> getSkippedTypes(){
+        return this.skippedTypes == null ? null : EnumSet.copyOf(this.skippedTypes);
     }
 
     /**
-     * Determines if the next token is a number constant.
-     * @param token the token char array which that will contain the token.
-     * @param c the current character being looked at.
-     * @param i the index used for token char array.
-     * @return a number token depending on the type, or null if not number constant
+     * Sets up the buffers shared by all the constructors. The lookup tables are static, so
+     * this costs next to nothing.
      */
-    private Token checkConstantNumbers(char[] token, char c, int i){
-        int state;
-        if(Character.isDigit(c) || c == '.'){
-            if(c == '.'){
-                state = 4;
-                c = getChar();
-                char d = getChar();
-                boolean variadic = c == '.' && d == '.';
-                if(variadic){
-                    return new Token("...".toCharArray(), Token.Type.VARIADIC);
-                }
-                else if(!Character.isDigit(c)){
-                    ungetChar(d);
-                    ungetChar(c);
-                    return new Token(".".toCharArray(), Token.Type.PERIOD);
-                }
-                ungetChar(d);
-                ungetChar(c);
+    private Tokenizer(){
+        this.lexemeView = new CharSlice();
+    }
+
+    /**
+     * Returns the next token in the C file. The Token shares the input buffer instead of
+     * copying its lexeme, and only builds a String when getLexeme is called on it, unless a
+     * SymbolTable has been set with setSymbolTable.
+     * @return the next token in the C file
+     */
+    public Token nextToken(){
+        Token.Type type = advance();
+        if(type == null){
+            return null;
+        }
+        return currentToken(type);
+    }
+
+    /**
+     * Creates the Token for the token advance moved to last.
+     * @param type the type advance returned, not null
+     * @return the Token
+     */
+    Token currentToken(Token.Type type){
+        if(this.symbols != null){
+            if(type == Token.Type.IDENTIFIER){
+                int id = this.symbols.intern(this.input.buffer(), this.input.markIndex(), this.lexemeLength);
+                return new Token(this.symbols, id, this.start);
             }
-            else {
-                char d = getChar();
-                if(c == '0' && Character.isDigit(d)){
-                    state = 9;
-                }
-                else {
-                    state = 2;
-                }
-                ungetChar(d);
+            Token canonical = Token.canonical(type);
+            if(canonical != null){
+                return canonical;
             }
+        }
+        if(this.fixedLexeme != null){
+            return new Token(type, this.fixedLexeme, this.start);
+        }
+        return new Token(type, this.input.share(), this.input.markIndex(), this.lexemeLength, this.start);
+    }
 
-            c = getChar();
-            while(state > 0){
-                switch (state) {
-                    case 2:
-                        if (Character.isDigit(c))
-                            state = 2;
-                        else if (c == 'e' || c == 'E')
-                            state = 5;
-                        else if (c == '.')
-                            state = 3;
-                        else if (isIntSuffix(c)) {
-                            state = 12;
-                        }
-                        else
-                            state = -2;
-                        break;
-                    case 3:
-                        if (Character.isDigit(c))
-                            state = 8;
-                        else
-                            state = -3;
-                        break;
-                    case 4:
-                        if (Character.isDigit(c))
-                            state = 3;
-                        else
-                            state = -4;
-                        break;
-                    case 5:
-                        if (Character.isDigit(c))
-                            state = 6;
-                        else if (c == '-' || c == '+')
-                            state = 7;
-                        else
-                            state = -5;
-                        break;
-                    case 6:
-                        if (Character.isDigit(c))
-                            state = 6;
-                        else if (isFloatSuffix(c)){
-                            state = 19;
-                        }
-                        else
-                            state = -6;
-                        break;
-                    case 7:
-                        if(Character.isDigit(c))
-                            state = 6;
-                        else
-                            state = -7;
-                        break;
-                    case 8:
-                        if(Character.isDigit(c))
-                            state = 8;
-                        else if(c == 'e' || c == 'E')
-                            state = 5;
-                        else if(isFloatSuffix(c)) {
-                            state = 19;
-                        }
-                        else
-                            state = -8;
-                        break;
-                    case 9:
-                        if(c == 'x' || c == 'X'){
-                            state = 11;
-                        }
-                        else{
-                            state = 10;
-                        }
-                        break;
-                    case 10:
-                        int num = c - '0';
-                        if(Character.isDigit(c) && num < 7)
-                            state = 10;
-                        else if(isIntSuffix(c)){
-                            state = 12;
-                        }
-                        else
-                            state = -10;
-                        break;
-                    case 11:
-                        if(Character.isDigit(c) || this.hexSet.contains(c))
-                            state = 11;
-                        else if(isIntSuffix(c)){
-                            state = 12;
-                        }
-                        else
-                            state = -11;
-                        break;
-                    case 12:
-                        if(c == 'U')
-                            state = 13;
-                        else if(c == 'u')
-                            state = 14;
-                        else if(c == 'L')
-                            state = 15;
-                        else if(c == 'l')
-                            state = 16;
-                        else if(this.punctuators.contains(c))
-                            state = -2;
-                        else
-                            state = -12;
-                        break;
-                    case 13:
-                        if(c == 'L')
-                            state = 15;
-                        else if(this.punctuators.contains(c))
-                            state = -2;
-                        else
-                            state = -12;
-                        break;
-                    case 14:
-                        if(c == 'l')
-                            state = 16;
-                        else if(this.punctuators.contains(c))
-                            state = -2;
-                        else
-                            state = -12;
-                        break;
-                    case 15:
-                        if(c == 'L')
-                            state = 17;
-                        else if(this.punctuators.contains(c))
-                            state = -2;
-                        else
-                            state = -12;
-                        break;
-                    case 16:
-                        if(c == 'l')
-                            state = 18;
-                        else if(this.punctuators.contains(c))
-                            state = -2;
-                        else
-                            state = -12;
-                        break;
-                    case 17:
-                        state = -2;
-                        break;
-                    case 18:
-                        if(this.punctuators.contains(c))
-                            state = -2;
-                        else
-                            state = -12;
-                        break;
-                    case 19:
-                        if(this.punctuators.contains(c)){
-                            state = -6;
-                        }
-                        else
-                            state = -12;
-                        break;
-                    case 20:
-                        state = -6;
-                        break;
-                }
-                if (state > 0) {
-                    token[i++] = c;
-                    token[i] = '\0';
-                    c = getChar();
-                }
+    /**
+     * Fills a batch with the next tokens in the C file, leaving out END and the characters
+     * that start no token. The tokens are lexed with advance in one loop that writes their
+     * types, starts and lengths straight into the columns of the batch, without creating
+     * any Tokens. A batch ends early if it would span more than 2^30 characters, so that its
+     * starts fit in ints. Once END has been lexed, at the end of the C file or at a NUL where
+     * a token would start, every later call returns an empty batch until the Tokenizer is
+     * reset, so a loop that stops at the first empty batch sees the same tokens as advance.
+     * @param batch the batch to fill, emptied first
+     * @param max the maximum number of tokens to add
+     * @return the number of tokens in the batch, 0 once END has been reached
+     */
+    public int nextTokens(TokenBatch batch, int max){
+        batch.reset(max);
+        if(this.batchesDone){
+            batch.setBase(this.input.position());
+            batch.setSize(0);
+            return 0;
+        }
+        byte[] types = batch.types();
+        int[] starts = batch.starts();
+        int[] lengths = batch.lengths();
+        long base = this.input.position();
+        batch.setBase(base);
+        int n = 0;
+        while(n < max && this.input.position() - base < BATCH_SPAN){
+            Token.Type type = advance();
+            if(type == null){
+                continue;
             }
-            ungetChar(c);
-            switch(-state){
-                case 2:
-                    return new Token(token, Token.Type.INTEGER_CONSTANT);
-                //CLion IDE says that "1." format in case -3 turns number to zero. Online gcc compilers just make
-                //it an integer, usually a very small negative. I give it the lexeme 0 with INTEGER_CONSTANT as token.
-                case 3:
-                    return new Token("0".toCharArray(), Token.Type.INTEGER_CONSTANT);
-                case 4:
-                    return new Token(token, Token.Type.PERIOD);
-                case 6:
-                    return new Token(token, Token.Type.FLOAT_CONSTANT);
-                case 8:
-                    return new Token(token, Token.Type.FLOAT_CONSTANT);
-                case 10:
-                    return new Token(token, Token.Type.BAD_OCTAL);
-                case 11:
-                    return new Token(token, Token.Type.BAD_HEX);
-                case 12:
-                    return new Token(token, Token.Type.BAD_SUFFIX_TOKEN);
-                default:
-                    return new Token(token, Token.Type.BAD_FLOAT);
+            if(type == Token.Type.END){
+                this.batchesDone = true;
+                break;
             }
+            types[n] = (byte) type.ordinal();
+            starts[n] = (int) (this.start - base);
+            lengths[n] = (int) (this.input.position() - this.start);
+            n++;
         }
-        return null;
+        batch.setSize(n);
+        return n;
     }
 
     /**
-     * Determines if the next token is a string constant.
-     * @param token the token char array which that will contain the token.
-     * @param c the current character being looked at.
-     * @param i the index used for token char array.
-     * @return a string token, or null if not string constant
+     * Returns the remaining tokens of the C file as a lazy Stream, leaving out END and the
+     * characters that start no token. Tokens are only lexed as the Stream consumes them.
+     * If nothing has been read yet and the input is a char array or a memory-mapped file, a
+     * parallel Stream splits the input at the starts of lines outside strings and comments
+     * and lexes the parts on separate threads, with the same Tokens as a sequential run.
+     * With a SymbolTable the input is never split, since the table is not thread-safe and
+     * its ids follow the order in which names are first seen; the Stream then runs on one
+     * thread, interning every identifier as nextToken does. The Tokenizer must not be used
+     * otherwise while the Stream is in use.
+     * @return a Stream of the remaining tokens in the C file
      */
-    private Token checkConstantString(char[] token, char c, int i){
-        if(c == '"'){
-            boolean unbalancedQuote = false;
-            while((c = getChar()) != '"' ||
-                    (token[i - 1] == '\\' && token[i - 2] != '\\')){
-                if(c =='"' || c == 0){
-                    unbalancedQuote = true;
-                }
-                else{
-                    unbalancedQuote = false;
+    public Stream<Token> tokens(){
+        Path path = null;
+        char[] source = null;
+        long size = -1;
+        if(this.input.position() == 0 && this.symbols == null){
+            if(this.source != null){
+                source = this.source;
+                size = source.length;
+            }
+            else if(this.path != null){
+                try{
+                    size = Files.size(this.path);
+                    path = this.path;
+                } catch (IOException e) {
+                    size = -1;
                 }
-                if((int) c == 0 )
-                    break;
-                token[i++] = c;
             }
-            token[i] = c;
+        }
+        return StreamSupport.stream(new TokenSpliterator(this, path, source, size), false);
+    }
 
-            if(c == '"'){
-                unbalancedQuote = false;
+    /**
+     * Moves to the next token in the C file without creating a Token, moving past the tokens
+     * of the types set with setSkippedTypes.
+     * @return the type of the next token, or null if no token starts at the next character
+     */
+    @Override
+    public Token.Type advance(){
+        Token.Type type = next();
+        boolean[] skipped = this.skipped;
+        if(skipped != null){
+            while(type != null && skipped[type.ordinal()]){
+                type = next();
             }
-
-            if(unbalancedQuote)
-                return new Token(token, Token.Type.BAD_STRING);
-
-            return new Token(token, Token.Type.STRING_CONSTANT);
         }
-        return null;
+        return type;
     }
 
     /**
-     * Determines if the next token is a character constant.
-     * @param token the token char array which that will contain the token.
-     * @param c the current character being looked at.
-     * @param i the index used for token char array.
-     * @return a character token, or null if not character constant
+     * Lexes the next token, timing it for the tokenizer.Scan JFR event while a recording has
+     * the event enabled, and counts it in the metrics and for the tokenizer.File event.
+     * @return the type of the next token, or null if no token starts at the next character
      */
-    private Token checkConstantChar(char[] token, char c, int i){
-        if(c == '\''){
-            boolean unbalancedSingleQuote = false;
-            while((c = getChar()) != '\'' ||
-                    (token[i - 1] == '\\' && token[i - 2] != '\\')){
-                if(c =='\'' || c == 0){
-                    unbalancedSingleQuote = true;
-                }
-                else{
-                    unbalancedSingleQuote = false;
-                }
-                if((int) c == 0 )
-                    break;
-                token[i++] = c;
+    private Token.Type next(){
+        Token.Type type;
+        if(TokenizerEvents.scansEnabled()){
+            this.scanEvent = TokenizerEvents.beginScan(this.scanEvent);
+            type = lex();
+            if(TokenizerEvents.endScan(this.scanEvent, type, sourcePath(), this.start, getLength())){
+                this.scanEvent = null;
             }
-            token[i] = c;
+        }
+        else{
+            type = lex();
+        }
+        TokenizerMetrics.Tally tally = this.tally;
+        if(tally != null){
+            tally.record(type, this.start, this.input.position(), this.pushback);
+        }
+        if(this.fileEvent != null){
+            countForFileEvent(type);
+        }
+        return type;
+    }
 
-            if(c == '\''){
-                unbalancedSingleQuote = false;
+    /**
+     * Counts a token for the tokenizer.File JFR event, and commits the event at the END that
+     * ends the source.
+     * @param type the type of the token, or null for a character that starts no token
+     */
+    private void countForFileEvent(Token.Type type){
+        if(type != Token.Type.END){
+            if(type != null){
+                this.fileTokens++;
             }
+        }
+        else if(getLength() == 0){
+            TokenizerEvents.endFile(this.fileEvent, sourcePath(), this.input.position(), this.fileTokens);
+            this.fileEvent = null;
+        }
+    }
+
+    /**
+     * Returns the path of the C file for the JFR events.
+     * @return the path, or null if the source was not read from a file
+     */
+    private String sourcePath(){
+        return this.path != null ? this.path.toString() : this.pathName;
+    }
 
-            if(unbalancedSingleQuote)
-                return new Token(token, Token.Type.BAD_CHAR);
+    /**
+     * Lexes the next token in the C file.
+     * @return the type of the next token, or null if no token starts at the next character
+     */
+    private Token.Type lex(){
+        char c;
 
-            return new Token(token, Token.Type.CHAR_CONSTANT);
+        skipWhiteSpaces();
+        this.input.mark();
+        this.start = this.input.position();
+        this.lexemeLength = 0;
+        this.fixedLexeme = null;
+        this.pushback = 0;
+
+        //if at end of input stream, or at a NUL, which ends the C source for good
+        c = getChar();
+        if((int) c == 0){
+            this.input.end();
+            return setLexeme("EOF", Token.Type.END);
+        }
+
+        addToLexeme();
+
+        //the first character decides the one scanner that can lex the token
+        switch(CharScan.start(c)){
+            case CharScan.START_NUMBER:
+                return checkConstantNumbers(c);
+            case CharScan.START_STRING:
+                return checkConstantString();
+            case CharScan.START_CHAR:
+                return checkConstantChar();
+            case CharScan.START_SLASH:
+                c = peekChar(0);
+                if(c == '*'){
+                    return checkBlockComment();
+                }
+                if(c == '/'){
+                    return checkLineComment();
+                }
+                return c == '=' ? accept(1, Token.Type.DIV_EQUALS) : Token.Type.DIV_OP;
+            case CharScan.START_PUNCTUATOR:
+                return checkPunctuators(c);
+            case CharScan.START_IDENTIFIER:
+                return checkIdentifier();
+            default:
+                return null;
         }
-        return null;
     }
 
     /**
-     * Determines if the next token is a block comment. If so, the lexeme will only be '/*'
-     * @param token the token char array which that will contain the token.
-     * @return a block comment token, or null if not block comment
+     * Returns the offset in the C file of the first character of the current token.
+     * @return the start offset of the current token
      */
-    private Token checkBlockComment(char[] token){
-        char c = getChar();
-        if(token[0] == '/' && c == '*') {
-            token[1] = '*';
-            char first = getChar();
-            char second = getChar();
-            while (first != '*' && second != '/') {
-                if((int) first == 0){
-                    return new Token(token, Token.Type.BAD_COMMENT);
-                }
-                first = second;
-                second = getChar();
-            }
-            return new Token(token, Token.Type.BLOCK_COMMENT);
-        }
-        ungetChar(c);
-        return null;
+    @Override
+    public long getStart() {
+        return this.start;
     }
 
     /**
-     * Determines if the next token is a line comment. If so, the lexeme will only be '//'
-     * @param token the token char array which that will contain the token
-     * @return a line comment token, or null if not block comment
+     * Returns the number of characters of the C file consumed by the current token.
+     * @return the length of the current token in the C file
      */
-    private Token checkLineComment(char[] token){
-        char c = getChar();
-        if(token[0] == '/' && c =='/'){
-            token[1] = '/';
-            while((c = getChar()) != '\n' && c != 0){
-                //Nothing to do, parse until we hit the next line.
-            }
-            return new Token(token, Token.Type.LINE_COMMENT);
+    @Override
+    public int getLength() {
+        return (int) (this.input.position() - this.start);
+    }
+
+    /**
+     * Returns a view of the lexeme of the current token. The view is only valid until the
+     * next call to advance or nextToken.
+     * @return a view of the lexeme of the current token
+     */
+    @Override
+    public CharSequence getLexeme() {
+        if(this.fixedLexeme != null){
+            return this.fixedLexeme;
         }
-        ungetChar(c);
-        return null;
+        return this.lexemeView.set(this.input.buffer(), this.input.markIndex(), this.lexemeLength);
     }
 
     /**
-     * Determines if the next token is an identifier.
-     * @param token the token char array which that will contain the token
-     * @return an identifier token, or null if not identifier
+     * Lexes a number constant, a period or an ellipsis. The characters after the first are
+     * scanned with the NumberDfa transition table.
+     * @param c the first character of the token, a digit or '.'
+     * @return a number token type depending on the type, PERIOD or VARIADIC
      */
-    private Token checkIdentifier(char[] token){
-        char c = token[0];
-        int i = 1;
-        if(Character.isAlphabetic(c) || c == '_' || c == '$'){
-            c = getChar();
-            while(Character.isLetterOrDigit(c) || c == '_' || c == '$'){
-                token[i++] = c;
-                c = getChar();
+    private Token.Type checkConstantNumbers(char c){
+        int state;
+        if(c == '.'){
+            state = 4;
+            c = peekChar(0);
+            char d = peekChar(1);
+            boolean variadic = c == '.' && d == '.';
+            if(variadic){
+                return accept(2, Token.Type.VARIADIC);
+            }
+            else if(!Character.isDigit(c)){
+                return Token.Type.PERIOD;
+            }
+        }
+        else {
+            char d = peekChar(0);
+            if(c == '0' && Character.isDigit(d)){
+                state = 9;
+            }
+            else {
+                state = 2;
             }
-            ungetChar(c);
+        }
 
-            return new Token(token, Token.Type.IDENTIFIER);
+        c = getChar();
+        while(state > 0){
+            state = NumberDfa.next(state, c);
+            if (state > 0) {
+                addToLexeme();
+                c = getChar();
+            }
+        }
+        ungetChar();
+        //CLion IDE says that "1." format in case -3 turns number to zero. Online gcc compilers just make
+        //it an integer, usually a very small negative. I give it the lexeme 0 with INTEGER_CONSTANT as token.
+        if(state == -3){
+            return setLexeme("0", Token.Type.INTEGER_CONSTANT);
         }
-        return null;
+        return NumberDfa.accept(state);
     }
 
     /**
-     * Determines if the next token is a keyword.
-     * @param token the token char array which that will contain the token
-     * @return a keyword token, or null if not identifier
+     * Lexes a string constant after its opening quote.
+     * @return a string token type
      */
-    private Token checkKeyword(char[] token){
-        int i = 1;
-        if(Character.isWhitespace(token[0])){
-            token[0] = 0;
-            i = 0;
+    private Token.Type checkConstantString(){
+        if(skipQuoted('"')){
+            return Token.Type.STRING_CONSTANT;
         }
-        char[] potentialKw = new char[token.length];
-        potentialKw[0] = token[0];
-
-        char c = getChar();
+        return Token.Type.BAD_STRING;
+    }
 
-        while(!Character.isWhitespace(c) && c != 0){
-            potentialKw[i++] = c;
-            c = getChar();
+    /**
+     * Lexes a character constant after its opening quote.
+     * @return a character token type
+     */
+    private Token.Type checkConstantChar(){
+        if(skipQuoted('\'')){
+            return Token.Type.CHAR_CONSTANT;
         }
-        if(c == ' ')
-            ungetChar(c);
+        return Token.Type.BAD_CHAR;
+    }
 
-        Token.Type type = this.keywordTypes.get(new String(potentialKw, 0, i));
-        if(type != null){
-            return new Token(potentialKw, type);
+    /**
+     * Reads the rest of a string or char constant, up to and including the closing quote
+     * that is not escaped, and makes everything read the lexeme. The input is searched for
+     * the quote in bulk, and only the quotes found are checked for an escape.
+     * @param quote the quote character that opened the constant
+     * @return true if the closing quote was found, false if the input ended first
+     */
+    private boolean skipQuoted(char quote){
+        char c;
+        while((c = this.input.skipPast(quote)) == quote && isEscaped()){
+            //Escaped quote, keep looking.
         }
-        else{
-            //> and not >= because we already have the first character in the token[].
-            //when the next function is called, the first character should be the one
-            //looked at in the token[], and then the stack.
-            for(int j = i - 1; j > 0; j--){
-                ungetChar(potentialKw[j]);
+        this.lexemeLength = c == 0 ? this.input.sinceMark() - 1 : this.input.sinceMark();
+        return c != 0;
+    }
+
+    /**
+     * Lexes a block comment after its '/', with '*' next. The lexeme will only be '/*'
+     * @return a block comment token type
+     */
+    private Token.Type checkBlockComment(){
+        getChar();
+        addToLexeme();
+        while (this.input.skipPast('*') != 0) {
+            if(peekChar(0) == '/'){
+                getChar();
+                return Token.Type.BLOCK_COMMENT;
             }
         }
-        return null;
+        return Token.Type.BAD_COMMENT;
     }
 
     /**
-     * Determines if the next token is a punctuator.
-     * @param token the token char array which that will contain the token
-     * @return a punctuator token, or null if not identifier
+     * Lexes a line comment after its first '/', with '/' next. The lexeme will only be '//'
+     * @return a line comment token type
      */
-    private Token checkPunctuators(char[] token){
-        char c = token[0];
-        char first;
+    private Token.Type checkLineComment(){
+        getChar();
+        addToLexeme();
+        //Nothing to do, parse until we hit the next line.
+        this.input.skipPast('\n');
+        return Token.Type.LINE_COMMENT;
+    }
+
+    /**
+     * Lexes an identifier or a keyword after its first character. Keywords are recognized
+     * in the same pass: once the identifier has been read, its characters are looked up in
+     * the keyword table where they lie in the input window.
+     * @return a keyword or identifier token type
+     */
+    private Token.Type checkIdentifier(){
+        this.lexemeLength += this.input.skipRun(CharScan.IDENTIFIER_PART);
+
+        Token.Type keyword = KEYWORD_TABLE.lookup(this.input.buffer(), this.input.markIndex(), this.lexemeLength);
+        if(keyword != null){
+            return keyword;
+        }
+        return Token.Type.IDENTIFIER;
+    }
+
+    /**
+     * Lexes a punctuator other than the ones starting with '.' or '/', which
+     * checkConstantNumbers and lex handle.
+     * @param c the first character of the token, one CharScan classifies as START_PUNCTUATOR
+     * @return a punctuator token type
+     */
+    private Token.Type checkPunctuators(char c){
+        char first = peekChar(0);
         char second;
         switch(c){
             case '[':
-                return new Token(token, Token.Type.OPEN_BRACKET);
+                return Token.Type.OPEN_BRACKET;
             case ']':
-                return new Token(token, Token.Type.CLOSE_BRACKET);
+                return Token.Type.CLOSE_BRACKET;
             case '(':
-                return new Token(token, Token.Type.OPEN_PARENT);
+                return Token.Type.OPEN_PARENT;
             case ')':
-                return new Token(token, Token.Type.CLOSE_PARENT);
+                return Token.Type.CLOSE_PARENT;
             case '{':
-                return new Token(token, Token.Type.OPEN_BRACE);
+                return Token.Type.OPEN_BRACE;
             case '}':
-                return new Token(token, Token.Type.CLOSE_BRACE);
-            case '.': //case covered in numbers method. Gets periods and variadics. checks for .. and returns bad token.
-                first = getChar();
-                if(first == '.'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.BAD_PUNCTUATOR);
-                }
-                else{
-                    ungetChar(first);
-                    return null;
-                }
+                return Token.Type.CLOSE_BRACE;
             case '-':
-                first = getChar();
                 if(first == '>') {
-                    token[1] = first;
-                    return new Token(token, Token.Type.ARROW);
+                    return accept(1, Token.Type.ARROW);
                 }
                 else if(first == '-'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.DECREMENT);
+                    return accept(1, Token.Type.DECREMENT);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.MINUS_EQUALS);
+                    return accept(1, Token.Type.MINUS_EQUALS);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.SUB_OP);
+                    return Token.Type.SUB_OP;
                 }
             case '+':
-                first = getChar();
                 if(first == '+'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.INCREMENT);
+                    return accept(1, Token.Type.INCREMENT);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.PLUS_EQUALS);
+                    return accept(1, Token.Type.PLUS_EQUALS);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.ADD_OP);
+                    return Token.Type.ADD_OP;
                 }
             case '*':
-                first = getChar();
-                if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.MULT_EQUALS);
-                }
-                else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.MULT_OP);
-                }
-            case '/':
-                first = getChar();
                 if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.DIV_EQUALS);
+                    return accept(1, Token.Type.MULT_EQUALS);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.DIV_OP);
+                    return Token.Type.MULT_OP;
                 }
             case '%':
-                first = getChar();
-                second = getChar();
-                char third = getChar();
+                second = peekChar(1);
+                char third = peekChar(2);
                 if(first == ':' && second == '%' && third == ':'){
-                    token[1] = first;
-                    token[2] = second;
-                    token[3] = third;
-                    return new Token(token, Token.Type.PERCENT_COLON_PERCENT_COLON);
+                    return accept(3, Token.Type.PERCENT_COLON_PERCENT_COLON);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    ungetChar(third);
-                    ungetChar(second);
-                    return new Token(token, Token.Type.MOD_EQUALS);
+                    return accept(1, Token.Type.MOD_EQUALS);
                 }
                 else if(first == ':'){
-                    token[1] = first;
-                    ungetChar(third);
-                    ungetChar(second);
-                    return new Token(token, Token.Type.PERCENT_COLON);
+                    return accept(1, Token.Type.PERCENT_COLON);
                 }
                 else if(first == '>'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.RIGHT_ANGLE_PERCENT);
+                    return accept(1, Token.Type.RIGHT_ANGLE_PERCENT);
                 }
                 else{
-                    ungetChar(third);
-                    ungetChar(second);
-                    ungetChar(first);
-                    return new Token(token, Token.Type.MOD_OP);
+                    return Token.Type.MOD_OP;
                 }
             case '&':
-                first = getChar();
                 if(first == '&'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.LOG_AND);
+                    return accept(1, Token.Type.LOG_AND);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.ASSIGN_AND);
+                    return accept(1, Token.Type.ASSIGN_AND);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.BIT_AND);
+                    return Token.Type.BIT_AND;
                 }
             case '~':
-                return new Token(token, Token.Type.BIT_NOT);
+                return Token.Type.BIT_NOT;
             case '!':
-                first = getChar();
                 if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.NOT_EQUAL);
+                    return accept(1, Token.Type.NOT_EQUAL);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.LOG_NOT);
+                    return Token.Type.LOG_NOT;
                 }
             case '^':
-                first = getChar();
                 if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.ASSIGN_XOR);
+                    return accept(1, Token.Type.ASSIGN_XOR);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.BIT_XOR);
+                    return Token.Type.BIT_XOR;
                 }
             case '|':
-                first = getChar();
                 if(first == '|'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.LOG_OR);
+                    return accept(1, Token.Type.LOG_OR);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.ASSIGN_OR);
+                    return accept(1, Token.Type.ASSIGN_OR);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.BIT_OR);
+                    return Token.Type.BIT_OR;
                 }
             case '<':
-                first = getChar();
-                second = getChar();
+                second = peekChar(1);
                 if(first == '<' && second == '='){
-                    token[1] = first;
-                    token[2] = second;
-                    return new Token(token, Token.Type.ASSIGN_LEFT);
+                    return accept(2, Token.Type.ASSIGN_LEFT);
                 }
                 else if(first == '<'){
-                    token[1] = first;
-                    ungetChar(second);
-                    return new Token(token, Token.Type.BIT_LEFT);
+                    return accept(1, Token.Type.BIT_LEFT);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    ungetChar(second);
-                    return new Token(token, Token.Type.LESS_THAN_EQUAL);
+                    return accept(1, Token.Type.LESS_THAN_EQUAL);
                 }
                 else if(first == ':'){
-                    token[1] = first;
-                    ungetChar(second);
-                    return new Token(token, Token.Type.LEFT_ANGLE_COLON);
+                    return accept(1, Token.Type.LEFT_ANGLE_COLON);
                 }
                 else if(first == '%'){
-                    token[1] = first;
-                    ungetChar(second);
-                    return new Token(token, Token.Type.LEFT_ANGLE_PERCENT);
+                    return accept(1, Token.Type.LEFT_ANGLE_PERCENT);
                 }
                 else{
-                    ungetChar(second);
-                    ungetChar(first);
-                    return new Token(token, Token.Type.LESS_THAN);
+                    return Token.Type.LESS_THAN;
                 }
             case '>':
-                first = getChar();
-                second = getChar();
+                second = peekChar(1);
                 if(first == '>' && second == '='){
-                    token[1] = first;
-                    token[2] = second;
-                    return new Token(token, Token.Type.ASSIGN_RIGHT);
+                    return accept(2, Token.Type.ASSIGN_RIGHT);
                 }
                 else if(first == '>'){
-                    token[1] = first;
-                    ungetChar(second);
-                    return new Token(token, Token.Type.BIT_RIGHT);
+                    return accept(1, Token.Type.BIT_RIGHT);
                 }
                 else if(first == '='){
-                    token[1] = first;
-                    ungetChar(second);
-                    return new Token(token, Token.Type.GREATER_THAN_EQUAL);
+                    return accept(1, Token.Type.GREATER_THAN_EQUAL);
                 }
                 else{
-                    ungetChar(second);
-                    ungetChar(first);
-                    return new Token(token, Token.Type.GREATER_THAN);
+                    return Token.Type.GREATER_THAN;
                 }
             case '=':
-                first = getChar();
                 if(first == '='){
-                    token[1] = first;
-                    return new Token(token, Token.Type.EQUAL);
+                    return accept(1, Token.Type.EQUAL);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.ASSIGN);
+                    return Token.Type.ASSIGN;
                 }
             case '?':
-                return new Token(token, Token.Type.TERNARY);
+                return Token.Type.TERNARY;
             case ':':
-                first = getChar();
                 if(first == '>'){
-                    token[1] = first;
-                    return new Token(token, Token.Type.RIGHT_ANGLE_COLON);
+                    return accept(1, Token.Type.RIGHT_ANGLE_COLON);
                 }
                 else{
-                    ungetChar(first);
-                    return new Token(token, Token.Type.COLON);
+                    return Token.Type.COLON;
                 }
             case ';':
-                return new Token(token, Token.Type.SEMI_COLON);
+                return Token.Type.SEMI_COLON;
             case ',':
-                return new Token(token, Token.Type.COMMA);
+                return Token.Type.COMMA;
             case '#':
-                return new Token(token, Token.Type.POUND);
+                return Token.Type.POUND;
             default:
                 return null;
         }
     }
 
     /**
-     * Gets the next char from the input stream, or the top char on the stack if we saved any.
-     * @return the next char from the input stream, or the top char on the stack if we saved any.
+     * Gets the next char from the input window.
+     * @return the next char from the input window, or 0 at the end of the input.
      */
     private char getChar(){
-        try {
-            if(this.stack.isEmpty()){
-                int code = this.br.read();
-                if(code != -1){
-                    return (char) code;
-                }
-            }
-            else{
-                return this.stack.pop();
-            }
-        } catch (IOException e) {
+        return this.input.next();
+    }
 
-        }
-        return 0;
+    /**
+     * Looks at a char ahead in the input window without consuming it.
+     * @param n how many chars ahead to look, 0 being the next one and negative values looking
+     * back at chars of the current token
+     * @return the char, or 0 if it is past the end of the input.
+     */
+    private char peekChar(int n){
+        return this.input.peek(n);
+    }
+
+    /**
+     * Ungets the last char read from the input window. This only moves the window back, so
+     * getChar will return the same char again.
+     */
+    private void ungetChar(){
+        this.pushback++;
+        this.input.unread();
+    }
+
+    /**
+     * Consumes chars that were looked at with peekChar and adds them to the lexeme.
+     * @param count the number of chars to consume
+     * @param type the Token type to return
+     * @return the given Token type
+     */
+    private Token.Type accept(int count, Token.Type type){
+        this.input.skip(count);
+        this.lexemeLength += count;
+        return type;
+    }
+
+    /**
+     * Adds the char just read to the lexeme. The lexeme is always a prefix of the chars read
+     * for the token, which stay in the input window, so only its length is tracked.
+     */
+    private void addToLexeme(){
+        this.lexemeLength++;
+    }
+
+    /**
+     * Replaces the lexeme with a fixed text that is not taken from the input.
+     * @param text the lexeme text
+     * @param type the Token type to return
+     * @return the given Token type
+     */
+    private Token.Type setLexeme(String text, Token.Type type){
+        this.fixedLexeme = text;
+        return type;
     }
 
     /**
-     * Ungets a character from the input stream by storing in stack. If getChar is called, char from stack
-     * will be popped before the next character is read from input stream.
-     * @param c the char to save
+     * Checks if the char before the one just read is a backslash that escapes it.
+     * @return true if the char just read is escaped, false otherwise.
      */
-    private void ungetChar(char c){
-        this.stack.push(c);
+    private boolean isEscaped(){
+        return peekChar(-2) == '\\' && peekChar(-3) != '\\';
     }
 
     /**
      * Reads through white spaces on input stream to get to next token.
      */
     private void skipWhiteSpaces(){
-        boolean whiteSpace = true;
-        char ch = getChar();
-        int c = (int) ch;
-        while(whiteSpace && c > 0){
-            if(Character.isWhitespace(c) || c == '\r'){
-                c = getChar();
-            } else {
-                whiteSpace = false;
-                ungetChar((char) c);
-            }
-        }
+        this.input.skipRun(CharScan.SPACE);
     }
 
     /**
      * Creates the map for keywords to the their respective Tokens.
+     * @return the keyword map, which cannot be changed
      */
-    private void initKeywordMap(){
-        this.keywordTypes = new HashMap<>();
-        this.keywordTypes.put("auto", Token.Type.AUTO_KEYWORD);
-        this.keywordTypes.put("break", Token.Type.BREAK_KEYWORD);
-        this.keywordTypes.put("case", Token.Type.CASE_KEYWORD);
-        this.keywordTypes.put("char", Token.Type.CHAR_KEYWORD);
-        this.keywordTypes.put("const", Token.Type.CONST_KEYWORD);
-        this.keywordTypes.put("continue", Token.Type.CONTINUE_KEYWORD);
-        this.keywordTypes.put("default", Token.Type.DEFAULT_KEYWORD);
-        this.keywordTypes.put("do", Token.Type.DO_KEYWORD);
-        this.keywordTypes.put("double", Token.Type.DOUBLE_KEYWORD);
-        this.keywordTypes.put("else", Token.Type.ELSE_KEYWORD);
-        this.keywordTypes.put("enum", Token.Type.ENUM_KEYWORD);
-        this.keywordTypes.put("extern", Token.Type.EXTERN_KEYWORD);
-        this.keywordTypes.put("float", Token.Type.FLOAT_KEYWORD);
-        this.keywordTypes.put("for", Token.Type.FOR_KEYWORD);
-        this.keywordTypes.put("goto", Token.Type.GOTO_KEYWORD);
-        this.keywordTypes.put("if", Token.Type.IF_KEYWORD);
-        this.keywordTypes.put("inline", Token.Type.INLINE_KEYWORD);
-        this.keywordTypes.put("int", Token.Type.INT_KEYWORD);
-        this.keywordTypes.put("long", Token.Type.LONG_KEYWORD);
-        this.keywordTypes.put("register", Token.Type.REGISTER_KEYWORD);
-        this.keywordTypes.put("restrict", Token.Type.REGISTER_KEYWORD);
-        this.keywordTypes.put("return", Token.Type.RETURN_KEYWORD);
-        this.keywordTypes.put("short", Token.Type.SHORT_KEYWORD);
-        this.keywordTypes.put("signed", Token.Type.SIGNED_KEYWORD);
-        this.keywordTypes.put("sizeof", Token.Type.SIZEOF_KEYWORD);
-        this.keywordTypes.put("static", Token.Type.STATIC_KEYWORD);
-        this.keywordTypes.put("struct", Token.Type.STRUCT_KEYWORD);
-        this.keywordTypes.put("switch", Token.Type.SWITCH_KEYWORD);
-        this.keywordTypes.put("typedef", Token.Type.TYPEDEF_KEYWORD);
-        this.keywordTypes.put("union", Token.Type.UNION_KEYWORD);
-        this.keywordTypes.put("unsigned", Token.Type.UNSIGNED_KEYWORD);
-        this.keywordTypes.put("void", Token.Type.VOID_KEYWORD);
-        this.keywordTypes.put("volatile", Token.Type.VOLATILE_KEYWORD);
-        this.keywordTypes.put("while", Token.Type.WHILE_KEYWORD);
-    }
-
-    /**
-     * Creates a set of punctuators for use in program.
-     */
-    private void initPuncSet(){
-        this.punctuators = new HashSet<>();
-        this.punctuators.add('[');
-        this.punctuators.add(']');
-        this.punctuators.add('(');
-        this.punctuators.add(')');
-        this.punctuators.add('{');
-        this.punctuators.add('}');
-        this.punctuators.add('-');
-        this.punctuators.add('+');
-        this.punctuators.add('&');
-        this.punctuators.add('*');
-        this.punctuators.add('~');
-        this.punctuators.add('!');
-        this.punctuators.add('|');
-        this.punctuators.add('/');
-        this.punctuators.add('%');
-        this.punctuators.add('<');
-        this.punctuators.add('>');
-        this.punctuators.add('=');
-        this.punctuators.add('^');
-        this.punctuators.add('|');
-        this.punctuators.add('?');
-        this.punctuators.add(':');
-        this.punctuators.add(';');
-        this.punctuators.add(',');
-    }
-
-    /**
-     * Creates a set of all alphabetic characters allowed in hex numbers.
-     */
-    private void initHexSet(){
-        this.hexSet = new HashSet<>();
-        this.hexSet.add('A');
-        this.hexSet.add('B');
-        this.hexSet.add('C');
-        this.hexSet.add('D');
-        this.hexSet.add('E');
-        this.hexSet.add('F');
-        this.hexSet.add('a');
-        this.hexSet.add('b');
-        this.hexSet.add('c');
-        this.hexSet.add('d');
-        this.hexSet.add('e');
-        this.hexSet.add('f');
-    }
-
-    /**
-     * Checks if the character is an integer suffix.
-     * @param c the character to be checked
-     * @return true if the char is an int suffix, false otherwise.
-     */
-    private boolean isIntSuffix(char c){
-        return c == 'l' || c == 'L' || c == 'u' || c == 'U';
-    }
-
-    /**
-     * Checks if the character is an floating point suffix.
-     * @param c the character to be checked
-     * @return true if the char is an floating point suffix, false otherwise.
-     */
-    private boolean isFloatSuffix(char c){
-        return c == 'f' || c == 'F' || c == 'l' || c == 'L';
+    private static Map<String, Token.Type> keywordMap(){
+        Map<String, Token.Type> keywordTypes = new HashMap<>();
+        keywordTypes.put("auto", Token.Type.AUTO_KEYWORD);
+        keywordTypes.put("break", Token.Type.BREAK_KEYWORD);
+        keywordTypes.put("case", Token.Type.CASE_KEYWORD);
+        keywordTypes.put("char", Token.Type.CHAR_KEYWORD);
+        keywordTypes.put("const", Token.Type.CONST_KEYWORD);
+        keywordTypes.put("continue", Token.Type.CONTINUE_KEYWORD);
+        keywordTypes.put("default", Token.Type.DEFAULT_KEYWORD);
+        keywordTypes.put("do", Token.Type.DO_KEYWORD);
+        keywordTypes.put("double", Token.Type.DOUBLE_KEYWORD);
+        keywordTypes.put("else", Token.Type.ELSE_KEYWORD);
+        keywordTypes.put("enum", Token.Type.ENUM_KEYWORD);
+        keywordTypes.put("extern", Token.Type.EXTERN_KEYWORD);
+        keywordTypes.put("float", Token.Type.FLOAT_KEYWORD);
+        keywordTypes.put("for", Token.Type.FOR_KEYWORD);
+        keywordTypes.put("goto", Token.Type.GOTO_KEYWORD);
+        keywordTypes.put("if", Token.Type.IF_KEYWORD);
+        keywordTypes.put("inline", Token.Type.INLINE_KEYWORD);
+        keywordTypes.put("int", Token.Type.INT_KEYWORD);
+        keywordTypes.put("long", Token.Type.LONG_KEYWORD);
+        keywordTypes.put("register", Token.Type.REGISTER_KEYWORD);
+        keywordTypes.put("restrict", Token.Type.REGISTER_KEYWORD);
+        keywordTypes.put("return", Token.Type.RETURN_KEYWORD);
+        keywordTypes.put("short", Token.Type.SHORT_KEYWORD);
+        keywordTypes.put("signed", Token.Type.SIGNED_KEYWORD);
+        keywordTypes.put("sizeof", Token.Type.SIZEOF_KEYWORD);
+        keywordTypes.put("static", Token.Type.STATIC_KEYWORD);
+        keywordTypes.put("struct", Token.Type.STRUCT_KEYWORD);
+        keywordTypes.put("switch", Token.Type.SWITCH_KEYWORD);
+        keywordTypes.put("typedef", Token.Type.TYPEDEF_KEYWORD);
+        keywordTypes.put("union", Token.Type.UNION_KEYWORD);
+        keywordTypes.put("unsigned", Token.Type.UNSIGNED_KEYWORD);
+        keywordTypes.put("void", Token.Type.VOID_KEYWORD);
+        keywordTypes.put("volatile", Token.Type.VOLATILE_KEYWORD);
+        keywordTypes.put("while", Token.Type.WHILE_KEYWORD);
+        return Collections.unmodifiableMap(keywordTypes);
+    }
+
+    /**
+     * Describes a bad token, or a character that starts no token, for a diagnostic.
+     * @param type the Token type, or null for a character that starts no token
+     * @param lexeme the lexeme of the token
+     * @return the description
+     */
+    private static String describe(Token.Type type, CharSequence lexeme){
+        if(type == null){
+            return "stray '" + lexeme + "' in program";
+        }
+        switch(type){
+            case BAD_OCTAL:
+                return "invalid digit in octal constant " + lexeme;
+            case BAD_HEX:
+                return "invalid hexadecimal constant " + lexeme;
+            case BAD_SUFFIX_TOKEN:
+                return "invalid suffix on constant " + lexeme;
+            case BAD_FLOAT:
+                return "invalid floating constant " + lexeme;
+            case BAD_STRING:
+                return "missing terminating \" character";
+            case BAD_CHAR:
+                return "missing terminating ' character";
+            case BAD_COMMENT:
+                return "unterminated comment";
+            default:
+                return "invalid token " + lexeme;
+        }
     }
 
     /**
      * Takes C file from command line. All tokens are printed on separate line. If no
      * C file is supplied, then a packaged C file will be run to show that program works.
+     * Bad tokens and characters that start no token are also reported on standard error,
+     * with their line and column.
      * @param args The C file to be run
      */
     public static void main(String[] args) {
@@ -927,9 +985,17 @@ public class Tokenizer {
             path = "src/CFile.c";
         }
         Tokenizer t = new Tokenizer(path);
+        LineIndex lines = t.getLineIndex();
         Token tk = t.nextToken();
-        while (!tk.getType().equals(Token.Type.END)) {
-            System.out.println(tk);
+        while (tk == null || !tk.getType().equals(Token.Type.END)) {
+            if(tk == null || tk.getType().isBad()){
+                long start = t.getStart();
+                System.err.println(path + ":" + lines.getLine(start) + ":" + lines.getColumn(start) + ": error: "
+                        + describe(tk == null ? null : tk.getType(), t.getLexeme()));
+            }
+            if(tk != null){
+                System.out.println(tk);
+            }
             tk = t.nextToken();
         }
         System.out.println(tk);
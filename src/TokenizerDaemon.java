@@ -0,0 +1,447 @@
+import java.io.*;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+
+/**
+ * A long-running tokenizer server, so that build hooks and editors can have sources lexed
+ * without starting a JVM for each file. It listens on a localhost TCP port and serves each
+ * connection on its own virtual thread when the JVM has them, or else on a pooled thread.
+ * Tokenizers come from a TokenizerPool, so a request reuses the buffers of an earlier one,
+ * and all of them count in one TokenizerMetrics, which main registers as an MXBean.
+ *
+ * A connection carries any number of requests, one after the other. A request is one line:
+ *
+ *  COUNTS FILE path      the number of tokens of each type in a file
+ *  TOKENS FILE path      the tokens of a file
+ *  COUNTS SOURCE n       the counts for the n bytes of UTF-8 source that follow the line
+ *  TOKENS SOURCE n       the tokens of the n bytes of UTF-8 source that follow the line
+ *
+ * The reply to COUNTS is one "TYPE\tcount" line for each type that occurs, and the reply to
+ * TOKENS one "TYPE\tstart\tlength\tlexeme" line per token, with backslash, tab, '\r' and
+ * '\n' in the lexeme escaped as \\, \t, \r and \n. Like Tokenizer.tokens, both leave out END
+ * and the characters that start no token. Every reply ends with "OK\ttokens", or with
+ * "ERROR\tmessage" if the request failed; after an ERROR for a malformed request the
+ * connection is closed, since the server cannot tell where the next request starts.
+ *
+ * The bytes of a SOURCE request are lexed as they arrive rather than read into an array of
+ * the length the request gives, so a client cannot make the daemon allocate that much by
+ * sending the request line alone.
+ *
+ * FILE requests are only served for files under the root directory the daemon is given,
+ * after links are followed, so that a client cannot read the other files of the user that
+ * runs the daemon. A relative path is taken from the root. Without a root every FILE request
+ * gets an ERROR, and only SOURCE requests are served.
+ */
+public final class TokenizerDaemon implements Closeable {
+    static final int DEFAULT_PORT = 7433;
+    private static final int BACKLOG = 1024;
+    private static final int MAX_SOURCE = 64 << 20;
+    private static final int MAX_LINE = 1 << 16;
+    private static final long MAPPED_THRESHOLD = 1024 * 1024;
+    private static final int MAX_IDLE_TOKENIZERS = 256;
+
+    private final ServerSocket server;
+    private final Path root;
+    private final ExecutorService executor = newTaskExecutor("tokenizer-daemon-");
+    private final TokenizerMetrics metrics = new TokenizerMetrics();
+    private final TokenizerPool pool = new TokenizerPool(MAX_IDLE_TOKENIZERS, this.metrics);
+    private final Token.Type[] types = Token.Type.values();
+
+    /**
+     * Opens the server socket on the loopback address, refusing FILE requests.
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public TokenizerDaemon(int port) throws IOException {
+        this(port, null);
+    }
+
+    /**
+     * Opens the server socket on the loopback address, serving FILE requests for the files
+     * under a directory.
+     * @param port the port to listen on, or 0 for any free port
+     * @param root the directory FILE requests can read under, or null to refuse them
+     * @throws IOException if the root is not a directory or the port cannot be bound
+     */
+    public TokenizerDaemon(int port, Path root) throws IOException {
+        Path real = root == null ? null : root.toRealPath();
+        if(real != null && !Files.isDirectory(real)){
+            throw new NotDirectoryException(real.toString());
+        }
+        this.root = real;
+        this.server = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Returns the port the server listens on.
+     * @return the port
+     */
+    public int getPort(){
+        return this.server.getLocalPort();
+    }
+
+    /**
+     * Returns the metrics of the requests served so far.
+     * @return the metrics
+     */
+    public TokenizerMetrics getMetrics(){
+        return this.metrics;
+    }
+
+    /**
+     * Accepts connections until the server is closed, handing each one to its own task.
+     * @throws IOException if accepting fails for another reason than the server being closed
+     */
+    public void serve() throws IOException {
+        while(!this.server.isClosed()){
+            Socket socket;
+            try{
+                socket = this.server.accept();
+            } catch (SocketException e) {
+                if(this.server.isClosed()){
+                    return;
+                }
+                throw e;
+            }
+            this.executor.execute(() -> handle(socket));
+        }
+    }
+
+    /**
+     * Stops accepting connections. Requests that are being served run to completion.
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.server.close();
+        this.executor.shutdown();
+    }
+
+    /**
+     * Serves the requests of one connection until the client closes it.
+     * @param socket the connection
+     */
+    private void handle(Socket socket){
+        try(Socket s = socket){
+            s.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            Writer out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), 1 << 16);
+            String line;
+            while((line = readLine(in)) != null){
+                boolean open = serve(line, in, out);
+                out.flush();
+                if(!open){
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            //The client went away, nothing to reply to.
+        }
+    }
+
+    /**
+     * Serves one request and writes the reply.
+     * @param request the request line
+     * @param in the stream the source bytes of a SOURCE request follow on
+     * @param out the writer for the reply
+     * @return false if the request was malformed and the connection has to be closed
+     * @throws IOException if the connection fails
+     */
+    private boolean serve(String request, InputStream in, Writer out) throws IOException {
+        String[] parts = request.split(" ", 3);
+        boolean tokens = parts[0].equals("TOKENS");
+        if(parts.length != 3 || !(tokens || parts[0].equals("COUNTS"))){
+            out.write("ERROR\tmalformed request\n");
+            return false;
+        }
+        Reader source;
+        SourceStream body = null;
+        if(parts[1].equals("SOURCE")){
+            int length;
+            try{
+                length = Integer.parseInt(parts[2]);
+            } catch (NumberFormatException e) {
+                length = -1;
+            }
+            if(length < 0 || length > MAX_SOURCE){
+                out.write("ERROR\tsource length must be 0 to " + MAX_SOURCE + " bytes\n");
+                return false;
+            }
+            body = new SourceStream(in, length);
+            source = new InputStreamReader(body, StandardCharsets.UTF_8);
+        }
+        else if(parts[1].equals("FILE")){
+            Path file = resolve(parts[2]);
+            if(this.root == null){
+                out.write("ERROR\tFILE requests are not served without a root directory\n");
+                return true;
+            }
+            if(file == null){
+                out.write("ERROR\tnot a file under the root directory: " + parts[2] + "\n");
+                return true;
+            }
+            try{
+                source = Files.size(file) >= MAPPED_THRESHOLD ? new MappedInput(file)
+                        : new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                out.write("ERROR\tcannot read " + file + ": " + e + "\n");
+                return true;
+            }
+        }
+        else{
+            out.write("ERROR\tmalformed request\n");
+            return false;
+        }
+        Tokenizer lexer = this.pool.acquire(source);
+        try{
+            long count = tokens ? writeTokens(lexer, out) : writeCounts(lexer, out);
+            if(body != null){
+                body.finish();
+            }
+            out.write("OK\t" + count + "\n");
+        } finally {
+            this.pool.release(lexer);
+            source.close();
+        }
+        return true;
+    }
+
+    /**
+     * The body of a SOURCE request: the bytes of the connection up to the length the request
+     * gave. The source is lexed from it as it arrives, and closing it leaves the connection
+     * open for the next request.
+     */
+    private static final class SourceStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+        private boolean truncated;
+
+        SourceStream(InputStream in, long length){
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if(this.remaining == 0){
+                return -1;
+            }
+            int b = this.in.read();
+            if(b < 0){
+                this.truncated = true;
+                this.remaining = 0;
+                return -1;
+            }
+            this.remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if(len == 0){
+                return 0;
+            }
+            if(this.remaining == 0){
+                return -1;
+            }
+            int n = this.in.read(b, off, (int) Math.min(len, this.remaining));
+            if(n < 0){
+                this.truncated = true;
+                this.remaining = 0;
+                return -1;
+            }
+            this.remaining -= n;
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(this.in.available(), this.remaining);
+        }
+
+        @Override
+        public void close(){
+            //The connection stays open for the next request.
+        }
+
+        /**
+         * Reads past the bytes the Tokenizer left, such as those after a NUL, so that the next
+         * request starts where it should.
+         * @throws EOFException if the connection ended before the whole body was sent
+         * @throws IOException if the connection fails
+         */
+        void finish() throws IOException {
+            while(this.remaining > 0 && read() >= 0){
+                this.remaining -= this.in.skip(this.remaining);
+            }
+            if(this.truncated){
+                throw new EOFException("the connection ended inside the source");
+            }
+        }
+    }
+
+    /**
+     * Finds the file of a FILE request, following links, if it is under the root directory.
+     * @param name the path from the request, absolute or relative to the root
+     * @return the real path of the file, or null if it is not a regular file under the root
+     * or there is no root
+     */
+    private Path resolve(String name){
+        if(this.root == null){
+            return null;
+        }
+        try{
+            Path file = this.root.resolve(name).toRealPath();
+            return file.startsWith(this.root) && Files.isRegularFile(file) ? file : null;
+        } catch (IOException | InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lexes a source and writes one line per token.
+     * @param lexer the Tokenizer reading the source
+     * @param out the writer for the reply
+     * @return the number of tokens written
+     * @throws IOException if the connection fails
+     */
+    private static long writeTokens(Tokenizer lexer, Writer out) throws IOException {
+        long count = 0;
+        Token.Type type;
+        while((type = lexer.advance()) != Token.Type.END){
+            if(type == null){
+                continue;
+            }
+            out.write(type.name());
+            out.write('\t');
+            out.write(Long.toString(lexer.getStart()));
+            out.write('\t');
+            out.write(Integer.toString(lexer.getLength()));
+            out.write('\t');
+            CharSequence lexeme = lexer.getLexeme();
+            for(int i = 0; i < lexeme.length(); i++){
+                char c = lexeme.charAt(i);
+                switch(c){
+                    case '\\':
+                        out.write("\\\\");
+                        break;
+                    case '\t':
+                        out.write("\\t");
+                        break;
+                    case '\r':
+                        out.write("\\r");
+                        break;
+                    case '\n':
+                        out.write("\\n");
+                        break;
+                    default:
+                        out.write(c);
+                }
+            }
+            out.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Lexes a source and writes the number of tokens of each type that occurs.
+     * @param lexer the Tokenizer reading the source
+     * @param out the writer for the reply
+     * @return the number of tokens
+     * @throws IOException if the connection fails
+     */
+    private long writeCounts(Tokenizer lexer, Writer out) throws IOException {
+        long[] counts = new long[this.types.length];
+        long count = 0;
+        Token.Type type;
+        while((type = lexer.advance()) != Token.Type.END){
+            if(type != null){
+                counts[type.ordinal()]++;
+                count++;
+            }
+        }
+        for(int i = 0; i < counts.length; i++){
+            if(counts[i] > 0){
+                out.write(this.types[i].name() + "\t" + counts[i] + "\n");
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads a UTF-8 line, leaving the bytes after it in the stream.
+     * @param in the stream to read from
+     * @return the line without its '\n' or "\r\n", or null if the stream ends first
+     * @throws IOException if the connection fails or the line is longer than 64 KB
+     */
+    static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while((b = in.read()) != '\n'){
+            if(b < 0){
+                if(line.size() == 0){
+                    return null;
+                }
+                break;
+            }
+            if(line.size() == MAX_LINE){
+                throw new IOException("line longer than " + MAX_LINE + " bytes");
+            }
+            line.write(b);
+        }
+        String text = new String(line.toByteArray(), StandardCharsets.UTF_8);
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread when the JVM supports
+     * them, found by reflection since the code is built for Java 8, or else on a cached pool
+     * of daemon threads.
+     * @param prefix the name prefix of the pool threads
+     * @return the executor
+     */
+    static ExecutorService newTaskExecutor(String prefix){
+        try{
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            ThreadFactory factory = task -> {
+                Thread thread = new Thread(task, prefix + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newCachedThreadPool(factory);
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped, with its metrics registered as an MXBean.
+     * @param args the port to listen on, 7433 by default, and the directory FILE requests can
+     * read under; without a directory only SOURCE requests are served
+     */
+    public static void main(String[] args) throws IOException, JMException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Path root = args.length > 1 ? Paths.get(args[1]) : null;
+        try(TokenizerDaemon daemon = new TokenizerDaemon(port, root)){
+            daemon.getMetrics().register("daemon-" + daemon.getPort());
+            System.out.println("Listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + daemon.getPort());
+            daemon.serve();
+        }
+    }
+}
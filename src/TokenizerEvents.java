@@ -0,0 +1,368 @@
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Java Flight Recorder events of the Tokenizer, for finding out which file, and which scanner
+ * of the lexer, a slow build step spent its time in:
+ *
+ *  tokenizer.File   one per source lexed from reset to END, with its path, its size in
+ *                   characters and its number of tokens. Enabled by default, with no threshold.
+ *  tokenizer.Scan   one per token whose scan took longer than the threshold, with the scanner
+ *                   that lexed it, such as checkBlockComment, checkConstantString or
+ *                   checkIdentifier, which also looks up keywords, and the offset and length
+ *                   of the token. Disabled by default, with a threshold of 1 ms.
+ *
+ * Both are configured like the JDK events, such as with a .jfc file, the settings option of
+ * -XX:StartFlightRecording, or Recording.enable("tokenizer.Scan").withThreshold(...). Scans
+ * are not sampled, since a sample would miss the one slow scan the threshold is there for.
+ *
+ * The code is built for Java 8, which has no jdk.jfr, so the events are defined at run time
+ * with jdk.jfr.EventFactory, found by reflection, and called through method handles held in
+ * the static finals of the Jfr holder class. Defining and registering event types takes
+ * hundreds of milliseconds, so it is left until JFR is in use: loading this class only adds a
+ * FlightRecorderListener, and the holder is loaded when the recorder is initialized or a
+ * recording changes state. Until then, and while no recording is running, checking for a
+ * scan event costs a load and a branch per token. On a JVM without JFR the events are never
+ * enabled.
+ */
+final class TokenizerEvents {
+    private static final String[] STAGES = stages();
+
+    private static boolean recording;
+
+    static {
+        listen();
+    }
+
+    private TokenizerEvents(){
+    }
+
+    /**
+     * Checks if a recording has the tokenizer.Scan event enabled.
+     * @return true if scans should be timed
+     */
+    static boolean scansEnabled(){
+        return recording && isEnabled(Jfr.SCAN_PROBE);
+    }
+
+    /**
+     * Starts timing a scan.
+     * @param event the event of an earlier scan that was not committed, or null
+     * @return the event, begun
+     */
+    static Object beginScan(Object event){
+        try{
+            if(event == null){
+                event = Jfr.NEW_EVENT.invokeExact(Jfr.SCAN_FACTORY);
+            }
+            Jfr.BEGIN.invokeExact(event);
+            return event;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ends timing a scan, and commits the event if the scan took longer than the threshold.
+     * @param event the event returned by beginScan, or null
+     * @param type the type of the token, or null for a character that starts no token
+     * @param path the path of the source, or null
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return true if the event was committed and cannot be begun again
+     */
+    static boolean endScan(Object event, Token.Type type, String path, long offset, long length){
+        if(event == null || type == null || type == Token.Type.END){
+            return false;
+        }
+        try{
+            Jfr.END.invokeExact(event);
+            if(!(boolean) Jfr.SHOULD_COMMIT.invokeExact(event)){
+                return false;
+            }
+            Jfr.SET.invokeExact(event, 0, (Object) STAGES[type.ordinal()]);
+            Jfr.SET.invokeExact(event, 1, (Object) path);
+            Jfr.SET.invokeExact(event, 2, (Object) offset);
+            Jfr.SET.invokeExact(event, 3, (Object) length);
+            Jfr.COMMIT.invokeExact(event);
+            return true;
+        } catch (Throwable e) {
+            return true;
+        }
+    }
+
+    /**
+     * Starts timing a source if a recording has the tokenizer.File event enabled.
+     * @return the event, begun, or null if the event is not enabled
+     */
+    static Object beginFile(){
+        if(!recording || !isEnabled(Jfr.FILE_PROBE)){
+            return null;
+        }
+        try{
+            Object event = Jfr.NEW_EVENT.invokeExact(Jfr.FILE_FACTORY);
+            Jfr.BEGIN.invokeExact(event);
+            return event;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ends timing a source and commits the event.
+     * @param event the event returned by beginFile
+     * @param path the path of the source, or null
+     * @param size the number of characters in the source
+     * @param tokens the number of tokens
+     */
+    static void endFile(Object event, String path, long size, long tokens){
+        try{
+            Jfr.END.invokeExact(event);
+            if((boolean) Jfr.SHOULD_COMMIT.invokeExact(event)){
+                Jfr.SET.invokeExact(event, 0, (Object) path);
+                Jfr.SET.invokeExact(event, 1, (Object) size);
+                Jfr.SET.invokeExact(event, 2, (Object) tokens);
+                Jfr.COMMIT.invokeExact(event);
+            }
+        } catch (Throwable e) {
+            //The recording went away, nothing to report to.
+        }
+    }
+
+    /**
+     * Checks if the event type of a probe event is enabled.
+     * @param probe an event of the type, or null if JFR is not available
+     * @return true if a recording has the event enabled
+     */
+    private static boolean isEnabled(Object probe){
+        if(probe == null){
+            return false;
+        }
+        try{
+            return (boolean) Jfr.IS_ENABLED.invokeExact(probe);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds a FlightRecorderListener, through a Proxy since the interface is only there at run
+     * time, that looks at the recordings whenever the recorder is initialized or a recording
+     * changes state. The listener is called at once if the recorder is already initialized.
+     */
+    private static void listen(){
+        try{
+            Class<?> recorderClass = Class.forName("jdk.jfr.FlightRecorder");
+            Class<?> listenerClass = Class.forName("jdk.jfr.FlightRecorderListener");
+            Object listener = Proxy.newProxyInstance(TokenizerEvents.class.getClassLoader(), new Class<?>[]{listenerClass},
+                    (proxy, method, args) -> {
+                        switch(method.getName()){
+                            case "recorderInitialized":
+                            case "recordingStateChanged":
+                                update(recorderClass);
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "TokenizerEvents listener";
+                            default:
+                                return null;
+                        }
+                    });
+            recorderClass.getMethod("addListener", listenerClass).invoke(null, listener);
+        } catch (Throwable e) {
+            //No JFR in this JVM, so no recording can enable the events.
+        }
+    }
+
+    /**
+     * Loads the Jfr holder, which defines the event types the first time, and opens the gate
+     * of the events while any recording is running. The gate is a plain field, so a thread
+     * that is already lexing may see a recording start or stop a few tokens late.
+     * @param recorderClass the jdk.jfr.FlightRecorder class
+     */
+    private static void update(Class<?> recorderClass){
+        try{
+            boolean running = false;
+            if(Jfr.SCAN_PROBE != null){
+                Object recorder = recorderClass.getMethod("getFlightRecorder").invoke(null);
+                for(Object r : (List<?>) recorderClass.getMethod("getRecordings").invoke(recorder)){
+                    Object state = r.getClass().getMethod("getState").invoke(r);
+                    running |= state.toString().equals("RUNNING");
+                }
+            }
+            recording = running;
+        } catch (Throwable e) {
+            recording = false;
+        }
+    }
+
+    /**
+     * Holds the event types and the method handles to use them with. Its initialization
+     * defines and registers the event types, so it is only loaded once JFR is in use.
+     */
+    private static final class Jfr {
+        private static final MethodHandle NEW_EVENT;
+        private static final MethodHandle BEGIN;
+        private static final MethodHandle END;
+        private static final MethodHandle COMMIT;
+        private static final MethodHandle SHOULD_COMMIT;
+        private static final MethodHandle IS_ENABLED;
+        private static final MethodHandle SET;
+        private static final Object FILE_FACTORY;
+        private static final Object SCAN_FACTORY;
+        private static final Object FILE_PROBE;
+        private static final Object SCAN_PROBE;
+
+        static {
+            MethodHandle newEvent = null;
+            MethodHandle begin = null;
+            MethodHandle end = null;
+            MethodHandle commit = null;
+            MethodHandle shouldCommit = null;
+            MethodHandle isEnabled = null;
+            MethodHandle set = null;
+            Object fileFactory = null;
+            Object scanFactory = null;
+            Object fileProbe = null;
+            Object scanProbe = null;
+            try{
+                Class<?> eventClass = Class.forName("jdk.jfr.Event");
+                Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                MethodType action = MethodType.methodType(void.class, Object.class);
+                MethodType check = MethodType.methodType(boolean.class, Object.class);
+                newEvent = lookup.findVirtual(factoryClass, "newEvent", MethodType.methodType(eventClass))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                begin = lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class)).asType(action);
+                end = lookup.findVirtual(eventClass, "end", MethodType.methodType(void.class)).asType(action);
+                commit = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class)).asType(action);
+                shouldCommit = lookup.findVirtual(eventClass, "shouldCommit", MethodType.methodType(boolean.class)).asType(check);
+                isEnabled = lookup.findVirtual(eventClass, "isEnabled", MethodType.methodType(boolean.class)).asType(check);
+                set = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class))
+                        .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+
+                fileFactory = factory(factoryClass, "tokenizer.File", "Tokenize File",
+                        "A source lexed by a Tokenizer from reset to END", true, "0 ms",
+                        field(String.class, "path", "Path", "The path of the source, if it was read from a file"),
+                        field(long.class, "size", "Size", "The number of characters in the source"),
+                        field(long.class, "tokens", "Tokens", "The number of tokens, not counting END"));
+                scanFactory = factory(factoryClass, "tokenizer.Scan", "Token Scan",
+                        "A token whose scan took longer than the threshold", false, "1 ms",
+                        field(String.class, "stage", "Stage", "The scanner of the Tokenizer that lexed the token"),
+                        field(String.class, "path", "Path", "The path of the source, if it was read from a file"),
+                        field(long.class, "offset", "Offset", "The offset of the token in the source, in characters"),
+                        field(long.class, "length", "Length", "The length of the token in the source, in characters"));
+                fileProbe = newEvent.invoke(fileFactory);
+                scanProbe = newEvent.invoke(scanFactory);
+            } catch (Throwable e) {
+                //No JFR in this JVM, so no recording can enable the events.
+                fileProbe = null;
+                scanProbe = null;
+            }
+            NEW_EVENT = newEvent;
+            BEGIN = begin;
+            END = end;
+            COMMIT = commit;
+            SHOULD_COMMIT = shouldCommit;
+            IS_ENABLED = isEnabled;
+            SET = set;
+            FILE_FACTORY = fileFactory;
+            SCAN_FACTORY = scanFactory;
+            FILE_PROBE = fileProbe;
+            SCAN_PROBE = scanProbe;
+        }
+    }
+
+    /**
+     * Defines an event type with EventFactory.create.
+     * @return the EventFactory
+     */
+    private static Object factory(Class<?> factoryClass, String name, String label, String description, boolean enabled,
+                                  String threshold, Object... fields) throws ReflectiveOperationException {
+        List<Object> annotations = Arrays.asList(
+                annotation("jdk.jfr.Name", name),
+                annotation("jdk.jfr.Label", label),
+                annotation("jdk.jfr.Description", description),
+                annotation("jdk.jfr.Category", new String[]{"Tokenizer"}),
+                annotation("jdk.jfr.Enabled", enabled),
+                annotation("jdk.jfr.Threshold", threshold),
+                annotation("jdk.jfr.StackTrace", false));
+        Object factory = factoryClass.getMethod("create", List.class, List.class)
+                .invoke(null, annotations, Arrays.asList(fields));
+        factoryClass.getMethod("register").invoke(factory);
+        return factory;
+    }
+
+    /**
+     * Describes a field of an event type as a jdk.jfr.ValueDescriptor.
+     * @return the ValueDescriptor
+     */
+    private static Object field(Class<?> type, String name, String label, String description) throws ReflectiveOperationException {
+        List<Object> annotations = Arrays.asList(annotation("jdk.jfr.Label", label), annotation("jdk.jfr.Description", description));
+        Constructor<?> constructor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+        return constructor.newInstance(type, name, Collections.unmodifiableList(annotations));
+    }
+
+    /**
+     * Creates a jdk.jfr.AnnotationElement for an annotation with a single value.
+     * @return the AnnotationElement
+     */
+    private static Object annotation(String type, Object value) throws ReflectiveOperationException {
+        Class<? extends Annotation> annotationType = Class.forName(type).asSubclass(Annotation.class);
+        Constructor<?> constructor = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+        return constructor.newInstance(annotationType, value);
+    }
+
+    /**
+     * Names the scanner of the Tokenizer that lexes each Token type.
+     * @return the scanner names, indexed by the ordinals of the types
+     */
+    private static String[] stages(){
+        Token.Type[] types = Token.Type.values();
+        String[] stages = new String[types.length];
+        for(Token.Type type : types){
+            String stage;
+            switch(type){
+                case INTEGER_CONSTANT:
+                case FLOAT_CONSTANT:
+                case BAD_OCTAL:
+                case BAD_HEX:
+                case BAD_SUFFIX_TOKEN:
+                case BAD_FLOAT:
+                case PERIOD:
+                case VARIADIC:
+                    stage = "checkConstantNumbers";
+                    break;
+                case STRING_CONSTANT:
+                case BAD_STRING:
+                    stage = "checkConstantString";
+                    break;
+                case CHAR_CONSTANT:
+                case BAD_CHAR:
+                    stage = "checkConstantChar";
+                    break;
+                case BLOCK_COMMENT:
+                case BAD_COMMENT:
+                    stage = "checkBlockComment";
+                    break;
+                case LINE_COMMENT:
+                    stage = "checkLineComment";
+                    break;
+                default:
+                    stage = type == Token.Type.IDENTIFIER || type.name().endsWith("_KEYWORD") ? "checkIdentifier" : "checkPunctuators";
+            }
+            stages[type.ordinal()] = stage;
+        }
+        return stages;
+    }
+}
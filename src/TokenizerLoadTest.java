@@ -0,0 +1,149 @@
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A load test for the TokenizerDaemon. Many clients connect at once and each sends the same
+ * small source as COUNTS SOURCE requests, one after the other on its connection, timing each
+ * request from sending it to reading the OK line. At the end the throughput and latency
+ * percentiles over all the requests are printed, and for a local daemon also the lexing
+ * times from its TokenizerMetrics.
+ *
+ * Main method accepts the port of a running daemon, or "local" to start one in the same
+ * process, then the number of connections, the number of requests per connection and the C
+ * file to send, 1000, 100 and the supplied CFile.c by default.
+ */
+public class TokenizerLoadTest {
+    private static final String SAMPLE = "src/CFile.c";
+
+    /**
+     * Sends requests on one connection and records their latencies.
+     * @param port the port of the daemon
+     * @param request the request line followed by the source bytes
+     * @param latencies the array to store the latencies in, in nanoseconds
+     * @return the number of tokens in the last reply
+     * @throws IOException if the connection fails or a request gets an ERROR
+     */
+    private static long client(int port, byte[] request, long[] latencies) throws IOException {
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)){
+            socket.setTcpNoDelay(true);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            long tokens = 0;
+            for(int i = 0; i < latencies.length; i++){
+                long begin = System.nanoTime();
+                out.write(request);
+                out.flush();
+                String line;
+                while((line = TokenizerDaemon.readLine(in)) != null && !line.startsWith("OK\t")){
+                    if(line.startsWith("ERROR\t")){
+                        throw new IOException(line);
+                    }
+                }
+                if(line == null){
+                    throw new EOFException("connection closed by the daemon");
+                }
+                latencies[i] = System.nanoTime() - begin;
+                tokens = Long.parseLong(line.substring(3));
+            }
+            return tokens;
+        }
+    }
+
+    /**
+     * Returns a percentile of sorted latencies.
+     * @param sorted the latencies, sorted
+     * @param percent the percentile
+     * @return the latency in microseconds
+     */
+    private static double percentile(long[] sorted, double percent){
+        int index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e3;
+    }
+
+    /**
+     * Runs the load test.
+     * @param args the port or "local", the number of connections, the number of requests per
+     * connection, and the C file to send
+     */
+    public static void main(String[] args) throws Exception {
+        if(args.length == 0){
+            System.err.println("Usage: TokenizerLoadTest <port | local> [connections] [requests] [C file]");
+            System.exit(1);
+        }
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        byte[] source = Files.readAllBytes(Paths.get(args.length > 3 ? args[3] : SAMPLE));
+        byte[] header = ("COUNTS SOURCE " + source.length + "\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] request = Arrays.copyOf(header, header.length + source.length);
+        System.arraycopy(source, 0, request, header.length, source.length);
+
+        TokenizerDaemon daemon = null;
+        int port;
+        if(args[0].equals("local")){
+            daemon = new TokenizerDaemon(0);
+            TokenizerDaemon server = daemon;
+            Thread thread = new Thread(() -> {
+                try{
+                    server.serve();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }, "tokenizer-daemon");
+            thread.setDaemon(true);
+            thread.start();
+            port = daemon.getPort();
+        }
+        else{
+            port = Integer.parseInt(args[0]);
+        }
+
+        long[][] latencies = new long[connections][requests];
+        ExecutorService executor = TokenizerDaemon.newTaskExecutor("load-test-");
+        long tokens = 0;
+        long begin = System.nanoTime();
+        try{
+            List<Future<Long>> clients = new ArrayList<>();
+            for(long[] clientLatencies : latencies){
+                clients.add(executor.submit(() -> client(port, request, clientLatencies)));
+            }
+            for(Future<Long> client : clients){
+                tokens = client.get();
+            }
+        } catch (ExecutionException e) {
+            System.err.println("Client failed: " + e.getCause());
+            System.exit(1);
+        } finally {
+            executor.shutdown();
+            if(daemon != null){
+                daemon.close();
+            }
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        long[] all = new long[connections * requests];
+        for(int i = 0; i < connections; i++){
+            System.arraycopy(latencies[i], 0, all, i * requests, requests);
+        }
+        Arrays.sort(all);
+        System.out.printf("%d connections, %d requests of %d bytes, %d tokens each%n", connections, all.length, source.length, tokens);
+        System.out.printf("%.0f requests/s over %.2f s%n", all.length / seconds, seconds);
+        System.out.printf("latency us: p50 %.0f, p90 %.0f, p99 %.0f, p99.9 %.0f, max %.0f%n", percentile(all, 50),
+                percentile(all, 90), percentile(all, 99), percentile(all, 99.9), all[all.length - 1] / 1e3);
+        if(daemon != null){
+            TokenizerMetrics.Snapshot metrics = daemon.getMetrics().snapshot();
+            System.out.printf("daemon lexing us: p50 %.0f, p99 %.0f, max %.0f over %d sources, %d tokens%n",
+                    metrics.getFileLatencyP50(), metrics.getFileLatencyP99(), metrics.getFileLatencyMax(),
+                    metrics.getFiles(), metrics.getTokens());
+        }
+    }
+}
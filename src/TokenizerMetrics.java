@@ -0,0 +1,460 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts what Tokenizers do, so that a server or batch job can be watched while it runs: the
+ * tokens and characters lexed, the tokens of each type, how far the lexer backs up with
+ * ungetChar after a token, the longest token, and how long each source took from start to end.
+ * The metrics can be read as a Snapshot or registered as an MXBean with register.
+ *
+ * A Tokenizer given the metrics with setMetrics counts into a Tally of its own, which no other
+ * thread touches, and adds the Tally to the shared counters once a source ends, when it is
+ * reset, and every 65536 tokens in between. The shared counters are LongAdders, which stripe
+ * their updates across cells, so workers lexing in parallel do not contend on them.
+ */
+public final class TokenizerMetrics implements TokenizerMetricsMXBean {
+    private static final Token.Type[] TYPES = Token.Type.values();
+    private static final int PUSHBACK_DEPTHS = 4;
+    private static final int FLUSH_INTERVAL = 1 << 16;
+
+    private final long created = System.nanoTime();
+    private final LongAdder characters = new LongAdder();
+    private final LongAdder files = new LongAdder();
+    private final LongAdder stray = new LongAdder();
+    private final LongAdder[] counts = adders(TYPES.length);
+    private final LongAdder[] pushbacks = adders(PUSHBACK_DEPTHS);
+    private final LongAccumulator longestToken = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private static LongAdder[] adders(int count){
+        LongAdder[] adders = new LongAdder[count];
+        for(int i = 0; i < count; i++){
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, under the domain "Tokenizer".
+     * @param name the name that tells these metrics apart from others in the same JVM
+     * @return the name the metrics are registered under
+     * @throws JMException if the name is taken or the metrics cannot be registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("Tokenizer:type=TokenizerMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * Reads every counter at once. Counters that are being added to while the snapshot is
+     * taken may be read before or after the update, so the snapshot is only exact once the
+     * Tokenizers are idle.
+     * @return the current values of the metrics
+     */
+    public Snapshot snapshot(){
+        long[] counts = new long[this.counts.length];
+        for(int i = 0; i < counts.length; i++){
+            counts[i] = this.counts[i].sum();
+        }
+        long[] pushbacks = new long[this.pushbacks.length];
+        for(int i = 0; i < pushbacks.length; i++){
+            pushbacks[i] = this.pushbacks[i].sum();
+        }
+        double seconds = (System.nanoTime() - this.created) / 1e9;
+        return new Snapshot(counts, this.characters.sum(), this.files.sum(), this.stray.sum(), pushbacks,
+                this.longestToken.get(), this.latencies, seconds);
+    }
+
+    @Override
+    public long getTokens() {
+        return snapshot().getTokens();
+    }
+
+    @Override
+    public long getCharacters() {
+        return this.characters.sum();
+    }
+
+    @Override
+    public long getFiles() {
+        return this.files.sum();
+    }
+
+    @Override
+    public long getStrayCharacters() {
+        return this.stray.sum();
+    }
+
+    @Override
+    public long getBadTokens() {
+        return snapshot().getBadTokens();
+    }
+
+    @Override
+    public double getTokensPerSecond() {
+        return snapshot().getTokensPerSecond();
+    }
+
+    @Override
+    public Map<String, Long> getTokenCounts() {
+        return snapshot().getTokenCounts();
+    }
+
+    @Override
+    public Map<String, Long> getBadTokenCounts() {
+        return snapshot().getBadTokenCounts();
+    }
+
+    @Override
+    public long[] getPushbackDepths() {
+        return snapshot().getPushbackDepths();
+    }
+
+    @Override
+    public long getLongestToken() {
+        return this.longestToken.get();
+    }
+
+    @Override
+    public double getFileLatencyP50() {
+        return this.latencies.percentile(50);
+    }
+
+    @Override
+    public double getFileLatencyP90() {
+        return this.latencies.percentile(90);
+    }
+
+    @Override
+    public double getFileLatencyP99() {
+        return this.latencies.percentile(99);
+    }
+
+    @Override
+    public double getFileLatencyP999() {
+        return this.latencies.percentile(99.9);
+    }
+
+    @Override
+    public double getFileLatencyMax() {
+        return this.latencies.max.get() / 1e3;
+    }
+
+    /**
+     * Creates a Tally that adds to these metrics, for one Tokenizer.
+     * @return the Tally
+     */
+    Tally newTally(){
+        return new Tally(this);
+    }
+
+    /**
+     * The counts of one Tokenizer that have not been added to the shared metrics yet. A
+     * Tally belongs to the Tokenizer that created it and is only used on its thread.
+     */
+    static final class Tally {
+        private final TokenizerMetrics metrics;
+        private final long[] counts = new long[TYPES.length];
+        private final long[] pushbacks = new long[PUSHBACK_DEPTHS];
+        private long stray;
+        private long longest;
+        private int pending;
+        private long position;
+        private long sourceStart;
+        private boolean sourceDone;
+
+        private Tally(TokenizerMetrics metrics){
+            this.metrics = metrics;
+        }
+
+        /**
+         * Starts timing a source.
+         * @param position the offset in the source lexing starts at
+         */
+        void start(long position){
+            this.position = position;
+            this.sourceStart = System.nanoTime();
+            this.sourceDone = false;
+        }
+
+        /**
+         * Counts a token. END at the end of the source finishes it: the counts are added to
+         * the metrics along with the time the source took.
+         * @param type the type of the token, or null for a character that starts no token
+         * @param start the offset of the token in the source
+         * @param end the offset just past the token
+         * @param pushback the number of times the lexer called ungetChar for the token
+         */
+        void record(Token.Type type, long start, long end, int pushback){
+            if(type == null || type == Token.Type.END){
+                recordOther(type, start, end, pushback);
+                return;
+            }
+            this.counts[type.ordinal()]++;
+            this.pushbacks[pushback < PUSHBACK_DEPTHS ? pushback : PUSHBACK_DEPTHS - 1]++;
+            if(end - start > this.longest){
+                this.longest = end - start;
+            }
+            if(++this.pending >= FLUSH_INTERVAL){
+                flush(end);
+            }
+        }
+
+        /**
+         * Counts a character that starts no token, or END, kept out of record so that the
+         * common case stays small enough to be inlined into the lexer.
+         */
+        private void recordOther(Token.Type type, long start, long end, int pushback){
+            if(type == null){
+                this.stray++;
+                this.pushbacks[Math.min(pushback, PUSHBACK_DEPTHS - 1)]++;
+                return;
+            }
+            if(end == start && !this.sourceDone){
+                this.sourceDone = true;
+                flush(end);
+                this.metrics.files.increment();
+                this.metrics.latencies.record(System.nanoTime() - this.sourceStart);
+            }
+        }
+
+        /**
+         * Adds the counts to the metrics and clears them.
+         * @param position the offset in the source lexing has reached
+         */
+        void flush(long position){
+            TokenizerMetrics metrics = this.metrics;
+            for(int i = 0; i < this.counts.length; i++){
+                if(this.counts[i] != 0){
+                    metrics.counts[i].add(this.counts[i]);
+                    this.counts[i] = 0;
+                }
+            }
+            for(int i = 0; i < this.pushbacks.length; i++){
+                if(this.pushbacks[i] != 0){
+                    metrics.pushbacks[i].add(this.pushbacks[i]);
+                    this.pushbacks[i] = 0;
+                }
+            }
+            if(this.stray != 0){
+                metrics.stray.add(this.stray);
+                this.stray = 0;
+            }
+            if(position > this.position){
+                metrics.characters.add(position - this.position);
+                this.position = position;
+            }
+            metrics.longestToken.accumulate(this.longest);
+            this.pending = 0;
+        }
+    }
+
+    /**
+     * A histogram of latencies in nanoseconds. Each power of two is split into four buckets,
+     * so a percentile is within a fifth of the true value, and every bucket is a LongAdder.
+     */
+    private static final class LatencyHistogram {
+        private static final int BUCKETS = 4 * 62;
+
+        private final LongAdder[] buckets = adders(BUCKETS);
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Adds a latency.
+         * @param nanos the latency in nanoseconds
+         */
+        void record(long nanos){
+            this.buckets[bucket(Math.max(nanos, 0))].increment();
+            this.max.accumulate(nanos);
+        }
+
+        /**
+         * Returns a percentile of the latencies.
+         * @param percent the percentile
+         * @return the upper end of the bucket holding the percentile, capped at the largest
+         * latency, in microseconds, or 0 if there are none
+         */
+        double percentile(double percent){
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for(int i = 0; i < BUCKETS; i++){
+                counts[i] = this.buckets[i].sum();
+                total += counts[i];
+            }
+            if(total == 0){
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percent / 100 * total));
+            long seen = 0;
+            int i = 0;
+            while(i < BUCKETS - 1 && (seen += counts[i]) < rank){
+                i++;
+            }
+            return Math.min(upperBound(i), this.max.get()) / 1e3;
+        }
+
+        /**
+         * Returns the bucket of a latency: the latency itself below 4, and above that the
+         * power of two it falls in and which quarter of it.
+         */
+        private static int bucket(long nanos){
+            if(nanos < 4){
+                return (int) nanos;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+            int quarter = (int) (nanos >>> (exponent - 2)) & 3;
+            return Math.min(4 * (exponent - 1) + quarter, BUCKETS - 1);
+        }
+
+        /**
+         * Returns the largest latency in a bucket.
+         */
+        private static long upperBound(int bucket){
+            if(bucket < 4){
+                return bucket;
+            }
+            int exponent = bucket / 4 + 1;
+            return ((5L + bucket % 4) << (exponent - 2)) - 1;
+        }
+    }
+
+    /**
+     * The values of the metrics at one moment, as returned by snapshot.
+     */
+    public static final class Snapshot implements TokenizerMetricsMXBean {
+        private final long[] counts;
+        private final long characters;
+        private final long files;
+        private final long stray;
+        private final long[] pushbacks;
+        private final long longestToken;
+        private final double[] latencies;
+        private final double seconds;
+
+        private Snapshot(long[] counts, long characters, long files, long stray, long[] pushbacks, long longestToken,
+                         LatencyHistogram histogram, double seconds){
+            this.counts = counts;
+            this.characters = characters;
+            this.files = files;
+            this.stray = stray;
+            this.pushbacks = pushbacks;
+            this.longestToken = longestToken;
+            this.latencies = new double[]{histogram.percentile(50), histogram.percentile(90),
+                    histogram.percentile(99), histogram.percentile(99.9), histogram.max.get() / 1e3};
+            this.seconds = seconds;
+        }
+
+        /**
+         * Returns the number of tokens of a type.
+         * @param type the Token type
+         * @return the number of tokens of that type, 0 for END
+         */
+        public long getCount(Token.Type type){
+            return this.counts[type.ordinal()];
+        }
+
+        @Override
+        public long getTokens() {
+            long total = 0;
+            for(long count : this.counts){
+                total += count;
+            }
+            return total;
+        }
+
+        @Override
+        public long getCharacters() {
+            return this.characters;
+        }
+
+        @Override
+        public long getFiles() {
+            return this.files;
+        }
+
+        @Override
+        public long getStrayCharacters() {
+            return this.stray;
+        }
+
+        @Override
+        public long getBadTokens() {
+            long total = 0;
+            for(Token.Type type : TYPES){
+                if(type.isBad()){
+                    total += this.counts[type.ordinal()];
+                }
+            }
+            return total;
+        }
+
+        @Override
+        public double getTokensPerSecond() {
+            return this.seconds > 0 ? getTokens() / this.seconds : 0;
+        }
+
+        @Override
+        public Map<String, Long> getTokenCounts() {
+            return counts(false);
+        }
+
+        @Override
+        public Map<String, Long> getBadTokenCounts() {
+            return counts(true);
+        }
+
+        private Map<String, Long> counts(boolean badOnly){
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for(Token.Type type : TYPES){
+                long count = this.counts[type.ordinal()];
+                if(count > 0 && (!badOnly || type.isBad())){
+                    counts.put(type.name(), count);
+                }
+            }
+            return Collections.unmodifiableMap(counts);
+        }
+
+        @Override
+        public long[] getPushbackDepths() {
+            return Arrays.copyOf(this.pushbacks, this.pushbacks.length);
+        }
+
+        @Override
+        public long getLongestToken() {
+            return this.longestToken;
+        }
+
+        @Override
+        public double getFileLatencyP50() {
+            return this.latencies[0];
+        }
+
+        @Override
+        public double getFileLatencyP90() {
+            return this.latencies[1];
+        }
+
+        @Override
+        public double getFileLatencyP99() {
+            return this.latencies[2];
+        }
+
+        @Override
+        public double getFileLatencyP999() {
+            return this.latencies[3];
+        }
+
+        @Override
+        public double getFileLatencyMax() {
+            return this.latencies[4];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import java.util.Map;
+
+/**
+ * The management interface of TokenizerMetrics, as seen in a JMX console such as JConsole.
+ * Every attribute is read from the striped counters when it is asked for.
+ */
+public interface TokenizerMetricsMXBean {
+
+    /**
+     * Returns the number of tokens lexed, not counting END and characters that start no token.
+     * @return the number of tokens
+     */
+    long getTokens();
+
+    /**
+     * Returns the number of source characters the tokens were lexed from.
+     * @return the number of characters
+     */
+    long getCharacters();
+
+    /**
+     * Returns the number of sources lexed to their end.
+     * @return the number of sources
+     */
+    long getFiles();
+
+    /**
+     * Returns the number of characters that start no token.
+     * @return the number of stray characters
+     */
+    long getStrayCharacters();
+
+    /**
+     * Returns the number of tokens of the BAD_ types.
+     * @return the number of bad tokens
+     */
+    long getBadTokens();
+
+    /**
+     * Returns the tokens lexed per second since the metrics were created.
+     * @return the token rate
+     */
+    double getTokensPerSecond();
+
+    /**
+     * Returns the number of tokens of each type that has occurred.
+     * @return the counts, keyed by the names of the Token types
+     */
+    Map<String, Long> getTokenCounts();
+
+    /**
+     * Returns the number of tokens of each of the BAD_ types that has occurred.
+     * @return the counts, keyed by the names of the Token types
+     */
+    Map<String, Long> getBadTokenCounts();
+
+    /**
+     * Returns how many tokens were followed by each number of ungetChar calls.
+     * @return the counts, indexed by the pushback depth, the last one counting that depth
+     * and deeper
+     */
+    long[] getPushbackDepths();
+
+    /**
+     * Returns the length in source characters of the longest token, comments and strings
+     * included.
+     * @return the length of the longest token
+     */
+    long getLongestToken();
+
+    /**
+     * Returns the median time to lex a source from start to end.
+     * @return the latency in microseconds
+     */
+    double getFileLatencyP50();
+
+    /**
+     * Returns the 90th percentile of the time to lex a source from start to end.
+     * @return the latency in microseconds
+     */
+    double getFileLatencyP90();
+
+    /**
+     * Returns the 99th percentile of the time to lex a source from start to end.
+     * @return the latency in microseconds
+     */
+    double getFileLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of the time to lex a source from start to end.
+     * @return the latency in microseconds
+     */
+    double getFileLatencyP999();
+
+    /**
+     * Returns the longest time to lex a source from start to end.
+     * @return the latency in microseconds
+     */
+    double getFileLatencyMax();
+}
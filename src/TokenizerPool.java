@@ -0,0 +1,72 @@
+import java.io.Reader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of Tokenizers for servers and workers that lex many small sources. A Tokenizer taken
+ * from the pool is pointed at its source with reset, which reuses its input buffer, and goes
+ * back to the pool when the source is done, so lexing a small file allocates next to nothing
+ * beyond the Reader. Any number of threads can share a pool.
+ */
+public final class TokenizerPool {
+    private final ConcurrentLinkedQueue<Tokenizer> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final int maxIdle;
+    private final TokenizerMetrics metrics;
+
+    /**
+     * Constructs an empty pool.
+     * @param maxIdle the most Tokenizers to keep while they are not in use
+     */
+    public TokenizerPool(int maxIdle){
+        this(maxIdle, null);
+    }
+
+    /**
+     * Constructs an empty pool whose Tokenizers count what they lex in shared metrics.
+     * @param maxIdle the most Tokenizers to keep while they are not in use
+     * @param metrics the metrics every Tokenizer of the pool counts in, or null
+     */
+    public TokenizerPool(int maxIdle, TokenizerMetrics metrics){
+        this.maxIdle = maxIdle;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Takes a Tokenizer from the pool, or creates one if the pool is empty, and points it at
+     * a source.
+     * @param source the Reader holding the C source
+     * @return the Tokenizer, which should be handed back with release
+     */
+    public Tokenizer acquire(Reader source){
+        Tokenizer tokenizer = this.idle.poll();
+        if(tokenizer == null){
+            tokenizer = new Tokenizer((Reader) null);
+            tokenizer.setMetrics(this.metrics);
+        }
+        else{
+            this.idleCount.decrementAndGet();
+        }
+        tokenizer.reset(source);
+        return tokenizer;
+    }
+
+    /**
+     * Hands a Tokenizer back to the pool. Its input and any SymbolTable or skipped types are
+     * dropped, so the pool does not keep the last source alive and the next user gets a plain
+     * Tokenizer, and it is left for the garbage collector if the pool is full. The metrics of
+     * the pool are kept.
+     * @param tokenizer the Tokenizer taken with acquire
+     */
+    public void release(Tokenizer tokenizer){
+        tokenizer.reset((Reader) null);
+        tokenizer.setSymbolTable(null);
+        tokenizer.setSkippedTypes(null);
+        if(this.idleCount.incrementAndGet() <= this.maxIdle){
+            this.idle.offer(tokenizer);
+        }
+        else{
+            this.idleCount.decrementAndGet();
+        }
+    }
+}